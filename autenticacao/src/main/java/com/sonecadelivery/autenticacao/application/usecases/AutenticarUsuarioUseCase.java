@@ -8,9 +8,12 @@ import com.sonecadelivery.autenticacao.domain.ports.UsuarioRepositoryPort;
 import com.sonecadelivery.autenticacao.domain.services.JwtService;
 import com.sonecadelivery.autenticacao.domain.services.SenhaService;
 import com.sonecadelivery.kernel.domain.exceptions.ValidationException;
+import com.sonecadelivery.kernel.infrastructure.security.LimitadorTentativas;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+
 @Service
 @RequiredArgsConstructor
 public class AutenticarUsuarioUseCase {
@@ -18,11 +21,25 @@ public class AutenticarUsuarioUseCase {
     private final UsuarioRepositoryPort usuarioRepository;
     private final SenhaService senhaService;
     private final JwtService jwtService;
+    private final LimitadorTentativas limitadorTentativas;
     
     public LoginResponse executar(LoginRequest request) {
-        Usuario usuario = buscarUsuarioPorEmailOuNome(request.emailOuUsuario());
-        validarUsuarioAtivo(usuario);
-        validarSenha(request.senha(), usuario);
+        // Conta bloqueada por excesso de falhas: recusa antes de qualquer hash.
+        // Minúsculas: a busca no MySQL ignora maiúsculas, o contador também
+        String conta = "usuario:" + request.emailOuUsuario().trim().toLowerCase(Locale.ROOT);
+        limitadorTentativas.verificarPermitido(conta);
+
+        Usuario usuario;
+        try {
+            usuario = buscarUsuarioPorEmailOuNome(request.emailOuUsuario());
+            validarUsuarioAtivo(usuario);
+            validarSenha(request.senha(), usuario);
+        } catch (ValidationException e) {
+            limitadorTentativas.registrarFalha(conta);
+            throw e;
+        }
+        limitadorTentativas.registrarSucesso(conta);
+        atualizarHashSeNecessario(request.senha(), usuario);
         
         String token = jwtService.gerarToken(usuario);
         UsuarioDTO usuarioDTO = UsuarioDTO.de(usuario);
@@ -41,6 +58,16 @@ public class AutenticarUsuarioUseCase {
         }
     }
     
+    /**
+     * Hash gravado com custo diferente do configurado: refaz com a senha já validada.
+     */
+    private void atualizarHashSeNecessario(String senhaPlana, Usuario usuario) {
+        if (senhaService.precisaRehash(usuario.getSenha().getHash())) {
+            usuario.atualizarSenha(senhaService.criarSenhaComHash(senhaPlana));
+            usuarioRepository.salvar(usuario);
+        }
+    }
+    
     private void validarSenha(String senhaPlana, Usuario usuario) {
         boolean senhaValida = senhaService.verificarSenha(
             senhaPlana, 
@@ -5,6 +5,7 @@ import com.sonecadelivery.autenticacao.domain.valueobjects.Senha;
 public interface SenhaService {
     String gerarHash(String senhaPlana);
     boolean verificarSenha(String senhaPlana, String hash);
+    /** Hash gravado com custo diferente do configurado (deve ser refeito no login). */
+    boolean precisaRehash(String hash);
     Senha criarSenhaComHash(String senhaPlana);
 }
-
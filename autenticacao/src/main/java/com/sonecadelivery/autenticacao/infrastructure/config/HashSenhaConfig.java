@@ -0,0 +1,47 @@
+package com.sonecadelivery.autenticacao.infrastructure.config;
+
+import com.sonecadelivery.kernel.infrastructure.security.LimitadorTentativas;
+import com.sonecadelivery.kernel.infrastructure.security.ProcessadorHashSenha;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Subsistema de hash de senhas, compartilhado pelos logins de funcionários
+ * (autenticacao) e de clientes (gestao-clientes).
+ *
+ * - PasswordEncoder BCrypt com custo configurável (seguranca.senha.custo-bcrypt)
+ * - ProcessadorHashSenha: pool limitado ao número de CPUs, fila curta e fast-fail,
+ *   tirando o hash das threads do Tomcat
+ * - LimitadorTentativas: bloqueio temporário por conta após falhas seguidas,
+ *   verificado antes de qualquer hash
+ */
+@Configuration
+public class HashSenhaConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${seguranca.senha.custo-bcrypt:10}") int custoBcrypt) {
+        return new BCryptPasswordEncoder(custoBcrypt);
+    }
+
+    @Bean(destroyMethod = "encerrar")
+    public ProcessadorHashSenha processadorHashSenha(
+            @Value("${seguranca.senha.hash.threads:0}") int threads,
+            @Value("${seguranca.senha.hash.fila:64}") int fila,
+            @Value("${seguranca.senha.hash.timeout-ms:5000}") long timeoutMs,
+            @Value("${seguranca.senha.custo-bcrypt:10}") int custoBcrypt) {
+        int threadsEfetivas = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new ProcessadorHashSenha(threadsEfetivas, fila, timeoutMs, custoBcrypt);
+    }
+
+    @Bean
+    public LimitadorTentativas limitadorTentativasLogin(
+            @Value("${seguranca.login.max-falhas:5}") int maxFalhas,
+            @Value("${seguranca.login.janela-ms:900000}") long janelaMs,
+            @Value("${seguranca.login.bloqueio-ms:300000}") long bloqueioMs,
+            @Value("${seguranca.login.max-contas:50000}") int maxContas) {
+        return new LimitadorTentativas(maxFalhas, janelaMs, bloqueioMs, maxContas);
+    }
+}
@@ -28,6 +28,12 @@ public class JwtProperties {
      * Padrão: 86400 segundos (24 horas).
      */
     private Long expiration = 86400L;
+
+    /**
+     * Número máximo de tokens com claims já verificados mantidos em memória.
+     * Padrão: 10000 tokens.
+     */
+    private int claimsCacheMaxEntradas = 10_000;
     
     /**
      * Valida a chave secreta após a inicialização.
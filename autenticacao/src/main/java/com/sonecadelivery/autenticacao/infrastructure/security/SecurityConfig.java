@@ -6,8 +6,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -31,6 +29,8 @@ public class SecurityConfig {
     private static final String SESSOES_TRABALHO_PATTERN = "/api/sessoes-trabalho/**";
     private static final String CONFIG_ANIMACAO_PATH = "/api/config-animacao";
     private static final String CONFIG_ANIMACAO_PATTERN = "/api/config-animacao/**";
+    private static final String MEDIA_PATH = "/api/media";
+    private static final String MEDIA_PATTERN = "/api/media/**";
     private static final String HTTP_METHOD_DELETE = "DELETE";
     private static final String MESAS_PATH = "/api/mesas";
     private static final String MESAS_PATTERN = "/api/mesas/**";
@@ -85,6 +85,11 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/login").permitAll()
                         .requestMatchers("/api/status").permitAll()
                         .requestMatchers("/api/health").permitAll()
+                        // Actuator: health e scrape do Prometheus. Só respondem na porta de
+                        // management (MANAGEMENT_PORT, padrão 8081), que não é publicada;
+                        // a porta pública não serve /actuator
+                        .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/prometheus")
+                        .permitAll()
                         // Endpoints públicos de mesas (QR Code) - Permite pedidos de clientes
                         .requestMatchers(PUBLIC_MESA_PATTERN).permitAll()
                         // Endpoints públicos de delivery (cardápio, pedidos)
@@ -195,6 +200,12 @@ public class SecurityConfig {
                         .requestMatchers(HTTP_METHOD_DELETE, CONFIG_ANIMACAO_PATH, CONFIG_ANIMACAO_PATTERN)
                         .hasRole(ROLE_ADMINISTRADOR)
 
+                        // Mídias (vídeos do lobby) - download público: a tag <video> não envia o token
+                        // e o id é um UUID aleatório; upload apenas ADMINISTRADOR
+                        .requestMatchers("GET", MEDIA_PATTERN).permitAll()
+                        .requestMatchers("POST", MEDIA_PATH, MEDIA_PATTERN)
+                        .hasRole(ROLE_ADMINISTRADOR)
+
                         // Endpoints de auto atendimento (totem) - ADMINISTRADOR e OPERADOR
                         .requestMatchers("/api/autoatendimento/**")
                         .hasAnyRole(ROLE_ADMINISTRADOR, ROLE_OPERADOR)
@@ -217,11 +228,6 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -3,14 +3,13 @@ package com.sonecadelivery.autenticacao.infrastructure.services;
 import com.sonecadelivery.autenticacao.domain.entities.Usuario;
 import com.sonecadelivery.autenticacao.domain.services.JwtService;
 import com.sonecadelivery.autenticacao.infrastructure.config.JwtProperties;
+import com.sonecadelivery.kernel.infrastructure.security.VerificadorJwtHmac;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
@@ -21,6 +20,14 @@ public class JwtServiceImpl implements JwtService {
 
     private final JwtProperties jwtProperties;
 
+    private VerificadorJwtHmac verificador;
+
+    @PostConstruct
+    void inicializar() {
+        this.verificador = new VerificadorJwtHmac(jwtProperties.getSecret(),
+                jwtProperties.getClaimsCacheMaxEntradas());
+    }
+
     @Override
     public String gerarToken(Usuario usuario) {
         Instant agora = Instant.now();
@@ -33,7 +40,7 @@ public class JwtServiceImpl implements JwtService {
                 .claim("role", usuario.getRole().getAuthority())
                 .issuedAt(Date.from(agora))
                 .expiration(Date.from(expiracao))
-                .signWith(getSecretKey())
+                .signWith(verificador.getChave())
                 .compact();
     }
 
@@ -70,15 +77,6 @@ public class JwtServiceImpl implements JwtService {
     }
 
     public Claims extrairClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSecretKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSecretKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return verificador.claims(token);
     }
 }
@@ -2,24 +2,35 @@ package com.sonecadelivery.autenticacao.infrastructure.services;
 
 import com.sonecadelivery.autenticacao.domain.services.SenhaService;
 import com.sonecadelivery.autenticacao.domain.valueobjects.Senha;
+import com.sonecadelivery.kernel.infrastructure.security.ProcessadorHashSenha;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+/**
+ * Hash e verificação executados no pool dedicado do {@link ProcessadorHashSenha},
+ * fora das threads do Tomcat.
+ */
 @Service
 @RequiredArgsConstructor
 public class SenhaServiceImpl implements SenhaService {
     
     private final PasswordEncoder passwordEncoder;
+    private final ProcessadorHashSenha processadorHashSenha;
     
     @Override
     public String gerarHash(String senhaPlana) {
-        return passwordEncoder.encode(senhaPlana);
+        return processadorHashSenha.executar(() -> passwordEncoder.encode(senhaPlana));
     }
     
     @Override
     public boolean verificarSenha(String senhaPlana, String hash) {
-        return passwordEncoder.matches(senhaPlana, hash);
+        return processadorHashSenha.executar(() -> passwordEncoder.matches(senhaPlana, hash));
+    }
+
+    @Override
+    public boolean precisaRehash(String hash) {
+        return processadorHashSenha.custoDiferente(hash);
     }
     
     @Override
@@ -28,4 +39,3 @@ public class SenhaServiceImpl implements SenhaService {
         return Senha.restaurarHash(hash);
     }
 }
-
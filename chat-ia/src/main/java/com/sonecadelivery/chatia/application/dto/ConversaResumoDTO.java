@@ -0,0 +1,16 @@
+package com.sonecadelivery.chatia.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO com o resumo de uma conversa salva (lista do histórico, sem as mensagens).
+ */
+public record ConversaResumoDTO(
+    String id,
+    String sessionId,
+    String titulo,
+    String previewUltimaMensagem,
+    LocalDateTime dataInicio,
+    LocalDateTime dataUltimaMensagem,
+    int totalMensagens
+) {}
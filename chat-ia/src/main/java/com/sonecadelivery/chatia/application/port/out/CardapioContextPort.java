@@ -0,0 +1,3 @@
+package com.sonecadelivery.chatia.application.port.out;
+import com.sonecadelivery.chatia.application.dto.CardapioContextDTO;
+public interface CardapioContextPort { CardapioContextDTO buscarCardapioParaIA(); }
@@ -0,0 +1,4 @@
+package com.sonecadelivery.chatia.application.port.out;
+import com.sonecadelivery.chatia.domain.entity.MensagemChat;
+import java.util.List;
+public interface IAClientPort { String chat(String systemPrompt, List<MensagemChat> historico, String mensagemAtual); }
@@ -0,0 +1,6 @@
+package com.sonecadelivery.chatia.application.port.out;
+import com.sonecadelivery.chatia.application.dto.HistoricoPedidosClienteContextDTO;
+public interface PedidosClienteContextPort {
+    HistoricoPedidosClienteContextDTO buscarHistoricoPedidosCliente(String clienteId);
+    HistoricoPedidosClienteContextDTO buscarProdutosFavoritosCliente(String clienteId, int limite);
+}
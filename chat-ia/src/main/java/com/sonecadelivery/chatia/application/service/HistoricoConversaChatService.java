@@ -1,89 +1,104 @@
 package com.sonecadelivery.chatia.application.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sonecadelivery.chatia.application.dto.ConversaResumoDTO;
 import com.sonecadelivery.chatia.application.dto.ConversaSalvaDTO;
 import com.sonecadelivery.chatia.application.dto.MensagemConversaDTO;
 import com.sonecadelivery.chatia.application.dto.SalvarConversaDTO;
+import com.sonecadelivery.chatia.infrastructure.persistence.CompressorMensagensChat;
+import com.sonecadelivery.chatia.infrastructure.persistence.entity.HistoricoConversaChatBlocoEntity;
 import com.sonecadelivery.chatia.infrastructure.persistence.entity.HistoricoConversaChatEntity;
+import com.sonecadelivery.chatia.infrastructure.persistence.repository.HistoricoConversaChatBlocoJpaRepository;
 import com.sonecadelivery.chatia.infrastructure.persistence.repository.HistoricoConversaChatJpaRepository;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Serviço para gerenciar o histórico de conversas do chat.
+ *
+ * - Resumo (título, prévia, datas, total) numa linha pequena: a lista lateral
+ *   é uma única consulta indexada, sem trazer mensagens
+ * - Mensagens em blocos comprimidos, lidos só ao abrir uma conversa
+ * - Gravar a mesma conversa de novo só acrescenta as mensagens novas
+ * - Limite de conversas por cliente aplicado em lote pelo
+ *   HistoricoConversaChatCleanupScheduler (não a cada gravação)
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class HistoricoConversaChatService {
     
-    private static final int MAX_CONVERSAS_POR_CLIENTE = 10;
+    public static final int MAX_CONVERSAS_POR_CLIENTE = 10;
     
-    private final HistoricoConversaChatJpaRepository repository;
-    private final ObjectMapper objectMapper;
+    /** Acima disto, os blocos da conversa são reescritos em um só. */
+    private static final int MAX_BLOCOS_POR_CONVERSA = 16;
     
-    public HistoricoConversaChatService(HistoricoConversaChatJpaRepository repository) {
-        this.repository = repository;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-    }
+    private final HistoricoConversaChatJpaRepository repository;
+    private final HistoricoConversaChatBlocoJpaRepository blocoRepository;
+    private final CompressorMensagensChat compressor;
     
     /**
-     * Lista as últimas conversas de um cliente.
+     * Lista o resumo das últimas conversas de um cliente.
      */
     @Transactional(readOnly = true)
-    public List<ConversaSalvaDTO> listarConversas(String clienteId) {
-        log.info("Listando conversas do cliente: {}", clienteId);
+    public List<ConversaResumoDTO> listarConversas(String clienteId) {
+        log.debug("Listando conversas do cliente: {}", clienteId);
         
-        List<HistoricoConversaChatEntity> entities = repository.findTopNByClienteId(clienteId, MAX_CONVERSAS_POR_CLIENTE);
-        
-        return entities.stream()
-            .map(this::toDTO)
+        return repository.findTopNByClienteId(clienteId, Limit.of(MAX_CONVERSAS_POR_CLIENTE)).stream()
+            .map(this::toResumoDTO)
             .toList();
     }
     
     /**
-     * Salva uma nova conversa no histórico.
+     * Salva uma conversa no histórico.
+     * Se a sessão já tem conversa salva, acrescenta apenas as mensagens novas.
      */
     @Transactional
-    public ConversaSalvaDTO salvarConversa(String clienteId, SalvarConversaDTO dto) {
+    public ConversaResumoDTO salvarConversa(String clienteId, SalvarConversaDTO dto) {
         log.info("Salvando conversa para cliente: {} - Título: {}", clienteId, dto.titulo());
         
-        // Converte mensagens para JSON
-        String mensagensJson;
-        try {
-            mensagensJson = objectMapper.writeValueAsString(dto.mensagens());
-        } catch (JsonProcessingException e) {
-            log.error("Erro ao serializar mensagens para JSON", e);
-            throw new RuntimeException("Erro ao salvar conversa", e);
-        }
+        HistoricoConversaChatEntity entity = repository
+            .findFirstByClienteIdAndSessionIdOrderByDataUltimaMensagemDesc(clienteId, dto.sessionId())
+            .orElse(null);
         
-        HistoricoConversaChatEntity entity = HistoricoConversaChatEntity.builder()
-            .clienteId(clienteId)
-            .sessionId(dto.sessionId())
-            .titulo(dto.titulo())
-            .previewUltimaMensagem(dto.previewUltimaMensagem())
-            .dataInicio(dto.dataInicio())
-            .dataUltimaMensagem(dto.dataUltimaMensagem())
-            .mensagens(mensagensJson)
-            .build();
+        if (entity == null) {
+            entity = repository.save(HistoricoConversaChatEntity.builder()
+                .clienteId(clienteId)
+                .sessionId(dto.sessionId())
+                .titulo(dto.titulo())
+                .dataInicio(dto.dataInicio())
+                .dataUltimaMensagem(dto.dataUltimaMensagem())
+                .totalMensagens(0)
+                .build());
+        } else {
+            migrarMensagensLegado(entity);
+        }
         
-        entity = repository.save(entity);
+        List<MensagemConversaDTO> mensagens = dto.mensagens();
+        int jaSalvas = entity.getTotalMensagens();
         
-        // Limpa conversas antigas se exceder o limite
-        limparConversasAntigas(clienteId);
+        // Alterações do resumo antes dos blocos: a compactação grava o pendente
+        // e limpa o contexto, e o que viesse depois dela não seria gravado
+        entity.setTitulo(dto.titulo());
+        entity.setPreviewUltimaMensagem(dto.previewUltimaMensagem());
+        entity.setDataUltimaMensagem(dto.dataUltimaMensagem());
+        if (mensagens.size() > jaSalvas) {
+            entity.setTotalMensagens(mensagens.size());
+            acrescentarBloco(entity.getId(), mensagens.subList(jaSalvas, mensagens.size()));
+        }
         
-        log.info("Conversa salva com ID: {}", entity.getId());
-        return toDTO(entity);
+        log.info("Conversa salva com ID: {} ({} mensagens)", entity.getId(), entity.getTotalMensagens());
+        return toResumoDTO(entity);
     }
     
     /**
-     * Busca uma conversa específica pelo ID.
+     * Busca uma conversa específica pelo ID, com as mensagens.
      */
     @Transactional(readOnly = true)
     public ConversaSalvaDTO buscarConversa(String clienteId, String conversaId) {
@@ -91,7 +106,7 @@ public class HistoricoConversaChatService {
         
         return repository.findById(conversaId)
             .filter(entity -> entity.getClienteId().equals(clienteId))
-            .map(this::toDTO)
+            .map(entity -> toDTO(entity, carregarMensagens(entity.getId())))
             .orElse(null);
     }
     
@@ -112,32 +127,95 @@ public class HistoricoConversaChatService {
         return true;
     }
     
+    private void acrescentarBloco(String conversaId, List<MensagemConversaDTO> novas) {
+        int sequencia = blocoRepository.findUltimaSequencia(conversaId) + 1;
+        if (sequencia >= MAX_BLOCOS_POR_CONVERSA) {
+            compactar(conversaId, novas);
+            return;
+        }
+        gravarBloco(conversaId, sequencia, novas);
+    }
+    
     /**
-     * Remove conversas antigas mantendo apenas as mais recentes.
+     * Reescreve todos os blocos da conversa (mais as mensagens novas) em um só.
      */
-    private void limparConversasAntigas(String clienteId) {
-        long total = repository.countByClienteId(clienteId);
-        if (total > MAX_CONVERSAS_POR_CLIENTE) {
-            log.info("Cliente {} tem {} conversas, removendo as mais antigas", clienteId, total);
-            repository.deleteOldestByClienteId(clienteId, MAX_CONVERSAS_POR_CLIENTE);
+    private void compactar(String conversaId, List<MensagemConversaDTO> novas) {
+        List<MensagemConversaDTO> todas = new ArrayList<>(carregarMensagens(conversaId));
+        todas.addAll(novas);
+        blocoRepository.deleteByConversaId(conversaId);
+        gravarBloco(conversaId, 0, todas);
+        log.debug("Conversa {} compactada em um bloco ({} mensagens)", conversaId, todas.size());
+    }
+    
+    private void gravarBloco(String conversaId, int sequencia, List<MensagemConversaDTO> mensagens) {
+        blocoRepository.save(HistoricoConversaChatBlocoEntity.builder()
+            .conversaId(conversaId)
+            .sequencia(sequencia)
+            .quantidadeMensagens(mensagens.size())
+            .conteudo(compressor.comprimir(mensagens))
+            .build());
+    }
+    
+    private List<MensagemConversaDTO> carregarMensagens(String conversaId) {
+        List<HistoricoConversaChatBlocoEntity> blocos = blocoRepository.findByConversaIdOrderBySequenciaAsc(conversaId);
+        if (blocos.isEmpty()) {
+            return lerMensagensLegado(conversaId);
         }
+        List<MensagemConversaDTO> mensagens = new ArrayList<>();
+        for (HistoricoConversaChatBlocoEntity bloco : blocos) {
+            try {
+                mensagens.addAll(compressor.descomprimir(bloco.getConteudo()));
+            } catch (UncheckedIOException e) {
+                log.error("Bloco {} da conversa {} ilegível, ignorado", bloco.getSequencia(), conversaId, e);
+            }
+        }
+        return mensagens;
     }
     
     /**
-     * Converte entity para DTO.
+     * Conversas gravadas antes dos blocos têm o JSON na própria linha:
+     * na primeira gravação seguinte, viram o bloco 0.
      */
-    private ConversaSalvaDTO toDTO(HistoricoConversaChatEntity entity) {
-        List<MensagemConversaDTO> mensagens;
+    private void migrarMensagensLegado(HistoricoConversaChatEntity entity) {
+        String json = repository.findMensagensLegado(entity.getId());
+        if (json == null) {
+            return;
+        }
+        List<MensagemConversaDTO> legado = lerJson(entity.getId(), json);
+        if (!legado.isEmpty() && blocoRepository.findUltimaSequencia(entity.getId()) < 0) {
+            gravarBloco(entity.getId(), 0, legado);
+        }
+        entity.setTotalMensagens(legado.size());
+        repository.limparMensagensLegado(entity.getId());
+    }
+    
+    private List<MensagemConversaDTO> lerMensagensLegado(String conversaId) {
+        String json = repository.findMensagensLegado(conversaId);
+        return json == null ? List.of() : lerJson(conversaId, json);
+    }
+    
+    private List<MensagemConversaDTO> lerJson(String conversaId, String json) {
         try {
-            mensagens = objectMapper.readValue(
-                entity.getMensagens(),
-                new TypeReference<List<MensagemConversaDTO>>() {}
-            );
-        } catch (JsonProcessingException e) {
-            log.error("Erro ao deserializar mensagens do JSON", e);
-            mensagens = List.of();
+            return compressor.lerJson(json);
+        } catch (UncheckedIOException e) {
+            log.error("Erro ao deserializar mensagens da conversa {}", conversaId, e);
+            return List.of();
         }
-        
+    }
+    
+    private ConversaResumoDTO toResumoDTO(HistoricoConversaChatEntity entity) {
+        return new ConversaResumoDTO(
+            entity.getId(),
+            entity.getSessionId(),
+            entity.getTitulo(),
+            entity.getPreviewUltimaMensagem(),
+            entity.getDataInicio(),
+            entity.getDataUltimaMensagem(),
+            entity.getTotalMensagens()
+        );
+    }
+    
+    private ConversaSalvaDTO toDTO(HistoricoConversaChatEntity entity, List<MensagemConversaDTO> mensagens) {
         return new ConversaSalvaDTO(
             entity.getId(),
             entity.getSessionId(),
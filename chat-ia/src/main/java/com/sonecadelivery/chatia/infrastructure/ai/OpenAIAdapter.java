@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sonecadelivery.chatia.application.port.out.IAClientPort;
 import com.sonecadelivery.chatia.domain.entity.MensagemChat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Adapter para integração com a API da OpenAI.
@@ -45,6 +48,7 @@ public class OpenAIAdapter implements IAClientPort {
 
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
     
     @Value("${openai.api.key:}")
     private String openaiApiKey;
@@ -67,9 +71,11 @@ public class OpenAIAdapter implements IAClientPort {
      */
     public OpenAIAdapter(
             @Qualifier("chatIAHttpClient") HttpClient httpClient,
-            @Qualifier("chatIAObjectMapper") ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
         this.httpClient = httpClient;
         this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
     }
     
     @PostConstruct
@@ -125,7 +131,15 @@ public class OpenAIAdapter implements IAClientPort {
                 Map<String, Object> payload = criarPayload(mensagens, modeloAtual);
                 String body = objectMapper.writeValueAsString(payload);
                 HttpRequest req = criarRequisicao(body);
-                HttpResponse<String> resp = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
+                long inicio = System.nanoTime();
+                HttpResponse<String> resp;
+                try {
+                    resp = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
+                } catch (IOException | InterruptedException e) {
+                    registrarLatencia(modeloAtual, "falha", inicio);
+                    throw e;
+                }
+                registrarLatencia(modeloAtual, resp.statusCode() < 400 ? "ok" : "erro_http", inicio);
 
                 if (isErroRecuperavel(resp)) {
                     String erroMsg = extrairMensagemErro(resp.body());
@@ -154,6 +168,19 @@ public class OpenAIAdapter implements IAClientPort {
                 : "Todos os modelos configurados falharam";
     }
 
+    /**
+     * chat.llm.latencia{modelo, resultado}: tempo de cada chamada à API, por modelo
+     * (inclui as tentativas de fallback).
+     */
+    private void registrarLatencia(String modelo, String resultado, long inicioNanos) {
+        Timer.builder("chat.llm.latencia")
+                .tag("modelo", modelo)
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - inicioNanos, TimeUnit.NANOSECONDS);
+    }
+
     private List<Map<String, Object>> construirMensagens(String systemPrompt, List<MensagemChat> historico,
             String mensagemAtual) {
         List<Map<String, Object>> mensagens = new ArrayList<>();
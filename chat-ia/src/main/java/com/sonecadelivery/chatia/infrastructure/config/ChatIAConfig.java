@@ -1,8 +1,5 @@
 package com.sonecadelivery.chatia.infrastructure.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -13,7 +10,8 @@ import java.time.Duration;
 
 /**
  * Configuração do módulo Chat IA.
- * Define beans para ObjectMapper e HttpClient seguindo as regras de DI.
+ * Define o HttpClient seguindo as regras de DI; o ObjectMapper é o único da
+ * aplicação (JacksonConfig).
  */
 @Configuration
 @ComponentScan(basePackages = "com.sonecadelivery.chatia")
@@ -21,17 +19,6 @@ public class ChatIAConfig {
 
     private static final int DEFAULT_TIMEOUT_SEGUNDOS = 60;
 
-    /**
-     * Bean do ObjectMapper configurado para o módulo Chat IA.
-     * Reutiliza configuração padrão se já existir, senão cria uma nova.
-     */
-    @Bean(name = "chatIAObjectMapper")
-    public ObjectMapper chatIAObjectMapper() {
-        return new ObjectMapper()
-                .registerModule(new JavaTimeModule())
-                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-    }
-
     /**
      * Bean do HttpClient para chamadas à API da OpenAI.
      */
@@ -0,0 +1,62 @@
+package com.sonecadelivery.chatia.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonecadelivery.chatia.application.dto.MensagemConversaDTO;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializa mensagens do chat em JSON comprimido com GZIP (texto de conversa
+ * costuma reduzir para 20-30% do tamanho original).
+ */
+@Component
+public class CompressorMensagensChat {
+
+    private static final TypeReference<List<MensagemConversaDTO>> TIPO_MENSAGENS = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public CompressorMensagensChat(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public byte[] comprimir(List<MensagemConversaDTO> mensagens) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, mensagens);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao comprimir mensagens do chat", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public List<MensagemConversaDTO> descomprimir(byte[] conteudo) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(conteudo))) {
+            return objectMapper.readValue(gzip, TIPO_MENSAGENS);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao descomprimir mensagens do chat", e);
+        }
+    }
+
+    /**
+     * Lê mensagens gravadas no formato antigo (JSON em texto, sem compressão).
+     */
+    public List<MensagemConversaDTO> lerJson(String json) {
+        try {
+            return objectMapper.readValue(json, TIPO_MENSAGENS);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler mensagens do chat", e);
+        }
+    }
+}
@@ -1,23 +1,34 @@
 package com.sonecadelivery.chatia.infrastructure.persistence;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sonecadelivery.chatia.domain.entity.MensagemChat;
 import com.sonecadelivery.chatia.domain.repository.HistoricoChatRepository;
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 /**
- * Implementação do repositório de histórico de chat em memória.
- * Mantém histórico separado por sessão com limpeza automática de sessões antigas.
+ * Memória de curto prazo do chat (contexto enviado à IA), por sessão.
+ *
+ * Guardada no estado compartilhado do {@link BackplanePort}: a próxima
+ * mensagem da sessão pode cair em outra instância. Só as últimas
+ * mensagens são mantidas (é tudo o que vai para a IA) e a sessão expira
+ * após o período de inatividade (TTL renovado a cada mensagem).
+ *
+ * Uma sessão pertence a um único usuário; mensagens da mesma sessão não
+ * chegam em paralelo, então ler-alterar-gravar não precisa de trava.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class HistoricoChatMemoriaRepository implements HistoricoChatRepository {
     
     /**
@@ -26,12 +37,16 @@ public class HistoricoChatMemoriaRepository implements HistoricoChatRepository {
     private static final int MAX_HISTORICO_MENSAGENS = 10;
     
     /**
-     * Tempo em minutos para considerar uma sessão como inativa.
+     * Tempo para considerar uma sessão como inativa.
      */
-    private static final int TTL_SESSAO_MINUTOS = 30;
-    
-    private final Map<String, List<MensagemChat>> historicoPorSessao = new ConcurrentHashMap<>();
-    private final Map<String, LocalDateTime> ultimaAtividadePorSessao = new ConcurrentHashMap<>();
+    private static final Duration TTL_SESSAO = Duration.ofMinutes(30);
+
+    private static final String PREFIXO_CHAVE = "chat:historico:";
+    private static final TypeReference<List<MensagemChat>> TIPO_HISTORICO = new TypeReference<>() {
+    };
+
+    private final BackplanePort backplane;
+    private final ObjectMapper objectMapper;
     
     @Override
     public void adicionarMensagem(String sessionId, MensagemChat mensagem) {
@@ -40,14 +55,18 @@ public class HistoricoChatMemoriaRepository implements HistoricoChatRepository {
             return;
         }
         
-        atualizarAtividade(sessionId);
-        
-        List<MensagemChat> historico = historicoPorSessao.computeIfAbsent(
-            sessionId, 
-            k -> Collections.synchronizedList(new ArrayList<>())
-        );
-        
+        List<MensagemChat> historico = ler(sessionId);
         historico.add(mensagem);
+        if (historico.size() > MAX_HISTORICO_MENSAGENS) {
+            historico = new ArrayList<>(historico.subList(historico.size() - MAX_HISTORICO_MENSAGENS, historico.size()));
+        }
+
+        try {
+            backplane.gravar(PREFIXO_CHAVE + sessionId, objectMapper.writeValueAsString(historico), TTL_SESSAO);
+        } catch (JsonProcessingException e) {
+            log.error("Erro ao serializar histórico da sessão {}: {}", sessionId, e.getMessage());
+            return;
+        }
         log.debug("Mensagem adicionada ao histórico da sessão {} (total: {})", sessionId, historico.size());
     }
     
@@ -58,20 +77,7 @@ public class HistoricoChatMemoriaRepository implements HistoricoChatRepository {
             return new ArrayList<>();
         }
         
-        limparSessoesAntigas();
-        
-        List<MensagemChat> historico = historicoPorSessao.get(sessionId);
-        if (historico == null || historico.isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        List<MensagemChat> historicoCompleto = new ArrayList<>(historico);
-        
-        if (historicoCompleto.size() <= MAX_HISTORICO_MENSAGENS) {
-            return historicoCompleto;
-        }
-        
-        return obterUltimasMensagens(historicoCompleto);
+        return ler(sessionId);
     }
     
     @Override
@@ -81,45 +87,20 @@ public class HistoricoChatMemoriaRepository implements HistoricoChatRepository {
             return;
         }
         
-        List<MensagemChat> removido = historicoPorSessao.remove(sessionId);
-        ultimaAtividadePorSessao.remove(sessionId);
-        
-        if (removido != null) {
-            log.info("Histórico da sessão {} limpo ({} mensagens removidas)", sessionId, removido.size());
-        }
-    }
-    
-    private List<MensagemChat> obterUltimasMensagens(List<MensagemChat> historicoCompleto) {
-        int tamanho = historicoCompleto.size();
-        int inicio = Math.max(0, tamanho - MAX_HISTORICO_MENSAGENS);
-        return new ArrayList<>(historicoCompleto.subList(inicio, tamanho));
-    }
-    
-    private void atualizarAtividade(String sessionId) {
-        ultimaAtividadePorSessao.put(sessionId, LocalDateTime.now());
+        backplane.remover(PREFIXO_CHAVE + sessionId);
+        log.info("Histórico da sessão {} limpo", sessionId);
     }
-    
-    private void limparSessoesAntigas() {
-        LocalDateTime agora = LocalDateTime.now();
-        List<String> sessoesParaRemover = new ArrayList<>();
-        
-        for (Map.Entry<String, LocalDateTime> entry : ultimaAtividadePorSessao.entrySet()) {
-            String sessionId = entry.getKey();
-            LocalDateTime ultimaAtividade = entry.getValue();
-            
-            if (ultimaAtividade.plusMinutes(TTL_SESSAO_MINUTOS).isBefore(agora)) {
-                sessoesParaRemover.add(sessionId);
-            }
-        }
-        
-        for (String sessionId : sessoesParaRemover) {
-            historicoPorSessao.remove(sessionId);
-            ultimaAtividadePorSessao.remove(sessionId);
-            log.debug("Sessão {} removida por inatividade", sessionId);
+
+    private List<MensagemChat> ler(String sessionId) {
+        Optional<String> json = backplane.ler(PREFIXO_CHAVE + sessionId);
+        if (json.isEmpty()) {
+            return new ArrayList<>();
         }
-        
-        if (!sessoesParaRemover.isEmpty()) {
-            log.info("Limpeza automática: {} sessões removidas por inatividade", sessoesParaRemover.size());
+        try {
+            return new ArrayList<>(objectMapper.readValue(json.get(), TIPO_HISTORICO));
+        } catch (JsonProcessingException e) {
+            log.warn("Histórico inválido para a sessão {} - descartando: {}", sessionId, e.getOriginalMessage());
+            return new ArrayList<>();
         }
     }
 }
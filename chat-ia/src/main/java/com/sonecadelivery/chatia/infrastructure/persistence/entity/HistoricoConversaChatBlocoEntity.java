@@ -0,0 +1,76 @@
+package com.sonecadelivery.chatia.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bloco de mensagens de uma conversa do chat.
+ * Cada gravação acrescenta um bloco com as mensagens novas (JSON comprimido com GZIP);
+ * blocos existentes nunca são reescritos, exceto na compactação.
+ *
+ * Persistable: o id composto já vem preenchido, e sem isNew() o save() faria
+ * merge (um SELECT antes de cada INSERT). Bloco criado aqui é sempre novo.
+ */
+@Entity
+@Table(name = "historico_conversas_chat_blocos")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(HistoricoConversaChatBlocoId.class)
+public class HistoricoConversaChatBlocoEntity implements Persistable<HistoricoConversaChatBlocoId> {
+
+    @Id
+    @Column(name = "conversa_id", nullable = false, length = 36)
+    private String conversaId;
+
+    @Id
+    @Column(nullable = false)
+    private Integer sequencia;
+
+    @Column(name = "quantidade_mensagens", nullable = false)
+    private int quantidadeMensagens;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] conteudo;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean novo = true;
+
+    @PrePersist
+    public void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    @PostPersist
+    @PostLoad
+    void marcarPersistido() {
+        novo = false;
+    }
+
+    @Override
+    public HistoricoConversaChatBlocoId getId() {
+        return new HistoricoConversaChatBlocoId(conversaId, sequencia);
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+}
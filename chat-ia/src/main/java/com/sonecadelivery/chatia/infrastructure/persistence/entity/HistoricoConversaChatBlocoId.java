@@ -0,0 +1,18 @@
+package com.sonecadelivery.chatia.infrastructure.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Classe de ID composto para HistoricoConversaChatBlocoEntity.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoricoConversaChatBlocoId implements Serializable {
+    private String conversaId;
+    private Integer sequencia;
+}
@@ -10,8 +10,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
- * Entidade JPA para persistir o histórico de conversas do chat.
- * Cada registro representa uma conversa completa de um cliente.
+ * Entidade JPA com o resumo de uma conversa do chat (lista lateral do histórico).
+ * As mensagens ficam em {@link HistoricoConversaChatBlocoEntity}, comprimidas e
+ * carregadas só quando a conversa é aberta.
  */
 @Entity
 @Table(name = "historico_conversas_chat", indexes = {
@@ -52,11 +53,11 @@ public class HistoricoConversaChatEntity {
     private String previewUltimaMensagem;
     
     /**
-     * Mensagens armazenadas como JSON.
-     * Formato: [{"id": "...", "from": "user|assistant", "text": "...", "timestamp": "..."}]
+     * Quantidade de mensagens já gravadas nos blocos.
+     * Novas gravações da mesma conversa só acrescentam as mensagens além deste total.
      */
-    @Column(columnDefinition = "TEXT", nullable = false)
-    private String mensagens;
+    @Column(name = "total_mensagens", nullable = false)
+    private int totalMensagens;
     
     @Column(name = "data_inicio", nullable = false)
     private LocalDateTime dataInicio;
@@ -0,0 +1,39 @@
+package com.sonecadelivery.chatia.infrastructure.persistence.repository;
+
+import com.sonecadelivery.chatia.infrastructure.persistence.entity.HistoricoConversaChatBlocoEntity;
+import com.sonecadelivery.chatia.infrastructure.persistence.entity.HistoricoConversaChatBlocoId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositório JPA para os blocos de mensagens do histórico do chat.
+ */
+@Repository
+public interface HistoricoConversaChatBlocoJpaRepository
+        extends JpaRepository<HistoricoConversaChatBlocoEntity, HistoricoConversaChatBlocoId> {
+
+    /**
+     * Blocos de uma conversa na ordem em que foram gravados.
+     */
+    List<HistoricoConversaChatBlocoEntity> findByConversaIdOrderBySequenciaAsc(String conversaId);
+
+    /**
+     * Maior sequência já gravada para a conversa (-1 se não houver blocos).
+     */
+    @Query("SELECT COALESCE(MAX(b.sequencia), -1) FROM HistoricoConversaChatBlocoEntity b WHERE b.conversaId = :conversaId")
+    int findUltimaSequencia(@Param("conversaId") String conversaId);
+
+    /**
+     * Remove todos os blocos de uma conversa (usado na compactação).
+     * Grava o pendente antes e limpa o contexto depois: os blocos lidos para a
+     * compactação não ficam gerenciados apontando para linhas apagadas.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM HistoricoConversaChatBlocoEntity b WHERE b.conversaId = :conversaId")
+    void deleteByConversaId(@Param("conversaId") String conversaId);
+}
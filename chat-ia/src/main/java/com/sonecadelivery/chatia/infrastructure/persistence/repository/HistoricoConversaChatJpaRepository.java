@@ -1,13 +1,16 @@
 package com.sonecadelivery.chatia.infrastructure.persistence.repository;
 
 import com.sonecadelivery.chatia.infrastructure.persistence.entity.HistoricoConversaChatEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositório JPA para histórico de conversas do chat.
@@ -16,39 +19,47 @@ import java.util.List;
 public interface HistoricoConversaChatJpaRepository extends JpaRepository<HistoricoConversaChatEntity, String> {
     
     /**
-     * Busca as últimas N conversas de um cliente ordenadas por data da última mensagem.
+     * Busca as últimas N conversas de um cliente (só o resumo; usa o índice cliente_id + data).
      */
     @Query("SELECT h FROM HistoricoConversaChatEntity h WHERE h.clienteId = :clienteId ORDER BY h.dataUltimaMensagem DESC")
-    List<HistoricoConversaChatEntity> findByClienteIdOrderByDataUltimaMensagemDesc(@Param("clienteId") String clienteId);
+    List<HistoricoConversaChatEntity> findTopNByClienteId(@Param("clienteId") String clienteId, Limit limite);
     
     /**
-     * Busca as últimas N conversas de um cliente.
+     * Conversa de uma sessão do chat (a mesma conversa é gravada novamente a cada troca/nova conversa).
      */
-    @Query(value = "SELECT * FROM historico_conversas_chat WHERE cliente_id = :clienteId ORDER BY data_ultima_mensagem DESC LIMIT :limite", nativeQuery = true)
-    List<HistoricoConversaChatEntity> findTopNByClienteId(@Param("clienteId") String clienteId, @Param("limite") int limite);
+    Optional<HistoricoConversaChatEntity> findFirstByClienteIdAndSessionIdOrderByDataUltimaMensagemDesc(
+            String clienteId, String sessionId);
     
     /**
-     * Conta quantas conversas um cliente tem.
+     * Mensagens no formato antigo (JSON em texto na própria linha), de antes dos blocos.
      */
-    long countByClienteId(String clienteId);
+    @Query(value = "SELECT mensagens FROM historico_conversas_chat WHERE id = :id", nativeQuery = true)
+    String findMensagensLegado(@Param("id") String id);
+    
+    @Modifying
+    @Query(value = "UPDATE historico_conversas_chat SET mensagens = NULL WHERE id = :id", nativeQuery = true)
+    void limparMensagensLegado(@Param("id") String id);
     
     /**
-     * Deleta as conversas mais antigas de um cliente, mantendo apenas as N mais recentes.
+     * IDs das conversas além das N mais recentes de cada cliente, em lotes.
      */
-    @Modifying
     @Query(value = """
-        DELETE FROM historico_conversas_chat 
-        WHERE cliente_id = :clienteId 
-        AND id NOT IN (
-            SELECT id FROM (
-                SELECT id FROM historico_conversas_chat 
-                WHERE cliente_id = :clienteId 
-                ORDER BY data_ultima_mensagem DESC 
-                LIMIT :manter
-            ) AS subquery
-        )
+        SELECT id FROM (
+            SELECT id, ROW_NUMBER() OVER (PARTITION BY cliente_id ORDER BY data_ultima_mensagem DESC) AS posicao
+            FROM historico_conversas_chat
+        ) AS ranking
+        WHERE posicao > :manter
+        LIMIT :lote
         """, nativeQuery = true)
-    void deleteOldestByClienteId(@Param("clienteId") String clienteId, @Param("manter") int manter);
+    List<String> findIdsExcedentes(@Param("manter") int manter, @Param("lote") int lote);
+    
+    /**
+     * Remove conversas por ID; os blocos saem junto (ON DELETE CASCADE).
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM HistoricoConversaChatEntity h WHERE h.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<String> ids);
     
     /**
      * Verifica se uma conversa pertence a um cliente específico.
@@ -0,0 +1,51 @@
+package com.sonecadelivery.chatia.infrastructure.scheduler;
+
+import com.sonecadelivery.chatia.application.service.HistoricoConversaChatService;
+import com.sonecadelivery.chatia.infrastructure.persistence.repository.HistoricoConversaChatJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Scheduler que mantém só as conversas mais recentes de cada cliente.
+ *
+ * Antes a limpeza rodava a cada conversa salva (COUNT + DELETE por cliente);
+ * agora roda periodicamente para todos os clientes, em lotes pequenos
+ * (cada lote é uma transação curta).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HistoricoConversaChatCleanupScheduler {
+
+    private static final int TAMANHO_LOTE = 500;
+
+    private final HistoricoConversaChatJpaRepository repository;
+
+    /**
+     * Executa a cada hora.
+     */
+    @Scheduled(fixedRate = 3600000) // 1 hora em milissegundos
+    public void limparConversasExcedentes() {
+        try {
+            int removidas = 0;
+            List<String> ids;
+            do {
+                ids = repository.findIdsExcedentes(HistoricoConversaChatService.MAX_CONVERSAS_POR_CLIENTE,
+                        TAMANHO_LOTE);
+                if (!ids.isEmpty()) {
+                    removidas += repository.deleteByIdIn(ids);
+                }
+            } while (ids.size() == TAMANHO_LOTE);
+
+            if (removidas > 0) {
+                log.info("[CHAT_HISTORICO_CLEANUP] Removidas {} conversas além do limite por cliente", removidas);
+            }
+        } catch (Exception e) {
+            log.error("[CHAT_HISTORICO_CLEANUP] Erro ao limpar conversas antigas", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.sonecadelivery.chatia.infrastructure.web;
 
+import com.sonecadelivery.chatia.application.dto.ConversaResumoDTO;
 import com.sonecadelivery.chatia.application.dto.ConversaSalvaDTO;
 import com.sonecadelivery.chatia.application.dto.SalvarConversaDTO;
 import com.sonecadelivery.chatia.application.service.HistoricoConversaChatService;
@@ -23,34 +24,34 @@ public class HistoricoConversaChatController {
     private final HistoricoConversaChatService historicoService;
     
     /**
-     * Lista as últimas conversas de um cliente.
+     * Lista as últimas conversas de um cliente (resumo, sem mensagens).
      * 
      * @param clienteId ID do cliente
-     * @return lista de conversas
+     * @return lista de resumos de conversas
      */
     @GetMapping("/{clienteId}")
-    public ResponseEntity<List<ConversaSalvaDTO>> listarConversas(@PathVariable String clienteId) {
+    public ResponseEntity<List<ConversaResumoDTO>> listarConversas(@PathVariable String clienteId) {
         log.info("GET /api/chat-ia/historico/{} - Listando conversas", clienteId);
         
-        List<ConversaSalvaDTO> conversas = historicoService.listarConversas(clienteId);
+        List<ConversaResumoDTO> conversas = historicoService.listarConversas(clienteId);
         return ResponseEntity.ok(conversas);
     }
     
     /**
-     * Salva uma nova conversa no histórico.
+     * Salva uma conversa no histórico (acrescenta mensagens novas se a sessão já foi salva).
      * 
      * @param clienteId ID do cliente
      * @param dto dados da conversa
-     * @return conversa salva
+     * @return resumo da conversa salva
      */
     @PostMapping("/{clienteId}")
-    public ResponseEntity<ConversaSalvaDTO> salvarConversa(
+    public ResponseEntity<ConversaResumoDTO> salvarConversa(
             @PathVariable String clienteId,
             @Valid @RequestBody SalvarConversaDTO dto) {
         
         log.info("POST /api/chat-ia/historico/{} - Salvando conversa: {}", clienteId, dto.titulo());
         
-        ConversaSalvaDTO conversaSalva = historicoService.salvarConversa(clienteId, dto);
+        ConversaResumoDTO conversaSalva = historicoService.salvarConversa(clienteId, dto);
         return ResponseEntity.ok(conversaSalva);
     }
     
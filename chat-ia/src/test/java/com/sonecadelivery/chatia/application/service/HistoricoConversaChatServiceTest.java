@@ -0,0 +1,72 @@
+package com.sonecadelivery.chatia.application.service;
+
+import com.sonecadelivery.chatia.application.dto.ConversaResumoDTO;
+import com.sonecadelivery.chatia.application.dto.ConversaSalvaDTO;
+import com.sonecadelivery.chatia.application.dto.MensagemConversaDTO;
+import com.sonecadelivery.chatia.application.dto.SalvarConversaDTO;
+import com.sonecadelivery.chatia.infrastructure.persistence.repository.HistoricoConversaChatBlocoJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Gravação incremental do histórico em blocos, incluindo a compactação
+ * quando a conversa passa de MAX_BLOCOS_POR_CONVERSA.
+ */
+@DataJpaTest
+// Coluna do formato antigo (JSON na linha), fora da entidade
+@Sql(statements = "ALTER TABLE historico_conversas_chat ADD COLUMN IF NOT EXISTS mensagens CLOB")
+class HistoricoConversaChatServiceTest {
+
+    private static final String CLIENTE_ID = "cliente-1";
+    private static final String SESSION_ID = "sessao-1";
+    private static final int GRAVACOES = 20;
+
+    @Autowired
+    private HistoricoConversaChatService service;
+
+    @Autowired
+    private HistoricoConversaChatBlocoJpaRepository blocoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void acrescentaAlemDoLimiteDeBlocosCompactando() {
+        List<MensagemConversaDTO> mensagens = new ArrayList<>();
+        ConversaResumoDTO resumo = null;
+        for (int i = 0; i < GRAVACOES; i++) {
+            mensagens.add(mensagem(i));
+            resumo = service.salvarConversa(CLIENTE_ID, conversa(mensagens, "Título " + i));
+            entityManager.flush();
+        }
+        entityManager.clear();
+
+        assertThat(resumo.totalMensagens()).isEqualTo(GRAVACOES);
+        assertThat(blocoRepository.findUltimaSequencia(resumo.id())).isLessThan(16);
+
+        ConversaSalvaDTO salva = service.buscarConversa(CLIENTE_ID, resumo.id());
+        assertThat(salva.titulo()).isEqualTo("Título " + (GRAVACOES - 1));
+        assertThat(salva.mensagens()).extracting(MensagemConversaDTO::id)
+                .containsExactlyElementsOf(mensagens.stream().map(MensagemConversaDTO::id).toList());
+    }
+
+    private static SalvarConversaDTO conversa(List<MensagemConversaDTO> mensagens, String titulo) {
+        LocalDateTime agora = LocalDateTime.now();
+        return new SalvarConversaDTO(SESSION_ID, titulo, "prévia", agora.minusHours(1), agora,
+                List.copyOf(mensagens));
+    }
+
+    private static MensagemConversaDTO mensagem(int indice) {
+        return new MensagemConversaDTO("m" + indice, indice % 2 == 0 ? "user" : "assistant",
+                "Mensagem " + indice, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,28 @@
+package com.sonecadelivery.chatia.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sonecadelivery.chatia.infrastructure.persistence.CompressorMensagensChat;
+import com.sonecadelivery.chatia.infrastructure.persistence.entity.HistoricoConversaChatEntity;
+import com.sonecadelivery.chatia.infrastructure.persistence.repository.HistoricoConversaChatJpaRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Contexto mínimo para os testes do histórico do chat (@DataJpaTest):
+ * repositórios do histórico, compressor e o serviço, sobre H2.
+ */
+@SpringBootConfiguration
+@EntityScan(basePackageClasses = HistoricoConversaChatEntity.class)
+@EnableJpaRepositories(basePackageClasses = HistoricoConversaChatJpaRepository.class)
+@Import({ CompressorMensagensChat.class, HistoricoConversaChatService.class })
+class PersistenciaChatTestConfig {
+
+    @Bean
+    ObjectMapper objectMapper() {
+        return new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+}
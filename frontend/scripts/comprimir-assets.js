@@ -0,0 +1,56 @@
+#!/usr/bin/env node
+/**
+ * Gera as variantes Brotli (.br) e gzip (.gz) dos arquivos de texto do build
+ * (dist/frontend/browser), na compressão máxima. Roda ao fim do npm run build.
+ *
+ * O backend (AssetsFrontendHandler) serve essas variantes conforme o
+ * Accept-Encoding, sem comprimir nada por requisição. Usa só o zlib do Node.
+ *
+ * Uso:
+ *   node scripts/comprimir-assets.js [diretorio]
+ */
+
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+const DIST = path.resolve(__dirname, process.argv[2] || '../dist/frontend/browser');
+const EXTENSOES = new Set(['.html', '.js', '.mjs', '.css', '.json', '.map', '.svg', '.txt', '.xml', '.webmanifest']);
+const TAMANHO_MINIMO = 1024; // Igual ao backend: abaixo disso não compensa
+
+function listarArquivos(diretorio) {
+    return fs.readdirSync(diretorio, { withFileTypes: true }).flatMap((entrada) => {
+        const caminho = path.join(diretorio, entrada.name);
+        return entrada.isDirectory() ? listarArquivos(caminho) : [caminho];
+    });
+}
+
+if (!fs.existsSync(DIST)) {
+    console.error(`❌ Build não encontrado em ${DIST}`);
+    process.exit(1);
+}
+
+let arquivos = 0;
+let original = 0;
+let brotli = 0;
+for (const arquivo of listarArquivos(DIST)) {
+    if (!EXTENSOES.has(path.extname(arquivo).toLowerCase())) continue;
+    const conteudo = fs.readFileSync(arquivo);
+    if (conteudo.length < TAMANHO_MINIMO) continue;
+
+    const br = zlib.brotliCompressSync(conteudo, {
+        params: {
+            [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+            [zlib.constants.BROTLI_PARAM_SIZE_HINT]: conteudo.length,
+        },
+    });
+    const gz = zlib.gzipSync(conteudo, { level: zlib.constants.Z_BEST_COMPRESSION });
+    fs.writeFileSync(`${arquivo}.br`, br);
+    fs.writeFileSync(`${arquivo}.gz`, gz);
+
+    arquivos++;
+    original += conteudo.length;
+    brotli += br.length;
+}
+
+console.log(`✅ ${arquivos} arquivo(s) comprimidos: ${Math.round(original / 1024)} KB -> ${Math.round(brotli / 1024)} KB (br)`);
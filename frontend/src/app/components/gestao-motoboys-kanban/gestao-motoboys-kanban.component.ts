@@ -2,7 +2,7 @@ import { Component, inject, signal, computed, OnInit, OnDestroy, ChangeDetection
 import { CommonModule, isPlatformBrowser } from '@angular/common';
 import { RouterModule } from '@angular/router';
 import { takeUntilDestroyed } from '@angular/core/rxjs-interop';
-import { PedidoService, StatusPedido, Pedido, TipoPedido } from '../../services/pedido.service';
+import { PedidoService, StatusPedido, Pedido, TipoPedido, aplicarQuadroPedidos } from '../../services/pedido.service';
 import { MotoboyService, Motoboy } from '../../services/motoboy.service';
 import { SessaoTrabalhoService, SessaoTrabalho } from '../../services/sessao-trabalho.service';
 import { GoogleMapsService } from '../../services/google-maps.service';
@@ -53,6 +53,9 @@ export class GestaoMotoboysKanbanComponent implements OnInit, OnDestroy {
   readonly modalMapaAberto = signal(false);
   readonly pedidoSelecionado = signal<Pedido | null>(null);
 
+  // Última versão recebida no polling incremental dos pedidos da sessão
+  private versaoPedidos = 0;
+
   // Computed: Colunas do kanban agrupadas por motoboy
   readonly colunasKanban = computed(() => {
     const motoboysAtivos = this.motoboys().filter(m => m.ativo);
@@ -139,17 +142,20 @@ export class GestaoMotoboysKanbanComponent implements OnInit, OnDestroy {
     this.estaCarregando.set(true);
     this.erro.set(null);
 
-    this.pedidoService.listar({ sessaoId })
+    this.pedidoService.listarAlteracoesSessao(sessaoId, 0)
       .pipe(
         catchError((err) => {
           console.error('Erro ao carregar pedidos:', err);
           this.erro.set('Erro ao carregar pedidos');
-          return of([]);
+          return of(null);
         })
       )
       .subscribe({
-        next: (pedidos) => {
-          this.pedidos.set(pedidos);
+        next: (quadro) => {
+          if (quadro) {
+            this.versaoPedidos = quadro.versao;
+            this.pedidos.set(quadro.pedidos);
+          }
           this.estaCarregando.set(false);
         },
         error: () => {
@@ -159,15 +165,19 @@ export class GestaoMotoboysKanbanComponent implements OnInit, OnDestroy {
   }
 
   iniciarPolling(sessaoId: string): void {
-    timer(0, 5000) // Polling a cada 5 segundos
+    timer(0, 5000) // Polling a cada 5 segundos, só com o que mudou desde a última versão
       .pipe(
-        switchMap(() => this.pedidoService.listar({ sessaoId })),
-        catchError(() => of([])),
+        switchMap(() => this.pedidoService.listarAlteracoesSessao(sessaoId, this.versaoPedidos).pipe(
+          catchError(() => of(null))
+        )),
         takeUntilDestroyed(this.destroyRef)
       )
       .subscribe({
-        next: (pedidos) => {
-          this.pedidos.set(pedidos);
+        next: (quadro) => {
+          if (quadro) {
+            this.versaoPedidos = quadro.versao;
+            this.pedidos.update(atuais => aplicarQuadroPedidos(atuais, quadro));
+          }
         }
       });
   }
@@ -1,7 +1,8 @@
 import { signal, computed, inject } from '@angular/core';
 import { catchError, finalize } from 'rxjs/operators';
-import { of } from 'rxjs';
+import { forkJoin, of } from 'rxjs';
 import { PedidoService, Pedido, MeioPagamento } from '../../../services/pedido.service';
+import { RelatorioFinanceiroService, ResumoFinanceiroApi } from '../../../services/relatorio-financeiro.service';
 import { SessaoTrabalhoService, SessaoTrabalho } from '../../../services/sessao-trabalho.service';
 import { paginar, PaginacaoResult } from '../../../utils/paginacao.util';
 
@@ -13,14 +14,20 @@ export interface ResumoFaturamento {
   porMeioPagamento: Array<{ meio: MeioPagamento; valor: number }>;
 }
 
+const PAGINA_VAZIA: PaginacaoResult<Pedido> = { itens: [], paginaAtual: 1, totalPaginas: 0, totalItens: 0 };
+const ATRASO_PESQUISA_MS = 300;
+
 export function useHistoricoSessoes() {
   const pedidoService = inject(PedidoService);
+  const relatorioService = inject(RelatorioFinanceiroService);
   const sessaoService = inject(SessaoTrabalhoService);
 
   // Estados
   const sessoes = signal<SessaoTrabalho[]>([]);
   const sessaoSelecionada = signal<SessaoTrabalho | null>(null);
-  const pedidos = signal<Pedido[]>([]);
+  // Resumo da sessão inteira e só a página de pedidos exibida (paginação no servidor)
+  const resumo = signal<ResumoFinanceiroApi | null>(null);
+  const pedidosPaginados = signal<PaginacaoResult<Pedido>>(PAGINA_VAZIA);
   const estado = signal<EstadoCarregamento>('idle');
   const erro = signal<string | null>(null);
 
@@ -55,85 +62,20 @@ export function useHistoricoSessoes() {
     return paginar(resultado, itensPorPaginaSessoes(), paginaSessoes());
   });
 
-  // Computed - Pedidos
-  const pedidosFiltrados = computed(() => {
-    let resultado = [...pedidos()];
-
-    // Filtro por texto (nome do cliente ou itens)
-    if (pesquisaPedidos().trim()) {
-      const texto = pesquisaPedidos().toLowerCase();
-      resultado = resultado.filter(p => {
-        const matchCliente = p.clienteNome.toLowerCase().includes(texto);
-        const matchItens = p.itens.some(item => 
-          item.produtoNome.toLowerCase().includes(texto)
-        );
-        return matchCliente || matchItens;
-      });
-    }
-
-    // Ordenar por número do pedido e depois por data/horário
-    resultado.sort((a, b) => {
-      // Primeiro ordena por número do pedido (numérico)
-      const numeroA = parseInt(a.numeroPedido, 10) || 0;
-      const numeroB = parseInt(b.numeroPedido, 10) || 0;
-      if (numeroA !== numeroB) {
-        return numeroA - numeroB;
-      }
-      // Se o número for igual, ordena por data/horário
-      const dataA = new Date(a.dataPedido).getTime();
-      const dataB = new Date(b.dataPedido).getTime();
-      return dataA - dataB;
-    });
-
-    return resultado;
-  });
-
-  const pedidosPaginados = computed(() => {
-    const resultado = pedidosFiltrados();
-    return paginar(resultado, itensPorPaginaPedidos(), paginaPedidos());
-  });
-
   // Computed - Estados
   const estaCarregando = computed(() => estado() === 'carregando');
   const temSessaoSelecionada = computed(() => sessaoSelecionada() !== null);
-  const temPedidos = computed(() => pedidos().length > 0);
+  const temPedidos = computed(() => (resumo()?.totalPedidos ?? 0) > 0);
 
   const resumoFaturamento = computed((): ResumoFaturamento => {
-    // Usar todos os pedidos (não apenas os filtrados) para o resumo
-    const pedidosAtuais = pedidos();
-    
-    if (pedidosAtuais.length === 0) {
-      return {
-        totalPedidos: 0,
-        totalFaturamento: 0,
-        porMeioPagamento: []
-      };
-    }
-
-    const totalPedidos = pedidosAtuais.length;
-    let totalFaturamento = 0;
-    const porMeioPagamentoMap = new Map<MeioPagamento, number>();
-
-    pedidosAtuais.forEach(pedido => {
-      totalFaturamento += pedido.valorTotal;
-
-      if (pedido.meiosPagamento && pedido.meiosPagamento.length > 0) {
-        pedido.meiosPagamento.forEach(mp => {
-          const valorAtual = porMeioPagamentoMap.get(mp.meioPagamento) || 0;
-          porMeioPagamentoMap.set(mp.meioPagamento, valorAtual + mp.valor);
-        });
-      }
-    });
-
-    const porMeioPagamento = Array.from(porMeioPagamentoMap.entries()).map(([meio, valor]) => ({
-      meio,
-      valor
-    }));
-
+    const atual = resumo();
     return {
-      totalPedidos,
-      totalFaturamento,
-      porMeioPagamento
+      totalPedidos: atual?.totalPedidos ?? 0,
+      totalFaturamento: atual?.totalVendas ?? 0,
+      porMeioPagamento: (atual?.meiosPagamento ?? []).map(mp => ({
+        meio: mp.meioPagamento,
+        valor: mp.valorTotal
+      }))
     };
   });
 
@@ -170,7 +112,8 @@ export function useHistoricoSessoes() {
     if (sessao) {
       carregarPedidosPorSessao(sessao.id);
     } else {
-      pedidos.set([]);
+      resumo.set(null);
+      pedidosPaginados.set(PAGINA_VAZIA);
     }
   };
 
@@ -186,30 +129,61 @@ export function useHistoricoSessoes() {
     }
   };
 
+  let pesquisaTimer: ReturnType<typeof setTimeout> | undefined;
+
   const pesquisarPedidos = (texto: string) => {
     pesquisaPedidos.set(texto);
     paginaPedidos.set(1);
+    // Consulta no servidor só quando a digitação para
+    clearTimeout(pesquisaTimer);
+    pesquisaTimer = setTimeout(() => carregarPaginaPedidos(), ATRASO_PESQUISA_MS);
   };
 
   const irParaPaginaPedidos = (pagina: number) => {
     const totalPaginas = pedidosPaginados().totalPaginas;
-    if (pagina >= 1 && pagina <= totalPaginas) {
+    if (pagina >= 1 && pagina <= totalPaginas && pagina !== paginaPedidos()) {
       paginaPedidos.set(pagina);
+      carregarPaginaPedidos();
     }
   };
 
+  const carregarPaginaPedidos = () => {
+    const sessao = sessaoSelecionada();
+    if (!sessao) {
+      return;
+    }
+    relatorioService.listarPedidos({ sessaoId: sessao.id }, paginaPedidos(), itensPorPaginaPedidos(), pesquisaPedidos())
+      .pipe(
+        catchError((error) => {
+          const mensagem = error.error?.message || error.message || 'Erro ao carregar pedidos';
+          erro.set(mensagem);
+          console.error('Erro ao carregar pedidos:', error);
+          return of(null);
+        })
+      )
+      .subscribe((resultado) => {
+        // Resposta de outra sessão (seleção trocada durante a requisição) é descartada
+        if (resultado && sessaoSelecionada()?.id === sessao.id) {
+          pedidosPaginados.set(resultado);
+        }
+      });
+  };
+
   const carregarPedidosPorSessao = (sessaoId: string) => {
     estado.set('carregando');
     erro.set(null);
 
-    pedidoService.listar({ sessaoId })
+    forkJoin({
+      resumo: relatorioService.obterResumo({ sessaoId }),
+      pagina: relatorioService.listarPedidos({ sessaoId }, paginaPedidos(), itensPorPaginaPedidos(), pesquisaPedidos())
+    })
       .pipe(
         catchError((error) => {
           const mensagem = error.error?.message || error.message || 'Erro ao carregar pedidos';
           erro.set(mensagem);
           estado.set('erro');
           console.error('Erro ao carregar pedidos:', error);
-          return of([]);
+          return of({ resumo: null, pagina: PAGINA_VAZIA });
         }),
         finalize(() => {
           if (estado() === 'carregando') {
@@ -218,7 +192,8 @@ export function useHistoricoSessoes() {
         })
       )
       .subscribe((resultado) => {
-        pedidos.set(resultado);
+        resumo.set(resultado.resumo);
+        pedidosPaginados.set(resultado.pagina);
       });
   };
 
@@ -261,7 +236,6 @@ export function useHistoricoSessoes() {
     // Estados
     sessoes,
     sessaoSelecionada,
-    pedidos,
     estado,
     erro,
 
@@ -40,7 +40,6 @@ export class HistoricoSessoesComponent implements OnInit {
   // Expor propriedades do composable
   readonly sessoes = this.historicoComposable.sessoes;
   readonly sessaoSelecionada = this.historicoComposable.sessaoSelecionada;
-  readonly pedidos = this.historicoComposable.pedidos;
   readonly estado = this.historicoComposable.estado;
   readonly erro = this.historicoComposable.erro;
   readonly estaCarregando = this.historicoComposable.estaCarregando;
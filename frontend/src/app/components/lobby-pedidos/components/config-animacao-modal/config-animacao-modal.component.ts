@@ -1,7 +1,7 @@
-import { Component, input, output, signal, computed, effect } from '@angular/core';
+import { Component, input, output, signal, computed, effect, inject } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
-import { UploadUtil } from '../../../../utils/upload.util';
+import { MidiaService } from '../../../../services/midia.service';
 
 export interface ConfigAnimacao {
   animacaoAtivada: boolean;
@@ -19,6 +19,8 @@ export interface ConfigAnimacao {
   styleUrl: './config-animacao-modal.component.css'
 })
 export class ConfigAnimacaoModalComponent {
+  private readonly midiaService = inject(MidiaService);
+
   readonly aberto = input<boolean>(false);
   readonly configInicial = input<ConfigAnimacao>({
     animacaoAtivada: true,
@@ -74,15 +76,16 @@ export class ConfigAnimacaoModalComponent {
     }
 
     this.carregandoVideo1.set(true);
-    UploadUtil.fileParaBase64(file)
-      .then((base64) => {
-        this.video1Url.set(base64);
+    this.midiaService.enviar(file).subscribe({
+      next: (midia) => {
+        this.video1Url.set(midia.url);
         this.carregandoVideo1.set(false);
-      })
-      .catch((error) => {
-        alert('Erro ao processar vídeo: ' + error.message);
+      },
+      error: (error) => {
+        alert('Erro ao enviar vídeo: ' + (error?.error?.message || error.message));
         this.carregandoVideo1.set(false);
-      });
+      }
+    });
   }
 
   onVideo2Selected(event: Event): void {
@@ -101,15 +104,16 @@ export class ConfigAnimacaoModalComponent {
     }
 
     this.carregandoVideo2.set(true);
-    UploadUtil.fileParaBase64(file)
-      .then((base64) => {
-        this.video2Url.set(base64);
+    this.midiaService.enviar(file).subscribe({
+      next: (midia) => {
+        this.video2Url.set(midia.url);
         this.carregandoVideo2.set(false);
-      })
-      .catch((error) => {
-        alert('Erro ao processar vídeo: ' + error.message);
+      },
+      error: (error) => {
+        alert('Erro ao enviar vídeo: ' + (error?.error?.message || error.message));
         this.carregandoVideo2.set(false);
-      });
+      }
+    });
   }
 
   removerVideo1(): void {
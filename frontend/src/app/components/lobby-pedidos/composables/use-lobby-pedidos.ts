@@ -1,5 +1,5 @@
 import { inject, signal, computed } from '@angular/core';
-import { PedidoService, Pedido, StatusPedido } from '../../../services/pedido.service';
+import { PedidoService, Pedido, StatusPedido, aplicarQuadroPedidos } from '../../../services/pedido.service';
 import { SessaoTrabalhoService } from '../../../services/sessao-trabalho.service';
 
 export function useLobbyPedidos() {
@@ -11,6 +11,11 @@ export function useLobbyPedidos() {
   const error = signal<string | null>(null);
   const sessaoAtiva = signal<any>(null);
 
+  // Estado do polling incremental: lista completa da sessão e última versão recebida
+  let todosPedidos: Pedido[] = [];
+  let versao = 0;
+  let sessaoCarregada: string | null = null;
+
   const pedidosPreparando = computed(() => 
     pedidos().filter(p => p.status === StatusPedido.PREPARANDO)
   );
@@ -37,9 +42,20 @@ export function useLobbyPedidos() {
       return;
     }
 
-    pedidoService.listar({ sessaoId: sessao.id }).subscribe({
-      next: (lista) => {
-        const pedidosFiltrados = lista.filter(
+    if (sessaoCarregada !== sessao.id) {
+      sessaoCarregada = sessao.id;
+      todosPedidos = [];
+      versao = 0;
+    }
+
+    pedidoService.listarAlteracoesSessao(sessao.id, versao).subscribe({
+      next: (quadro) => {
+        if (!quadro) {
+          return; // Nada mudou desde a última consulta
+        }
+        versao = quadro.versao;
+        todosPedidos = aplicarQuadroPedidos(todosPedidos, quadro);
+        const pedidosFiltrados = todosPedidos.filter(
           p => p.status === StatusPedido.PREPARANDO || p.status === StatusPedido.PRONTO
         );
         pedidos.set(pedidosFiltrados);
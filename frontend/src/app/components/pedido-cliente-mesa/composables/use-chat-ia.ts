@@ -1,5 +1,5 @@
 import { signal, computed, inject } from '@angular/core';
-import { ChatIAService, ChatIAResponse, ProdutoDestacado, AcaoChat, ConversaSalva as ConversaSalvaAPI, SalvarConversaDTO } from '../../../services/chat-ia.service';
+import { ChatIAService, ChatIAResponse, ProdutoDestacado, AcaoChat, ConversaResumo as ConversaResumoAPI, MensagemConversa, SalvarConversaDTO } from '../../../services/chat-ia.service';
 
 export interface MensagemChat {
     id: string;
@@ -19,7 +19,9 @@ export interface ConversaSalva {
     titulo: string;
     dataInicio: Date;
     dataUltimaMensagem: Date;
-    mensagens: MensagemChat[];
+    /** Ausente nas conversas vindas da API: as mensagens são buscadas ao abrir a conversa */
+    mensagens?: MensagemChat[];
+    totalMensagens: number;
     previewUltimaMensagem: string;
 }
 
@@ -92,6 +94,7 @@ function carregarHistoricoLocal(clienteId: string | null | undefined): ConversaS
             ...c,
             dataInicio: new Date(c.dataInicio),
             dataUltimaMensagem: new Date(c.dataUltimaMensagem),
+            totalMensagens: c.totalMensagens ?? c.mensagens.length,
             mensagens: c.mensagens.map(m => ({
                 ...m,
                 timestamp: new Date(m.timestamp)
@@ -114,9 +117,9 @@ function salvarHistoricoLocal(clienteId: string | null | undefined, conversas: C
 }
 
 /**
- * Converte ConversaSalvaAPI (do backend) para ConversaSalva (local).
+ * Converte o resumo da API (do backend) para ConversaSalva (local, sem mensagens).
  */
-function converterApiParaLocal(apiConversa: ConversaSalvaAPI): ConversaSalva {
+function converterApiParaLocal(apiConversa: ConversaResumoAPI): ConversaSalva {
     return {
         id: apiConversa.id,
         sessionId: apiConversa.sessionId,
@@ -124,15 +127,22 @@ function converterApiParaLocal(apiConversa: ConversaSalvaAPI): ConversaSalva {
         dataInicio: new Date(apiConversa.dataInicio),
         dataUltimaMensagem: new Date(apiConversa.dataUltimaMensagem),
         previewUltimaMensagem: apiConversa.previewUltimaMensagem,
-        mensagens: apiConversa.mensagens.map(m => ({
-            id: m.id,
-            from: m.from,
-            text: m.text,
-            timestamp: new Date(m.timestamp)
-        }))
+        totalMensagens: apiConversa.totalMensagens
     };
 }
 
+/**
+ * Converte as mensagens de uma conversa da API para MensagemChat.
+ */
+function converterMensagensApi(mensagensApi: MensagemConversa[]): MensagemChat[] {
+    return mensagensApi.map(m => ({
+        id: m.id,
+        from: m.from,
+        text: m.text,
+        timestamp: new Date(m.timestamp)
+    }));
+}
+
 /**
  * Converte ConversaSalva (local) para SalvarConversaDTO (para API).
  */
@@ -143,7 +153,7 @@ function converterLocalParaDto(conversa: ConversaSalva): SalvarConversaDTO {
         previewUltimaMensagem: conversa.previewUltimaMensagem,
         dataInicio: conversa.dataInicio.toISOString(),
         dataUltimaMensagem: conversa.dataUltimaMensagem.toISOString(),
-        mensagens: conversa.mensagens.map(m => ({
+        mensagens: (conversa.mensagens ?? []).map(m => ({
             id: m.id,
             from: m.from,
             text: m.text,
@@ -350,7 +360,7 @@ export function useChatIA(
         // Se é uma conversa carregada do histórico e não houve novas mensagens, não precisa salvar novamente
         if (conversaHistoricoAtualId) {
             const conversaExistente = historicoConversas().find(c => c.id === conversaHistoricoAtualId);
-            if (conversaExistente && conversaExistente.mensagens.length === msgs.length) {
+            if (conversaExistente && conversaExistente.totalMensagens === msgs.length) {
                 // Não houve novas mensagens, não precisa salvar
                 return;
             }
@@ -368,6 +378,7 @@ export function useChatIA(
             dataInicio: msgs[0].timestamp,
             dataUltimaMensagem: msgs.at(-1)!.timestamp,
             mensagens: msgs,
+            totalMensagens: msgs.length,
             previewUltimaMensagem: msgs.at(-1)!.text.substring(0, 50) + (msgs.at(-1)!.text.length > 50 ? '...' : '')
         };
 
@@ -435,8 +446,27 @@ export function useChatIA(
         // Salva conversa atual antes de trocar (se tiver interação)
         salvarConversaAtualNoHistorico();
 
-        // Carrega a conversa selecionada
-        mensagens.set(conversa.mensagens);
+        // Histórico local já tem as mensagens; o da API traz só o resumo
+        if (conversa.mensagens) {
+            abrirConversa(conversa, conversa.mensagens);
+            return;
+        }
+
+        const clienteId = clienteIdGetter?.();
+        if (!clienteId) return;
+
+        chatService.buscarConversa(clienteId, conversa.id).subscribe(conversaCompleta => {
+            if (conversaCompleta) {
+                abrirConversa(conversa, converterMensagensApi(conversaCompleta.mensagens));
+            }
+        });
+    }
+
+    /**
+     * Exibe as mensagens de uma conversa do histórico e passa a usar a sessão dela.
+     */
+    function abrirConversa(conversa: ConversaSalva, mensagensConversa: MensagemChat[]): void {
+        mensagens.set(mensagensConversa);
         sessionId = conversa.sessionId;
 
         // Guarda o ID da conversa carregada para evitar duplicatas
@@ -1,6 +1,7 @@
 import { Component, inject, input, output, signal, computed, OnInit, AfterViewInit, OnDestroy, ViewChild, ElementRef, ChangeDetectionStrategy, PLATFORM_ID } from '@angular/core';
 import { CommonModule, isPlatformBrowser } from '@angular/common';
 import { FormsModule, ReactiveFormsModule, FormBuilder, FormGroup, Validators } from '@angular/forms';
+import { Subscription } from 'rxjs';
 import { ClienteService, Cliente, CriarClienteRequest } from '../../../../services/cliente.service';
 
 @Component({
@@ -30,6 +31,7 @@ export class SelecaoClienteComponent implements OnInit, AfterViewInit, OnDestroy
   readonly gapCalculado = signal<string>('0.5rem');
 
   private resizeObserver?: ResizeObserver;
+  private buscaSubscription?: Subscription;
 
   readonly clienteForm: FormGroup;
 
@@ -64,6 +66,7 @@ export class SelecaoClienteComponent implements OnInit, AfterViewInit, OnDestroy
     if (this.resizeObserver) {
       this.resizeObserver.disconnect();
     }
+    this.buscaSubscription?.unsubscribe();
   }
 
   private observarMudancasTamanho(): void {
@@ -211,34 +214,39 @@ export class SelecaoClienteComponent implements OnInit, AfterViewInit, OnDestroy
     return Math.ceil(total / porPagina);
   });
 
-  carregarClientes(telefone?: string, nome?: string): void {
-    this.clienteService.listar({ telefone, nome })
+  carregarClientes(): void {
+    this.buscaSubscription?.unsubscribe();
+    this.buscaSubscription = this.clienteService.listar()
       .subscribe({
-        next: (clientes) => {
-          this.clientes.set(clientes);
-          // Recalcula após os clientes serem carregados
-          if (this.isBrowser) {
-            setTimeout(() => {
-              this.calcularClientesPorPagina();
-              this.calcularGapProporcional();
-            }, 100);
-          }
-        },
+        next: (clientes) => this.atualizarClientes(clientes),
         error: (error) => console.error('Erro ao carregar clientes:', error)
       });
   }
 
   buscarClientes(texto: string): void {
     this.paginaClientes.set(1);
-    if (texto && texto.trim().length >= 2) {
-      const textoLimpo = texto.trim();
-      if (/^\d/.test(textoLimpo)) {
-        this.carregarClientes(textoLimpo);
-      } else {
-        this.carregarClientes(undefined, textoLimpo);
-      }
-    } else {
+    const textoLimpo = texto?.trim() ?? '';
+    if (textoLimpo.length < 2) {
       this.carregarClientes();
+      return;
+    }
+    // Cancela a busca anterior: só a resposta do último texto digitado é exibida
+    this.buscaSubscription?.unsubscribe();
+    this.buscaSubscription = this.clienteService.buscar(textoLimpo, 0, 50)
+      .subscribe({
+        next: (pagina) => this.atualizarClientes(pagina.itens),
+        error: (error) => console.error('Erro ao buscar clientes:', error)
+      });
+  }
+
+  private atualizarClientes(clientes: Cliente[]): void {
+    this.clientes.set(clientes);
+    // Recalcula após os clientes serem carregados
+    if (this.isBrowser) {
+      setTimeout(() => {
+        this.calcularClientesPorPagina();
+        this.calcularGapProporcional();
+      }, 100);
     }
   }
 
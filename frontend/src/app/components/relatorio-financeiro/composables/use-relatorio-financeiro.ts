@@ -1,8 +1,9 @@
 import { computed, signal, inject } from '@angular/core';
 import { catchError, finalize } from 'rxjs/operators';
-import { of } from 'rxjs';
-import { PedidoService, Pedido, MeioPagamento } from '../../../services/pedido.service';
-import { paginar, PaginacaoResult } from '../../../utils/paginacao.util';
+import { forkJoin, of } from 'rxjs';
+import { Pedido, MeioPagamento } from '../../../services/pedido.service';
+import { RelatorioFinanceiroService, ResumoFinanceiroApi } from '../../../services/relatorio-financeiro.service';
+import { PaginacaoResult } from '../../../utils/paginacao.util';
 
 interface ResumoFinanceiro {
   totalVendas: number;
@@ -23,131 +24,69 @@ interface ResumoPorMeioPagamento {
 
 type EstadoCarregamento = 'idle' | 'carregando' | 'sucesso' | 'erro';
 
+const NOMES_MEIO_PAGAMENTO: Record<MeioPagamento, string> = {
+  [MeioPagamento.PIX]: 'PIX',
+  [MeioPagamento.CARTAO_CREDITO]: 'Cartão de Crédito',
+  [MeioPagamento.CARTAO_DEBITO]: 'Cartão de Débito',
+  [MeioPagamento.VALE_REFEICAO]: 'Vale Refeição',
+  [MeioPagamento.DINHEIRO]: 'Dinheiro'
+};
+
+const PAGINA_VAZIA: PaginacaoResult<Pedido> = { itens: [], paginaAtual: 1, totalPaginas: 0, totalItens: 0 };
+
+/**
+ * Totais do dia vêm prontos do backend (/api/relatorio-financeiro/resumo);
+ * a lista de pedidos é paginada no servidor e só a página exibida é carregada.
+ */
 export function useRelatorioFinanceiro() {
-  const pedidoService = inject(PedidoService);
+  const relatorioService = inject(RelatorioFinanceiroService);
 
   const dataFiltro = signal<string>(new Date().toISOString().split('T')[0]);
   const estado = signal<EstadoCarregamento>('idle');
   const erro = signal<string | null>(null);
-  const pedidos = signal<Pedido[]>([]);
+  const resumo = signal<ResumoFinanceiroApi | null>(null);
+  const pedidosPaginados = signal<PaginacaoResult<Pedido>>(PAGINA_VAZIA);
   const paginaAtual = signal<number>(1);
   const itensPorPagina = signal<number>(10);
 
   const estaCarregando = computed(() => estado() === 'carregando');
-  const possuiDados = computed(() => pedidos().length > 0);
-
-  const pedidosOrdenados = computed(() => {
-    const pedidosLista = [...pedidos()];
-    return pedidosLista.sort((a, b) => {
-      const numeroA = parseInt(a.numeroPedido) || 0;
-      const numeroB = parseInt(b.numeroPedido) || 0;
-
-      if (numeroA !== numeroB) {
-        return numeroA - numeroB;
-      }
-
-      const dataA = new Date(a.dataPedido).getTime();
-      const dataB = new Date(b.dataPedido).getTime();
-      return dataA - dataB;
-    });
-  });
-
-  const pedidosPaginados = computed<PaginacaoResult<Pedido>>(() => {
-    return paginar(
-      pedidosOrdenados(),
-      itensPorPagina(),
-      paginaAtual()
-    );
-  });
+  const possuiDados = computed(() => (resumo()?.totalPedidos ?? 0) > 0);
 
   const resumoFinanceiro = computed<ResumoFinanceiro>(() => {
-    const pedidosFiltrados = pedidos();
-    if (pedidosFiltrados.length === 0) {
-      return {
-        totalVendas: 0,
-        totalPedidos: 0,
-        ticketMedio: 0,
-        dinheiroNoCaixa: 0,
-        totalPix: 0,
-        totalCartao: 0,
-        totalValeRefeicao: 0
-      };
-    }
-
-    const totalVendas = pedidosFiltrados.reduce((acc, p) => acc + p.valorTotal, 0);
-    const totalPedidos = pedidosFiltrados.length;
-    const ticketMedio = totalPedidos > 0 ? totalVendas / totalPedidos : 0;
-
-    let dinheiroNoCaixa = 0;
-    let totalPix = 0;
-    let totalCartao = 0;
-    let totalValeRefeicao = 0;
-
-    pedidosFiltrados.forEach(pedido => {
-      pedido.meiosPagamento?.forEach(mp => {
-        switch (mp.meioPagamento) {
-          case MeioPagamento.DINHEIRO:
-            dinheiroNoCaixa += mp.valor;
-            break;
-          case MeioPagamento.PIX:
-            totalPix += mp.valor;
-            break;
-          case MeioPagamento.CARTAO_CREDITO:
-          case MeioPagamento.CARTAO_DEBITO:
-            totalCartao += mp.valor;
-            break;
-          case MeioPagamento.VALE_REFEICAO:
-            totalValeRefeicao += mp.valor;
-            break;
-        }
-      });
-    });
+    const atual = resumo();
+    const totalPorMeio = (...meios: MeioPagamento[]) => (atual?.meiosPagamento ?? [])
+      .filter(mp => meios.includes(mp.meioPagamento))
+      .reduce((acc, mp) => acc + mp.valorTotal, 0);
 
     return {
-      totalVendas,
-      totalPedidos,
-      ticketMedio,
-      dinheiroNoCaixa,
-      totalPix,
-      totalCartao,
-      totalValeRefeicao
+      totalVendas: atual?.totalVendas ?? 0,
+      totalPedidos: atual?.totalPedidos ?? 0,
+      ticketMedio: atual?.ticketMedio ?? 0,
+      dinheiroNoCaixa: totalPorMeio(MeioPagamento.DINHEIRO),
+      totalPix: totalPorMeio(MeioPagamento.PIX),
+      totalCartao: totalPorMeio(MeioPagamento.CARTAO_CREDITO, MeioPagamento.CARTAO_DEBITO),
+      totalValeRefeicao: totalPorMeio(MeioPagamento.VALE_REFEICAO)
     };
   });
 
-  const resumoPorMeioPagamento = computed<ResumoPorMeioPagamento[]>(() => {
-    const pedidosFiltrados = pedidos();
-    if (pedidosFiltrados.length === 0) {
-      return [];
-    }
-
-    const mapa = new Map<MeioPagamento, { valor: number; pedidosIds: Set<string> }>();
-
-    pedidosFiltrados.forEach(pedido => {
-      pedido.meiosPagamento?.forEach(mp => {
-        const atual = mapa.get(mp.meioPagamento) || { valor: 0, pedidosIds: new Set<string>() };
-        atual.valor += mp.valor;
-        atual.pedidosIds.add(pedido.id);
-        mapa.set(mp.meioPagamento, atual);
-      });
-    });
-
-    const nomes: Record<MeioPagamento, string> = {
-      [MeioPagamento.PIX]: 'PIX',
-      [MeioPagamento.CARTAO_CREDITO]: 'Cartão de Crédito',
-      [MeioPagamento.CARTAO_DEBITO]: 'Cartão de Débito',
-      [MeioPagamento.VALE_REFEICAO]: 'Vale Refeição',
-      [MeioPagamento.DINHEIRO]: 'Dinheiro'
-    };
-
-    return Array.from(mapa.entries())
-      .map(([meio, dados]) => ({
-        meioPagamento: meio,
-        nome: nomes[meio],
-        valorTotal: dados.valor,
-        quantidadePedidos: dados.pedidosIds.size
-      }))
-      .sort((a, b) => b.valorTotal - a.valorTotal);
-  });
+  // Já vem ordenado por valor (maior primeiro)
+  const resumoPorMeioPagamento = computed<ResumoPorMeioPagamento[]>(() =>
+    (resumo()?.meiosPagamento ?? []).map(mp => ({
+      meioPagamento: mp.meioPagamento,
+      nome: NOMES_MEIO_PAGAMENTO[mp.meioPagamento] ?? mp.meioPagamento,
+      valorTotal: mp.valorTotal,
+      quantidadePedidos: mp.quantidadePedidos
+    }))
+  );
+
+  const tratarErro = (error: unknown, padrao: string) => {
+    const mensagem = (error as { error?: { message?: string } })?.error?.message
+      ?? (error as Error)?.message
+      ?? padrao;
+    erro.set(mensagem);
+    estado.set('erro');
+    console.error('Erro ao carregar relatório financeiro', error);
+  };
 
   const carregarPedidos = () => {
     const data = dataFiltro();
@@ -158,19 +97,14 @@ export function useRelatorioFinanceiro() {
     estado.set('carregando');
     erro.set(null);
 
-    pedidoService
-      .listar({
-        dataInicioSessao: data
-      })
+    forkJoin({
+      resumo: relatorioService.obterResumo({ data }),
+      pagina: relatorioService.listarPedidos({ data }, paginaAtual(), itensPorPagina())
+    })
       .pipe(
         catchError(error => {
-          const mensagem = (error as { error?: { message?: string } })?.error?.message
-            ?? (error as Error)?.message
-            ?? 'Não foi possível carregar os pedidos.';
-          erro.set(mensagem);
-          estado.set('erro');
-          console.error('Erro ao carregar pedidos', error);
-          return of<Pedido[]>([]);
+          tratarErro(error, 'Não foi possível carregar os pedidos.');
+          return of({ resumo: null, pagina: PAGINA_VAZIA });
         }),
         finalize(() => {
           if (estado() === 'carregando') {
@@ -179,7 +113,24 @@ export function useRelatorioFinanceiro() {
         })
       )
       .subscribe(resultado => {
-        pedidos.set(resultado);
+        resumo.set(resultado.resumo);
+        pedidosPaginados.set(resultado.pagina);
+      });
+  };
+
+  const carregarPagina = (pagina: number) => {
+    relatorioService
+      .listarPedidos({ data: dataFiltro() }, pagina, itensPorPagina())
+      .pipe(
+        catchError(error => {
+          tratarErro(error, 'Não foi possível carregar os pedidos.');
+          return of(null);
+        })
+      )
+      .subscribe(resultado => {
+        if (resultado) {
+          pedidosPaginados.set(resultado);
+        }
       });
   };
 
@@ -194,8 +145,9 @@ export function useRelatorioFinanceiro() {
 
   const irParaPagina = (pagina: number) => {
     const total = pedidosPaginados().totalPaginas;
-    if (pagina >= 1 && pagina <= total) {
+    if (pagina >= 1 && pagina <= total && pagina !== paginaAtual()) {
       paginaAtual.set(pagina);
+      carregarPagina(pagina);
     }
   };
 
@@ -205,8 +157,6 @@ export function useRelatorioFinanceiro() {
     dataFiltro,
     estado,
     erro,
-    pedidos,
-    pedidosOrdenados,
     pedidosPaginados,
     paginaAtual,
     estaCarregando,
@@ -218,4 +168,3 @@ export function useRelatorioFinanceiro() {
     irParaPagina
   };
 }
-
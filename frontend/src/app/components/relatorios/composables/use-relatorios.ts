@@ -1,6 +1,6 @@
 import { computed, signal, inject } from '@angular/core';
-import { of, forkJoin } from 'rxjs';
-import { catchError } from 'rxjs/operators';
+import { of } from 'rxjs';
+import { catchError, map } from 'rxjs/operators';
 import {
   CategoriaVendasResumo,
   DistribuicaoClientes,
@@ -27,7 +27,7 @@ interface RelatoriosPayload {
   pedidosPorHorario: PedidosPorHorario[];
   clientes: DistribuicaoClientes[];
   meiosPagamento: DistribuicaoMeioPagamento[];
-  indicadores: IndicadoresResumo;
+  indicadores: IndicadoresResumo | null;
 }
 
 const criarFiltroPadrao = (): FiltroRelatorioTemporal => {
@@ -92,17 +92,25 @@ export function useRelatorios() {
     estado.set('sucesso');
   };
 
-  const construirRequests = (filtroAtual: FiltroRelatorioTemporal) => forkJoin({
-    evolucao: relatoriosService.obterEvolucaoVendas(filtroAtual),
-    categorias: relatoriosService.obterResumoCategorias(filtroAtual),
-    quantidadePorCategoria: relatoriosService.obterQuantidadePorCategoria(filtroAtual),
-    produtos: relatoriosService.obterTopProdutos(filtroAtual),
-    horarios: relatoriosService.obterDistribuicaoHoraria(filtroAtual),
-    pedidosPorHorario: relatoriosService.obterPedidosPorHorario(filtroAtual),
-    clientes: relatoriosService.obterDistribuicaoClientes(filtroAtual),
-    meiosPagamento: relatoriosService.obterDistribuicaoMeiosPagamento(filtroAtual),
-    indicadores: relatoriosService.obterIndicadores(filtroAtual)
-  });
+  // Uma única requisição ao endpoint composto (consultas em paralelo no backend)
+  const construirRequests = (filtroAtual: FiltroRelatorioTemporal) => relatoriosService
+    .obterDashboard(filtroAtual)
+    .pipe(map((dashboard): RelatoriosPayload => {
+      if (dashboard.secoesIndisponiveis?.length) {
+        console.warn('Seções de relatório indisponíveis', dashboard.secoesIndisponiveis);
+      }
+      return {
+        evolucao: dashboard.evolucao,
+        categorias: dashboard.categorias,
+        quantidadePorCategoria: dashboard.quantidadePorCategoria,
+        produtos: dashboard.topProdutos,
+        horarios: dashboard.horarios,
+        pedidosPorHorario: dashboard.pedidosPorHorario,
+        clientes: dashboard.clientes,
+        meiosPagamento: dashboard.meiosPagamento,
+        indicadores: dashboard.indicadores
+      };
+    }));
 
   const carregarRelatorios = () => {
     estado.set('carregando');
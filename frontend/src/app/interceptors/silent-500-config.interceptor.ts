@@ -20,8 +20,8 @@ export const silent500ConfigInterceptor: HttpInterceptorFn = (req, next) => {
                 animacaoAtivada: true,
                 intervaloAnimacao: 30,
                 duracaoAnimacao: 6,
-                video1Url: null,
-                video2Url: null
+                video1: null,
+                video2: null
               }
             }));
           }
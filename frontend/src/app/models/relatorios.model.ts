@@ -66,3 +66,16 @@ export interface IndicadoresResumo {
   crescimentoPercentual: number;
 }
 
+
+export interface RelatorioDashboard {
+  evolucao: EvolucaoVendasPonto[];
+  categorias: CategoriaVendasResumo[];
+  quantidadePorCategoria: QuantidadePorCategoria[];
+  topProdutos: ProdutoMaisVendido[];
+  horarios: DistribuicaoHoraria[];
+  pedidosPorHorario: PedidosPorHorario[];
+  clientes: DistribuicaoClientes[];
+  meiosPagamento: DistribuicaoMeioPagamento[];
+  indicadores: IndicadoresResumo | null;
+  secoesIndisponiveis: string[];
+}
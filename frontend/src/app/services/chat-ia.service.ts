@@ -17,7 +17,18 @@ export interface MensagemConversa {
     timestamp: string;
 }
 
-/** Conversa salva no histórico */
+/** Resumo de uma conversa salva (lista do histórico, sem mensagens) */
+export interface ConversaResumo {
+    id: string;
+    sessionId: string;
+    titulo: string;
+    previewUltimaMensagem: string;
+    dataInicio: string;
+    dataUltimaMensagem: string;
+    totalMensagens: number;
+}
+
+/** Conversa salva no histórico, com as mensagens */
 export interface ConversaSalva {
     id: string;
     sessionId: string;
@@ -128,13 +139,13 @@ export class ChatIAService {
     // ==================== MÉTODOS DE HISTÓRICO DE CONVERSAS ====================
 
     /**
-     * Lista as últimas conversas salvas de um cliente.
+     * Lista as últimas conversas salvas de um cliente (resumo, sem mensagens).
      * 
      * @param clienteId identificador do cliente
-     * @returns Observable com lista de conversas
+     * @returns Observable com lista de resumos
      */
-    listarConversasSalvas(clienteId: string): Observable<ConversaSalva[]> {
-        return this.http.get<ConversaSalva[]>(`${this.apiUrl}/historico/${clienteId}`).pipe(
+    listarConversasSalvas(clienteId: string): Observable<ConversaResumo[]> {
+        return this.http.get<ConversaResumo[]>(`${this.apiUrl}/historico/${clienteId}`).pipe(
             catchError(error => {
                 console.error('Erro ao listar conversas:', error);
                 return of([]);
@@ -147,10 +158,10 @@ export class ChatIAService {
      * 
      * @param clienteId identificador do cliente
      * @param conversa dados da conversa a salvar
-     * @returns Observable com a conversa salva
+     * @returns Observable com o resumo da conversa salva
      */
-    salvarConversa(clienteId: string, conversa: SalvarConversaDTO): Observable<ConversaSalva | null> {
-        return this.http.post<ConversaSalva>(`${this.apiUrl}/historico/${clienteId}`, conversa).pipe(
+    salvarConversa(clienteId: string, conversa: SalvarConversaDTO): Observable<ConversaResumo | null> {
+        return this.http.post<ConversaResumo>(`${this.apiUrl}/historico/${clienteId}`, conversa).pipe(
             catchError(error => {
                 console.error('Erro ao salvar conversa:', error);
                 return of(null);
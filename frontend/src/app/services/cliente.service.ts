@@ -21,6 +21,13 @@ export interface CriarClienteRequest {
   observacoes?: string;
 }
 
+export interface PaginaClientes {
+  itens: Cliente[];
+  pagina: number;
+  tamanho: number;
+  temMais: boolean;
+}
+
 @Injectable({
   providedIn: 'root'
 })
@@ -45,6 +52,17 @@ export class ClienteService {
     return this.http.get<Cliente[]>(this.apiUrl, { params });
   }
 
+  /**
+   * Autocomplete: prefixo do telefone (ignora formatação) ou palavras do nome (ignora acentos).
+   */
+  buscar(termo: string, pagina = 0, tamanho = 20): Observable<PaginaClientes> {
+    const params = new HttpParams()
+      .set('q', termo)
+      .set('pagina', pagina)
+      .set('tamanho', tamanho);
+    return this.http.get<PaginaClientes>(`${this.apiUrl}/busca`, { params });
+  }
+
   buscarPorId(id: string): Observable<Cliente> {
     return this.http.get<Cliente>(`${this.apiUrl}/${id}`);
   }
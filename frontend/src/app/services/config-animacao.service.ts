@@ -1,7 +1,12 @@
 import { Injectable, inject } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable } from 'rxjs';
+import { map } from 'rxjs/operators';
+import { Midia, extrairMidiaId } from './midia.service';
 
+/**
+ * Configuração usada pelas telas: vídeos como URL tocável (/api/media/{id}).
+ */
 export interface ConfigAnimacao {
   animacaoAtivada: boolean;
   intervaloAnimacao: number;
@@ -10,6 +15,15 @@ export interface ConfigAnimacao {
   video2Url?: string | null;
 }
 
+/** Formato da API: vídeos apenas como metadados de mídia */
+interface ConfigAnimacaoResponse {
+  animacaoAtivada: boolean;
+  intervaloAnimacao: number;
+  duracaoAnimacao: number;
+  video1?: Midia | null;
+  video2?: Midia | null;
+}
+
 @Injectable({
   providedIn: 'root'
 })
@@ -19,12 +33,28 @@ export class ConfigAnimacaoService {
 
   carregar(): Observable<ConfigAnimacao> {
     // O interceptor silent500ConfigInterceptor já trata erros 500
-    return this.http.get<ConfigAnimacao>(this.apiUrl);
+    return this.http.get<ConfigAnimacaoResponse>(this.apiUrl).pipe(map(paraConfig));
   }
 
   salvar(config: ConfigAnimacao): Observable<ConfigAnimacao> {
     // O interceptor silent500ConfigInterceptor já trata erros 500
-    return this.http.post<ConfigAnimacao>(this.apiUrl, config);
+    return this.http.post<ConfigAnimacaoResponse>(this.apiUrl, {
+      animacaoAtivada: config.animacaoAtivada,
+      intervaloAnimacao: config.intervaloAnimacao,
+      duracaoAnimacao: config.duracaoAnimacao,
+      video1MidiaId: extrairMidiaId(config.video1Url),
+      video2MidiaId: extrairMidiaId(config.video2Url)
+    }).pipe(map(paraConfig));
   }
 }
 
+function paraConfig(resposta: ConfigAnimacaoResponse): ConfigAnimacao {
+  return {
+    animacaoAtivada: resposta.animacaoAtivada,
+    intervaloAnimacao: resposta.intervaloAnimacao,
+    duracaoAnimacao: resposta.duracaoAnimacao,
+    video1Url: resposta.video1?.url ?? null,
+    video2Url: resposta.video2?.url ?? null
+  };
+}
+
@@ -0,0 +1,40 @@
+import { Injectable, inject } from '@angular/core';
+import { HttpClient } from '@angular/common/http';
+import { Observable } from 'rxjs';
+
+/**
+ * Metadados de uma mídia; o conteúdo é servido em `url` (com suporte a Range).
+ */
+export interface Midia {
+  id: string;
+  nome?: string | null;
+  contentType: string;
+  tamanho: number;
+  url: string;
+}
+
+export const MIDIA_URL_BASE = '/api/media/';
+
+/**
+ * Extrai o id de uma URL de mídia (/api/media/{id}); null para qualquer outra.
+ */
+export function extrairMidiaId(url?: string | null): string | null {
+  return url?.startsWith(MIDIA_URL_BASE) ? url.substring(MIDIA_URL_BASE.length) : null;
+}
+
+@Injectable({
+  providedIn: 'root'
+})
+export class MidiaService {
+  private readonly http = inject(HttpClient);
+  private readonly apiUrl = '/api/media';
+
+  /**
+   * Envia o arquivo como multipart (binário, sem conversão para base64).
+   */
+  enviar(arquivo: File): Observable<Midia> {
+    const formData = new FormData();
+    formData.append('arquivo', arquivo, arquivo.name);
+    return this.http.post<Midia>(this.apiUrl, formData);
+  }
+}
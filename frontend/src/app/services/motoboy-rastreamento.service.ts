@@ -1,6 +1,6 @@
 import { Injectable, inject } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { Observable, of } from 'rxjs';
+import { of } from 'rxjs';
 import { catchError } from 'rxjs/operators';
 import { environment } from '../../environments/environment';
 
@@ -14,13 +14,35 @@ export interface AtualizarLocalizacaoRequest {
   velocidade?: number | null;
 }
 
+/**
+ * Lote compacto de posições (POST /api/motoboys/{id}/localizacao/lote).
+ * Origem em graus x 1e5; cada ponto é relativo ao anterior:
+ * [dLatitude, dLongitude, dTempoMs, precisaoMetros, headingGraus, velocidadeDecimosKmh]
+ * (-1 = não informado).
+ */
+export interface LoteLocalizacaoRequest {
+  latitudeE5: number;
+  longitudeE5: number;
+  pontos: number[][];
+}
+
+interface PontoColetado {
+  latE5: number;
+  lngE5: number;
+  timestamp: number;
+  precisao: number;
+  heading: number;
+  velocidade: number;
+}
+
 /**
  * Serviço para envio contínuo de localização do motoboy.
  * 
  * Funcionalidades:
  * - Envio automático de localização enquanto motoboy está logado
  * - Suporte a PWA (funciona em segundo plano quando possível)
- * - Throttling inteligente (só envia se houve movimento significativo)
+ * - Posições acumuladas e enviadas em lote a cada ENVIO_INTERVALO_MS; o
+ *   backend descarta pontos imprecisos ou sem movimento relevante
  */
 @Injectable({
   providedIn: 'root'
@@ -31,12 +53,13 @@ export class MotoboyRastreamentoService {
 
   private watchId: number | null = null;
   private pollingIntervalId: ReturnType<typeof setInterval> | null = null;
-  private ultimaLocalizacaoEnviada: { lat: number; lng: number } | null = null;
-  private ultimoEnvioTimestamp = 0;
-  private readonly MIN_DISTANCIA_METROS = 5; // Reduzido para 5 metros
-  private readonly MIN_INTERVALO_SEGUNDOS = 3; // Reduzido para 3 segundos
-  private readonly MAX_INTERVALO_SEGUNDOS = 10; // Força envio a cada 10 segundos
+  private envioIntervalId: ReturnType<typeof setInterval> | null = null;
+  private pendentes: PontoColetado[] = [];
+  private ultimoTimestampColetado = 0;
+  private enviando = false;
   private readonly POLLING_INTERVAL_MS = 5000; // Polling a cada 5 segundos
+  private readonly ENVIO_INTERVALO_MS = 5000; // Um lote a cada 5 segundos
+  private readonly MAX_PONTOS_LOTE = 300; // Limite do backend
   private motoboyIdAtivo: string | null = null;
 
   /**
@@ -62,7 +85,7 @@ export class MotoboyRastreamentoService {
     // Método 1: watchPosition (funciona bem em mobile)
     this.watchId = navigator.geolocation.watchPosition(
       (position) => {
-        this.processarLocalizacao(position, motoboyId);
+        this.coletarLocalizacao(position);
       },
       (error) => {
         console.error('[Rastreamento Motoboy] Erro ao obter localização:', error);
@@ -79,8 +102,7 @@ export class MotoboyRastreamentoService {
       if (this.motoboyIdAtivo) {
         navigator.geolocation.getCurrentPosition(
           (position) => {
-            console.log('[Rastreamento Motoboy] Polling periódico - verificando posição');
-            this.processarLocalizacao(position, this.motoboyIdAtivo!);
+            this.coletarLocalizacao(position);
           },
           (error) => {
             console.warn('[Rastreamento Motoboy] Erro no polling:', error.message);
@@ -94,6 +116,8 @@ export class MotoboyRastreamentoService {
       }
     }, this.POLLING_INTERVAL_MS);
 
+    this.envioIntervalId = setInterval(() => this.enviarPendentes(), this.ENVIO_INTERVALO_MS);
+
     console.log('[Rastreamento Motoboy] Polling iniciado a cada', this.POLLING_INTERVAL_MS, 'ms');
   }
 
@@ -111,122 +135,83 @@ export class MotoboyRastreamentoService {
       this.pollingIntervalId = null;
     }
 
-    this.ultimaLocalizacaoEnviada = null;
+    if (this.envioIntervalId !== null) {
+      clearInterval(this.envioIntervalId);
+      this.envioIntervalId = null;
+    }
+
+    this.pendentes = [];
+    this.ultimoTimestampColetado = 0;
     this.motoboyIdAtivo = null;
     console.log('[Rastreamento Motoboy] Rastreamento parado');
   }
 
   /**
-   * Processa localização recebida e decide se deve enviar ao backend.
+   * Guarda a posição para o próximo lote. watchPosition e o polling podem
+   * entregar a mesma leitura: só entram posições mais novas que a última.
    */
-  private processarLocalizacao(position: GeolocationPosition, motoboyId: string): void {
-    const agora = Date.now();
-    const lat = position.coords.latitude;
-    const lng = position.coords.longitude;
-    const heading = position.coords.heading ?? null;
-    const velocidade = position.coords.speed ? position.coords.speed * 3.6 : null; // Converte m/s para km/h
-
-    console.log('[Rastreamento Motoboy] GPS callback recebido:', {
-      lat: lat.toFixed(6),
-      lng: lng.toFixed(6),
-      accuracy: position.coords.accuracy,
-      timestamp: new Date(position.timestamp).toISOString()
-    });
-
-    // Verifica se deve enviar (throttling)
-    const deveEnviar = this.deveEnviarLocalizacao(lat, lng, agora);
-
-    if (!deveEnviar) {
-      console.debug('[Rastreamento Motoboy] Throttled - não enviando');
-      return; // Ignora esta localização
+  private coletarLocalizacao(position: GeolocationPosition): void {
+    if (position.timestamp <= this.ultimoTimestampColetado) {
+      return;
     }
-
-    console.log('[Rastreamento Motoboy] Enviando localização ao backend...');
-
-    // Prepara requisição
-    const request: AtualizarLocalizacaoRequest = {
-      latitude: lat,
-      longitude: lng,
-      heading: heading,
-      velocidade: velocidade
-    };
-
-    // Envia ao backend
-    this.enviarLocalizacao(motoboyId, request).subscribe({
-      next: () => {
-        // Atualiza estado após envio bem-sucedido
-        this.ultimaLocalizacaoEnviada = { lat, lng };
-        this.ultimoEnvioTimestamp = agora;
-        console.debug('[Rastreamento Motoboy] Localização enviada:', { lat, lng, heading, velocidade });
-      },
-      error: (err) => {
-        console.warn('[Rastreamento Motoboy] Erro ao enviar localização:', err);
-        // Não atualiza estado em caso de erro (pode tentar novamente na próxima)
-      }
+    this.ultimoTimestampColetado = position.timestamp;
+
+    const coords = position.coords;
+    this.pendentes.push({
+      latE5: Math.round(coords.latitude * 1e5),
+      lngE5: Math.round(coords.longitude * 1e5),
+      timestamp: position.timestamp,
+      precisao: coords.accuracy != null ? Math.round(coords.accuracy) : -1,
+      heading: coords.heading != null && !isNaN(coords.heading) ? Math.round(coords.heading) % 360 : -1,
+      velocidade: coords.speed != null ? Math.round(coords.speed * 36) : -1 // m/s -> décimos de km/h
     });
-  }
-
-  private deveEnviarLocalizacao(lat: number, lng: number, timestamp: number): boolean {
-    // Primeira localização sempre envia
-    if (!this.ultimaLocalizacaoEnviada) {
-      return true;
-    }
 
-    const tempoDesdeUltimoEnvio = (timestamp - this.ultimoEnvioTimestamp) / 1000; // em segundos
-
-    // Força envio a cada MAX_INTERVALO_SEGUNDOS mesmo sem movimento
-    if (tempoDesdeUltimoEnvio >= this.MAX_INTERVALO_SEGUNDOS) {
-      console.debug('[Rastreamento Motoboy] Forçando envio periódico');
-      return true;
-    }
-
-    // Verifica intervalo mínimo
-    if (tempoDesdeUltimoEnvio < this.MIN_INTERVALO_SEGUNDOS) {
-      return false;
-    }
-
-    // Verifica distância mínima
-    const distancia = this.calcularDistancia(
-      this.ultimaLocalizacaoEnviada.lat,
-      this.ultimaLocalizacaoEnviada.lng,
-      lat,
-      lng
-    );
-
-    if (distancia < this.MIN_DISTANCIA_METROS) {
-      return false; // Não se moveu o suficiente
+    if (this.pendentes.length > this.MAX_PONTOS_LOTE) {
+      this.pendentes.splice(0, this.pendentes.length - this.MAX_PONTOS_LOTE);
     }
-
-    return true;
   }
 
   /**
-   * Calcula distância entre dois pontos em metros (fórmula de Haversine).
+   * Envia as posições acumuladas num único POST. Em caso de erro os pontos
+   * voltam para o próximo lote.
    */
-  private calcularDistancia(lat1: number, lng1: number, lat2: number, lng2: number): number {
-    const R = 6371000; // Raio da Terra em metros
-    const dLat = (lat2 - lat1) * Math.PI / 180;
-    const dLng = (lng2 - lng1) * Math.PI / 180;
-    const a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-      Math.cos(lat1 * Math.PI / 180) * Math.cos(lat2 * Math.PI / 180) *
-      Math.sin(dLng / 2) * Math.sin(dLng / 2);
-    const c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-    return R * c;
-  }
+  private enviarPendentes(): void {
+    const motoboyId = this.motoboyIdAtivo;
+    if (!motoboyId || this.enviando || this.pendentes.length === 0) {
+      return;
+    }
 
-  /**
-   * Envia localização ao backend.
-   */
-  private enviarLocalizacao(motoboyId: string, request: AtualizarLocalizacaoRequest): Observable<void> {
-    return this.http.post<void>(
-      `${this.apiUrl}/${motoboyId}/localizacao`,
-      request
-    ).pipe(
+    const lote = this.pendentes;
+    this.pendentes = [];
+    this.enviando = true;
+
+    this.http.post<void>(`${this.apiUrl}/${motoboyId}/localizacao/lote`, this.codificarLote(lote)).pipe(
       catchError((error) => {
-        console.error('[Rastreamento Motoboy] Erro HTTP ao enviar localização:', error);
-        return of(void 0); // Retorna void para não quebrar o fluxo
+        console.warn('[Rastreamento Motoboy] Erro ao enviar lote de localização:', error);
+        this.pendentes = [...lote, ...this.pendentes].slice(-this.MAX_PONTOS_LOTE);
+        return of(void 0);
       })
-    );
+    ).subscribe(() => {
+      this.enviando = false;
+    });
+  }
+
+  private codificarLote(lote: PontoColetado[]): LoteLocalizacaoRequest {
+    const origem = lote[0];
+    let anterior = { latE5: origem.latE5, lngE5: origem.lngE5, timestamp: origem.timestamp };
+    const pontos = lote.map(p => {
+      const ponto = [
+        p.latE5 - anterior.latE5,
+        p.lngE5 - anterior.lngE5,
+        Math.max(0, p.timestamp - anterior.timestamp),
+        p.precisao,
+        p.heading,
+        p.velocidade
+      ];
+      anterior = p;
+      return ponto;
+    });
+    return { latitudeE5: origem.latE5, longitudeE5: origem.lngE5, pontos };
   }
 
   /**
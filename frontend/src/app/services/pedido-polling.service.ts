@@ -1,7 +1,7 @@
 import { Injectable, inject, signal, NgZone } from '@angular/core';
 import { catchError, switchMap, takeWhile } from 'rxjs/operators';
 import { of, timer, Subject, Subscription, Observable } from 'rxjs';
-import { PedidoService, Pedido } from './pedido.service';
+import { PedidoService, Pedido, QuadroPedidos, aplicarQuadroPedidos } from './pedido.service';
 
 @Injectable({
   providedIn: 'root'
@@ -23,6 +23,10 @@ export class PedidoPollingService {
   private readonly pedidosConhecidos = new Set<string>();
   private pollingSubscription: Subscription | null = null;
 
+  // Polling incremental por sessão: última versão recebida
+  private versao = 0;
+  private sessaoCarregada: string | null = null;
+
   constructor() {
     // Debug
     console.log('PedidoPollingService inicializado');
@@ -43,22 +47,21 @@ export class PedidoPollingService {
       // Polling a cada 5 segundos
       this.pollingSubscription = timer(0, 5000).pipe(
         takeWhile(() => this.pollingAtivo()),
-        switchMap(() => {
-          const filters = sessaoId ? { sessaoId } : undefined;
-          return this.pedidoService.listar(filters).pipe(
-            catchError(err => {
-              console.error('Erro no polling global:', err);
-              // Atualiza estado dentro da zona Angular
-              this.ngZone.run(() => this.erro.set('Erro ao buscar pedidos'));
-              return of([]); // Continua o polling mesmo com erro
-            })
-          );
-        })
+        switchMap(() => this.buscar(sessaoId).pipe(
+          catchError(err => {
+            console.error('Erro no polling global:', err);
+            // Atualiza estado dentro da zona Angular
+            this.ngZone.run(() => this.erro.set('Erro ao buscar pedidos'));
+            return of(null); // Continua o polling mesmo com erro
+          })
+        ))
       ).subscribe(resultado => {
+        if (!resultado) {
+          return; // Erro ou nada mudou desde a última consulta
+        }
         // Executa atualizações de estado dentro da zona Angular para trigger change detection
         this.ngZone.run(() => {
-          this.processarNovosPedidos(resultado);
-          this.pedidos.set([...resultado]);
+          this.aplicar(resultado);
           this.erro.set(null);
         });
       });
@@ -101,14 +104,40 @@ export class PedidoPollingService {
 
   // Método para forçar recarga manual
   recarregar(sessaoId?: string) {
-    const filters = sessaoId ? { sessaoId } : undefined;
-    this.pedidoService.listar(filters).subscribe({
+    this.buscar(sessaoId).subscribe({
       next: (resultado) => {
-        this.processarNovosPedidos(resultado);
-        // Força nova referência de array para garantir detecção de mudança
-        this.pedidos.set([...resultado]);
+        if (resultado) {
+          this.aplicar(resultado);
+        }
       },
       error: (err) => console.error('Erro ao recarregar pedidos:', err)
     });
   }
+
+  /**
+   * Com sessão: só o que mudou desde a última versão (null = nada mudou).
+   * Sem sessão: lista completa.
+   */
+  private buscar(sessaoId?: string): Observable<Pedido[] | QuadroPedidos | null> {
+    if (!sessaoId) {
+      return this.pedidoService.listar();
+    }
+    if (this.sessaoCarregada !== sessaoId) {
+      this.sessaoCarregada = sessaoId;
+      this.versao = 0;
+    }
+    return this.pedidoService.listarAlteracoesSessao(sessaoId, this.versao);
+  }
+
+  private aplicar(resultado: Pedido[] | QuadroPedidos) {
+    if (Array.isArray(resultado)) {
+      this.processarNovosPedidos(resultado);
+      // Força nova referência de array para garantir detecção de mudança
+      this.pedidos.set([...resultado]);
+      return;
+    }
+    this.versao = resultado.versao;
+    this.processarNovosPedidos(resultado.pedidos);
+    this.pedidos.set(aplicarQuadroPedidos(this.pedidos(), resultado));
+  }
 }
@@ -1,6 +1,7 @@
 import { Injectable, inject } from '@angular/core';
-import { HttpClient, HttpParams, HttpHeaders } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { HttpClient, HttpParams, HttpHeaders, HttpErrorResponse } from '@angular/common/http';
+import { Observable, of, throwError } from 'rxjs';
+import { catchError } from 'rxjs/operators';
 
 /**
  * Gera uma chave de idempotência única para requisições.
@@ -121,6 +122,37 @@ export interface AtualizarStatusPedidoRequest {
   status: StatusPedido;
 }
 
+/**
+ * Alterações dos pedidos de uma sessão desde uma versão.
+ * completo = true: "pedidos" é a lista inteira e substitui a atual.
+ */
+export interface QuadroPedidos {
+  versao: number;
+  completo: boolean;
+  pedidos: Pedido[];
+  removidos: string[];
+}
+
+/**
+ * Aplica as alterações recebidas à lista atual (mesma ordem do servidor:
+ * pedidos alterados mantêm a posição, novos entram no fim).
+ */
+export function aplicarQuadroPedidos(atual: Pedido[], quadro: QuadroPedidos): Pedido[] {
+  if (quadro.completo) {
+    return quadro.pedidos;
+  }
+  const removidos = new Set(quadro.removidos);
+  const alterados = new Map(quadro.pedidos.map(p => [p.id, p]));
+  const resultado = atual
+    .filter(p => !removidos.has(p.id))
+    .map(p => {
+      const alterado = alterados.get(p.id);
+      alterados.delete(p.id);
+      return alterado ?? p;
+    });
+  return [...resultado, ...alterados.values()];
+}
+
 @Injectable({
   providedIn: 'root'
 })
@@ -170,6 +202,21 @@ export class PedidoService {
     return this.http.get<Pedido[]>(this.apiUrl, { params });
   }
 
+  /**
+   * Polling incremental dos pedidos da sessão.
+   * Retorna null quando nada mudou desde a versão informada (304).
+   *
+   * @param desde versão da resposta anterior (0 = lista completa)
+   */
+  listarAlteracoesSessao(sessaoId: string, desde: number): Observable<QuadroPedidos | null> {
+    const params = new HttpParams()
+      .set('sessaoId', sessaoId)
+      .set('desde', String(desde));
+    return this.http.get<QuadroPedidos>(this.apiUrl, { params }).pipe(
+      catchError((err: HttpErrorResponse) => err.status === 304 ? of(null) : throwError(() => err))
+    );
+  }
+
   buscarPorId(id: string): Observable<Pedido> {
     return this.http.get<Pedido>(`${this.apiUrl}/${id}`);
   }
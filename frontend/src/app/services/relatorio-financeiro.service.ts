@@ -0,0 +1,78 @@
+import { HttpClient, HttpParams } from '@angular/common/http';
+import { Injectable, inject } from '@angular/core';
+import { Observable } from 'rxjs';
+import { map } from 'rxjs/operators';
+import { MeioPagamento, Pedido } from './pedido.service';
+import { PaginacaoResult } from '../utils/paginacao.util';
+
+/**
+ * Dia (pela data de início da sessão, sem cancelados) ou sessão de trabalho.
+ */
+export type EscopoRelatorioFinanceiro = { data: string } | { sessaoId: string };
+
+export interface ResumoMeioPagamento {
+  meioPagamento: MeioPagamento;
+  valorTotal: number;
+  quantidadePedidos: number;
+}
+
+export interface ResumoFinanceiroApi {
+  totalVendas: number;
+  totalPedidos: number;
+  ticketMedio: number;
+  meiosPagamento: ResumoMeioPagamento[];
+}
+
+interface PedidosPaginadosApi {
+  pedidos: Pedido[];
+  paginaAtual: number;
+  totalPaginas: number;
+  totalPedidos: number;
+}
+
+/**
+ * Totais calculados no backend e pedidos paginados no servidor, para as telas
+ * de relatório financeiro e histórico de sessões.
+ */
+@Injectable({
+  providedIn: 'root'
+})
+export class RelatorioFinanceiroService {
+  private readonly http = inject(HttpClient);
+  private readonly apiUrl = '/api/relatorio-financeiro';
+
+  obterResumo(escopo: EscopoRelatorioFinanceiro): Observable<ResumoFinanceiroApi> {
+    return this.http.get<ResumoFinanceiroApi>(`${this.apiUrl}/resumo`, { params: this.criarParams(escopo) });
+  }
+
+  /**
+   * @param pagina página começando em 1 (mesma convenção de paginar())
+   */
+  listarPedidos(
+    escopo: EscopoRelatorioFinanceiro,
+    pagina: number,
+    tamanho: number,
+    busca?: string
+  ): Observable<PaginacaoResult<Pedido>> {
+    let params = this.criarParams(escopo)
+      .set('pagina', pagina - 1)
+      .set('tamanho', tamanho);
+    if (busca?.trim()) {
+      params = params.set('busca', busca.trim());
+    }
+    return this.http.get<PedidosPaginadosApi>(`${this.apiUrl}/pedidos`, { params }).pipe(
+      map(resposta => ({
+        itens: resposta.pedidos,
+        paginaAtual: resposta.paginaAtual + 1,
+        totalPaginas: resposta.totalPaginas,
+        totalItens: resposta.totalPedidos
+      }))
+    );
+  }
+
+  private criarParams(escopo: EscopoRelatorioFinanceiro): HttpParams {
+    return 'data' in escopo
+      ? new HttpParams().set('data', escopo.data)
+      : new HttpParams().set('sessaoId', escopo.sessaoId);
+  }
+}
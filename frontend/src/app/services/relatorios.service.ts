@@ -11,7 +11,8 @@ import {
   IndicadoresResumo,
   PedidosPorHorario,
   ProdutoMaisVendido,
-  QuantidadePorCategoria
+  QuantidadePorCategoria,
+  RelatorioDashboard
 } from '../models/relatorios.model';
 
 @Injectable({
@@ -21,6 +22,17 @@ export class RelatoriosService {
   private readonly http = inject(HttpClient);
   private readonly apiUrl = '/api/relatorios';
 
+  /**
+   * Todas as seções da tela de relatórios numa única requisição
+   * (consultas executadas em paralelo e com cache no backend).
+   */
+  obterDashboard(filtro: FiltroRelatorioTemporal, limiteProdutos = 15, limiteClientes = 20): Observable<RelatorioDashboard> {
+    const params = this.criarParamsDeTempo(filtro)
+      .set('limiteProdutos', limiteProdutos)
+      .set('limiteClientes', limiteClientes);
+    return this.http.get<RelatorioDashboard>(`${this.apiUrl}/vendas/dashboard`, { params });
+  }
+
   obterEvolucaoVendas(filtro: FiltroRelatorioTemporal): Observable<EvolucaoVendasPonto[]> {
     return this.http.get<EvolucaoVendasPonto[]>(`${this.apiUrl}/vendas/evolucao`, {
       params: this.criarParamsDeTempo(filtro)
@@ -0,0 +1,9 @@
+package com.sonecadelivery.cardapio.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Dados de um adicional necessários para precificar pedidos.
+ */
+public record PrecoAdicionalDTO(String id, String nome, BigDecimal preco, boolean disponivel) {
+}
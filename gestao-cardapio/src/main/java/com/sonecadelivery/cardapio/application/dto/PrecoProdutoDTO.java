@@ -0,0 +1,9 @@
+package com.sonecadelivery.cardapio.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Dados de um produto necessários para precificar pedidos (sem descrição nem foto).
+ */
+public record PrecoProdutoDTO(String id, String nome, BigDecimal preco, boolean disponivel) {
+}
@@ -0,0 +1,10 @@
+package com.sonecadelivery.cardapio.application.events;
+
+/**
+ * Publicado quando um produto ou adicional é gravado ou excluído.
+ */
+public record CardapioAlteradoEvent(String tipo, String id) {
+
+    public static final String PRODUTO = "PRODUTO";
+    public static final String ADICIONAL = "ADICIONAL";
+}
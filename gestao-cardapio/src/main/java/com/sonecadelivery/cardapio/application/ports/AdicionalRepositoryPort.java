@@ -1,5 +1,6 @@
 package com.sonecadelivery.cardapio.application.ports;
 
+import com.sonecadelivery.cardapio.application.dto.PrecoAdicionalDTO;
 import com.sonecadelivery.cardapio.domain.entities.Adicional;
 import org.springframework.lang.NonNull;
 
@@ -22,4 +23,6 @@ public interface AdicionalRepositoryPort {
     void excluir(@NonNull String id);
 
     boolean existePorId(@NonNull String id);
+
+    List<PrecoAdicionalDTO> listarPrecos();
 }
@@ -1,5 +1,6 @@
 package com.sonecadelivery.cardapio.application.ports;
 
+import com.sonecadelivery.cardapio.application.dto.PrecoProdutoDTO;
 import com.sonecadelivery.cardapio.domain.entities.Produto;
 import org.springframework.lang.NonNull;
 
@@ -14,5 +15,6 @@ public interface ProdutoRepositoryPort {
     List<Produto> buscarDisponiveis();
     void excluir(@NonNull String id);
     boolean existePorId(@NonNull String id);
+    List<PrecoProdutoDTO> listarPrecos();
 }
 
@@ -0,0 +1,185 @@
+package com.sonecadelivery.cardapio.application.services;
+
+import com.sonecadelivery.cardapio.application.dto.PrecoAdicionalDTO;
+import com.sonecadelivery.cardapio.application.dto.PrecoProdutoDTO;
+import com.sonecadelivery.cardapio.application.events.CardapioAlteradoEvent;
+import com.sonecadelivery.cardapio.application.ports.AdicionalRepositoryPort;
+import com.sonecadelivery.cardapio.application.ports.ProdutoRepositoryPort;
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
+import com.sonecadelivery.kernel.domain.exceptions.ValidationException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catálogo de preços e disponibilidade em memória (id -> nome, preço, disponível),
+ * usado para precificar pedidos sem consultar o cardápio item a item.
+ *
+ * - Snapshot imutável trocado atomicamente; cada carga tem uma versão
+ * - Carga com duas consultas leves (sem descrição nem foto)
+ * - Invalidado após o commit de qualquer gravação de produto/adicional
+ *   ({@link CardapioAlteradoEvent}); recarrega na próxima leitura
+ * - A invalidação passa pelo {@link BackplanePort}: todas as instâncias,
+ *   inclusive a que gravou, descartam o snapshot. Eventos perdidos pelo
+ *   backplane também invalidam
+ * - TTL de segurança para uma invalidação que ainda assim não chegue
+ */
+@Service
+@Slf4j
+public class CatalogoPrecosService {
+
+    public static final String CANAL_INVALIDACAO = "cardapio.catalogo-precos.invalidacao";
+
+    private final ProdutoRepositoryPort produtoRepository;
+    private final AdicionalRepositoryPort adicionalRepository;
+    private final BackplanePort backplane;
+    private final long ttlMs;
+
+    private final AtomicLong versaoAtual = new AtomicLong();
+    private final AtomicLong invalidacoes = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public CatalogoPrecosService(
+            ProdutoRepositoryPort produtoRepository,
+            AdicionalRepositoryPort adicionalRepository,
+            BackplanePort backplane,
+            @Value("${cardapio.catalogo-precos.ttl-ms:300000}") long ttlMs) {
+        this.produtoRepository = produtoRepository;
+        this.adicionalRepository = adicionalRepository;
+        this.backplane = backplane;
+        this.ttlMs = ttlMs;
+    }
+
+    @PostConstruct
+    void assinarBackplane() {
+        backplane.assinar(CANAL_INVALIDACAO, payload -> invalidarLocal());
+        backplane.aoPerderEventos(this::invalidarLocal);
+    }
+
+    /**
+     * @throws ValidationException se o produto não existir
+     */
+    public PrecoProdutoDTO buscarProduto(String id) {
+        validarId(id, "produto");
+        PrecoProdutoDTO produto = obterSnapshot().produtos().get(id);
+        if (produto == null) {
+            throw new ValidationException("Produto não encontrado com ID: " + id);
+        }
+        return produto;
+    }
+
+    /**
+     * @throws ValidationException se o adicional não existir
+     */
+    public PrecoAdicionalDTO buscarAdicional(String id) {
+        validarId(id, "adicional");
+        PrecoAdicionalDTO adicional = obterSnapshot().adicionais().get(id);
+        if (adicional == null) {
+            throw new ValidationException("Adicional não encontrado com ID: " + id);
+        }
+        return adicional;
+    }
+
+    public boolean produtoEstaDisponivel(String id) {
+        PrecoProdutoDTO produto = id == null ? null : obterSnapshot().produtos().get(id);
+        return produto != null && produto.disponivel();
+    }
+
+    public boolean adicionalEstaDisponivel(String id) {
+        PrecoAdicionalDTO adicional = id == null ? null : obterSnapshot().adicionais().get(id);
+        return adicional != null && adicional.disponivel();
+    }
+
+    /**
+     * Versão do snapshot atual (muda a cada recarga).
+     */
+    public long getVersao() {
+        Snapshot atual = snapshot;
+        return atual != null ? atual.versao() : 0;
+    }
+
+    /**
+     * Carrega o snapshot antes do primeiro pedido (aquecimento no startup).
+     */
+    public void aquecer() {
+        obterSnapshot();
+    }
+
+    /**
+     * fallbackExecution: gravações fora de transação também invalidam.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarCardapio(CardapioAlteradoEvent evento) {
+        invalidar();
+    }
+
+    /**
+     * Invalida o catálogo em todas as instâncias (a entrega local é imediata).
+     */
+    public void invalidar() {
+        backplane.publicar(CANAL_INVALIDACAO, String.valueOf(System.currentTimeMillis()));
+    }
+
+    private void invalidarLocal() {
+        invalidacoes.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot obterSnapshot() {
+        Snapshot atual = snapshot;
+        if (atual != null && atual.expiraEm() > System.currentTimeMillis()) {
+            return atual;
+        }
+        return recarregar();
+    }
+
+    private synchronized Snapshot recarregar() {
+        Snapshot atual = snapshot;
+        if (atual != null && atual.expiraEm() > System.currentTimeMillis()) {
+            // Outra thread acabou de recarregar
+            return atual;
+        }
+
+        long invalidacoesAntes = invalidacoes.get();
+        List<PrecoProdutoDTO> produtos = produtoRepository.listarPrecos();
+        List<PrecoAdicionalDTO> adicionais = adicionalRepository.listarPrecos();
+
+        Map<String, PrecoProdutoDTO> produtosPorId = new HashMap<>(produtos.size() * 2);
+        produtos.forEach(p -> produtosPorId.put(p.id(), p));
+        Map<String, PrecoAdicionalDTO> adicionaisPorId = new HashMap<>(adicionais.size() * 2);
+        adicionais.forEach(a -> adicionaisPorId.put(a.id(), a));
+
+        Snapshot novo = new Snapshot(
+                versaoAtual.incrementAndGet(),
+                Map.copyOf(produtosPorId),
+                Map.copyOf(adicionaisPorId),
+                System.currentTimeMillis() + ttlMs);
+        // Invalidado durante a carga: usa o resultado nesta leitura, mas não o guarda
+        if (invalidacoes.get() == invalidacoesAntes) {
+            snapshot = novo;
+        }
+        log.debug("Catálogo de preços carregado (versão {}): {} produtos, {} adicionais",
+                novo.versao(), produtos.size(), adicionais.size());
+        return novo;
+    }
+
+    private static void validarId(String id, String tipo) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new ValidationException("ID do " + tipo + " não pode ser nulo ou vazio");
+        }
+    }
+
+    private record Snapshot(
+            long versao,
+            Map<String, PrecoProdutoDTO> produtos,
+            Map<String, PrecoAdicionalDTO> adicionais,
+            long expiraEm) {
+    }
+}
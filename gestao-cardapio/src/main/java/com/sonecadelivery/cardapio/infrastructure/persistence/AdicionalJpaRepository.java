@@ -1,6 +1,8 @@
 package com.sonecadelivery.cardapio.infrastructure.persistence;
 
+import com.sonecadelivery.cardapio.application.dto.PrecoAdicionalDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +14,10 @@ public interface AdicionalJpaRepository extends JpaRepository<AdicionalEntity, S
     List<AdicionalEntity> findByCategoria(String categoria);
 
     List<AdicionalEntity> findByIdIn(List<String> ids);
+
+    /**
+     * Projeção leve para o catálogo de preços (não carrega descrição nem foto).
+     */
+    @Query("SELECT new com.sonecadelivery.cardapio.application.dto.PrecoAdicionalDTO(a.id, a.nome, a.preco, a.disponivel) FROM AdicionalEntity a")
+    List<PrecoAdicionalDTO> listarPrecos();
 }
@@ -1,9 +1,12 @@
 package com.sonecadelivery.cardapio.infrastructure.persistence;
 
+import com.sonecadelivery.cardapio.application.dto.PrecoAdicionalDTO;
+import com.sonecadelivery.cardapio.application.events.CardapioAlteradoEvent;
 import com.sonecadelivery.cardapio.application.ports.AdicionalRepositoryPort;
 import com.sonecadelivery.cardapio.domain.entities.Adicional;
 import com.sonecadelivery.cardapio.infrastructure.mappers.AdicionalMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
@@ -16,12 +19,14 @@ public class AdicionalRepositoryAdapter implements AdicionalRepositoryPort {
 
     private final AdicionalJpaRepository jpaRepository;
     private final AdicionalMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @SuppressWarnings("null")
     public Adicional salvar(@NonNull Adicional adicional) {
         AdicionalEntity entity = mapper.paraEntity(adicional);
         AdicionalEntity salvo = jpaRepository.save(entity);
+        eventPublisher.publishEvent(new CardapioAlteradoEvent(CardapioAlteradoEvent.ADICIONAL, salvo.getId()));
         return mapper.paraDomain(salvo);
     }
 
@@ -65,10 +70,16 @@ public class AdicionalRepositoryAdapter implements AdicionalRepositoryPort {
     @Override
     public void excluir(@NonNull String id) {
         jpaRepository.deleteById(id);
+        eventPublisher.publishEvent(new CardapioAlteradoEvent(CardapioAlteradoEvent.ADICIONAL, id));
     }
 
     @Override
     public boolean existePorId(@NonNull String id) {
         return jpaRepository.existsById(id);
     }
+
+    @Override
+    public List<PrecoAdicionalDTO> listarPrecos() {
+        return jpaRepository.listarPrecos();
+    }
 }
@@ -1,6 +1,8 @@
 package com.sonecadelivery.cardapio.infrastructure.persistence;
 
+import com.sonecadelivery.cardapio.application.dto.PrecoProdutoDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,5 +12,10 @@ public interface ProdutoJpaRepository extends JpaRepository<ProdutoEntity, Strin
     List<ProdutoEntity> findByCategoria(String categoria);
     List<ProdutoEntity> findByDisponivelTrue();
     List<ProdutoEntity> findByCategoriaAndDisponivelTrue(String categoria);
-}
 
+    /**
+     * Projeção leve para o catálogo de preços (não carrega descrição nem foto).
+     */
+    @Query("SELECT new com.sonecadelivery.cardapio.application.dto.PrecoProdutoDTO(p.id, p.nome, p.preco, p.disponivel) FROM ProdutoEntity p")
+    List<PrecoProdutoDTO> listarPrecos();
+}
@@ -1,9 +1,12 @@
 package com.sonecadelivery.cardapio.infrastructure.persistence;
 
+import com.sonecadelivery.cardapio.application.dto.PrecoProdutoDTO;
+import com.sonecadelivery.cardapio.application.events.CardapioAlteradoEvent;
 import com.sonecadelivery.cardapio.application.ports.ProdutoRepositoryPort;
 import com.sonecadelivery.cardapio.domain.entities.Produto;
 import com.sonecadelivery.cardapio.infrastructure.mappers.ProdutoMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
@@ -16,12 +19,14 @@ public class ProdutoRepositoryAdapter implements ProdutoRepositoryPort {
 
     private final ProdutoJpaRepository jpaRepository;
     private final ProdutoMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @SuppressWarnings("null") // jpaRepository.save() nunca retorna null
     public Produto salvar(@NonNull Produto produto) {
         ProdutoEntity entity = mapper.paraEntity(produto);
         ProdutoEntity salvo = jpaRepository.save(entity);
+        eventPublisher.publishEvent(new CardapioAlteradoEvent(CardapioAlteradoEvent.PRODUTO, salvo.getId()));
         return mapper.paraDomain(salvo);
     }
 
@@ -55,10 +60,16 @@ public class ProdutoRepositoryAdapter implements ProdutoRepositoryPort {
     @Override
     public void excluir(@NonNull String id) {
         jpaRepository.deleteById(id);
+        eventPublisher.publishEvent(new CardapioAlteradoEvent(CardapioAlteradoEvent.PRODUTO, id));
     }
 
     @Override
     public boolean existePorId(@NonNull String id) {
         return jpaRepository.existsById(id);
     }
+
+    @Override
+    public List<PrecoProdutoDTO> listarPrecos() {
+        return jpaRepository.listarPrecos();
+    }
 }
@@ -0,0 +1,30 @@
+package com.sonecadelivery.clientes.application.dto;
+
+import java.util.List;
+
+/**
+ * Resumo das avaliações de um produto (agregado mantido em produto_avaliacao_stats).
+ *
+ * @param histograma quantidade de avaliações por nota, índice 0 = nota 1 ... índice 4 = nota 5
+ */
+public record AvaliacaoProdutoResumoDTO(
+        String produtoId,
+        double media,
+        int totalAvaliacoes,
+        List<Integer> histograma) {
+
+    public static AvaliacaoProdutoResumoDTO vazio(String produtoId) {
+        return new AvaliacaoProdutoResumoDTO(produtoId, 0.0, 0, List.of(0, 0, 0, 0, 0));
+    }
+
+    public static AvaliacaoProdutoResumoDTO de(String produtoId, long somaNotas, int[] contagemPorNota) {
+        int total = 0;
+        for (int quantidade : contagemPorNota) {
+            total += quantidade;
+        }
+        double media = total > 0 ? (double) somaNotas / total : 0.0;
+        return new AvaliacaoProdutoResumoDTO(produtoId, media, total,
+                List.of(contagemPorNota[0], contagemPorNota[1], contagemPorNota[2],
+                        contagemPorNota[3], contagemPorNota[4]));
+    }
+}
@@ -0,0 +1,14 @@
+package com.sonecadelivery.clientes.application.dto;
+
+import java.util.List;
+
+/**
+ * Página de resultados da busca de clientes (autocomplete).
+ * temMais indica se existe próxima página, sem precisar contar o total.
+ */
+public record PaginaClientesDTO(
+        List<ClienteDTO> itens,
+        int pagina,
+        int tamanho,
+        boolean temMais) {
+}
@@ -0,0 +1,34 @@
+package com.sonecadelivery.clientes.application.ports;
+
+import com.sonecadelivery.clientes.application.dto.AvaliacaoProdutoResumoDTO;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Agregado de avaliações por produto (soma, total e histograma de notas).
+ *
+ * Atualizado na mesma transação que grava/remove a avaliação; leituras
+ * vêm da tabela agregada (consistentes entre instâncias).
+ */
+public interface AvaliacaoProdutoStatsPort {
+
+    /**
+     * Aplica a troca de nota de uma avaliação ao agregado do produto.
+     *
+     * @param notaAnterior nota removida (null quando é uma avaliação nova)
+     * @param notaNova     nota adicionada (null quando a avaliação foi removida)
+     */
+    void registrarAlteracao(@NonNull String produtoId, Integer notaAnterior, Integer notaNova);
+
+    AvaliacaoProdutoResumoDTO buscar(@NonNull String produtoId);
+
+    Map<String, AvaliacaoProdutoResumoDTO> buscarPorProdutos(@NonNull Collection<String> produtoIds);
+
+    /**
+     * Produtos com pelo menos uma avaliação, ordenados por média e, no empate, por total.
+     */
+    List<AvaliacaoProdutoResumoDTO> listarMelhoresAvaliados();
+}
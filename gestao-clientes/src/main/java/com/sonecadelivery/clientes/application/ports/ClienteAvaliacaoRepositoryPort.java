@@ -17,6 +17,13 @@ public interface ClienteAvaliacaoRepositoryPort {
      */
     Optional<ClienteAvaliacao> buscar(@NonNull String clienteId, @NonNull String produtoId, @NonNull String pedidoId);
 
+    /**
+     * Como {@link #buscar}, travando a avaliação até o fim da transação.
+     * Deve ser chamado dentro de uma transação de escrita.
+     */
+    Optional<ClienteAvaliacao> buscarParaAtualizar(@NonNull String clienteId, @NonNull String produtoId,
+            @NonNull String pedidoId);
+
     /**
      * Busca avaliação por cliente e produto (qualquer pedido) - para
      * retrocompatibilidade
@@ -1,20 +1,41 @@
 package com.sonecadelivery.clientes.application.ports;
 
 import com.sonecadelivery.clientes.domain.entities.Cliente;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.lang.NonNull;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ClienteRepositoryPort {
     Cliente salvar(@NonNull Cliente cliente);
 
     Optional<Cliente> buscarPorId(@NonNull String id);
 
-    List<Cliente> buscarTodos();
+    /**
+     * Entrega todos os clientes, ordenados por nome, um a um: a leitura é feita
+     * em páginas (sem carregar a tabela inteira em memória nem segurar uma
+     * conexão durante toda a entrega).
+     */
+    void percorrerTodos(Consumer<Cliente> consumidor);
 
+    /**
+     * Busca por telefone ignorando formatação (compara só os dígitos).
+     */
     List<Cliente> buscarPorTelefone(String telefone);
 
+    /**
+     * Clientes cujo telefone (só dígitos) começa pelo prefixo, ordenados por nome.
+     */
+    Slice<Cliente> buscarPorTelefonePrefixo(String prefixo, Pageable pageable);
+
+    /**
+     * Clientes na mesma ordem dos ids informados (ids inexistentes são ignorados).
+     */
+    List<Cliente> buscarPorIds(List<String> ids);
+
     List<Cliente> buscarPorNome(String nome);
 
     Optional<Cliente> buscarPorGoogleId(String googleId);
@@ -11,4 +11,10 @@ public interface ClienteSenhaServicePort {
      * Verifica se a senha corresponde ao hash
      */
     boolean verificarSenha(String senhaPlana, String hash);
+
+    /**
+     * Indica se o hash foi gerado com custo diferente do configurado
+     * e deve ser refeito após um login bem-sucedido
+     */
+    boolean precisaRehash(String hash);
 }
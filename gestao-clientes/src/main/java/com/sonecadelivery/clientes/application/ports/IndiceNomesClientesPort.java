@@ -0,0 +1,33 @@
+package com.sonecadelivery.clientes.application.ports;
+
+import java.util.List;
+
+/**
+ * Índice de nomes de clientes para o autocomplete do caixa.
+ * Nomes normalizados (minúsculas, sem acentos) e buscados por prefixo de palavra.
+ */
+public interface IndiceNomesClientesPort {
+
+    /**
+     * Registra o nome confirmado do cliente no índice de todas as instâncias.
+     */
+    void indexar(String clienteId, String nome);
+
+    /**
+     * Tira o cliente (excluído) do índice de todas as instâncias.
+     */
+    void remover(String clienteId);
+
+    /**
+     * @return false enquanto a carga inicial não terminou (use a busca no banco)
+     */
+    boolean isPronto();
+
+    /**
+     * Clientes cujo nome tem, para cada palavra do termo, uma palavra
+     * começando por ela. Ordenados por nome.
+     *
+     * @return ids de clientes (no máximo limite), a partir de offset
+     */
+    List<String> buscar(String termo, int offset, int limite);
+}
@@ -7,6 +7,7 @@ import com.sonecadelivery.clientes.application.ports.ClienteJwtServicePort;
 import com.sonecadelivery.clientes.application.ports.ClienteRepositoryPort;
 import com.sonecadelivery.clientes.application.ports.ClienteSenhaServicePort;
 import com.sonecadelivery.clientes.domain.entities.Cliente;
+import com.sonecadelivery.kernel.infrastructure.security.LimitadorTentativas;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,13 +18,22 @@ public class AutenticarClienteUseCase {
     private final ClienteRepositoryPort clienteRepository;
     private final ClienteSenhaServicePort senhaService;
     private final ClienteJwtServicePort jwtService;
+    private final LimitadorTentativas limitadorTentativas;
 
     public ClienteLoginResponse executar(ClienteLoginRequest request) {
+        // Conta bloqueada por excesso de falhas: recusa antes de qualquer hash.
+        // Chave pelos dígitos (como a busca): "(11) 9...", "11 9..." contam juntos
+        String conta = "cliente:" + somenteDigitos(request.getTelefone());
+        limitadorTentativas.verificarPermitido(conta);
+
         // Buscar cliente pelo telefone
         Cliente cliente = clienteRepository.buscarPorTelefone(request.getTelefone())
                 .stream()
                 .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Credenciais inválidas"));
+                .orElseThrow(() -> {
+                    limitadorTentativas.registrarFalha(conta);
+                    return new IllegalArgumentException("Credenciais inválidas");
+                });
 
         // Verificar se tem senha definida
         if (!cliente.temSenha()) {
@@ -33,8 +43,15 @@ public class AutenticarClienteUseCase {
         // Validar senha
         boolean senhaValida = senhaService.verificarSenha(request.getSenha(), cliente.getSenhaHash());
         if (!senhaValida) {
+            limitadorTentativas.registrarFalha(conta);
             throw new IllegalArgumentException("Credenciais inválidas");
         }
+        limitadorTentativas.registrarSucesso(conta);
+
+        // Hash com custo antigo: refaz com o custo atual (salvo junto com o acesso)
+        if (senhaService.precisaRehash(cliente.getSenhaHash())) {
+            cliente.definirSenha(senhaService.hashSenha(request.getSenha()));
+        }
 
         // Registrar acesso
         cliente.registrarAcesso();
@@ -45,4 +62,10 @@ public class AutenticarClienteUseCase {
 
         return ClienteLoginResponse.of(token, ClienteDTO.de(cliente));
     }
+
+    private String somenteDigitos(String telefone) {
+        if (telefone == null)
+            return "";
+        return telefone.replaceAll("\\D", "");
+    }
 }
@@ -2,11 +2,13 @@ package com.sonecadelivery.clientes.application.usecases;
 
 import com.sonecadelivery.clientes.application.dto.AvaliarProdutoRequest;
 import com.sonecadelivery.clientes.application.dto.ClienteAvaliacaoDTO;
+import com.sonecadelivery.clientes.application.ports.AvaliacaoProdutoStatsPort;
 import com.sonecadelivery.clientes.application.ports.ClienteAvaliacaoRepositoryPort;
 import com.sonecadelivery.clientes.application.ports.ClienteRepositoryPort;
 import com.sonecadelivery.clientes.domain.entities.ClienteAvaliacao;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -16,23 +18,29 @@ public class AvaliarProdutoUseCase {
 
     private final ClienteAvaliacaoRepositoryPort avaliacaoRepository;
     private final ClienteRepositoryPort clienteRepository;
+    private final AvaliacaoProdutoStatsPort avaliacaoStats;
 
+    @Transactional
     public ClienteAvaliacaoDTO executar(String clienteId, AvaliarProdutoRequest request) {
         // Validar se cliente existe
         clienteRepository.buscarPorId(clienteId)
                 .orElseThrow(() -> new IllegalArgumentException("Cliente não encontrado: " + clienteId));
 
-        // Verificar se já avaliou este produto neste pedido específico
-        Optional<ClienteAvaliacao> avaliacaoExistente = avaliacaoRepository.buscar(
+        // Verificar se já avaliou este produto neste pedido específico. Travada:
+        // duas avaliações simultâneas não partem da mesma nota anterior (a segunda
+        // espera; inserções simultâneas esbarram no índice único)
+        Optional<ClienteAvaliacao> avaliacaoExistente = avaliacaoRepository.buscarParaAtualizar(
                 clienteId,
                 request.getProdutoId(),
                 request.getPedidoId());
 
         ClienteAvaliacao avaliacao;
+        Integer notaAnterior = null;
 
         if (avaliacaoExistente.isPresent()) {
             // Atualizar avaliação existente para este pedido+produto
             avaliacao = avaliacaoExistente.get();
+            notaAnterior = avaliacao.getNota();
             avaliacao.atualizar(request.getNota(), request.getComentario());
         } else {
             // Criar nova avaliação para este pedido+produto
@@ -45,6 +53,8 @@ public class AvaliarProdutoUseCase {
         }
 
         ClienteAvaliacao salva = avaliacaoRepository.salvar(avaliacao);
+        // Agregado do produto atualizado na mesma transação
+        avaliacaoStats.registrarAlteracao(salva.getProdutoId(), notaAnterior, salva.getNota());
         return ClienteAvaliacaoDTO.de(salva);
     }
 }
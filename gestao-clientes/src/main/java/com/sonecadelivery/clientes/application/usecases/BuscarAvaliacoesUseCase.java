@@ -1,11 +1,15 @@
 package com.sonecadelivery.clientes.application.usecases;
 
+import com.sonecadelivery.clientes.application.dto.AvaliacaoProdutoResumoDTO;
 import com.sonecadelivery.clientes.application.dto.ClienteAvaliacaoDTO;
+import com.sonecadelivery.clientes.application.ports.AvaliacaoProdutoStatsPort;
 import com.sonecadelivery.clientes.application.ports.ClienteAvaliacaoRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -14,6 +18,7 @@ import java.util.stream.Collectors;
 public class BuscarAvaliacoesUseCase {
 
     private final ClienteAvaliacaoRepositoryPort avaliacaoRepository;
+    private final AvaliacaoProdutoStatsPort avaliacaoStats;
 
     public List<ClienteAvaliacaoDTO> buscarPorCliente(String clienteId) {
         return avaliacaoRepository.buscarPorCliente(clienteId)
@@ -34,11 +39,33 @@ public class BuscarAvaliacoesUseCase {
                 .map(ClienteAvaliacaoDTO::de);
     }
 
+    /**
+     * Média, total e histograma do produto, lidos da tabela agregada.
+     */
+    public AvaliacaoProdutoResumoDTO buscarResumoProduto(String produtoId) {
+        return avaliacaoStats.buscar(produtoId);
+    }
+
+    /**
+     * Resumos de vários produtos de uma vez (ex.: cards do cardápio), sem consulta ao banco.
+     */
+    public Map<String, AvaliacaoProdutoResumoDTO> buscarResumosProdutos(Collection<String> produtoIds) {
+        return avaliacaoStats.buscarPorProdutos(produtoIds);
+    }
+
+    /**
+     * Produtos avaliados, do maior para o menor média.
+     */
+    public List<AvaliacaoProdutoResumoDTO> listarMelhoresAvaliados() {
+        return avaliacaoStats.listarMelhoresAvaliados();
+    }
+
     public Double calcularMediaProduto(String produtoId) {
-        return avaliacaoRepository.calcularMediaPorProduto(produtoId);
+        AvaliacaoProdutoResumoDTO resumo = avaliacaoStats.buscar(produtoId);
+        return resumo.totalAvaliacoes() > 0 ? resumo.media() : null;
     }
 
     public int contarAvaliacoesProduto(String produtoId) {
-        return avaliacaoRepository.contarAvaliacoesPorProduto(produtoId);
+        return avaliacaoStats.buscar(produtoId).totalAvaliacoes();
     }
 }
@@ -0,0 +1,100 @@
+package com.sonecadelivery.clientes.application.usecases;
+
+import com.sonecadelivery.clientes.application.dto.ClienteDTO;
+import com.sonecadelivery.clientes.application.dto.PaginaClientesDTO;
+import com.sonecadelivery.clientes.application.ports.ClienteRepositoryPort;
+import com.sonecadelivery.clientes.application.ports.IndiceNomesClientesPort;
+import com.sonecadelivery.clientes.domain.entities.Cliente;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Busca de clientes para o autocomplete do caixa.
+ *
+ * - Termo só com dígitos e formatação de telefone: prefixo do telefone (índice no banco)
+ * - Qualquer outro termo: prefixo de palavras do nome (índice em memória).
+ *   Ids do índice que já não existem no banco (cliente excluído) saem do
+ *   índice e a página é buscada de novo
+ *
+ * Paginado sem COUNT: busca um item a mais para saber se há próxima página.
+ */
+@Service
+@RequiredArgsConstructor
+public class BuscarClientesTypeaheadUseCase {
+
+    public static final int TAMANHO_MAXIMO = 50;
+    private static final int MINIMO_DIGITOS_TELEFONE = 2;
+    private static final Pattern FORMATO_TELEFONE = Pattern.compile("[\\d\\s()+.-]+");
+
+    private final ClienteRepositoryPort clienteRepository;
+    private final IndiceNomesClientesPort indiceNomes;
+
+    public PaginaClientesDTO executar(String termo, int pagina, int tamanho) {
+        int paginaValida = Math.max(0, pagina);
+        int tamanhoValido = Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO));
+        String termoLimpo = termo == null ? "" : termo.trim();
+
+        if (termoLimpo.isEmpty()) {
+            return new PaginaClientesDTO(List.of(), paginaValida, tamanhoValido, false);
+        }
+
+        if (ehTelefone(termoLimpo)) {
+            Slice<Cliente> slice = clienteRepository.buscarPorTelefonePrefixo(
+                    termoLimpo, PageRequest.of(paginaValida, tamanhoValido));
+            return new PaginaClientesDTO(paraDTOs(slice.getContent()), paginaValida, tamanhoValido,
+                    slice.hasNext());
+        }
+
+        List<Cliente> encontrados;
+        if (indiceNomes.isPronto()) {
+            encontrados = buscarPeloIndice(termoLimpo, paginaValida, tamanhoValido);
+        } else {
+            // Índice ainda carregando (logo após o startup): busca direta no banco
+            encontrados = janela(clienteRepository.buscarPorNome(termoLimpo), paginaValida, tamanhoValido);
+        }
+
+        boolean temMais = encontrados.size() > tamanhoValido;
+        List<Cliente> itens = temMais ? encontrados.subList(0, tamanhoValido) : encontrados;
+        return new PaginaClientesDTO(paraDTOs(itens), paginaValida, tamanhoValido, temMais);
+    }
+
+    private List<Cliente> buscarPeloIndice(String termo, int pagina, int tamanho) {
+        List<String> ids = indiceNomes.buscar(termo, pagina * tamanho, tamanho + 1);
+        List<Cliente> encontrados = clienteRepository.buscarPorIds(ids);
+        if (encontrados.size() == ids.size()) {
+            return encontrados;
+        }
+        Set<String> existentes = encontrados.stream().map(Cliente::getId).collect(Collectors.toSet());
+        ids.stream().filter(id -> !existentes.contains(id)).forEach(indiceNomes::remover);
+        return clienteRepository.buscarPorIds(indiceNomes.buscar(termo, pagina * tamanho, tamanho + 1));
+    }
+
+    private static List<ClienteDTO> paraDTOs(List<Cliente> clientes) {
+        return clientes.stream()
+                .map(ClienteDTO::de)
+                .toList();
+    }
+
+    private static boolean ehTelefone(String termo) {
+        if (!FORMATO_TELEFONE.matcher(termo).matches()) {
+            return false;
+        }
+        return termo.chars().filter(Character::isDigit).count() >= MINIMO_DIGITOS_TELEFONE;
+    }
+
+    /**
+     * Recorta [pagina * tamanho, pagina * tamanho + tamanho + 1) para calcular temMais.
+     */
+    private static List<Cliente> janela(List<Cliente> clientes, int pagina, int tamanho) {
+        int inicio = Math.min(clientes.size(), pagina * tamanho);
+        int fim = Math.min(clientes.size(), inicio + tamanho + 1);
+        return clientes.subList(inicio, fim);
+    }
+}
@@ -5,9 +5,9 @@ import com.sonecadelivery.clientes.application.dto.ClienteDTO;
 import com.sonecadelivery.clientes.application.dto.ClienteLoginResponse;
 import com.sonecadelivery.clientes.application.ports.ClienteJwtServicePort;
 import com.sonecadelivery.clientes.application.ports.ClienteRepositoryPort;
+import com.sonecadelivery.clientes.application.ports.ClienteSenhaServicePort;
 import com.sonecadelivery.kernel.domain.exceptions.BusinessException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.sonecadelivery.clientes.domain.entities.Cliente;
@@ -22,7 +22,7 @@ public class CadastrarClienteDeliveryUseCase {
 
     private final ClienteRepositoryPort clienteRepository;
     private final ClienteJwtServicePort jwtService;
-    private final PasswordEncoder passwordEncoder;
+    private final ClienteSenhaServicePort senhaService;
 
     public ClienteLoginResponse executar(CadastrarClienteDeliveryRequest request) {
         // Normalizar telefone
@@ -50,7 +50,7 @@ public class CadastrarClienteDeliveryUseCase {
         );
 
         // Definir senha
-        String senhaHash = passwordEncoder.encode(request.getSenha());
+        String senhaHash = senhaService.hashSenha(request.getSenha());
         cliente.definirSenha(senhaHash);
 
         // Definir endereço
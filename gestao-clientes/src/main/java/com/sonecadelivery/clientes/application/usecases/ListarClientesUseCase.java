@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -13,10 +14,11 @@ public class ListarClientesUseCase {
 
     private final ClienteRepositoryPort clienteRepository;
 
-    public List<ClienteDTO> executar() {
-        return clienteRepository.buscarTodos().stream()
-                .map(ClienteDTO::de)
-                .toList();
+    /**
+     * Todos os clientes, entregues um a um (resposta em fluxo, memória constante).
+     */
+    public void percorrer(Consumer<ClienteDTO> consumidor) {
+        clienteRepository.percorrerTodos(cliente -> consumidor.accept(ClienteDTO.de(cliente)));
     }
 
     public List<ClienteDTO> executarPorTelefone(String telefone) {
@@ -25,6 +27,11 @@ public class ListarClientesUseCase {
                 .toList();
     }
 
+    /**
+     * Nome contendo o trecho em qualquer posição, sem limite de resultados.
+     * O autocomplete do caixa (prefixo de palavra, paginado) usa
+     * {@link BuscarClientesTypeaheadUseCase}.
+     */
     public List<ClienteDTO> executarPorNome(String nome) {
         return clienteRepository.buscarPorNome(nome).stream()
                 .map(ClienteDTO::de)
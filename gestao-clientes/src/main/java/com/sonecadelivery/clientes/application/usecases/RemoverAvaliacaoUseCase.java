@@ -1,19 +1,24 @@
 package com.sonecadelivery.clientes.application.usecases;
 
+import com.sonecadelivery.clientes.application.ports.AvaliacaoProdutoStatsPort;
 import com.sonecadelivery.clientes.application.ports.ClienteAvaliacaoRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class RemoverAvaliacaoUseCase {
 
     private final ClienteAvaliacaoRepositoryPort avaliacaoRepository;
+    private final AvaliacaoProdutoStatsPort avaliacaoStats;
 
+    @Transactional
     public void executar(String clienteId, String produtoId) {
         var avaliacao = avaliacaoRepository.buscarPorClienteProduto(clienteId, produtoId)
                 .orElseThrow(() -> new IllegalArgumentException("Avaliação não encontrada"));
 
         avaliacaoRepository.remover(avaliacao.getId());
+        avaliacaoStats.registrarAlteracao(avaliacao.getProdutoId(), avaliacao.getNota(), null);
     }
 }
@@ -0,0 +1,238 @@
+package com.sonecadelivery.clientes.infrastructure.busca;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonecadelivery.clientes.application.ports.IndiceNomesClientesPort;
+import com.sonecadelivery.clientes.infrastructure.persistence.ClienteJpaRepository;
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido em memória: palavra normalizada -> ids de clientes.
+ *
+ * - Normalização: minúsculas, sem acentos ("José" e "jose" são iguais)
+ * - Prefixo: mapa ordenado (skip list); "jo" percorre só o intervalo [jo, jo￿)
+ * - Várias palavras: interseção ("jo sil" encontra "João da Silva")
+ * - Carga completa (id, nome) ao subir a aplicação
+ * - Alterações confirmadas (ClienteRepositoryAdapter, após o commit) passam
+ *   pelo {@link BackplanePort}: todas as instâncias, inclusive a que gravou,
+ *   atualizam o próprio índice. Exclusões vão pelo mesmo canal, sem nome
+ * - A entrega remota do backplane é "no máximo uma vez": o índice é
+ *   reconstruído do banco a cada clientes.indice-nomes.recarga-ms; alterações
+ *   recebidas durante a reconstrução são reaplicadas sobre o novo índice
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndiceNomesClientesAdapter implements IndiceNomesClientesPort {
+
+    public static final String CANAL_ALTERACOES = "clientes.nomes";
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{Alnum}]+");
+
+    private final ClienteJpaRepository clienteJpaRepository;
+    private final BackplanePort backplane;
+    private final ObjectMapper objectMapper;
+
+    private volatile Indice indice = new Indice();
+    private volatile boolean pronto;
+    // Alterações recebidas enquanto uma reconstrução lê o banco (null fora dela)
+    private List<AlteracaoNome> recebidasDuranteCarga;
+
+    @PostConstruct
+    void assinarBackplane() {
+        backplane.assinar(CANAL_ALTERACOES, this::aoReceberAlteracao);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        recarregar();
+    }
+
+    @Scheduled(initialDelayString = "${clientes.indice-nomes.recarga-ms:900000}",
+            fixedDelayString = "${clientes.indice-nomes.recarga-ms:900000}")
+    public void recarregar() {
+        long inicio = System.currentTimeMillis();
+        synchronized (this) {
+            recebidasDuranteCarga = new ArrayList<>();
+        }
+        Indice novo = new Indice();
+        try {
+            for (Object[] linha : clienteJpaRepository.listarIdENome()) {
+                novo.indexar((String) linha[0], (String) linha[1]);
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                recebidasDuranteCarga = null;
+            }
+            log.warn("Falha ao carregar o índice de nomes de clientes: {}", e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            recebidasDuranteCarga.forEach(alteracao -> novo.indexar(alteracao.id(), alteracao.nome()));
+            recebidasDuranteCarga = null;
+            indice = novo;
+        }
+        pronto = true;
+        log.info("Índice de nomes de clientes carregado: {} clientes, {} palavras em {} ms",
+                novo.nomeNormalizadoPorId.size(), novo.idsPorPalavra.size(), System.currentTimeMillis() - inicio);
+    }
+
+    @Override
+    public void indexar(String clienteId, String nome) {
+        if (clienteId == null) {
+            return;
+        }
+        try {
+            backplane.publicar(CANAL_ALTERACOES, objectMapper.writeValueAsString(new AlteracaoNome(clienteId, nome)));
+        } catch (JsonProcessingException e) {
+            // Sem propagação: ao menos esta instância fica atualizada
+            log.error("Erro ao serializar alteração de nome do cliente {}: {}", clienteId, e.getMessage());
+            aplicar(new AlteracaoNome(clienteId, nome));
+        }
+    }
+
+    @Override
+    public void remover(String clienteId) {
+        indexar(clienteId, null);
+    }
+
+    private void aoReceberAlteracao(String payload) {
+        try {
+            aplicar(objectMapper.readValue(payload, AlteracaoNome.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Alteração de nome inválida recebida do backplane: {}", e.getOriginalMessage());
+        }
+    }
+
+    private synchronized void aplicar(AlteracaoNome alteracao) {
+        if (alteracao.id() == null) {
+            return;
+        }
+        if (recebidasDuranteCarga != null) {
+            recebidasDuranteCarga.add(alteracao);
+        }
+        indice.indexar(alteracao.id(), alteracao.nome());
+    }
+
+    @Override
+    public boolean isPronto() {
+        return pronto;
+    }
+
+    @Override
+    public List<String> buscar(String termo, int offset, int limite) {
+        List<String> prefixos = palavras(normalizar(termo));
+        if (prefixos.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+
+        // Começa pelo prefixo mais longo (costuma ser o mais seletivo)
+        prefixos = new ArrayList<>(prefixos);
+        prefixos.sort(Comparator.comparingInt(String::length).reversed());
+
+        Indice atual = indice;
+        Set<String> resultado = null;
+        for (String prefixo : prefixos) {
+            Set<String> encontrados = new HashSet<>();
+            atual.idsPorPalavra.subMap(prefixo, true, prefixo + Character.MAX_VALUE, false)
+                    .values()
+                    .forEach(encontrados::addAll);
+            if (resultado == null) {
+                resultado = encontrados;
+            } else {
+                resultado.retainAll(encontrados);
+            }
+            if (resultado.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return resultado.stream()
+                .sorted(Comparator.comparing((String id) -> atual.nomeNormalizadoPorId.getOrDefault(id, ""))
+                        .thenComparing(Comparator.naturalOrder()))
+                .skip(Math.max(0, offset))
+                .limit(limite)
+                .toList();
+    }
+
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return semAcentos.toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static List<String> palavras(String normalizado) {
+        if (normalizado.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARADORES.split(normalizado))
+                .filter(p -> !p.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * nome nulo: cliente excluído.
+     */
+    record AlteracaoNome(String id, String nome) {
+    }
+
+    /**
+     * Estruturas do índice; trocadas por inteiro a cada reconstrução.
+     */
+    private static final class Indice {
+
+        private final NavigableMap<String, Set<String>> idsPorPalavra = new ConcurrentSkipListMap<>();
+        private final Map<String, String> nomeNormalizadoPorId = new ConcurrentHashMap<>();
+
+        /**
+         * Substitui as palavras do cliente; nome nulo ou vazio só remove.
+         */
+        void indexar(String clienteId, String nome) {
+            String anterior = nomeNormalizadoPorId.remove(clienteId);
+            if (anterior != null) {
+                for (String palavra : palavras(anterior)) {
+                    idsPorPalavra.computeIfPresent(palavra, (p, ids) -> {
+                        ids.remove(clienteId);
+                        return ids.isEmpty() ? null : ids;
+                    });
+                }
+            }
+
+            String normalizado = normalizar(nome);
+            if (normalizado.isEmpty()) {
+                return;
+            }
+            nomeNormalizadoPorId.put(clienteId, normalizado);
+            for (String palavra : palavras(normalizado)) {
+                idsPorPalavra.computeIfAbsent(palavra, p -> ConcurrentHashMap.newKeySet()).add(clienteId);
+            }
+        }
+    }
+}
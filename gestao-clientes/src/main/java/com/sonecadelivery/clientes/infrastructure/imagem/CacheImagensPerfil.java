@@ -0,0 +1,634 @@
+package com.sonecadelivery.clientes.infrastructure.imagem;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Cache de imagens de perfil (fotos do Google) em dois níveis.
+ *
+ * - Memória: LRU limitado por bytes, só para imagens pequenas (avatares)
+ * - Disco (opcional, imagens.cache.diretorio): arquivo por URL (nome = SHA-256
+ *   da URL) + metadados; sobrevive a reinícios e é limitado por bytes (remove
+ *   os mais antigos). Desligado por padrão: em Cloud Run o sistema de arquivos
+ *   é memória da instância; use só com um volume de verdade
+ * - Validade segue o Cache-Control da origem (mínimo de 5 minutos); expirada, revalida com
+ *   If-None-Match / If-Modified-Since (304 só renova a validade)
+ * - Respostas private/no-store da origem não são guardadas (este é um cache
+ *   compartilhado) e repassam a mesma restrição ao navegador
+ * - Requisições simultâneas para a mesma URL fazem uma única busca na origem
+ * - Falha na origem com cópia local: serve a cópia (stale) por mais um tempo
+ * - O limite de bytes por imagem vale durante o download, com ou sem Content-Length
+ *
+ * Com disco, o download vai direto para arquivo e a resposta lê do arquivo já
+ * aberto: a limpeza ou uma versão nova trocando o arquivo não afeta quem já
+ * está recebendo.
+ */
+@Component
+@Slf4j
+public class CacheImagensPerfil {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final long VALIDADE_STALE_MS = 60_000;
+    private static final long VALIDADE_MINIMA_MS = 300_000;
+    private static final long OVERHEAD_ENTRADA_BYTES = 256;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    /** null: sem nível em disco. */
+    private final Path diretorio;
+    private final long maxBytesMemoria;
+    private final long maxBytesDisco;
+    private final long maxBytesImagem;
+    private final long maxBytesImagemMemoria;
+    private final long validadePadraoMs;
+
+    /** LRU em ordem de acesso; protegido por synchronized(memoria). */
+    private final LinkedHashMap<String, Entrada> memoria = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytesMemoria;
+
+    private final Map<String, CompletableFuture<Optional<Entrada>>> emAndamento = new ConcurrentHashMap<>();
+    private final AtomicLong bytesDisco = new AtomicLong();
+
+    public CacheImagensPerfil(
+            @Value("${imagens.cache.diretorio:}") String diretorio,
+            @Value("${imagens.cache.max-bytes-memoria:33554432}") long maxBytesMemoria,
+            @Value("${imagens.cache.max-bytes-disco:67108864}") long maxBytesDisco,
+            @Value("${imagens.cache.max-bytes-imagem:5242880}") long maxBytesImagem,
+            @Value("${imagens.cache.max-bytes-imagem-memoria:262144}") long maxBytesImagemMemoria,
+            @Value("${imagens.cache.validade-padrao-segundos:86400}") long validadePadraoSegundos) {
+        this.diretorio = diretorio == null || diretorio.isBlank() ? null : Path.of(diretorio);
+        this.maxBytesMemoria = maxBytesMemoria;
+        this.maxBytesDisco = maxBytesDisco;
+        this.maxBytesImagem = maxBytesImagem;
+        this.maxBytesImagemMemoria = maxBytesImagemMemoria;
+        this.validadePadraoMs = validadePadraoSegundos * 1000;
+    }
+
+    @PostConstruct
+    void inicializar() throws IOException {
+        if (diretorio == null) {
+            log.info("Cache de imagens só em memória (imagens.cache.diretorio vazio)");
+            return;
+        }
+        Files.createDirectories(diretorio);
+        long total = 0;
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : arquivos.toList()) {
+                String nome = arquivo.getFileName().toString();
+                if (nome.endsWith(".tmp")) {
+                    // Download interrompido em execução anterior
+                    Files.deleteIfExists(arquivo);
+                } else {
+                    total += Files.size(arquivo);
+                }
+            }
+        }
+        bytesDisco.set(total);
+        log.info("Cache de imagens em {} ({} KB em disco)", diretorio, total / 1024);
+    }
+
+    /**
+     * Retorna a imagem, buscando na origem apenas quando não há cópia válida.
+     *
+     * @return vazio se a origem respondeu que a imagem não existe
+     * @throws UncheckedIOException se a origem falhou e não há cópia local
+     */
+    public Optional<ImagemCacheada> obter(String url) {
+        String chave = hash(url);
+        Entrada local = buscarLocal(chave);
+        if (local != null && local.expiraEm() > System.currentTimeMillis()) {
+            ImagemCacheada imagem = abrir(chave, local);
+            if (imagem != null) {
+                return Optional.of(imagem);
+            }
+            // Arquivo removido pela limpeza entre a leitura dos metadados e a abertura
+            local = null;
+        }
+        Optional<Entrada> carregada = carregarUnico(chave, url, local);
+        if (carregada.isEmpty()) {
+            return Optional.empty();
+        }
+        ImagemCacheada imagem = abrir(chave, carregada.get());
+        if (imagem == null) {
+            throw new UncheckedIOException(new IOException("Imagem removida do disco durante a leitura"));
+        }
+        return Optional.of(imagem);
+    }
+
+    private Optional<Entrada> carregarUnico(String chave, String url, Entrada anterior) {
+        CompletableFuture<Optional<Entrada>> novo = new CompletableFuture<>();
+        CompletableFuture<Optional<Entrada>> existente = emAndamento.putIfAbsent(chave, novo);
+        if (existente != null) {
+            try {
+                return existente.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+        try {
+            Optional<Entrada> resultado = buscarNaOrigem(chave, url, anterior);
+            novo.complete(resultado);
+            return resultado;
+        } catch (RuntimeException e) {
+            novo.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, novo);
+        }
+    }
+
+    private Optional<Entrada> buscarNaOrigem(String chave, String url, Entrada anterior) {
+        Path temporario = null;
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(10))
+                    .GET();
+            if (anterior != null && anterior.etagOrigem() != null) {
+                request.header("If-None-Match", anterior.etagOrigem());
+            }
+            if (anterior != null && anterior.lastModifiedOrigem() != null) {
+                request.header("If-Modified-Since", anterior.lastModifiedOrigem());
+            }
+
+            Path destino = diretorio != null ? Files.createTempFile(diretorio, chave, ".tmp") : null;
+            temporario = destino;
+            HttpResponse<Baixado> response = httpClient.send(request.build(), info -> {
+                long tamanhoInformado = info.headers().firstValueAsLong("Content-Length").orElse(-1);
+                if (info.statusCode() != 200 || tamanhoInformado > maxBytesImagem) {
+                    return HttpResponse.BodySubscribers.replacing(Baixado.VAZIO);
+                }
+                HttpResponse.BodySubscriber<Baixado> corpo = destino != null
+                        && visibilidade(info.headers()) == Visibilidade.PUBLICA
+                                ? HttpResponse.BodySubscribers.mapping(
+                                        HttpResponse.BodySubscribers.ofFile(destino), Baixado::emArquivo)
+                                : HttpResponse.BodySubscribers.mapping(
+                                        HttpResponse.BodySubscribers.ofByteArray(), Baixado::emMemoria);
+                return new LimiteBytes<>(corpo, maxBytesImagem);
+            });
+
+            int status = response.statusCode();
+            if (status == 304 && anterior != null) {
+                Entrada renovada = anterior.comValidade(System.currentTimeMillis() + validade(response));
+                if (diretorio != null && Files.exists(arquivoImagem(chave))) {
+                    gravarMetadados(chave, renovada);
+                }
+                guardarEmMemoria(chave, renovada);
+                return Optional.of(renovada);
+            }
+            if (status == 404 || status == 410) {
+                remover(chave);
+                return Optional.empty();
+            }
+            if (status != 200) {
+                return servirCopiaOuFalhar(chave, anterior, "status " + status);
+            }
+
+            Baixado baixado = response.body();
+            String contentType = response.headers().firstValue("Content-Type").orElse("image/jpeg");
+            long tamanho = baixado.tamanho();
+            if (!contentType.startsWith("image/") || tamanho == 0 || tamanho > maxBytesImagem) {
+                return servirCopiaOuFalhar(chave, anterior, "conteúdo inválido (" + contentType + ", " + tamanho + " bytes)");
+            }
+
+            long agora = System.currentTimeMillis();
+            Visibilidade visibilidade = visibilidade(response.headers());
+            String etag = "\"" + Long.toHexString(agora) + "-" + Long.toHexString(tamanho) + "\"";
+            String etagOrigem = response.headers().firstValue("ETag").orElse(null);
+            String lastModifiedOrigem = response.headers().firstValue("Last-Modified").orElse(null);
+
+            if (baixado.arquivo() == null) {
+                Entrada entrada = new Entrada(contentType, tamanho, etag, etagOrigem, lastModifiedOrigem,
+                        agora + validade(response), visibilidade, baixado.bytes());
+                if (visibilidade != Visibilidade.PUBLICA) {
+                    // A origem não permite guardar: descarta também cópias anteriores
+                    remover(chave);
+                } else if (tamanho <= maxBytesImagemMemoria) {
+                    guardarEmMemoria(chave, entrada);
+                }
+                return Optional.of(entrada);
+            }
+
+            Path arquivo = arquivoImagem(chave);
+            long tamanhoAnterior = Files.exists(arquivo) ? Files.size(arquivo) : 0;
+            Files.move(destino, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temporario = null;
+
+            Entrada entrada = new Entrada(contentType, tamanho, etag, etagOrigem, lastModifiedOrigem,
+                    agora + validade(response), visibilidade,
+                    tamanho <= maxBytesImagemMemoria ? Files.readAllBytes(arquivo) : null);
+            gravarMetadados(chave, entrada);
+            guardarEmMemoria(chave, entrada);
+
+            if (bytesDisco.addAndGet(tamanho - tamanhoAnterior) > maxBytesDisco) {
+                limparDisco();
+            }
+            return Optional.of(entrada);
+        } catch (IOException e) {
+            return servirCopiaOuFalhar(chave, anterior, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return servirCopiaOuFalhar(chave, anterior, "interrompido");
+        } finally {
+            if (temporario != null) {
+                try {
+                    Files.deleteIfExists(temporario);
+                } catch (IOException e) {
+                    log.debug("Não foi possível remover {}", temporario);
+                }
+            }
+        }
+    }
+
+    private Optional<Entrada> servirCopiaOuFalhar(String chave, Entrada anterior, String motivo) {
+        if (anterior == null) {
+            throw new UncheckedIOException(new IOException("Falha ao buscar imagem na origem: " + motivo));
+        }
+        log.warn("Falha ao revalidar imagem {} ({}), servindo cópia local", chave, motivo);
+        Entrada stale = anterior.comValidade(System.currentTimeMillis() + VALIDADE_STALE_MS);
+        guardarEmMemoria(chave, stale);
+        return Optional.of(stale);
+    }
+
+    private Entrada buscarLocal(String chave) {
+        synchronized (memoria) {
+            Entrada entrada = memoria.get(chave);
+            if (entrada != null) {
+                return entrada;
+            }
+        }
+        Entrada doDisco = lerDoDisco(chave);
+        if (doDisco != null) {
+            guardarEmMemoria(chave, doDisco);
+        }
+        return doDisco;
+    }
+
+    private Entrada lerDoDisco(String chave) {
+        if (diretorio == null) {
+            return null;
+        }
+        Path meta = arquivoMetadados(chave);
+        Path arquivo = arquivoImagem(chave);
+        if (!Files.exists(meta) || !Files.exists(arquivo)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(meta)) {
+            Properties p = new Properties();
+            p.load(in);
+            long tamanho = Long.parseLong(p.getProperty("tamanho"));
+            return new Entrada(
+                    p.getProperty("contentType"),
+                    tamanho,
+                    p.getProperty("etag"),
+                    p.getProperty("etagOrigem"),
+                    p.getProperty("lastModifiedOrigem"),
+                    Long.parseLong(p.getProperty("expiraEm")),
+                    Visibilidade.PUBLICA,
+                    tamanho <= maxBytesImagemMemoria ? Files.readAllBytes(arquivo) : null);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Metadados de imagem ilegíveis ({}), descartando: {}", chave, e.getMessage());
+            remover(chave);
+            return null;
+        }
+    }
+
+    private void gravarMetadados(String chave, Entrada entrada) throws IOException {
+        Properties p = new Properties();
+        p.setProperty("contentType", entrada.contentType());
+        p.setProperty("tamanho", Long.toString(entrada.tamanho()));
+        p.setProperty("etag", entrada.etag());
+        p.setProperty("expiraEm", Long.toString(entrada.expiraEm()));
+        if (entrada.etagOrigem() != null) {
+            p.setProperty("etagOrigem", entrada.etagOrigem());
+        }
+        if (entrada.lastModifiedOrigem() != null) {
+            p.setProperty("lastModifiedOrigem", entrada.lastModifiedOrigem());
+        }
+        Path temporario = Files.createTempFile(diretorio, chave, ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporario)) {
+            p.store(out, null);
+        }
+        Files.move(temporario, arquivoMetadados(chave), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void guardarEmMemoria(String chave, Entrada entrada) {
+        synchronized (memoria) {
+            Entrada anterior = memoria.put(chave, entrada);
+            bytesMemoria += custo(entrada) - (anterior != null ? custo(anterior) : 0);
+            Iterator<Entrada> iterator = memoria.values().iterator();
+            while (bytesMemoria > maxBytesMemoria && iterator.hasNext()) {
+                bytesMemoria -= custo(iterator.next());
+                iterator.remove();
+            }
+        }
+    }
+
+    private void remover(String chave) {
+        synchronized (memoria) {
+            Entrada anterior = memoria.remove(chave);
+            if (anterior != null) {
+                bytesMemoria -= custo(anterior);
+            }
+        }
+        if (diretorio == null) {
+            return;
+        }
+        try {
+            Path arquivo = arquivoImagem(chave);
+            if (Files.exists(arquivo)) {
+                long tamanho = Files.size(arquivo);
+                Files.delete(arquivo);
+                bytesDisco.addAndGet(-tamanho);
+            }
+            Files.deleteIfExists(arquivoMetadados(chave));
+        } catch (IOException e) {
+            log.debug("Falha ao remover imagem {} do disco: {}", chave, e.getMessage());
+        }
+    }
+
+    /**
+     * Remove as imagens menos recentemente gravadas até ficar em 80% do limite.
+     */
+    private synchronized void limparDisco() {
+        long alvo = maxBytesDisco * 8 / 10;
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            List<Path> imagens = arquivos
+                    .filter(p -> p.getFileName().toString().endsWith(".img"))
+                    .sorted((a, b) -> Long.compare(ultimaModificacao(a), ultimaModificacao(b)))
+                    .toList();
+            for (Path imagem : imagens) {
+                if (bytesDisco.get() <= alvo) {
+                    break;
+                }
+                String nome = imagem.getFileName().toString();
+                remover(nome.substring(0, nome.length() - ".img".length()));
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao limpar cache de imagens em disco: {}", e.getMessage());
+        }
+    }
+
+    private static long ultimaModificacao(Path arquivo) {
+        try {
+            return Files.getLastModifiedTime(arquivo).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * @return null se o arquivo em disco já não existe (a entrada é esquecida)
+     */
+    private ImagemCacheada abrir(String chave, Entrada entrada) {
+        Resource conteudo;
+        if (entrada.bytes() != null) {
+            conteudo = new ByteArrayResource(entrada.bytes());
+        } else {
+            try {
+                // Aberto já aqui: o descritor continua lendo esta versão mesmo se
+                // o arquivo for removido ou substituído antes do envio
+                conteudo = new InputStreamResource(Files.newInputStream(arquivoImagem(chave)));
+            } catch (IOException e) {
+                synchronized (memoria) {
+                    Entrada anterior = memoria.remove(chave);
+                    if (anterior != null) {
+                        bytesMemoria -= custo(anterior);
+                    }
+                }
+                return null;
+            }
+        }
+        return new ImagemCacheada(conteudo, entrada.contentType(), entrada.etag(), entrada.tamanho(),
+                cacheControl(entrada));
+    }
+
+    /**
+     * Cache-Control para o navegador: o tempo que falta da validade local,
+     * com a restrição (private/no-store) recebida da origem.
+     */
+    private static CacheControl cacheControl(Entrada entrada) {
+        long restanteSegundos = Math.max(0, (entrada.expiraEm() - System.currentTimeMillis()) / 1000);
+        return switch (entrada.visibilidade()) {
+            case SEM_ARMAZENAMENTO -> CacheControl.noStore();
+            case PRIVADA -> CacheControl.maxAge(restanteSegundos, TimeUnit.SECONDS).cachePrivate();
+            case PUBLICA -> CacheControl.maxAge(restanteSegundos, TimeUnit.SECONDS).cachePublic();
+        };
+    }
+
+    private static Visibilidade visibilidade(HttpHeaders headers) {
+        Visibilidade resultado = Visibilidade.PUBLICA;
+        for (String valor : headers.allValues("Cache-Control")) {
+            for (String diretiva : valor.toLowerCase(Locale.ROOT).split(",")) {
+                String nome = diretiva.trim();
+                if (nome.equals("no-store")) {
+                    return Visibilidade.SEM_ARMAZENAMENTO;
+                }
+                if (nome.equals("private") || nome.startsWith("private=")) {
+                    resultado = Visibilidade.PRIVADA;
+                }
+            }
+        }
+        return resultado;
+    }
+
+    private long validade(HttpResponse<?> response) {
+        return response.headers().firstValue("Cache-Control")
+                .map(MAX_AGE::matcher)
+                .filter(Matcher::find)
+                .map(m -> Math.max(Long.parseLong(m.group(1)) * 1000, VALIDADE_MINIMA_MS))
+                .orElse(validadePadraoMs);
+    }
+
+    private Path arquivoImagem(String chave) {
+        return diretorio.resolve(chave + ".img");
+    }
+
+    private Path arquivoMetadados(String chave) {
+        return diretorio.resolve(chave + ".meta");
+    }
+
+    private long custo(Entrada entrada) {
+        return OVERHEAD_ENTRADA_BYTES + (entrada.bytes() != null ? entrada.bytes().length : 0);
+    }
+
+    private static String hash(String url) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 é obrigatório em toda JVM
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Imagem pronta para resposta: conteúdo em memória ou arquivo em disco.
+     */
+    public record ImagemCacheada(Resource conteudo, String contentType, String etag, long tamanho,
+            CacheControl cacheControl) {
+
+        /**
+         * Fecha o arquivo aberto quando o conteúdo não será enviado (ex.: 304).
+         */
+        public void descartar() {
+            if (conteudo instanceof InputStreamResource) {
+                try {
+                    conteudo.getInputStream().close();
+                } catch (IOException e) {
+                    // Nada a fazer: o descritor é liberado de qualquer forma
+                }
+            }
+        }
+    }
+
+    private enum Visibilidade {
+        PUBLICA,
+        PRIVADA,
+        SEM_ARMAZENAMENTO
+    }
+
+    private record Entrada(
+            String contentType,
+            long tamanho,
+            String etag,
+            String etagOrigem,
+            String lastModifiedOrigem,
+            long expiraEm,
+            Visibilidade visibilidade,
+            byte[] bytes) {
+
+        Entrada comValidade(long novaExpiracao) {
+            return new Entrada(contentType, tamanho, etag, etagOrigem, lastModifiedOrigem, novaExpiracao,
+                    visibilidade, bytes);
+        }
+    }
+
+    /**
+     * Corpo baixado: em arquivo temporário (nível em disco) ou em memória.
+     */
+    private record Baixado(Path arquivo, byte[] bytes) {
+
+        static final Baixado VAZIO = new Baixado(null, null);
+
+        static Baixado emArquivo(Path arquivo) {
+            return new Baixado(arquivo, null);
+        }
+
+        static Baixado emMemoria(byte[] bytes) {
+            return new Baixado(null, bytes);
+        }
+
+        long tamanho() throws IOException {
+            if (arquivo != null) {
+                return Files.size(arquivo);
+            }
+            return bytes != null ? bytes.length : 0;
+        }
+    }
+
+    /**
+     * Interrompe o download assim que o corpo passa do limite, mesmo quando a
+     * origem não informa Content-Length (ou informa um valor menor que o real).
+     */
+    private static final class LimiteBytes<T> implements HttpResponse.BodySubscriber<T> {
+
+        private final HttpResponse.BodySubscriber<T> destino;
+        private final long limite;
+        private Flow.Subscription subscription;
+        private long recebidos;
+        private boolean excedido;
+
+        LimiteBytes(HttpResponse.BodySubscriber<T> destino, long limite) {
+            this.destino = destino;
+            this.limite = limite;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return destino.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            destino.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> itens) {
+            if (excedido) {
+                return;
+            }
+            for (ByteBuffer item : itens) {
+                recebidos += item.remaining();
+            }
+            if (recebidos > limite) {
+                excedido = true;
+                subscription.cancel();
+                destino.onError(new IOException("Imagem maior que " + limite + " bytes"));
+                return;
+            }
+            destino.onNext(itens);
+        }
+
+        @Override
+        public void onError(Throwable erro) {
+            if (!excedido) {
+                destino.onError(erro);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!excedido) {
+                destino.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.sonecadelivery.clientes.infrastructure.persistence;
+
+import com.sonecadelivery.clientes.application.dto.AvaliacaoProdutoResumoDTO;
+import com.sonecadelivery.clientes.application.ports.AvaliacaoProdutoStatsPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Agregado de avaliações persistido em produto_avaliacao_stats.
+ *
+ * - Escrita: upsert atômico dos deltas na transação da avaliação
+ *   (INSERT ... ON DUPLICATE KEY UPDATE), seguro também na primeira nota.
+ *   A nota anterior vem da avaliação travada por quem chama
+ *   (ClienteAvaliacaoRepositoryPort.buscarParaAtualizar)
+ * - Leitura: sempre da tabela (uma linha por produto, ranking pelo índice);
+ *   todas as instâncias enxergam o mesmo valor, sem espelho em memória
+ */
+@Component
+@RequiredArgsConstructor
+public class AvaliacaoProdutoStatsRepositoryAdapter implements AvaliacaoProdutoStatsPort {
+
+    private final ProdutoAvaliacaoStatsJpaRepository jpaRepository;
+
+    @Override
+    public void registrarAlteracao(@NonNull String produtoId, Integer notaAnterior, Integer notaNova) {
+        if (notaAnterior != null && notaAnterior.equals(notaNova)) {
+            return;
+        }
+
+        // Entidade usada só como acumulador dos deltas (não é persistida)
+        ProdutoAvaliacaoStatsEntity delta = ProdutoAvaliacaoStatsEntity.novo(produtoId);
+        if (notaAnterior != null) {
+            delta.aplicar(notaAnterior, -1);
+        }
+        if (notaNova != null) {
+            delta.aplicar(notaNova, 1);
+        }
+        jpaRepository.somarDeltas(produtoId, delta.getSomaNotas(), delta.getTotalAvaliacoes(),
+                delta.getNotas1(), delta.getNotas2(), delta.getNotas3(), delta.getNotas4(), delta.getNotas5());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AvaliacaoProdutoResumoDTO buscar(@NonNull String produtoId) {
+        return jpaRepository.findById(produtoId)
+                .map(AvaliacaoProdutoStatsRepositoryAdapter::paraResumo)
+                .orElseGet(() -> AvaliacaoProdutoResumoDTO.vazio(produtoId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, AvaliacaoProdutoResumoDTO> buscarPorProdutos(@NonNull Collection<String> produtoIds) {
+        Map<String, AvaliacaoProdutoResumoDTO> resultado = new HashMap<>();
+        jpaRepository.findAllById(produtoIds)
+                .forEach(stats -> resultado.put(stats.getProdutoId(), paraResumo(stats)));
+        for (String produtoId : produtoIds) {
+            resultado.computeIfAbsent(produtoId, AvaliacaoProdutoResumoDTO::vazio);
+        }
+        return resultado;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AvaliacaoProdutoResumoDTO> listarMelhoresAvaliados() {
+        return jpaRepository.listarMelhoresAvaliados().stream()
+                .map(AvaliacaoProdutoStatsRepositoryAdapter::paraResumo)
+                .toList();
+    }
+
+    private static AvaliacaoProdutoResumoDTO paraResumo(ProdutoAvaliacaoStatsEntity stats) {
+        return AvaliacaoProdutoResumoDTO.de(stats.getProdutoId(), stats.getSomaNotas(), stats.contagemPorNota());
+    }
+}
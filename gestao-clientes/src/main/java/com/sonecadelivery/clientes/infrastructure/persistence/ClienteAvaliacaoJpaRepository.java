@@ -1,7 +1,10 @@
 package com.sonecadelivery.clientes.infrastructure.persistence;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -27,6 +30,16 @@ public interface ClienteAvaliacaoJpaRepository extends JpaRepository<ClienteAval
         Optional<ClienteAvaliacaoEntity> findByClienteIdAndProdutoIdAndPedidoId(
                         String clienteId, String produtoId, String pedidoId);
 
+        /**
+         * SELECT ... FOR UPDATE: a nota lida continua sendo a atual até o fim
+         * da transação (base do delta em produto_avaliacao_stats).
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT a FROM ClienteAvaliacaoEntity a "
+                        + "WHERE a.clienteId = :clienteId AND a.produtoId = :produtoId AND a.pedidoId = :pedidoId")
+        Optional<ClienteAvaliacaoEntity> findParaAtualizar(@Param("clienteId") String clienteId,
+                        @Param("produtoId") String produtoId, @Param("pedidoId") String pedidoId);
+
         boolean existsByClienteIdAndProdutoIdAndPedidoId(
                         String clienteId, String produtoId, String pedidoId);
 
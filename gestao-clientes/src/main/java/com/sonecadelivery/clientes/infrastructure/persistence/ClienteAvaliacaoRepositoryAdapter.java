@@ -37,6 +37,13 @@ public class ClienteAvaliacaoRepositoryAdapter implements ClienteAvaliacaoReposi
                 .map(mapper::paraDomain);
     }
 
+    @Override
+    public Optional<ClienteAvaliacao> buscarParaAtualizar(@NonNull String clienteId, @NonNull String produtoId,
+            @NonNull String pedidoId) {
+        return jpaRepository.findParaAtualizar(clienteId, produtoId, pedidoId)
+                .map(mapper::paraDomain);
+    }
+
     @Override
     public Optional<ClienteAvaliacao> buscarPorClienteProduto(@NonNull String clienteId, @NonNull String produtoId) {
         return jpaRepository.findByClienteIdAndProdutoId(clienteId, produtoId)
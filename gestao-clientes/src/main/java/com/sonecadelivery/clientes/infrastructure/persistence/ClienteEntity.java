@@ -25,6 +25,13 @@ public class ClienteEntity {
     @Column(length = 20)
     private String telefone;
 
+    /**
+     * Telefone só com dígitos, indexado para busca por prefixo.
+     * Derivado de telefone a cada gravação.
+     */
+    @Column(name = "telefone_digitos", length = 20)
+    private String telefoneDigitos;
+
     @Column(length = 200)
     private String email;
 
@@ -91,4 +98,18 @@ public class ClienteEntity {
 
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void normalizarTelefone() {
+        telefoneDigitos = somenteDigitos(telefone);
+    }
+
+    public static String somenteDigitos(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        String digitos = valor.replaceAll("\\D", "");
+        return digitos.isEmpty() ? null : digitos;
+    }
 }
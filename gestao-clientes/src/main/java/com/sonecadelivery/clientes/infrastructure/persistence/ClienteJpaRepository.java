@@ -1,6 +1,10 @@
 package com.sonecadelivery.clientes.infrastructure.persistence;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,8 +13,31 @@ import java.util.Optional;
 @Repository
 public interface ClienteJpaRepository extends JpaRepository<ClienteEntity, String> {
 
+    /**
+     * Primeira página da listagem completa, ordenada por (nome, id): percorre o
+     * idx_clientes_nome (o InnoDB anexa a PK ao índice).
+     */
+    @Query("SELECT c FROM ClienteEntity c ORDER BY c.nome, c.id")
+    List<ClienteEntity> listarPrimeiraPaginaPorNome(Pageable pagina);
+
+    /**
+     * Página seguinte (keyset): continua depois do último (nome, id) entregue,
+     * sem OFFSET.
+     */
+    @Query("SELECT c FROM ClienteEntity c WHERE c.nome > :nome OR (c.nome = :nome AND c.id > :id) "
+            + "ORDER BY c.nome, c.id")
+    List<ClienteEntity> listarPaginaPorNomeApos(@Param("nome") String nome, @Param("id") String id,
+            Pageable pagina);
+
     List<ClienteEntity> findByTelefone(String telefone);
 
+    List<ClienteEntity> findByTelefoneDigitos(String telefoneDigitos);
+
+    /**
+     * LIKE 'prefixo%' sobre a coluna indexada telefone_digitos.
+     */
+    Slice<ClienteEntity> findByTelefoneDigitosStartingWithOrderByNomeAscIdAsc(String prefixo, Pageable pageable);
+
     List<ClienteEntity> findByNomeContainingIgnoreCase(String nome);
 
     Optional<ClienteEntity> findByGoogleId(String googleId);
@@ -22,4 +49,10 @@ public interface ClienteJpaRepository extends JpaRepository<ClienteEntity, Strin
     boolean existsByTelefone(String telefone);
 
     boolean existsByEmail(String email);
+
+    /**
+     * Projeção leve (id, nome) para carregar o índice de nomes.
+     */
+    @Query("SELECT c.id, c.nome FROM ClienteEntity c")
+    List<Object[]> listarIdENome();
 }
@@ -1,14 +1,26 @@
 package com.sonecadelivery.clientes.infrastructure.persistence;
 
 import com.sonecadelivery.clientes.application.ports.ClienteRepositoryPort;
+import com.sonecadelivery.clientes.application.ports.IndiceNomesClientesPort;
 import com.sonecadelivery.clientes.domain.entities.Cliente;
 import com.sonecadelivery.clientes.infrastructure.mappers.ClienteMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
@@ -16,12 +28,17 @@ public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
 
     private final ClienteJpaRepository jpaRepository;
     private final ClienteMapper mapper;
+    private final IndiceNomesClientesPort indiceNomes;
+
+    @Value("${listagens.fluxo.tamanho-pagina:500}")
+    private int tamanhoPaginaFluxo;
 
     @Override
     @SuppressWarnings("null") // jpaRepository.save() nunca retorna null
     public Cliente salvar(@NonNull Cliente cliente) {
         ClienteEntity entity = mapper.paraEntity(cliente);
         ClienteEntity salvo = jpaRepository.save(entity);
+        atualizarIndiceNomes(salvo.getId(), salvo.getNome());
         return mapper.paraDomain(salvo);
     }
 
@@ -31,16 +48,58 @@ public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
                 .map(mapper::paraDomain);
     }
 
+    /**
+     * Páginas por keyset, cada uma em sua própria transação: a conexão volta ao
+     * pool entre uma página e outra, e não fica presa enquanto o cliente HTTP
+     * lento consome a resposta.
+     */
+    @Override
+    public void percorrerTodos(Consumer<Cliente> consumidor) {
+        Pageable pagina = PageRequest.of(0, tamanhoPaginaFluxo);
+        List<ClienteEntity> entidades = jpaRepository.listarPrimeiraPaginaPorNome(pagina);
+        while (!entidades.isEmpty()) {
+            entidades.forEach(entity -> consumidor.accept(mapper.paraDomain(entity)));
+            if (entidades.size() < tamanhoPaginaFluxo) {
+                return;
+            }
+            ClienteEntity ultimo = entidades.get(entidades.size() - 1);
+            entidades = jpaRepository.listarPaginaPorNomeApos(ultimo.getNome(), ultimo.getId(), pagina);
+        }
+    }
+
     @Override
-    public List<Cliente> buscarTodos() {
-        return jpaRepository.findAll().stream()
+    public List<Cliente> buscarPorTelefone(String telefone) {
+        String digitos = ClienteEntity.somenteDigitos(telefone);
+        if (digitos == null) {
+            return List.of();
+        }
+        return jpaRepository.findByTelefoneDigitos(digitos).stream()
                 .map(mapper::paraDomain)
                 .toList();
     }
 
     @Override
-    public List<Cliente> buscarPorTelefone(String telefone) {
-        return jpaRepository.findByTelefone(telefone).stream()
+    public Slice<Cliente> buscarPorTelefonePrefixo(String prefixo, Pageable pageable) {
+        String digitos = ClienteEntity.somenteDigitos(prefixo);
+        if (digitos == null) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        return jpaRepository.findByTelefoneDigitosStartingWithOrderByNomeAscIdAsc(digitos, pageable)
+                .map(mapper::paraDomain);
+    }
+
+    @Override
+    public List<Cliente> buscarPorIds(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Integer> posicao = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            posicao.putIfAbsent(ids.get(i), i);
+        }
+        // findAllById não garante ordem: reordena conforme a lista recebida
+        return jpaRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparingInt(e -> posicao.getOrDefault(e.getId(), Integer.MAX_VALUE)))
                 .map(mapper::paraDomain)
                 .toList();
     }
@@ -78,4 +137,21 @@ public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
     public boolean existePorEmail(String email) {
         return jpaRepository.existsByEmail(email);
     }
+
+    /**
+     * O índice de nomes só reflete dados confirmados: dentro de uma transação,
+     * atualiza após o commit.
+     */
+    private void atualizarIndiceNomes(String id, String nome) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indiceNomes.indexar(id, nome);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                indiceNomes.indexar(id, nome);
+            }
+        });
+    }
 }
@@ -0,0 +1,91 @@
+package com.sonecadelivery.clientes.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA do agregado de avaliações por produto.
+ * Uma linha por produto avaliado; atualizada junto com cada avaliação.
+ */
+@Entity
+@Table(name = "produto_avaliacao_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProdutoAvaliacaoStatsEntity {
+
+    @Id
+    @Column(name = "produto_id", length = 36)
+    private String produtoId;
+
+    @Column(name = "soma_notas", nullable = false)
+    private long somaNotas;
+
+    @Column(name = "total_avaliacoes", nullable = false)
+    private int totalAvaliacoes;
+
+    @Column(name = "notas_1", nullable = false)
+    private int notas1;
+
+    @Column(name = "notas_2", nullable = false)
+    private int notas2;
+
+    @Column(name = "notas_3", nullable = false)
+    private int notas3;
+
+    @Column(name = "notas_4", nullable = false)
+    private int notas4;
+
+    @Column(name = "notas_5", nullable = false)
+    private int notas5;
+
+    @Column(nullable = false, precision = 4, scale = 3)
+    private BigDecimal media;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static ProdutoAvaliacaoStatsEntity novo(String produtoId) {
+        return ProdutoAvaliacaoStatsEntity.builder()
+                .produtoId(produtoId)
+                .media(BigDecimal.ZERO)
+                .build();
+    }
+
+    /**
+     * Soma (delta = 1) ou subtrai (delta = -1) uma nota do agregado.
+     */
+    public void aplicar(int nota, int delta) {
+        somaNotas += (long) nota * delta;
+        totalAvaliacoes += delta;
+        switch (nota) {
+            case 1 -> notas1 += delta;
+            case 2 -> notas2 += delta;
+            case 3 -> notas3 += delta;
+            case 4 -> notas4 += delta;
+            case 5 -> notas5 += delta;
+            default -> throw new IllegalArgumentException("Nota inválida: " + nota);
+        }
+        media = totalAvaliacoes > 0
+                ? BigDecimal.valueOf(somaNotas).divide(BigDecimal.valueOf(totalAvaliacoes), 3, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+    }
+
+    public int[] contagemPorNota() {
+        return new int[] { notas1, notas2, notas3, notas4, notas5 };
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,52 @@
+package com.sonecadelivery.clientes.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProdutoAvaliacaoStatsJpaRepository extends JpaRepository<ProdutoAvaliacaoStatsEntity, String> {
+
+        /**
+         * Soma os deltas ao agregado em uma única instrução atômica.
+         * A primeira avaliação do produto cria a linha; avaliações simultâneas
+         * (inclusive a primeira) são serializadas pela chave primária, sem
+         * erro de chave duplicada nem incremento perdido.
+         * No UPDATE, media é atribuída por último e já enxerga os novos totais.
+         */
+        @Modifying
+        @Query(value = """
+                        INSERT INTO produto_avaliacao_stats
+                            (produto_id, soma_notas, total_avaliacoes, notas_1, notas_2, notas_3, notas_4, notas_5, media)
+                        VALUES (:produtoId, :soma, :total, :n1, :n2, :n3, :n4, :n5,
+                            IF(:total > 0, :soma / :total, 0))
+                        ON DUPLICATE KEY UPDATE
+                            soma_notas = soma_notas + VALUES(soma_notas),
+                            total_avaliacoes = total_avaliacoes + VALUES(total_avaliacoes),
+                            notas_1 = notas_1 + VALUES(notas_1),
+                            notas_2 = notas_2 + VALUES(notas_2),
+                            notas_3 = notas_3 + VALUES(notas_3),
+                            notas_4 = notas_4 + VALUES(notas_4),
+                            notas_5 = notas_5 + VALUES(notas_5),
+                            media = IF(total_avaliacoes > 0, soma_notas / total_avaliacoes, 0)
+                        """, nativeQuery = true)
+        void somarDeltas(@Param("produtoId") String produtoId,
+                        @Param("soma") long soma,
+                        @Param("total") int total,
+                        @Param("n1") int n1,
+                        @Param("n2") int n2,
+                        @Param("n3") int n3,
+                        @Param("n4") int n4,
+                        @Param("n5") int n5);
+
+        /**
+         * Ranking pelo índice (media, total_avaliacoes).
+         */
+        @Query("SELECT s FROM ProdutoAvaliacaoStatsEntity s WHERE s.totalAvaliacoes > 0 "
+                        + "ORDER BY s.media DESC, s.totalAvaliacoes DESC")
+        List<ProdutoAvaliacaoStatsEntity> listarMelhoresAvaliados();
+}
@@ -2,14 +2,13 @@ package com.sonecadelivery.clientes.infrastructure.security;
 
 import com.sonecadelivery.clientes.application.ports.ClienteJwtServicePort;
 import com.sonecadelivery.clientes.domain.entities.Cliente;
+import com.sonecadelivery.kernel.infrastructure.security.VerificadorJwtHmac;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -28,9 +27,14 @@ public class ClienteJwtServiceAdapter implements ClienteJwtServicePort {
     @Value("${jwt.expiration:86400}") // 86400 segundos = 24 horas (padrão do application.yml)
     private long expirationSeconds;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.claims-cache-max-entradas:10000}")
+    private int claimsCacheMaxEntradas;
+
+    private VerificadorJwtHmac verificador;
+
+    @PostConstruct
+    void inicializar() {
+        this.verificador = new VerificadorJwtHmac(secret, claimsCacheMaxEntradas);
     }
 
     @Override
@@ -51,7 +55,7 @@ public class ClienteJwtServiceAdapter implements ClienteJwtServicePort {
                 .subject(cliente.getId())
                 .issuedAt(now)
                 .expiration(expirationDate)
-                .signWith(getSigningKey())
+                .signWith(verificador.getChave())
                 .compact();
     }
 
@@ -78,10 +82,6 @@ public class ClienteJwtServiceAdapter implements ClienteJwtServicePort {
     }
 
     private Claims extrairClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return verificador.claims(token);
     }
 }
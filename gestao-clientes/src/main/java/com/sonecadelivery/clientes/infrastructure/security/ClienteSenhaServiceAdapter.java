@@ -1,26 +1,34 @@
 package com.sonecadelivery.clientes.infrastructure.security;
 
 import com.sonecadelivery.clientes.application.ports.ClienteSenhaServicePort;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.sonecadelivery.kernel.infrastructure.security.ProcessadorHashSenha;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+/**
+ * Usa o mesmo PasswordEncoder e o mesmo pool de hash do login de funcionários
+ * (beans de HashSenhaConfig, no módulo de autenticação).
+ */
 @Service
+@RequiredArgsConstructor
 public class ClienteSenhaServiceAdapter implements ClienteSenhaServicePort {
 
     private final PasswordEncoder passwordEncoder;
-
-    public ClienteSenhaServiceAdapter() {
-        this.passwordEncoder = new BCryptPasswordEncoder();
-    }
+    private final ProcessadorHashSenha processadorHashSenha;
 
     @Override
     public String hashSenha(String senhaPlana) {
-        return passwordEncoder.encode(senhaPlana);
+        return processadorHashSenha.executar(() -> passwordEncoder.encode(senhaPlana));
     }
 
     @Override
     public boolean verificarSenha(String senhaPlana, String hash) {
-        return passwordEncoder.matches(senhaPlana, hash);
+        return processadorHashSenha.executar(() -> passwordEncoder.matches(senhaPlana, hash));
+    }
+
+    @Override
+    public boolean precisaRehash(String hash) {
+        return processadorHashSenha.custoDiferente(hash);
     }
 }
@@ -0,0 +1,23 @@
+package com.sonecadelivery.clientes.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonecadelivery.kernel.infrastructure.security.GoogleIdTokenVerificador;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Verificador único de ID tokens do Google (kernel), usado pelos logins de
+ * cliente e de motoboy.
+ */
+@Configuration
+public class GoogleIdTokenConfig {
+
+    @Bean(initMethod = "iniciar", destroyMethod = "encerrar")
+    public GoogleIdTokenVerificador googleIdTokenVerificador(
+            ObjectMapper objectMapper,
+            @Value("${google.client-id:}") String clientId,
+            @Value("${google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri) {
+        return new GoogleIdTokenVerificador(objectMapper, clientId, jwksUri);
+    }
+}
@@ -1,5 +1,6 @@
 package com.sonecadelivery.clientes.infrastructure.web;
 
+import com.sonecadelivery.clientes.application.dto.AvaliacaoProdutoResumoDTO;
 import com.sonecadelivery.clientes.application.dto.AvaliarProdutoRequest;
 import com.sonecadelivery.clientes.application.dto.ClienteAvaliacaoDTO;
 import com.sonecadelivery.clientes.application.usecases.AvaliarProdutoUseCase;
@@ -86,12 +87,43 @@ class ProdutoAvaliacaoRestController {
 
     @GetMapping("/media")
     public ResponseEntity<Map<String, Object>> mediaProduto(@PathVariable String produtoId) {
-        Double media = buscarAvaliacoesUseCase.calcularMediaProduto(produtoId);
-        int total = buscarAvaliacoesUseCase.contarAvaliacoesProduto(produtoId);
+        AvaliacaoProdutoResumoDTO resumo = buscarAvaliacoesUseCase.buscarResumoProduto(produtoId);
 
         return ResponseEntity.ok(Map.of(
                 "produtoId", produtoId,
-                "media", media != null ? media : 0.0,
-                "totalAvaliacoes", total));
+                "media", resumo.media(),
+                "totalAvaliacoes", resumo.totalAvaliacoes()));
+    }
+
+    /**
+     * Média, total e histograma de notas (uma linha da tabela agregada).
+     */
+    @GetMapping("/resumo")
+    public ResponseEntity<AvaliacaoProdutoResumoDTO> resumoProduto(@PathVariable String produtoId) {
+        return ResponseEntity.ok(buscarAvaliacoesUseCase.buscarResumoProduto(produtoId));
+    }
+}
+
+/**
+ * Resumos de avaliação de vários produtos numa única chamada (cards do cardápio)
+ */
+@RestController
+@RequestMapping("/api/produtos/avaliacoes")
+@RequiredArgsConstructor
+class ProdutoAvaliacaoResumoRestController {
+
+    private final BuscarAvaliacoesUseCase buscarAvaliacoesUseCase;
+
+    @GetMapping("/resumos")
+    public ResponseEntity<Map<String, AvaliacaoProdutoResumoDTO>> resumos(@RequestParam List<String> ids) {
+        return ResponseEntity.ok(buscarAvaliacoesUseCase.buscarResumosProdutos(ids));
+    }
+
+    @GetMapping("/melhores")
+    public ResponseEntity<List<AvaliacaoProdutoResumoDTO>> melhores(
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(buscarAvaliacoesUseCase.listarMelhoresAvaliados().stream()
+                .limit(Math.max(1, limite))
+                .toList());
     }
 }
@@ -1,77 +1,87 @@
 package com.sonecadelivery.clientes.infrastructure.web;
 
+import com.sonecadelivery.clientes.infrastructure.imagem.CacheImagensPerfil;
+import com.sonecadelivery.clientes.infrastructure.imagem.CacheImagensPerfil.ImagemCacheada;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Optional;
 
 /**
  * Controller para fazer proxy de imagens de perfil do Google.
  * Evita problemas de CORS e rate limiting do Google (429 Too Many Requests).
+ *
+ * As imagens passam pelo {@link CacheImagensPerfil} (memória + disco): a origem
+ * só é consultada na primeira vez ou quando a cópia local expira.
  */
 @RestController
 @RequestMapping("/api/publico/cliente/imagem")
 @RequiredArgsConstructor
+@Slf4j
 public class ClienteImagemProxyController {
 
-    private final RestTemplate restTemplate;
+    private final CacheImagensPerfil cacheImagens;
 
     /**
      * Faz proxy de uma imagem externa (ex: foto do Google).
      * 
      * @param url URL da imagem codificada em Base64
-     * @return Imagem como array de bytes
+     * @return Imagem (servida da memória ou do disco), com ETag para revalidação
      */
     @GetMapping("/proxy")
-    public ResponseEntity<byte[]> proxyImagem(@RequestParam String url) {
+    public ResponseEntity<Resource> proxyImagem(
+            @RequestParam String url,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String urlDecodificada;
         try {
             // Decodificar URL do Base64
-            String urlDecodificada = new String(Base64.getDecoder().decode(url));
-
-            // Validar que é uma URL do Google (segurança)
-            if (!urlDecodificada.startsWith("https://lh3.googleusercontent.com/") &&
-                    !urlDecodificada.startsWith("https://www.google.com/") &&
-                    !urlDecodificada.startsWith("https://googleusercontent.com/")) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
-            }
-
-            // Buscar imagem
-            byte[] imagemBytes = restTemplate.getForObject(urlDecodificada, byte[].class);
-
-            if (imagemBytes == null || imagemBytes.length == 0) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-            }
-
-            // Determinar content type baseado na extensão ou usar image/jpeg como padrão
-            String contentType = determinarContentType(urlDecodificada);
+            urlDecodificada = new String(Base64.getDecoder().decode(url), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType(contentType));
-            // Cache por 1 hora para reduzir requisições
-            headers.setCacheControl("public, max-age=3600");
+        // Validar que é uma URL do Google (segurança)
+        if (!urlDecodificada.startsWith("https://lh3.googleusercontent.com/") &&
+                !urlDecodificada.startsWith("https://www.google.com/") &&
+                !urlDecodificada.startsWith("https://googleusercontent.com/")) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
 
-            return new ResponseEntity<>(imagemBytes, headers, HttpStatus.OK);
+        Optional<ImagemCacheada> imagem;
+        try {
+            imagem = cacheImagens.obter(urlDecodificada);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao obter imagem de perfil: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
 
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        if (imagem.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
-    }
 
-    private String determinarContentType(String url) {
-        String urlLower = url.toLowerCase();
-        if (urlLower.contains(".png")) {
-            return "image/png";
-        } else if (urlLower.contains(".gif")) {
-            return "image/gif";
-        } else if (urlLower.contains(".webp")) {
-            return "image/webp";
-        } else {
-            return "image/jpeg"; // Padrão para imagens do Google
+        // Validade e restrições (private/no-store) seguem a origem
+        ImagemCacheada cacheada = imagem.get();
+        if (cacheada.etag().equals(ifNoneMatch)) {
+            cacheada.descartar();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cacheada.etag())
+                    .cacheControl(cacheada.cacheControl())
+                    .build();
         }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(cacheada.contentType()))
+                .contentLength(cacheada.tamanho())
+                .eTag(cacheada.etag())
+                .cacheControl(cacheada.cacheControl())
+                .body(cacheada.conteudo());
     }
 }
@@ -1,15 +1,22 @@
 package com.sonecadelivery.clientes.infrastructure.web;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.sonecadelivery.clientes.application.dto.CriarClienteRequest;
 import com.sonecadelivery.clientes.application.dto.ClienteDTO;
+import com.sonecadelivery.clientes.application.dto.PaginaClientesDTO;
 import com.sonecadelivery.clientes.application.usecases.BuscarClientePorIdUseCase;
+import com.sonecadelivery.clientes.application.usecases.BuscarClientesTypeaheadUseCase;
 import com.sonecadelivery.clientes.application.usecases.CriarClienteUseCase;
 import com.sonecadelivery.clientes.application.usecases.ListarClientesUseCase;
+import com.sonecadelivery.kernel.infrastructure.json.EscritorArrayJson;
+import com.sonecadelivery.kernel.infrastructure.json.EscritoresJson;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,6 +28,8 @@ public class ClienteRestController {
     private final CriarClienteUseCase criarClienteUseCase;
     private final ListarClientesUseCase listarClientesUseCase;
     private final BuscarClientePorIdUseCase buscarClientePorIdUseCase;
+    private final BuscarClientesTypeaheadUseCase buscarClientesTypeaheadUseCase;
+    private final EscritoresJson escritoresJson;
     
     @PostMapping
     public ResponseEntity<ClienteDTO> criar(@Valid @RequestBody CriarClienteRequest request) {
@@ -36,14 +45,41 @@ public class ClienteRestController {
         
         if (telefone != null) {
             clientes = listarClientesUseCase.executarPorTelefone(telefone);
-        } else if (nome != null) {
-            clientes = listarClientesUseCase.executarPorNome(nome);
         } else {
-            clientes = listarClientesUseCase.executar();
+            clientes = listarClientesUseCase.executarPorNome(nome);
         }
         
         return ResponseEntity.ok(clientes);
     }
+
+    /**
+     * Lista completa (sem filtros) escrita em fluxo, página a página do banco:
+     * memória constante independente da quantidade de clientes. Roda no
+     * executor assíncrono do MVC (limitado, ver spring.task.execution).
+     */
+    @GetMapping(params = { "!telefone", "!nome" })
+    public ResponseEntity<StreamingResponseBody> listarTodos() {
+        ObjectWriter writer = escritoresJson.para(ClienteDTO.class);
+        StreamingResponseBody corpo = saida -> {
+            try (EscritorArrayJson<ClienteDTO> array = new EscritorArrayJson<>(writer, saida)) {
+                listarClientesUseCase.percorrer(array::escrever);
+                array.concluir();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(corpo);
+    }
+    
+    /**
+     * Autocomplete do caixa: telefone (prefixo, ignorando formatação) ou
+     * palavras do nome (prefixo, ignorando acentos), paginado.
+     */
+    @GetMapping("/busca")
+    public ResponseEntity<PaginaClientesDTO> buscar(
+            @RequestParam(name = "q") String termo,
+            @RequestParam(name = "pagina", defaultValue = "0") int pagina,
+            @RequestParam(name = "tamanho", defaultValue = "20") int tamanho) {
+        return ResponseEntity.ok(buscarClientesTypeaheadUseCase.executar(termo, pagina, tamanho));
+    }
     
     @GetMapping("/{id}")
     public ResponseEntity<ClienteDTO> buscarPorId(@PathVariable String id) {
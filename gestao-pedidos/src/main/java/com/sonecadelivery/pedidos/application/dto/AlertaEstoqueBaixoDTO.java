@@ -0,0 +1,13 @@
+package com.sonecadelivery.pedidos.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Item que cruzou a quantidade mínima numa baixa de consumo.
+ */
+public record AlertaEstoqueBaixoDTO(
+        String itemEstoqueId,
+        String nome,
+        BigDecimal quantidade,
+        BigDecimal quantidadeMinima) {
+}
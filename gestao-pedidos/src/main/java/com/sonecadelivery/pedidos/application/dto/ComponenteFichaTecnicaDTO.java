@@ -0,0 +1,13 @@
+package com.sonecadelivery.pedidos.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Item de estoque consumido por unidade vendida de um produto/adicional.
+ */
+public record ComponenteFichaTecnicaDTO(
+        String itemEstoqueId,
+        String itemEstoqueNome,
+        String unidadeMedida,
+        BigDecimal quantidade) {
+}
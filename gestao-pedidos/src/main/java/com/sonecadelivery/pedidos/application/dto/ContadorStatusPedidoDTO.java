@@ -0,0 +1,18 @@
+package com.sonecadelivery.pedidos.application.dto;
+
+import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
+
+import java.math.BigDecimal;
+
+/**
+ * Quantidade e valor somado dos pedidos de uma sessão num status.
+ */
+public record ContadorStatusPedidoDTO(
+        StatusPedido status,
+        long quantidade,
+        BigDecimal valorTotal) {
+
+    public static ContadorStatusPedidoDTO vazio(StatusPedido status) {
+        return new ContadorStatusPedidoDTO(status, 0, BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,17 @@
+package com.sonecadelivery.pedidos.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Contadores de pedidos de uma sessão de trabalho.
+ *
+ * porStatus traz todos os status (zerados quando não há pedidos);
+ * totalPedidos e valorTotal desconsideram os cancelados.
+ */
+public record ContadoresSessaoDTO(
+        String sessaoId,
+        List<ContadorStatusPedidoDTO> porStatus,
+        long totalPedidos,
+        BigDecimal valorTotal) {
+}
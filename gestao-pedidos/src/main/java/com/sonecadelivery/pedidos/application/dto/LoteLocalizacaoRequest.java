@@ -0,0 +1,43 @@
+package com.sonecadelivery.pedidos.application.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lote de posições do motoboy em formato compacto (delta-encoded).
+ *
+ * A origem é a primeira posição em graus x 1e5 (~1 m). Cada ponto é um array
+ * de inteiros relativo ao ponto anterior (o primeiro, relativo à origem):
+ *
+ * [dLatitude, dLongitude, dTempoMs, precisaoMetros, headingGraus, velocidadeDecimosKmh]
+ *
+ * Os três últimos são opcionais; -1 (ou ausente) = não informado.
+ */
+@Getter
+@Setter
+public class LoteLocalizacaoRequest {
+
+    public static final int MAXIMO_PONTOS = 300;
+
+    @NotNull(message = "Latitude de origem é obrigatória")
+    @Min(value = -9_000_000, message = "Latitude deve estar entre -90 e 90")
+    @Max(value = 9_000_000, message = "Latitude deve estar entre -90 e 90")
+    private Integer latitudeE5;
+
+    @NotNull(message = "Longitude de origem é obrigatória")
+    @Min(value = -18_000_000, message = "Longitude deve estar entre -180 e 180")
+    @Max(value = 18_000_000, message = "Longitude deve estar entre -180 e 180")
+    private Integer longitudeE5;
+
+    @NotEmpty(message = "O lote deve ter ao menos um ponto")
+    @Size(max = MAXIMO_PONTOS, message = "O lote aceita no máximo " + MAXIMO_PONTOS + " pontos")
+    private List<int[]> pontos = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package com.sonecadelivery.pedidos.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para resposta paginada de pedidos completos (detalhe dos relatórios
+ * financeiros).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PedidosPaginadosDTO {
+
+    private List<PedidoDTO> pedidos;
+    private int paginaAtual;
+    private int totalPaginas;
+    private long totalPedidos;
+}
@@ -0,0 +1,31 @@
+package com.sonecadelivery.pedidos.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Alterações dos pedidos de uma sessão desde a versão informada pelo cliente.
+ * Usado pelo polling das telas da sessão (GET /api/pedidos?sessaoId=...&desde=...).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuadroPedidosDTO {
+
+    /** Versão a enviar em "desde" na próxima consulta */
+    private long versao;
+
+    /** true: "pedidos" é a lista completa da sessão e substitui a do cliente */
+    private boolean completo;
+
+    /** Pedidos novos ou alterados (ou todos, quando completo) */
+    private List<PedidoDTO> pedidos;
+
+    /** IDs de pedidos que deixaram de existir */
+    private List<String> removidos;
+}
@@ -0,0 +1,37 @@
+package com.sonecadelivery.pedidos.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request para substituir a ficha técnica de um produto ou adicional.
+ * Lista vazia remove a ficha (a venda deixa de baixar estoque).
+ */
+@Getter
+@Setter
+public class SalvarFichaTecnicaRequest {
+
+    @NotNull(message = "Componentes são obrigatórios")
+    @Valid
+    private List<Componente> componentes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Componente {
+
+        @NotBlank(message = "Item de estoque é obrigatório")
+        private String itemEstoqueId;
+
+        @NotNull(message = "Quantidade é obrigatória")
+        @Positive(message = "Quantidade deve ser maior que zero")
+        private BigDecimal quantidade;
+    }
+}
@@ -0,0 +1,22 @@
+package com.sonecadelivery.pedidos.application.dtos.relatorios;
+
+import java.time.LocalDate;
+
+/**
+ * Conjunto de pedidos de um relatório financeiro: um dia (pela data de início
+ * da sessão, sem cancelados) ou uma sessão de trabalho (todos os pedidos).
+ * Exatamente um dos dois campos é preenchido.
+ */
+public record EscopoRelatorioFinanceiroDTO(
+        LocalDate data,
+        String sessaoId
+) {
+
+    public static EscopoRelatorioFinanceiroDTO porData(LocalDate data) {
+        return new EscopoRelatorioFinanceiroDTO(data, null);
+    }
+
+    public static EscopoRelatorioFinanceiroDTO porSessao(String sessaoId) {
+        return new EscopoRelatorioFinanceiroDTO(null, sessaoId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.sonecadelivery.pedidos.application.dtos.relatorios;
+
+import java.util.List;
+
+/**
+ * Payload combinado da tela de relatórios de vendas.
+ * Reúne, numa única resposta, todas as seções que antes eram buscadas
+ * em requisições separadas.
+ *
+ * secoesIndisponiveis lista as seções que excederam o tempo limite ou falharam;
+ * nesses casos a seção vem vazia (ou nula, no caso de indicadores).
+ */
+public record RelatorioDashboardDTO(
+        List<EvolucaoVendasPontoDTO> evolucao,
+        List<CategoriaVendasResumoDTO> categorias,
+        List<QuantidadePorCategoriaDTO> quantidadePorCategoria,
+        List<ProdutoMaisVendidoDTO> topProdutos,
+        List<DistribuicaoHorariaDTO> horarios,
+        List<PedidosPorHorarioDTO> pedidosPorHorario,
+        List<DistribuicaoClientesDTO> clientes,
+        List<DistribuicaoMeioPagamentoDTO> meiosPagamento,
+        IndicadoresResumoDTO indicadores,
+        List<String> secoesIndisponiveis
+) {
+
+    public boolean completo() {
+        return secoesIndisponiveis == null || secoesIndisponiveis.isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package com.sonecadelivery.pedidos.application.dtos.relatorios;
+
+import java.util.List;
+
+public record ResumoFinanceiroDTO(
+        double totalVendas,
+        long totalPedidos,
+        double ticketMedio,
+        List<DistribuicaoMeioPagamentoDTO> meiosPagamento
+) {
+}
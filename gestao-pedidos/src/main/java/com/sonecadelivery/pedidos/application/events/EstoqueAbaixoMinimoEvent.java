@@ -0,0 +1,15 @@
+package com.sonecadelivery.pedidos.application.events;
+
+import java.math.BigDecimal;
+
+/**
+ * Item de estoque que passou a ficar no mínimo ou abaixo dele por causa do
+ * consumo de um pedido. Publicado uma vez por cruzamento, após o commit da baixa.
+ */
+public record EstoqueAbaixoMinimoEvent(
+        String itemEstoqueId,
+        String nome,
+        BigDecimal quantidade,
+        BigDecimal quantidadeMinima,
+        String pedidoId) {
+}
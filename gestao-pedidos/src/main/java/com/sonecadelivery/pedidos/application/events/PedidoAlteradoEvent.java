@@ -0,0 +1,8 @@
+package com.sonecadelivery.pedidos.application.events;
+
+/**
+ * Publicado quando um pedido é gravado (removido = false) ou excluído
+ * (removido = true).
+ */
+public record PedidoAlteradoEvent(String sessaoId, String pedidoId, boolean removido) {
+}
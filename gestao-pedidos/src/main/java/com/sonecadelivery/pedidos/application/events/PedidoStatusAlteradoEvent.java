@@ -0,0 +1,12 @@
+package com.sonecadelivery.pedidos.application.events;
+
+import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
+
+/**
+ * Publicado pela persistência quando o status de um pedido muda.
+ *
+ * @param anterior null quando o pedido acabou de ser criado
+ * @param atual    null quando o pedido foi excluído
+ */
+public record PedidoStatusAlteradoEvent(String pedidoId, StatusPedido anterior, StatusPedido atual) {
+}
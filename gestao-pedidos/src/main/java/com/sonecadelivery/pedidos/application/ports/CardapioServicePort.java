@@ -1,14 +1,18 @@
 package com.sonecadelivery.pedidos.application.ports;
 
-import com.sonecadelivery.cardapio.application.dto.AdicionalDTO;
-import com.sonecadelivery.cardapio.application.dto.ProdutoDTO;
+import com.sonecadelivery.cardapio.application.dto.PrecoAdicionalDTO;
+import com.sonecadelivery.cardapio.application.dto.PrecoProdutoDTO;
 
+/**
+ * Consulta ao cardápio para precificar pedidos.
+ * Resolvida em memória pelo catálogo de preços do gestao-cardapio (sem consulta por item).
+ */
 public interface CardapioServicePort {
-    ProdutoDTO buscarProdutoPorId(String id);
+    PrecoProdutoDTO buscarPrecoProduto(String id);
 
     boolean produtoEstaDisponivel(String id);
 
-    AdicionalDTO buscarAdicionalPorId(String id);
+    PrecoAdicionalDTO buscarPrecoAdicional(String id);
 
     boolean adicionalEstaDisponivel(String id);
 }
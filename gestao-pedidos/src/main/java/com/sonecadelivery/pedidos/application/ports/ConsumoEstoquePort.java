@@ -0,0 +1,43 @@
+package com.sonecadelivery.pedidos.application.ports;
+
+import com.sonecadelivery.pedidos.application.dto.AlertaEstoqueBaixoDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Port da baixa de estoque pelo consumo dos pedidos (fichas técnicas).
+ * Cada operação roda na sua própria transação e é idempotente por pedido.
+ */
+public interface ConsumoEstoquePort {
+
+    /**
+     * Baixa o consumo do pedido inteiro. Não faz nada se o pedido já foi
+     * baixado, não existe ou está cancelado.
+     *
+     * @return itens que cruzaram a quantidade mínima com esta baixa
+     */
+    List<AlertaEstoqueBaixoDTO> consumir(String pedidoId);
+
+    /**
+     * Devolve ao estoque o que foi baixado para o pedido.
+     *
+     * @return false se não havia baixa a estornar
+     */
+    boolean estornar(String pedidoId);
+
+    /**
+     * Pedidos válidos desde a data informada que ainda não tiveram baixa.
+     */
+    List<String> buscarPedidosSemConsumo(LocalDateTime desde);
+
+    /**
+     * Baixas ainda não estornadas de pedidos cancelados ou excluídos.
+     */
+    List<String> buscarConsumosAEstornar();
+
+    /**
+     * Remove o registro das baixas anteriores à data informada.
+     */
+    int removerConsumosAntigos(LocalDateTime antesDe);
+}
@@ -0,0 +1,18 @@
+package com.sonecadelivery.pedidos.application.ports;
+
+import com.sonecadelivery.pedidos.application.dto.ContadorStatusPedidoDTO;
+import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
+
+import java.util.Map;
+
+/**
+ * Contadores por sessão e status, mantidos pela persistência de pedidos na
+ * mesma transação de cada gravação/exclusão.
+ */
+public interface ContadoresPedidosSessaoPort {
+
+    /**
+     * Só os status com pedidos na sessão.
+     */
+    Map<StatusPedido, ContadorStatusPedidoDTO> buscarPorSessao(String sessaoId);
+}
@@ -0,0 +1,26 @@
+package com.sonecadelivery.pedidos.application.ports;
+
+import com.sonecadelivery.pedidos.application.dto.ComponenteFichaTecnicaDTO;
+import com.sonecadelivery.pedidos.domain.entities.TipoFichaTecnica;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Port do repositório de fichas técnicas (produto/adicional -> itens de estoque).
+ */
+public interface FichaTecnicaRepositoryPort {
+
+    /**
+     * Componentes da ficha, por nome do item de estoque.
+     */
+    List<ComponenteFichaTecnicaDTO> buscar(TipoFichaTecnica tipo, String referenciaId);
+
+    /**
+     * Substitui a ficha inteira.
+     *
+     * @param quantidades quantidade por unidade vendida, por id do item de estoque
+     */
+    void substituir(TipoFichaTecnica tipo, String referenciaId, Map<String, BigDecimal> quantidades);
+}
@@ -8,6 +8,7 @@ import org.springframework.lang.NonNull;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,8 @@ public interface PedidoRepositoryPort {
 
     Optional<Pedido> buscarPorId(@NonNull String id);
 
+    List<Pedido> buscarPorIds(Collection<String> ids);
+
     List<Pedido> buscarTodos();
 
     List<Pedido> buscarPorStatus(StatusPedido status);
@@ -0,0 +1,17 @@
+package com.sonecadelivery.pedidos.application.ports;
+
+import com.sonecadelivery.pedidos.application.dtos.relatorios.EscopoRelatorioFinanceiroDTO;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.ResumoFinanceiroDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface RelatorioFinanceiroPort {
+    ResumoFinanceiroDTO obterResumo(EscopoRelatorioFinanceiroDTO escopo);
+
+    /**
+     * Ids dos pedidos do escopo, por número do pedido e data.
+     *
+     * @param busca texto no nome do cliente ou no nome de algum item (opcional)
+     */
+    Page<String> buscarIdsPedidos(EscopoRelatorioFinanceiroDTO escopo, String busca, Pageable pageable);
+}
@@ -8,6 +8,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface SessaoTrabalhoRepositoryPort {
     SessaoTrabalho salvar(@NonNull SessaoTrabalho sessao);
@@ -20,7 +21,12 @@ public interface SessaoTrabalhoRepositoryPort {
     
     Optional<SessaoTrabalho> buscarUltimaSessaoPorData(LocalDate dataInicio);
     
-    List<SessaoTrabalho> buscarTodas();
+    /**
+     * Entrega todas as sessões, da mais recente para a mais antiga, uma a uma
+     * (leitura em páginas, sem carregar a tabela inteira em memória nem segurar
+     * uma conexão durante toda a entrega).
+     */
+    void percorrerTodas(Consumer<SessaoTrabalho> consumidor);
     
     List<SessaoTrabalho> buscarPorStatus(StatusSessao status);
     
@@ -2,17 +2,17 @@ package com.sonecadelivery.pedidos.application.services;
 
 import com.sonecadelivery.pedidos.domain.entities.MeioPagamentoPedido;
 import com.sonecadelivery.pedidos.domain.entities.Pedido;
+import com.sonecadelivery.pedidos.infrastructure.persistence.AuditoriaPagamentoBatchWriter;
 import com.sonecadelivery.pedidos.infrastructure.persistence.AuditoriaPagamentoEntity;
 import com.sonecadelivery.pedidos.infrastructure.persistence.AuditoriaPagamentoEntity.TipoOperacaoPagamento;
 import com.sonecadelivery.pedidos.infrastructure.persistence.AuditoriaPagamentoRepository;
+import com.sonecadelivery.pedidos.infrastructure.persistence.RegistroAuditoriaPagamento;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -20,13 +20,20 @@ import java.util.List;
  * 
  * Registra todas as operações relacionadas a pagamentos de pedidos,
  * permitindo rastreabilidade completa e análise de problemas.
+ *
+ * Os registros não são gravados na thread do chamador: vão para o
+ * {@link AuditoriaPagamentoBatchWriter}, que grava em lote fora da
+ * transação do pedido.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuditoriaPagamentoService {
 
+    private static final int TAMANHO_MAXIMO_USER_AGENT = 500;
+
     private final AuditoriaPagamentoRepository auditoriaRepository;
+    private final AuditoriaPagamentoBatchWriter auditoriaWriter;
 
     /**
      * Contexto da requisição atual (opcional).
@@ -46,8 +53,6 @@ public class AuditoriaPagamentoService {
     /**
      * Registra pagamento no momento da criação do pedido.
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void registrarPagamentoCriacaoPedido(Pedido pedido, ContextoRequisicao contexto) {
         registrarPagamentos(pedido, TipoOperacaoPagamento.PAGAMENTO_CRIACAO_PEDIDO, contexto);
     }
@@ -55,8 +60,6 @@ public class AuditoriaPagamentoService {
     /**
      * Registra pagamento posterior (ex: pedido de mesa sem pagamento inicial).
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void registrarPagamentoPosterior(Pedido pedido, ContextoRequisicao contexto) {
         registrarPagamentos(pedido, TipoOperacaoPagamento.PAGAMENTO_POSTERIOR, contexto);
     }
@@ -64,8 +67,6 @@ public class AuditoriaPagamentoService {
     /**
      * Registra pagamento via auto-atendimento (totem).
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void registrarPagamentoAutoatendimento(Pedido pedido, ContextoRequisicao contexto) {
         registrarPagamentos(pedido, TipoOperacaoPagamento.PAGAMENTO_AUTOATENDIMENTO, contexto);
     }
@@ -73,8 +74,6 @@ public class AuditoriaPagamentoService {
     /**
      * Registra pagamento via pedido de mesa (QR code).
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void registrarPagamentoMesa(Pedido pedido, ContextoRequisicao contexto) {
         registrarPagamentos(pedido, TipoOperacaoPagamento.PAGAMENTO_MESA, contexto);
     }
@@ -82,8 +81,6 @@ public class AuditoriaPagamentoService {
     /**
      * Registra tentativa de pagamento que foi rejeitada.
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void registrarPagamentoRejeitado(
             String pedidoId,
             String numeroPedido,
@@ -94,24 +91,23 @@ public class AuditoriaPagamentoService {
             String mensagemErro,
             ContextoRequisicao contexto) {
 
-        AuditoriaPagamentoEntity auditoria = AuditoriaPagamentoEntity.builder()
-                .pedidoId(pedidoId)
-                .numeroPedido(numeroPedido)
-                .tipoOperacao(TipoOperacaoPagamento.PAGAMENTO_REJEITADO)
-                .meioPagamento(meioPagamento)
-                .valor(valor)
-                .valorTotalPedido(valorTotalPedido)
-                .statusPedido(statusPedido)
-                .usuarioId(contexto.usuarioId())
-                .sessaoTrabalhoId(contexto.sessaoTrabalhoId())
-                .ipOrigem(contexto.ipOrigem())
-                .userAgent(contexto.userAgent())
-                .idempotencyKey(contexto.idempotencyKey())
-                .sucesso(false)
-                .mensagemErro(mensagemErro)
-                .build();
-
-        auditoriaRepository.save(auditoria);
+        auditoriaWriter.enfileirar(new RegistroAuditoriaPagamento(
+                pedidoId,
+                numeroPedido,
+                TipoOperacaoPagamento.PAGAMENTO_REJEITADO,
+                meioPagamento,
+                valor,
+                valorTotalPedido,
+                statusPedido,
+                contexto.usuarioId(),
+                null,
+                contexto.sessaoTrabalhoId(),
+                contexto.ipOrigem(),
+                truncar(contexto.userAgent(), TAMANHO_MAXIMO_USER_AGENT),
+                contexto.idempotencyKey(),
+                false,
+                mensagemErro,
+                LocalDateTime.now()));
 
         log.warn("[AUDITORIA_PAGAMENTO] Pagamento REJEITADO - Pedido: {}, Motivo: {}",
                 numeroPedido, mensagemErro);
@@ -132,25 +128,27 @@ public class AuditoriaPagamentoService {
         BigDecimal valorTotalPedido = pedido.getValorTotal().getAmount();
         String clienteId = pedido.getClienteId();
 
+        LocalDateTime dataHora = LocalDateTime.now();
+        String userAgent = truncar(contexto.userAgent(), TAMANHO_MAXIMO_USER_AGENT);
+
         for (MeioPagamentoPedido meioPagamento : meiosPagamento) {
-            AuditoriaPagamentoEntity auditoria = AuditoriaPagamentoEntity.builder()
-                    .pedidoId(pedido.getId())
-                    .numeroPedido(pedido.getNumeroPedido().getNumero())
-                    .tipoOperacao(tipoOperacao)
-                    .meioPagamento(meioPagamento.getMeioPagamento().name())
-                    .valor(meioPagamento.getValor().getAmount())
-                    .valorTotalPedido(valorTotalPedido)
-                    .statusPedido(pedido.getStatus().name())
-                    .usuarioId(contexto.usuarioId())
-                    .clienteId(clienteId)
-                    .sessaoTrabalhoId(contexto.sessaoTrabalhoId())
-                    .ipOrigem(contexto.ipOrigem())
-                    .userAgent(contexto.userAgent())
-                    .idempotencyKey(contexto.idempotencyKey())
-                    .sucesso(true)
-                    .build();
-
-            auditoriaRepository.save(auditoria);
+            auditoriaWriter.enfileirar(new RegistroAuditoriaPagamento(
+                    pedido.getId(),
+                    pedido.getNumeroPedido().getNumero(),
+                    tipoOperacao,
+                    meioPagamento.getMeioPagamento().name(),
+                    meioPagamento.getValor().getAmount(),
+                    valorTotalPedido,
+                    pedido.getStatus().name(),
+                    contexto.usuarioId(),
+                    clienteId,
+                    contexto.sessaoTrabalhoId(),
+                    contexto.ipOrigem(),
+                    userAgent,
+                    contexto.idempotencyKey(),
+                    true,
+                    null,
+                    dataHora));
         }
 
         log.info("[AUDITORIA_PAGAMENTO] {} registrado - Pedido: {}, Valor: R$ {}, Meios: {}",
@@ -160,6 +158,13 @@ public class AuditoriaPagamentoService {
                 meiosPagamento.size());
     }
 
+    /**
+     * Um user-agent acima da coluna derrubaria o lote inteiro no INSERT em batch.
+     */
+    private static String truncar(String valor, int tamanhoMaximo) {
+        return valor != null && valor.length() > tamanhoMaximo ? valor.substring(0, tamanhoMaximo) : valor;
+    }
+
     /**
      * Busca histórico de auditoria por pedido.
      */
@@ -0,0 +1,125 @@
+package com.sonecadelivery.pedidos.application.services;
+
+import com.sonecadelivery.kernel.infrastructure.utils.DateTimeUtils;
+import com.sonecadelivery.pedidos.application.dto.AlertaEstoqueBaixoDTO;
+import com.sonecadelivery.pedidos.application.events.EstoqueAbaixoMinimoEvent;
+import com.sonecadelivery.pedidos.application.events.PedidoStatusAlteradoEvent;
+import com.sonecadelivery.pedidos.application.ports.ConsumoEstoquePort;
+import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Baixa de estoque pelo consumo dos pedidos, conforme as fichas técnicas.
+ *
+ * - Pedido criado (não cancelado): baixa o consumo do pedido inteiro
+ * - Pedido cancelado ou excluído: estorna a baixa
+ * - Tudo após o commit do pedido, numa transação curta própria: os itens de
+ *   estoque não ficam travados durante a gravação do pedido e uma falha na
+ *   baixa não impede a venda
+ * - Uma reconciliação diária baixa o que ficou para trás (falha, restart) e
+ *   estorna baixas de pedidos cancelados por fora da aplicação
+ */
+@Service
+@Slf4j
+public class ConsumoEstoqueService {
+
+    private final ConsumoEstoquePort consumoEstoque;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int janelaDias;
+    private final int retencaoDias;
+
+    public ConsumoEstoqueService(
+            ConsumoEstoquePort consumoEstoque,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${estoque.consumo.janela-reconciliacao-dias:7}") int janelaDias,
+            @Value("${estoque.consumo.retencao-dias:90}") int retencaoDias) {
+        this.consumoEstoque = consumoEstoque;
+        this.eventPublisher = eventPublisher;
+        this.janelaDias = janelaDias;
+        this.retencaoDias = retencaoDias;
+    }
+
+    /**
+     * fallbackExecution: gravações fora de transação também contam.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarStatusPedido(PedidoStatusAlteradoEvent evento) {
+        boolean cancelado = evento.atual() == null || evento.atual() == StatusPedido.CANCELADO;
+        try {
+            if (evento.anterior() == null && !cancelado) {
+                consumir(evento.pedidoId());
+            } else if (evento.anterior() != null && evento.anterior() != StatusPedido.CANCELADO && cancelado) {
+                comRetentativa(() -> consumoEstoque.estornar(evento.pedidoId()));
+            }
+        } catch (RuntimeException e) {
+            // A reconciliação diária refaz o que faltou
+            log.error("Erro na baixa de estoque do pedido {}: {}", evento.pedidoId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Aviso de reposição; outros ouvintes (notificações) podem assinar o mesmo evento.
+     */
+    @EventListener
+    public void aoFicarAbaixoDoMinimo(EstoqueAbaixoMinimoEvent evento) {
+        log.warn("Estoque de {} chegou a {} (mínimo {}) com o pedido {}",
+                evento.nome(), evento.quantidade(), evento.quantidadeMinima(), evento.pedidoId());
+    }
+
+    @Scheduled(cron = "${estoque.consumo.cron-reconciliacao:0 30 3 * * *}")
+    public void reconciliar() {
+        LocalDateTime agora = DateTimeUtils.now();
+        int consumidos = 0;
+        int estornados = 0;
+        try {
+            for (String pedidoId : consumoEstoque.buscarPedidosSemConsumo(agora.minusDays(janelaDias))) {
+                consumir(pedidoId);
+                consumidos++;
+            }
+            for (String pedidoId : consumoEstoque.buscarConsumosAEstornar()) {
+                if (comRetentativa(() -> consumoEstoque.estornar(pedidoId))) {
+                    estornados++;
+                }
+            }
+            int removidos = consumoEstoque.removerConsumosAntigos(agora.minusDays(retencaoDias));
+            if (consumidos > 0 || estornados > 0 || removidos > 0) {
+                log.info("Reconciliação de estoque: {} baixa(s), {} estorno(s), {} registro(s) antigo(s) removido(s)",
+                        consumidos, estornados, removidos);
+            }
+        } catch (RuntimeException e) {
+            log.error("Erro na reconciliação de estoque: {}", e.getMessage(), e);
+        }
+    }
+
+    private void consumir(String pedidoId) {
+        List<AlertaEstoqueBaixoDTO> alertas = comRetentativa(() -> consumoEstoque.consumir(pedidoId));
+        for (AlertaEstoqueBaixoDTO alerta : alertas) {
+            eventPublisher.publishEvent(new EstoqueAbaixoMinimoEvent(
+                    alerta.itemEstoqueId(), alerta.nome(), alerta.quantidade(), alerta.quantidadeMinima(), pedidoId));
+        }
+    }
+
+    /**
+     * Deadlock/timeout de lock entre baixas concorrentes: a transação já foi
+     * desfeita por inteiro, então repetir uma vez é seguro.
+     */
+    private static <T> T comRetentativa(Supplier<T> operacao) {
+        try {
+            return operacao.get();
+        } catch (PessimisticLockingFailureException e) {
+            log.warn("Conflito de lock na baixa de estoque; repetindo: {}", e.getMessage());
+            return operacao.get();
+        }
+    }
+}
@@ -58,8 +58,8 @@ public class FilaPedidosMesaService {
         BigDecimal valorTotal = BigDecimal.ZERO;
 
         for (ItemPedidoRequest itemReq : request.getItens()) {
-            var produto = cardapioService.buscarProdutoPorId(itemReq.getProdutoId());
-            BigDecimal precoUnitario = produto.getPreco();
+            var produto = cardapioService.buscarPrecoProduto(itemReq.getProdutoId());
+            BigDecimal precoUnitario = produto.preco();
 
             // Processa adicionais do item
             List<AdicionalPedidoPendenteDTO> adicionaisDTO = new ArrayList<>();
@@ -67,14 +67,14 @@ public class FilaPedidosMesaService {
 
             if (itemReq.getAdicionais() != null && !itemReq.getAdicionais().isEmpty()) {
                 for (ItemPedidoAdicionalRequest adicionalReq : itemReq.getAdicionais()) {
-                    var adicional = cardapioService.buscarAdicionalPorId(adicionalReq.getAdicionalId());
-                    BigDecimal precoAdicional = adicional.getPreco();
+                    var adicional = cardapioService.buscarPrecoAdicional(adicionalReq.getAdicionalId());
+                    BigDecimal precoAdicional = adicional.preco();
                     BigDecimal subtotalAdicional = precoAdicional
                             .multiply(BigDecimal.valueOf(adicionalReq.getQuantidade()));
 
                     adicionaisDTO.add(AdicionalPedidoPendenteDTO.builder()
                             .adicionalId(adicionalReq.getAdicionalId())
-                            .nome(adicional.getNome())
+                            .nome(adicional.nome())
                             .quantidade(adicionalReq.getQuantidade())
                             .precoUnitario(precoAdicional)
                             .subtotal(subtotalAdicional)
@@ -90,7 +90,7 @@ public class FilaPedidosMesaService {
 
             itens.add(ItemPedidoPendenteDTO.builder()
                     .produtoId(itemReq.getProdutoId())
-                    .nomeProduto(produto.getNome())
+                    .nomeProduto(produto.nome())
                     .quantidade(itemReq.getQuantidade())
                     .precoUnitario(precoUnitario)
                     .subtotal(subtotal)
@@ -148,8 +148,8 @@ public class FilaPedidosMesaService {
         BigDecimal valorTotal = BigDecimal.ZERO;
 
         for (ItemPedidoRequest itemReq : request.getItens()) {
-            var produto = cardapioService.buscarProdutoPorId(itemReq.getProdutoId());
-            BigDecimal precoUnitario = produto.getPreco();
+            var produto = cardapioService.buscarPrecoProduto(itemReq.getProdutoId());
+            BigDecimal precoUnitario = produto.preco();
 
             // Processa adicionais do item
             List<AdicionalPedidoPendenteDTO> adicionaisDTO = new ArrayList<>();
@@ -157,14 +157,14 @@ public class FilaPedidosMesaService {
 
             if (itemReq.getAdicionais() != null && !itemReq.getAdicionais().isEmpty()) {
                 for (ItemPedidoAdicionalRequest adicionalReq : itemReq.getAdicionais()) {
-                    var adicional = cardapioService.buscarAdicionalPorId(adicionalReq.getAdicionalId());
-                    BigDecimal precoAdicional = adicional.getPreco();
+                    var adicional = cardapioService.buscarPrecoAdicional(adicionalReq.getAdicionalId());
+                    BigDecimal precoAdicional = adicional.preco();
                     BigDecimal subtotalAdicional = precoAdicional
                             .multiply(BigDecimal.valueOf(adicionalReq.getQuantidade()));
 
                     adicionaisDTO.add(AdicionalPedidoPendenteDTO.builder()
                             .adicionalId(adicionalReq.getAdicionalId())
-                            .nome(adicional.getNome())
+                            .nome(adicional.nome())
                             .quantidade(adicionalReq.getQuantidade())
                             .precoUnitario(precoAdicional)
                             .subtotal(subtotalAdicional)
@@ -180,7 +180,7 @@ public class FilaPedidosMesaService {
 
             itens.add(ItemPedidoPendenteDTO.builder()
                     .produtoId(itemReq.getProdutoId())
-                    .nomeProduto(produto.getNome())
+                    .nomeProduto(produto.nome())
                     .quantidade(itemReq.getQuantidade())
                     .precoUnitario(precoUnitario)
                     .subtotal(subtotal)
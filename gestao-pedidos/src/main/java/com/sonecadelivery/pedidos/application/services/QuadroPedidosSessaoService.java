@@ -0,0 +1,200 @@
+package com.sonecadelivery.pedidos.application.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
+import com.sonecadelivery.pedidos.application.events.PedidoAlteradoEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Log de alterações por sessão de trabalho, usado pelas telas que acompanham
+ * os pedidos da sessão (lobby, tela de pedidos, kanban de motoboys) para
+ * buscar só o que mudou desde a última consulta.
+ *
+ * - Cada sessão tem uma versão monotônica; toda gravação/exclusão de pedido
+ *   ({@link PedidoAlteradoEvent}, após o commit) avança a versão e marca o
+ *   pedido como alterado ou removido naquela versão
+ * - Versões derivam do relógio (nunca menores que a anterior + 1): após um
+ *   restart continuam crescendo e o log novo começa acima das versões antigas
+ * - Versão anterior ao início do log (ou desconhecida) pede a lista completa
+ * - Alterações passam pelo {@link BackplanePort}: todas as instâncias mantêm
+ *   o mesmo conjunto de alterações
+ * - Eventos perdidos pelo backplane ({@link BackplanePort#aoPerderEventos})
+ *   reiniciam o log de todas as sessões: a próxima consulta recebe a lista
+ *   completa em vez de um 304 que nunca mudaria
+ * - Margem de versão: alterações de outra instância chegam atrasadas e com o
+ *   relógio dela; sem pedidos.quadro.margem-versao-ms explícito, a margem é 0
+ *   só com backplane em memória (instância única) e 5 s nos demais
+ * - Consultar não acessa o banco; sessões sem uso são descartadas
+ */
+@Service
+@Slf4j
+public class QuadroPedidosSessaoService {
+
+    public static final String CANAL_ALTERACOES = "pedidos.quadro.alteracao";
+
+    // Atraso do backplane (polling + espera de lacuna no mysql) e diferença entre relógios
+    private static final long MARGEM_VERSAO_MULTI_INSTANCIA_MS = 5000;
+
+    private final BackplanePort backplane;
+    private final ObjectMapper objectMapper;
+    private final long margemVersaoMs;
+    private final long inatividadeMs;
+
+    private final Map<String, Quadro> quadros = new ConcurrentHashMap<>();
+
+    public QuadroPedidosSessaoService(
+            BackplanePort backplane,
+            ObjectMapper objectMapper,
+            @Value("${backplane.tipo:memoria}") String tipoBackplane,
+            @Value("${pedidos.quadro.margem-versao-ms:}") Long margemVersaoMs,
+            @Value("${pedidos.quadro.inatividade-ms:43200000}") long inatividadeMs) {
+        this.backplane = backplane;
+        this.objectMapper = objectMapper;
+        if (margemVersaoMs != null) {
+            this.margemVersaoMs = margemVersaoMs;
+        } else {
+            this.margemVersaoMs = "memoria".equals(tipoBackplane) ? 0 : MARGEM_VERSAO_MULTI_INSTANCIA_MS;
+        }
+        this.inatividadeMs = inatividadeMs;
+    }
+
+    @PostConstruct
+    void assinarBackplane() {
+        backplane.assinar(CANAL_ALTERACOES, this::aoReceberAlteracao);
+        backplane.aoPerderEventos(this::reiniciarTodos);
+    }
+
+    /**
+     * fallbackExecution: gravações fora de transação também contam.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarPedido(PedidoAlteradoEvent evento) {
+        if (evento.sessaoId() == null) {
+            return;
+        }
+        try {
+            backplane.publicar(CANAL_ALTERACOES, objectMapper.writeValueAsString(evento));
+        } catch (JsonProcessingException e) {
+            log.error("Erro ao serializar alteração do pedido {}: {}", evento.pedidoId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Alterações da sessão posteriores à versão informada.
+     *
+     * Deve ser chamado antes de ler os pedidos do banco: uma alteração que
+     * aconteça entre as duas coisas é simplesmente reenviada na próxima consulta.
+     *
+     * @param desde versão recebida na consulta anterior (0 = lista completa)
+     */
+    public Alteracoes consultar(String sessaoId, long desde) {
+        Quadro quadro = quadros.computeIfAbsent(sessaoId, id -> new Quadro());
+        synchronized (quadro) {
+            quadro.ultimoUso = System.currentTimeMillis();
+            long limite = desde - margemVersaoMs;
+            if (desde <= 0 || limite < quadro.versaoInicial || desde > quadro.versao + margemVersaoMs) {
+                return new Alteracoes(quadro.versao, true, Set.of(), Set.of());
+            }
+            return new Alteracoes(quadro.versao, false,
+                    posteriores(quadro.alterados, limite), posteriores(quadro.removidos, limite));
+        }
+    }
+
+    /**
+     * Remove sessões sem consultas nem alterações há mais de inatividade-ms.
+     */
+    @Scheduled(fixedRate = 600000) // A cada 10 minutos
+    public void descartarInativos() {
+        long limite = System.currentTimeMillis() - inatividadeMs;
+        quadros.values().removeIf(q -> q.ultimoUso < limite);
+    }
+
+    /**
+     * Alterações podem ter se perdido: descarta o log de todas as sessões e
+     * avança a versão, de modo que qualquer versão já entregue peça a lista completa.
+     */
+    void reiniciarTodos() {
+        log.warn("Alterações de pedidos perdidas no backplane; quadros reiniciados");
+        quadros.values().forEach(quadro -> {
+            synchronized (quadro) {
+                quadro.reiniciar();
+            }
+        });
+    }
+
+    private void aoReceberAlteracao(String payload) {
+        PedidoAlteradoEvent evento;
+        try {
+            evento = objectMapper.readValue(payload, PedidoAlteradoEvent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Alteração de pedido inválida recebida do backplane: {}", e.getOriginalMessage());
+            return;
+        }
+        Quadro quadro = quadros.computeIfAbsent(evento.sessaoId(), id -> new Quadro());
+        synchronized (quadro) {
+            long agora = System.currentTimeMillis();
+            quadro.versao = Math.max(quadro.versao + 1, agora);
+            quadro.ultimoUso = agora;
+            if (evento.removido()) {
+                quadro.alterados.remove(evento.pedidoId());
+                quadro.removidos.put(evento.pedidoId(), quadro.versao);
+            } else {
+                quadro.removidos.remove(evento.pedidoId());
+                quadro.alterados.put(evento.pedidoId(), quadro.versao);
+            }
+        }
+    }
+
+    private static Set<String> posteriores(Map<String, Long> versoes, long limite) {
+        Set<String> ids = new HashSet<>();
+        versoes.forEach((id, versao) -> {
+            if (versao > limite) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * Resultado de uma consulta. completo = true quando o cliente deve
+     * recarregar a lista inteira (ignorando alterados/removidos).
+     */
+    public record Alteracoes(long versao, boolean completo, Set<String> alterados, Set<String> removidos) {
+
+        public boolean vazio() {
+            return !completo && alterados.isEmpty() && removidos.isEmpty();
+        }
+    }
+
+    /**
+     * Estado de uma sessão; acessado sempre dentro de synchronized (quadro).
+     * Guarda uma entrada por pedido (a última versão em que mudou).
+     */
+    private static final class Quadro {
+
+        private long versaoInicial = System.currentTimeMillis();
+        private long versao = versaoInicial;
+        private long ultimoUso = versaoInicial;
+        private final Map<String, Long> alterados = new HashMap<>();
+        private final Map<String, Long> removidos = new HashMap<>();
+
+        private void reiniciar() {
+            versao = Math.max(versao + 1, System.currentTimeMillis());
+            versaoInicial = versao;
+            alterados.clear();
+            removidos.clear();
+        }
+    }
+}
@@ -11,6 +11,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 /**
  * Use Case para atualizar localização do motoboy.
  * O motoboy envia sua localização atual (sem precisar iniciar viagem manualmente)
@@ -38,6 +40,16 @@ public class AtualizarLocalizacaoMotoboyUseCase {
      * @param request Dados da localização (sem vínculo direto a um pedido específico)
      */
     public void executar(String motoboyId, AtualizarLocalizacaoRequest request) {
+        executar(motoboyId, request, null);
+    }
+
+    /**
+     * Igual a {@link #executar(String, AtualizarLocalizacaoRequest)}, com o
+     * instante em que a posição foi medida (lotes enviados com atraso).
+     *
+     * @param timestamp instante da medição; null = agora
+     */
+    public void executar(String motoboyId, AtualizarLocalizacaoRequest request, LocalDateTime timestamp) {
         log.debug("Atualizando localização do motoboy {} (envio contínuo)", motoboyId);
 
         // Busca todos os pedidos atribuídos a este motoboy
@@ -51,13 +63,14 @@ public class AtualizarLocalizacaoMotoboyUseCase {
         // Para cada pedido, verifica se pode rastrear e atualiza cache
         pedidosDoMotoboy.stream()
             .filter(pedido -> rastreamentoService.motoboyPodeEnviarLocalizacao(pedido, motoboyId))
-            .forEach(pedido -> atualizarLocalizacaoParaPedido(pedido, motoboyId, request));
+            .forEach(pedido -> atualizarLocalizacaoParaPedido(pedido, motoboyId, request, timestamp));
 
         log.debug("Localização atualizada para {} pedido(s) do motoboy {}", 
             pedidosDoMotoboy.size(), motoboyId);
     }
 
-    private void atualizarLocalizacaoParaPedido(Pedido pedido, String motoboyId, AtualizarLocalizacaoRequest request) {
+    private void atualizarLocalizacaoParaPedido(Pedido pedido, String motoboyId, AtualizarLocalizacaoRequest request,
+            LocalDateTime timestamp) {
         // Cria value object para este pedido específico
         LocalizacaoMotoboy localizacao = new LocalizacaoMotoboy(
             motoboyId,
@@ -66,7 +79,7 @@ public class AtualizarLocalizacaoMotoboyUseCase {
             request.getLongitude(),
             request.getHeading(),
             request.getVelocidade(),
-            null // timestamp será gerado no construtor
+            timestamp // null = gerado no construtor
         );
 
         // Atualiza cache (chave por motoboy + por pedido)
@@ -0,0 +1,42 @@
+package com.sonecadelivery.pedidos.application.usecases;
+
+import com.sonecadelivery.pedidos.application.dto.ContadorStatusPedidoDTO;
+import com.sonecadelivery.pedidos.application.dto.ContadoresSessaoDTO;
+import com.sonecadelivery.pedidos.application.ports.ContadoresPedidosSessaoPort;
+import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contagem de pedidos da sessão por status a partir dos contadores mantidos
+ * a cada gravação de pedido (sem carregar os pedidos).
+ */
+@Service
+@RequiredArgsConstructor
+public class BuscarContadoresSessaoUseCase {
+
+    private final ContadoresPedidosSessaoPort contadoresPort;
+
+    public ContadoresSessaoDTO executar(@NonNull String sessaoId) {
+        Map<StatusPedido, ContadorStatusPedidoDTO> contadores = contadoresPort.buscarPorSessao(sessaoId);
+        List<ContadorStatusPedidoDTO> porStatus = Arrays.stream(StatusPedido.values())
+                .map(status -> contadores.getOrDefault(status, ContadorStatusPedidoDTO.vazio(status)))
+                .toList();
+
+        long totalPedidos = 0;
+        BigDecimal valorTotal = BigDecimal.ZERO;
+        for (ContadorStatusPedidoDTO contador : porStatus) {
+            if (contador.status() != StatusPedido.CANCELADO) {
+                totalPedidos += contador.quantidade();
+                valorTotal = valorTotal.add(contador.valorTotal());
+            }
+        }
+        return new ContadoresSessaoDTO(sessaoId, porStatus, totalPedidos, valorTotal);
+    }
+}
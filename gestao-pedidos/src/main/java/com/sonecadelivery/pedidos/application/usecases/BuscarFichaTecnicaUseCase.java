@@ -0,0 +1,23 @@
+package com.sonecadelivery.pedidos.application.usecases;
+
+import com.sonecadelivery.pedidos.application.dto.ComponenteFichaTecnicaDTO;
+import com.sonecadelivery.pedidos.application.ports.FichaTecnicaRepositoryPort;
+import com.sonecadelivery.pedidos.domain.entities.TipoFichaTecnica;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use case para consultar a ficha técnica de um produto ou adicional.
+ */
+@Service
+@RequiredArgsConstructor
+public class BuscarFichaTecnicaUseCase {
+
+    private final FichaTecnicaRepositoryPort repository;
+
+    public List<ComponenteFichaTecnicaDTO> executar(String tipo, String referenciaId) {
+        return repository.buscar(TipoFichaTecnica.de(tipo), referenciaId);
+    }
+}
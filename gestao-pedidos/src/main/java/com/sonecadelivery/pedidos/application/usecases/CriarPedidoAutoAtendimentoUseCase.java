@@ -114,14 +114,14 @@ public class CriarPedidoAutoAtendimentoUseCase {
         for (ItemPedidoRequest itemRequest : request.getItens()) {
             validarProdutoDisponivel(itemRequest.getProdutoId());
 
-            var produtoDTO = cardapioService.buscarProdutoPorId(itemRequest.getProdutoId());
-            Preco precoUnitario = Preco.of(produtoDTO.getPreco());
+            var produtoDTO = cardapioService.buscarPrecoProduto(itemRequest.getProdutoId());
+            Preco precoUnitario = Preco.of(produtoDTO.preco());
 
             List<ItemPedidoAdicional> adicionais = processarAdicionais(itemRequest.getAdicionais());
 
             ItemPedido item = ItemPedido.criar(
                     itemRequest.getProdutoId(),
-                    produtoDTO.getNome(),
+                    produtoDTO.nome(),
                     itemRequest.getQuantidade(),
                     precoUnitario,
                     itemRequest.getObservacoes(),
@@ -202,17 +202,17 @@ public class CriarPedidoAutoAtendimentoUseCase {
 
         List<ItemPedidoAdicional> adicionais = new ArrayList<>();
         for (ItemPedidoAdicionalRequest adicionalRequest : adicionaisRequest) {
-            var adicionalDTO = cardapioService.buscarAdicionalPorId(adicionalRequest.getAdicionalId());
+            var adicionalDTO = cardapioService.buscarPrecoAdicional(adicionalRequest.getAdicionalId());
 
-            if (!adicionalDTO.isDisponivel()) {
-                throw new ValidationException("Adicional não está disponível: " + adicionalDTO.getNome());
+            if (!adicionalDTO.disponivel()) {
+                throw new ValidationException("Adicional não está disponível: " + adicionalDTO.nome());
             }
 
             ItemPedidoAdicional adicional = ItemPedidoAdicional.criar(
                     adicionalRequest.getAdicionalId(),
-                    adicionalDTO.getNome(),
+                    adicionalDTO.nome(),
                     adicionalRequest.getQuantidade(),
-                    Preco.of(adicionalDTO.getPreco()));
+                    Preco.of(adicionalDTO.preco()));
 
             adicionais.add(adicional);
         }
@@ -97,15 +97,15 @@ public class CriarPedidoUseCase {
         for (ItemPedidoRequest itemRequest : request.getItens()) {
             validarProdutoDisponivel(itemRequest.getProdutoId());
 
-            var produtoDTO = cardapioService.buscarProdutoPorId(itemRequest.getProdutoId());
-            Preco precoUnitario = Preco.of(produtoDTO.getPreco());
+            var produtoDTO = cardapioService.buscarPrecoProduto(itemRequest.getProdutoId());
+            Preco precoUnitario = Preco.of(produtoDTO.preco());
 
             // Processar adicionais do item
             List<ItemPedidoAdicional> adicionais = processarAdicionais(itemRequest.getAdicionais());
 
             ItemPedido item = ItemPedido.criar(
                     itemRequest.getProdutoId(),
-                    produtoDTO.getNome(),
+                    produtoDTO.nome(),
                     itemRequest.getQuantidade(),
                     precoUnitario,
                     itemRequest.getObservacoes(),
@@ -180,12 +180,12 @@ public class CriarPedidoUseCase {
         for (ItemPedidoAdicionalRequest adicionalRequest : adicionaisRequest) {
             validarAdicionalDisponivel(adicionalRequest.getAdicionalId());
 
-            var adicionalDTO = cardapioService.buscarAdicionalPorId(adicionalRequest.getAdicionalId());
-            Preco precoUnitario = Preco.of(adicionalDTO.getPreco());
+            var adicionalDTO = cardapioService.buscarPrecoAdicional(adicionalRequest.getAdicionalId());
+            Preco precoUnitario = Preco.of(adicionalDTO.preco());
 
             ItemPedidoAdicional adicional = ItemPedidoAdicional.criar(
                     adicionalRequest.getAdicionalId(),
-                    adicionalDTO.getNome(),
+                    adicionalDTO.nome(),
                     adicionalRequest.getQuantidade(),
                     precoUnitario);
 
@@ -1,10 +1,10 @@
 package com.sonecadelivery.pedidos.application.usecases;
 
 import com.sonecadelivery.kernel.domain.exceptions.ValidationException;
+import com.sonecadelivery.pedidos.application.dto.ContadorStatusPedidoDTO;
 import com.sonecadelivery.pedidos.application.dto.SessaoTrabalhoDTO;
-import com.sonecadelivery.pedidos.application.ports.PedidoRepositoryPort;
+import com.sonecadelivery.pedidos.application.ports.ContadoresPedidosSessaoPort;
 import com.sonecadelivery.pedidos.application.ports.SessaoTrabalhoRepositoryPort;
-import com.sonecadelivery.pedidos.domain.entities.Pedido;
 import com.sonecadelivery.pedidos.domain.entities.SessaoTrabalho;
 import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +12,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -20,7 +20,7 @@ import java.util.Optional;
 public class FinalizarSessaoTrabalhoUseCase {
     
     private final SessaoTrabalhoRepositoryPort repository;
-    private final PedidoRepositoryPort pedidoRepository;
+    private final ContadoresPedidosSessaoPort contadoresPedidos;
     
     @SuppressWarnings("null") // repository.salvar() nunca retorna null, .get() nunca retorna null porque validamos antes
     public SessaoTrabalhoDTO executar(@NonNull String sessaoId, @NonNull BigDecimal valorFechamento) {
@@ -32,20 +32,12 @@ public class FinalizarSessaoTrabalhoUseCase {
     }
     
     private void validarPedidosPendentes(@NonNull String sessaoId) {
-        List<Pedido> pedidos = pedidoRepository.buscarPorSessaoId(sessaoId);
+        // Contadores por status: não carrega os pedidos da sessão
+        Map<StatusPedido, ContadorStatusPedidoDTO> contadores = contadoresPedidos.buscarPorSessao(sessaoId);
+        long quantidadePendentes = quantidade(contadores, StatusPedido.PENDENTE);
+        long quantidadePreparando = quantidade(contadores, StatusPedido.PREPARANDO);
         
-        List<Pedido> pedidosPendentes = pedidos.stream()
-            .filter(p -> p.getStatus() == StatusPedido.PENDENTE || p.getStatus() == StatusPedido.PREPARANDO)
-            .toList();
-        
-        if (!pedidosPendentes.isEmpty()) {
-            long quantidadePendentes = pedidosPendentes.stream()
-                .filter(p -> p.getStatus() == StatusPedido.PENDENTE)
-                .count();
-            long quantidadePreparando = pedidosPendentes.stream()
-                .filter(p -> p.getStatus() == StatusPedido.PREPARANDO)
-                .count();
-            
+        if (quantidadePendentes > 0 || quantidadePreparando > 0) {
             StringBuilder mensagem = new StringBuilder("Não é possível finalizar a sessão. Existem pedidos pendentes: ");
             if (quantidadePendentes > 0) {
                 mensagem.append(quantidadePendentes).append(" aguardando");
@@ -62,6 +54,11 @@ public class FinalizarSessaoTrabalhoUseCase {
         }
     }
     
+    private static long quantidade(Map<StatusPedido, ContadorStatusPedidoDTO> contadores, StatusPedido status) {
+        ContadorStatusPedidoDTO contador = contadores.get(status);
+        return contador != null ? contador.quantidade() : 0;
+    }
+    
     private SessaoTrabalho buscarSessao(@NonNull String sessaoId) {
         Optional<SessaoTrabalho> sessao = repository.buscarPorId(sessaoId);
         if (sessao.isEmpty()) {
@@ -1,8 +1,10 @@
 package com.sonecadelivery.pedidos.application.usecases;
 
 import com.sonecadelivery.pedidos.application.dto.PedidoDTO;
+import com.sonecadelivery.pedidos.application.dto.QuadroPedidosDTO;
 import com.sonecadelivery.pedidos.application.ports.MotoboyRepositoryPort;
 import com.sonecadelivery.pedidos.application.ports.PedidoRepositoryPort;
+import com.sonecadelivery.pedidos.application.services.QuadroPedidosSessaoService;
 import com.sonecadelivery.pedidos.domain.entities.Motoboy;
 import com.sonecadelivery.pedidos.domain.entities.Pedido;
 import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
@@ -20,6 +22,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -31,6 +34,7 @@ public class ListarPedidosUseCase {
     private final PedidoDeliveryJpaRepository pedidoDeliveryRepository;
     private final MotoboyRepositoryPort motoboyRepository;
     private final com.sonecadelivery.pedidos.application.ports.ClienteGatewayPort clienteGateway;
+    private final QuadroPedidosSessaoService quadroPedidosSessao;
 
     public List<PedidoDTO> executar() {
         List<Pedido> pedidos = pedidoRepository.buscarTodos();
@@ -81,6 +85,48 @@ public class ListarPedidosUseCase {
         return converterComNomesMotoboy(pedidos);
     }
 
+    /**
+     * Pedidos da sessão alterados desde a versão informada.
+     * Sem alterações retorna vazio sem acessar o banco.
+     */
+    public Optional<QuadroPedidosDTO> executarAlteracoesPorSessaoId(String sessaoId, long desde) {
+        QuadroPedidosSessaoService.Alteracoes alteracoes = quadroPedidosSessao.consultar(sessaoId, desde);
+        if (alteracoes.vazio()) {
+            return Optional.empty();
+        }
+        if (alteracoes.completo()) {
+            return Optional.of(new QuadroPedidosDTO(alteracoes.versao(), true,
+                    executarPorSessaoId(sessaoId), List.of()));
+        }
+
+        // buscarPorIds fica no primário (sem @LeituraReplica): na réplica o pedido
+        // poderia vir anterior à alteração, e a versão devolvida o esconderia até a próxima
+        List<Pedido> pedidos = pedidoRepository.buscarPorIds(alteracoes.alterados());
+        Set<String> removidos = new java.util.HashSet<>(alteracoes.removidos());
+        // Alterado mas já inexistente (excluído por outra instância ainda não propagada)
+        Set<String> encontrados = pedidos.stream().map(Pedido::getId).collect(Collectors.toSet());
+        alteracoes.alterados().stream().filter(id -> !encontrados.contains(id)).forEach(removidos::add);
+
+        return Optional.of(new QuadroPedidosDTO(alteracoes.versao(), false,
+                converterComNomesMotoboy(pedidos), List.copyOf(removidos)));
+    }
+
+    /**
+     * Pedidos pelos ids, na mesma ordem da lista; ids inexistentes são ignorados.
+     */
+    public List<PedidoDTO> executarPorIds(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Pedido> porId = pedidoRepository.buscarPorIds(ids).stream()
+                .collect(Collectors.toMap(Pedido::getId, p -> p));
+        List<Pedido> ordenados = ids.stream()
+                .map(porId::get)
+                .filter(java.util.Objects::nonNull)
+                .toList();
+        return converterComNomesMotoboy(ordenados);
+    }
+
     public List<PedidoDTO> executarPorDataInicioSessao(LocalDate dataInicio) {
         List<Pedido> pedidos = pedidoRepository.buscarPorDataInicioSessao(dataInicio);
         return converterComNomesMotoboy(pedidos);
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -15,15 +16,16 @@ public class ListarSessoesTrabalhoUseCase {
     private final SessaoTrabalhoRepositoryPort repository;
     
     public List<SessaoTrabalhoDTO> executar(LocalDate dataInicio) {
-        if (dataInicio != null) {
-            return repository.buscarPorDataInicio(dataInicio).stream()
-                .map(SessaoTrabalhoDTO::de)
-                .toList();
-        }
-        
-        return repository.buscarTodas().stream()
+        return repository.buscarPorDataInicio(dataInicio).stream()
             .map(SessaoTrabalhoDTO::de)
             .toList();
     }
+
+    /**
+     * Todas as sessões, entregues uma a uma (resposta em fluxo, memória constante).
+     */
+    public void percorrerTodas(Consumer<SessaoTrabalhoDTO> consumidor) {
+        repository.percorrerTodas(sessao -> consumidor.accept(SessaoTrabalhoDTO.de(sessao)));
+    }
 }
 
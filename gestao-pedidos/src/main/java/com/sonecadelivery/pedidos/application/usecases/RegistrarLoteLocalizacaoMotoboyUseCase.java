@@ -0,0 +1,182 @@
+package com.sonecadelivery.pedidos.application.usecases;
+
+import com.sonecadelivery.kernel.domain.exceptions.ValidationException;
+import com.sonecadelivery.pedidos.application.dto.AtualizarLocalizacaoRequest;
+import com.sonecadelivery.pedidos.application.dto.LoteLocalizacaoRequest;
+import com.sonecadelivery.pedidos.application.ports.LocalizacaoMotoboyCachePort;
+import com.sonecadelivery.pedidos.domain.valueobjects.LocalizacaoMotoboy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Use Case para o lote de posições enviado pelo app do motoboy.
+ *
+ * - Decodifica os pontos (delta-encoded, ver {@link LoteLocalizacaoRequest})
+ * - Descarta pontos imprecisos, parados (abaixo da distância mínima) e saltos
+ *   de GPS (velocidade implícita acima do máximo) em relação ao último ponto
+ *   aceito, começando pela última localização publicada do motoboy
+ * - Só o último ponto aceito segue para {@link AtualizarLocalizacaoMotoboyUseCase}
+ *   (pedidos, cache e eventos): motoboy parado não gera trabalho, exceto um
+ *   ponto a cada intervalo-maximo-ms para a localização não expirar
+ *
+ * Horários: o último ponto do lote é ancorado no momento do recebimento e os
+ * demais recuam pelos deltas; o relógio do aparelho não é usado.
+ */
+@Service
+@Slf4j
+public class RegistrarLoteLocalizacaoMotoboyUseCase {
+
+    private static final double ESCALA_COORDENADA = 1e5;
+    private static final double RAIO_TERRA_METROS = 6_371_000;
+
+    private final AtualizarLocalizacaoMotoboyUseCase atualizarLocalizacaoUseCase;
+    private final LocalizacaoMotoboyCachePort localizacaoCache;
+    private final double precisaoMaximaMetros;
+    private final double distanciaMinimaMetros;
+    private final double velocidadeMaximaKmh;
+    private final long intervaloMaximoMs;
+
+    public RegistrarLoteLocalizacaoMotoboyUseCase(
+            AtualizarLocalizacaoMotoboyUseCase atualizarLocalizacaoUseCase,
+            LocalizacaoMotoboyCachePort localizacaoCache,
+            @Value("${pedidos.rastreamento.precisao-maxima-metros:50}") double precisaoMaximaMetros,
+            @Value("${pedidos.rastreamento.distancia-minima-metros:15}") double distanciaMinimaMetros,
+            @Value("${pedidos.rastreamento.velocidade-maxima-kmh:150}") double velocidadeMaximaKmh,
+            @Value("${pedidos.rastreamento.intervalo-maximo-ms:30000}") long intervaloMaximoMs) {
+        this.atualizarLocalizacaoUseCase = atualizarLocalizacaoUseCase;
+        this.localizacaoCache = localizacaoCache;
+        this.precisaoMaximaMetros = precisaoMaximaMetros;
+        this.distanciaMinimaMetros = distanciaMinimaMetros;
+        this.velocidadeMaximaKmh = velocidadeMaximaKmh;
+        this.intervaloMaximoMs = intervaloMaximoMs;
+    }
+
+    /**
+     * @param motoboyId ID do motoboy autenticado
+     * @param lote      pontos em ordem cronológica
+     * @return quantidade de pontos aceitos pelo filtro (0 = nada publicado)
+     */
+    public int executar(String motoboyId, LoteLocalizacaoRequest lote) {
+        Ponto[] pontos = decodificar(lote);
+
+        Ponto referencia = localizacaoCache.buscarPorMotoboyId(motoboyId)
+                .map(RegistrarLoteLocalizacaoMotoboyUseCase::paraPonto)
+                .orElse(null);
+        Ponto ultimoAceito = null;
+        int aceitos = 0;
+        for (Ponto ponto : pontos) {
+            if (aceitar(ponto, referencia)) {
+                referencia = ponto;
+                ultimoAceito = ponto;
+                aceitos++;
+            }
+        }
+
+        if (ultimoAceito == null) {
+            log.debug("Lote de {} ponto(s) do motoboy {} sem movimento relevante", pontos.length, motoboyId);
+            return 0;
+        }
+
+        AtualizarLocalizacaoRequest request = new AtualizarLocalizacaoRequest();
+        request.setLatitude(ultimoAceito.latitude());
+        request.setLongitude(ultimoAceito.longitude());
+        request.setHeading(ultimoAceito.heading());
+        request.setVelocidade(ultimoAceito.velocidade());
+        atualizarLocalizacaoUseCase.executar(motoboyId, request, ultimoAceito.timestamp());
+
+        log.debug("Lote do motoboy {}: {} de {} ponto(s) aceitos", motoboyId, aceitos, pontos.length);
+        return aceitos;
+    }
+
+    private boolean aceitar(Ponto ponto, Ponto referencia) {
+        if (ponto.precisao() != null && ponto.precisao() > precisaoMaximaMetros) {
+            return false;
+        }
+        if (referencia == null) {
+            return true;
+        }
+
+        long decorridoMs = Duration.between(referencia.timestamp(), ponto.timestamp()).toMillis();
+        if (decorridoMs <= 0) {
+            // Igual ou anterior ao que já foi publicado
+            return false;
+        }
+        double distancia = distanciaMetros(referencia, ponto);
+        if (distancia / decorridoMs * 3600 > velocidadeMaximaKmh) {
+            return false;
+        }
+        return distancia >= distanciaMinimaMetros || decorridoMs >= intervaloMaximoMs;
+    }
+
+    private static Ponto[] decodificar(LoteLocalizacaoRequest lote) {
+        LocalDateTime agora = LocalDateTime.now();
+        Ponto[] pontos = new Ponto[lote.getPontos().size()];
+
+        long latitudeE5 = lote.getLatitudeE5();
+        long longitudeE5 = lote.getLongitudeE5();
+        long[] tempos = new long[pontos.length];
+        long tempoMs = 0;
+        for (int i = 0; i < pontos.length; i++) {
+            int[] p = lote.getPontos().get(i);
+            if (p == null || p.length < 3) {
+                throw new ValidationException("Ponto " + i + " do lote incompleto");
+            }
+            if (p[2] < 0) {
+                throw new ValidationException("Pontos do lote fora de ordem cronológica");
+            }
+            latitudeE5 += p[0];
+            longitudeE5 += p[1];
+            tempoMs += p[2];
+            tempos[i] = tempoMs;
+
+            double latitude = latitudeE5 / ESCALA_COORDENADA;
+            double longitude = longitudeE5 / ESCALA_COORDENADA;
+            if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+                throw new ValidationException("Coordenada inválida no ponto " + i + " do lote");
+            }
+            pontos[i] = new Ponto(latitude, longitude, null,
+                    opcional(p, 3, 1), headingOpcional(p), opcional(p, 5, 10));
+        }
+
+        // Último ponto = agora; os anteriores recuam pelos deltas
+        for (int i = 0; i < pontos.length; i++) {
+            pontos[i] = pontos[i].em(agora.minusNanos((tempoMs - tempos[i]) * 1_000_000));
+        }
+        return pontos;
+    }
+
+    private static Double opcional(int[] ponto, int indice, double divisor) {
+        return ponto.length > indice && ponto[indice] >= 0 ? ponto[indice] / divisor : null;
+    }
+
+    private static Double headingOpcional(int[] ponto) {
+        Double heading = opcional(ponto, 4, 1);
+        return heading != null ? heading % 360 : null;
+    }
+
+    private static Ponto paraPonto(LocalizacaoMotoboy localizacao) {
+        return new Ponto(localizacao.getLatitude(), localizacao.getLongitude(), localizacao.getTimestamp(),
+                null, localizacao.getHeading(), localizacao.getVelocidade());
+    }
+
+    private static double distanciaMetros(Ponto a, Ponto b) {
+        double dLat = Math.toRadians(b.latitude() - a.latitude());
+        double dLng = Math.toRadians(b.longitude() - a.longitude());
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(a.latitude())) * Math.cos(Math.toRadians(b.latitude()))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return RAIO_TERRA_METROS * 2 * Math.atan2(Math.sqrt(h), Math.sqrt(1 - h));
+    }
+
+    private record Ponto(double latitude, double longitude, LocalDateTime timestamp,
+            Double precisao, Double heading, Double velocidade) {
+
+        private Ponto em(LocalDateTime instante) {
+            return new Ponto(latitude, longitude, instante, precisao, heading, velocidade);
+        }
+    }
+}
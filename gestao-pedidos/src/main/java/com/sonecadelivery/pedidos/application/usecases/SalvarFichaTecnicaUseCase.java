@@ -0,0 +1,45 @@
+package com.sonecadelivery.pedidos.application.usecases;
+
+import com.sonecadelivery.kernel.domain.exceptions.ValidationException;
+import com.sonecadelivery.pedidos.application.dto.ComponenteFichaTecnicaDTO;
+import com.sonecadelivery.pedidos.application.dto.SalvarFichaTecnicaRequest;
+import com.sonecadelivery.pedidos.application.ports.FichaTecnicaRepositoryPort;
+import com.sonecadelivery.pedidos.application.ports.ItemEstoqueRepositoryPort;
+import com.sonecadelivery.pedidos.domain.entities.TipoFichaTecnica;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case para substituir a ficha técnica de um produto ou adicional.
+ * Vale para os pedidos criados a partir de agora; baixas já feitas não mudam.
+ */
+@Service
+@RequiredArgsConstructor
+public class SalvarFichaTecnicaUseCase {
+
+    private final FichaTecnicaRepositoryPort repository;
+    private final ItemEstoqueRepositoryPort itemEstoqueRepository;
+
+    public List<ComponenteFichaTecnicaDTO> executar(String tipo, String referenciaId, SalvarFichaTecnicaRequest request) {
+        TipoFichaTecnica tipoFicha = TipoFichaTecnica.de(tipo);
+
+        Map<String, BigDecimal> quantidades = new LinkedHashMap<>();
+        for (SalvarFichaTecnicaRequest.Componente componente : request.getComponentes()) {
+            String itemId = componente.getItemEstoqueId().trim();
+            if (itemEstoqueRepository.buscarPorId(itemId).isEmpty()) {
+                throw new ValidationException("Item de estoque não encontrado: " + itemId);
+            }
+            if (quantidades.put(itemId, componente.getQuantidade()) != null) {
+                throw new ValidationException("Item de estoque repetido na ficha técnica: " + itemId);
+            }
+        }
+
+        repository.substituir(tipoFicha, referenciaId, quantidades);
+        return repository.buscar(tipoFicha, referenciaId);
+    }
+}
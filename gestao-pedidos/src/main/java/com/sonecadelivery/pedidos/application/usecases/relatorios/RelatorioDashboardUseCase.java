@@ -0,0 +1,230 @@
+package com.sonecadelivery.pedidos.application.usecases.relatorios;
+
+import com.sonecadelivery.kernel.infrastructure.utils.DateTimeUtils;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.FiltroRelatorioTemporalDTO;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.IndicadoresResumoDTO;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.RelatorioDashboardDTO;
+import com.sonecadelivery.pedidos.application.ports.RelatoriosVendasPort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Monta o dashboard de vendas executando as consultas de {@link RelatoriosVendasPort}
+ * em paralelo num executor dedicado e limitado.
+ *
+ * O executor é privado deste caso de uso (não é um bean): um bean Executor
+ * desligaria o applicationTaskExecutor do Spring Boot e o @Async/MVC assíncrono
+ * do resto da aplicação passaria a disputar este pool.
+ * Pool pequeno: cada consulta ocupa uma conexão do Hikari, então o número de
+ * threads define quantas conexões os relatórios usam ao mesmo tempo sem
+ * competir com a gravação de pedidos. Com a fila cheia, a seção sai como
+ * indisponível em vez de acumular threads do Tomcat.
+ *
+ * - As consultas têm timeout-consulta-ms a partir da submissão; se estourar
+ *   ou falhar, a seção sai vazia e é listada em secoesIndisponiveis (o restante
+ *   é entregue normalmente). Ao estourar, a tarefa é cancelada (sai da fila ou
+ *   tem a thread interrompida); no banco, o mesmo limite vale como timeout do
+ *   statement no adapter
+ * - Uma montagem por chave de cada vez: requisições iguais simultâneas esperam
+ *   a que já está em andamento em vez de repetir as nove consultas
+ * - Resultados completos ficam em cache por filtro:
+ *   TTL curto quando o período inclui hoje (dados ainda mudando) e
+ *   TTL longo para períodos já fechados. Cheio, o cache descarta primeiro as
+ *   entradas expiradas e depois a que expira antes
+ */
+@Service
+@Slf4j
+public class RelatorioDashboardUseCase {
+
+    private static final int MAX_ENTRADAS_CACHE = 200;
+
+    private final RelatoriosVendasPort relatoriosVendasPort;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutConsultaMs;
+    private final long ttlPeriodoAbertoMs;
+    private final long ttlPeriodoFechadoMs;
+
+    private final Map<ChaveDashboard, EntradaCache> cache = new ConcurrentHashMap<>();
+    private final Map<ChaveDashboard, CompletableFuture<RelatorioDashboardDTO>> emAndamento =
+            new ConcurrentHashMap<>();
+
+    public RelatorioDashboardUseCase(
+            RelatoriosVendasPort relatoriosVendasPort,
+            @Value("${relatorios.executor.threads:4}") int threads,
+            @Value("${relatorios.executor.fila:100}") int capacidadeFila,
+            @Value("${relatorios.dashboard.timeout-consulta-ms:15000}") long timeoutConsultaMs,
+            @Value("${relatorios.dashboard.ttl-periodo-aberto-ms:30000}") long ttlPeriodoAbertoMs,
+            @Value("${relatorios.dashboard.ttl-periodo-fechado-ms:3600000}") long ttlPeriodoFechadoMs) {
+        this.relatoriosVendasPort = relatoriosVendasPort;
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                r -> {
+                    Thread t = new Thread(r, "relatorios-" + contador.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutConsultaMs = timeoutConsultaMs;
+        this.ttlPeriodoAbertoMs = ttlPeriodoAbertoMs;
+        this.ttlPeriodoFechadoMs = ttlPeriodoFechadoMs;
+    }
+
+    public RelatorioDashboardDTO obterDashboard(FiltroRelatorioTemporalDTO filtro, int limiteProdutos,
+            int limiteClientes) {
+        ChaveDashboard chave = new ChaveDashboard(filtro, limiteProdutos, limiteClientes);
+        long agora = System.currentTimeMillis();
+
+        EntradaCache entrada = cache.get(chave);
+        if (entrada != null && entrada.expiraEm() > agora) {
+            return entrada.dashboard();
+        }
+
+        CompletableFuture<RelatorioDashboardDTO> montagem = new CompletableFuture<>();
+        CompletableFuture<RelatorioDashboardDTO> existente = emAndamento.putIfAbsent(chave, montagem);
+        if (existente != null) {
+            return existente.join();
+        }
+        try {
+            RelatorioDashboardDTO dashboard = montar(chave, agora);
+            montagem.complete(dashboard);
+            return dashboard;
+        } catch (RuntimeException e) {
+            montagem.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, montagem);
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Remove todo o cache (ex.: após correções manuais de pedidos antigos).
+     */
+    public void invalidarCache() {
+        cache.clear();
+    }
+
+    private RelatorioDashboardDTO montar(ChaveDashboard chave, long agora) {
+        FiltroRelatorioTemporalDTO filtro = chave.filtro();
+        int limiteProdutos = chave.limiteProdutos();
+        int limiteClientes = chave.limiteClientes();
+        long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutConsultaMs);
+
+        var evolucao = submeter(() -> relatoriosVendasPort.obterEvolucao(filtro));
+        var categorias = submeter(() -> relatoriosVendasPort.obterCategorias(filtro));
+        var quantidadeCategoria = submeter(() -> relatoriosVendasPort.obterQuantidadePorCategoria(filtro));
+        var topProdutos = submeter(() -> relatoriosVendasPort.obterTopProdutos(filtro, limiteProdutos));
+        var horarios = submeter(() -> relatoriosVendasPort.obterDistribuicaoHoraria(filtro));
+        var pedidosHorario = submeter(() -> relatoriosVendasPort.obterPedidosPorHorario(filtro));
+        var clientes = submeter(() -> relatoriosVendasPort.obterClientes(filtro, limiteClientes));
+        var meiosPagamento = submeter(() -> relatoriosVendasPort.obterMeiosPagamento(filtro));
+        var indicadores = submeter(() -> relatoriosVendasPort.obterIndicadores(filtro));
+
+        List<String> indisponiveis = new ArrayList<>();
+        RelatorioDashboardDTO dashboard = new RelatorioDashboardDTO(
+                aguardar("evolucao", evolucao, List.of(), prazo, indisponiveis),
+                aguardar("categorias", categorias, List.of(), prazo, indisponiveis),
+                aguardar("quantidadeCategoria", quantidadeCategoria, List.of(), prazo, indisponiveis),
+                aguardar("topProdutos", topProdutos, List.of(), prazo, indisponiveis),
+                aguardar("horarios", horarios, List.of(), prazo, indisponiveis),
+                aguardar("pedidosHorario", pedidosHorario, List.of(), prazo, indisponiveis),
+                aguardar("clientes", clientes, List.of(), prazo, indisponiveis),
+                aguardar("meiosPagamento", meiosPagamento, List.of(), prazo, indisponiveis),
+                aguardar("indicadores", indicadores, (IndicadoresResumoDTO) null, prazo, indisponiveis),
+                List.copyOf(indisponiveis));
+
+        // Só guarda resultados completos: uma seção indisponível deve ser tentada de novo
+        if (dashboard.completo()) {
+            armazenar(chave, dashboard, agora + calcularTtl(filtro));
+        }
+
+        return dashboard;
+    }
+
+    private <T> Future<T> submeter(Supplier<T> consulta) {
+        try {
+            return executor.submit(consulta::get);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Espera a seção até o prazo comum da montagem; estourado o prazo, cancela
+     * a tarefa para não ocupar thread e conexão depois que o dashboard desistiu.
+     */
+    private <T> T aguardar(String secao, Future<T> futuro, T valorPadrao, long prazo, List<String> indisponiveis) {
+        try {
+            return futuro.get(Math.max(0, prazo - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            log.warn("Relatório '{}' excedeu o tempo limite de {} ms", secao, timeoutConsultaMs);
+        } catch (InterruptedException e) {
+            futuro.cancel(true);
+            Thread.currentThread().interrupt();
+            log.warn("Relatório '{}' interrompido", secao);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause() != null ? e.getCause() : e;
+            if (causa instanceof RejectedExecutionException) {
+                log.warn("Relatório '{}' rejeitado: executor de relatórios saturado", secao);
+            } else {
+                log.error("Erro ao calcular relatório '{}': {}", secao, causa.getMessage(), causa);
+            }
+        }
+        indisponiveis.add(secao);
+        return valorPadrao;
+    }
+
+    /**
+     * O fim do filtro é exclusivo: o período inclui hoje quando inicio <= hoje < fim.
+     */
+    private long calcularTtl(FiltroRelatorioTemporalDTO filtro) {
+        LocalDate hoje = DateTimeUtils.today();
+        boolean incluiHoje = !filtro.inicio().isAfter(hoje) && filtro.fim().isAfter(hoje);
+        return incluiHoje ? ttlPeriodoAbertoMs : ttlPeriodoFechadoMs;
+    }
+
+    private void armazenar(ChaveDashboard chave, RelatorioDashboardDTO dashboard, long expiraEm) {
+        if (cache.size() >= MAX_ENTRADAS_CACHE) {
+            long agora = System.currentTimeMillis();
+            cache.values().removeIf(e -> e.expiraEm() <= agora);
+            if (cache.size() >= MAX_ENTRADAS_CACHE) {
+                cache.entrySet().stream()
+                        .min(Comparator.comparingLong((Map.Entry<ChaveDashboard, EntradaCache> e) ->
+                                e.getValue().expiraEm()))
+                        .ifPresent(e -> cache.remove(e.getKey(), e.getValue()));
+            }
+        }
+        cache.put(chave, new EntradaCache(dashboard, expiraEm));
+    }
+
+    private record ChaveDashboard(FiltroRelatorioTemporalDTO filtro, int limiteProdutos, int limiteClientes) {
+    }
+
+    private record EntradaCache(RelatorioDashboardDTO dashboard, long expiraEm) {
+    }
+}
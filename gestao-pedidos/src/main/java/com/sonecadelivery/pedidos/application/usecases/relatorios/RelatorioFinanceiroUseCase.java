@@ -0,0 +1,43 @@
+package com.sonecadelivery.pedidos.application.usecases.relatorios;
+
+import com.sonecadelivery.pedidos.application.dto.PedidosPaginadosDTO;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.EscopoRelatorioFinanceiroDTO;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.ResumoFinanceiroDTO;
+import com.sonecadelivery.pedidos.application.ports.RelatorioFinanceiroPort;
+import com.sonecadelivery.pedidos.application.usecases.ListarPedidosUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * Relatório financeiro diário e resumo de faturamento do histórico de sessões:
+ * totais agregados no banco e pedidos completos só da página exibida.
+ */
+@Service
+@RequiredArgsConstructor
+public class RelatorioFinanceiroUseCase {
+
+    private final RelatorioFinanceiroPort relatorioFinanceiroPort;
+    private final ListarPedidosUseCase listarPedidosUseCase;
+
+    public ResumoFinanceiroDTO obterResumo(EscopoRelatorioFinanceiroDTO escopo) {
+        return relatorioFinanceiroPort.obterResumo(escopo);
+    }
+
+    /**
+     * @param pagina  número da página (0-indexed)
+     * @param tamanho pedidos por página
+     * @param busca   texto no nome do cliente ou dos itens (opcional)
+     */
+    public PedidosPaginadosDTO listarPedidos(EscopoRelatorioFinanceiroDTO escopo, String busca, int pagina,
+            int tamanho) {
+        Page<String> ids = relatorioFinanceiroPort.buscarIdsPedidos(escopo, busca, PageRequest.of(pagina, tamanho));
+        return PedidosPaginadosDTO.builder()
+                .pedidos(listarPedidosUseCase.executarPorIds(ids.getContent()))
+                .paginaAtual(ids.getNumber())
+                .totalPaginas(ids.getTotalPages())
+                .totalPedidos(ids.getTotalElements())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.sonecadelivery.pedidos.domain.entities;
+
+import com.sonecadelivery.kernel.domain.exceptions.ValidationException;
+
+/**
+ * O que consome itens de estoque ao ser vendido.
+ */
+public enum TipoFichaTecnica {
+    PRODUTO,
+    ADICIONAL;
+
+    /**
+     * Tipo a partir do texto da URL (produto/adicional, sem diferenciar caixa).
+     */
+    public static TipoFichaTecnica de(String tipo) {
+        try {
+            return valueOf(tipo.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Tipo de ficha técnica inválido: " + tipo);
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.sonecadelivery.pedidos.infrastructure.cache;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
 import com.sonecadelivery.pedidos.application.ports.LocalizacaoMotoboyCachePort;
 import com.sonecadelivery.pedidos.domain.valueobjects.LocalizacaoMotoboy;
+import com.sonecadelivery.pedidos.infrastructure.events.RastreamentoEventPublisher.LocalizacaoAtualizadaEvent;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -26,12 +33,23 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Não cria múltiplas instâncias (Spring singleton)
  * - Economia de memória: apenas localizações ativas são mantidas
  * 
- * NOTA: Para ambiente distribuído (múltiplos containers), considere
- * implementar uma versão com Redis que implementa a mesma interface.
+ * Múltiplas instâncias:
+ * - Toda localização publicada (em qualquer instância) chega pelo backplane
+ *   como LocalizacaoAtualizadaEvent e atualiza este cache local
+ * - A última localização de cada motoboy também fica no estado compartilhado
+ *   do backplane, consultado quando a instância ainda não a recebeu
+ *   (ex.: instância recém-iniciada)
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class LocalizacaoMotoboyCacheAdapter implements LocalizacaoMotoboyCachePort {
+
+    private static final String PREFIXO_ESTADO = "localizacao:motoboy:";
+    private static final Duration TTL_ESTADO = Duration.ofMinutes(5); // mesma validade de LocalizacaoMotoboy
+
+    private final BackplanePort backplane;
+    private final ObjectMapper objectMapper;
     
     /**
      * Cache principal: motoboyId -> LocalizacaoMotoboy
@@ -51,15 +69,71 @@ public class LocalizacaoMotoboyCacheAdapter implements LocalizacaoMotoboyCachePo
             return;
         }
         
-        // Atualiza cache principal
-        cachePorMotoboy.put(localizacao.getMotoboyId(), localizacao);
-        
-        // Atualiza índice reverso
-        pedidoParaMotoboy.put(localizacao.getPedidoId(), localizacao.getMotoboyId());
+        aplicarLocal(localizacao);
+        gravarEstadoCompartilhado(localizacao);
         
         log.debug("Localização salva no cache: motoboy={}, pedido={}", 
             localizacao.getMotoboyId(), localizacao.getPedidoId());
     }
+
+    /**
+     * Localizações publicadas por qualquer instância (via backplane).
+     */
+    @EventListener
+    public void onLocalizacaoAtualizada(LocalizacaoAtualizadaEvent event) {
+        try {
+            aplicarLocal(paraLocalizacao(event));
+        } catch (IllegalArgumentException e) {
+            log.warn("Localização recebida inválida: {}", e.getMessage());
+        }
+    }
+
+    private void aplicarLocal(LocalizacaoMotoboy localizacao) {
+        // Não regride: eventos de outras instâncias podem chegar fora de ordem
+        cachePorMotoboy.merge(localizacao.getMotoboyId(), localizacao,
+            (atual, nova) -> nova.getTimestamp().isBefore(atual.getTimestamp()) ? atual : nova);
+        
+        // Atualiza índice reverso
+        pedidoParaMotoboy.put(localizacao.getPedidoId(), localizacao.getMotoboyId());
+    }
+
+    private void gravarEstadoCompartilhado(LocalizacaoMotoboy localizacao) {
+        try {
+            backplane.gravar(PREFIXO_ESTADO + localizacao.getMotoboyId(),
+                objectMapper.writeValueAsString(paraEvento(localizacao)), TTL_ESTADO);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // O cache local já foi atualizado; as demais instâncias recebem pelo evento
+            log.warn("Erro ao gravar localização compartilhada do motoboy {}: {}",
+                localizacao.getMotoboyId(), e.getMessage());
+        }
+    }
+
+    private Optional<LocalizacaoMotoboy> buscarEstadoCompartilhado(String motoboyId) {
+        try {
+            Optional<String> json = backplane.ler(PREFIXO_ESTADO + motoboyId);
+            if (json.isEmpty()) {
+                return Optional.empty();
+            }
+            LocalizacaoMotoboy localizacao = paraLocalizacao(
+                objectMapper.readValue(json.get(), LocalizacaoAtualizadaEvent.class));
+            aplicarLocal(localizacao);
+            return Optional.of(localizacao);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Erro ao ler localização compartilhada do motoboy {}: {}", motoboyId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static LocalizacaoMotoboy paraLocalizacao(LocalizacaoAtualizadaEvent event) {
+        return new LocalizacaoMotoboy(event.motoboyId(), event.pedidoId(), event.latitude(),
+            event.longitude(), event.heading(), event.velocidade(), event.timestamp());
+    }
+
+    private static LocalizacaoAtualizadaEvent paraEvento(LocalizacaoMotoboy localizacao) {
+        return new LocalizacaoAtualizadaEvent(localizacao.getPedidoId(), localizacao.getMotoboyId(),
+            localizacao.getLatitude(), localizacao.getLongitude(), localizacao.getHeading(),
+            localizacao.getVelocidade(), localizacao.getTimestamp());
+    }
     
     @Override
     public Optional<LocalizacaoMotoboy> buscarPorMotoboyId(String motoboyId) {
@@ -70,13 +144,14 @@ public class LocalizacaoMotoboyCacheAdapter implements LocalizacaoMotoboyCachePo
         LocalizacaoMotoboy localizacao = cachePorMotoboy.get(motoboyId);
         
         if (localizacao == null) {
-            return Optional.empty();
+            return buscarEstadoCompartilhado(motoboyId)
+                .filter(LocalizacaoMotoboy::isValida);
         }
         
         // Verifica se não expirou
         if (!localizacao.isValida()) {
-            // Remove do cache se expirou
-            remover(motoboyId);
+            // Remove do cache se expirou (o estado compartilhado expira sozinho)
+            removerLocal(motoboyId);
             return Optional.empty();
         }
         
@@ -103,6 +178,11 @@ public class LocalizacaoMotoboyCacheAdapter implements LocalizacaoMotoboyCachePo
             return;
         }
         
+        backplane.remover(PREFIXO_ESTADO + motoboyId);
+        removerLocal(motoboyId);
+    }
+
+    private void removerLocal(String motoboyId) {
         LocalizacaoMotoboy removida = cachePorMotoboy.remove(motoboyId);
         if (removida != null) {
             pedidoParaMotoboy.remove(removida.getPedidoId());
@@ -126,7 +206,7 @@ public class LocalizacaoMotoboyCacheAdapter implements LocalizacaoMotoboyCachePo
         for (Map.Entry<String, LocalizacaoMotoboy> entry : cachePorMotoboy.entrySet()) {
             LocalizacaoMotoboy loc = entry.getValue();
             if (!loc.isValida()) {
-                remover(entry.getKey());
+                removerLocal(entry.getKey());
                 removidas++;
             }
         }
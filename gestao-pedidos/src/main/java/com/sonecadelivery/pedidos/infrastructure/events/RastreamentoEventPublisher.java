@@ -1,6 +1,10 @@
 package com.sonecadelivery.pedidos.infrastructure.events;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
 import com.sonecadelivery.pedidos.domain.valueobjects.LocalizacaoMotoboy;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -11,13 +15,26 @@ import java.time.LocalDateTime;
 /**
  * Publisher de eventos de rastreamento para WebSocket/SSE.
  * Usa ApplicationEventPublisher do Spring (padrão Observer).
+ *
+ * O evento passa pelo {@link BackplanePort}: cada instância o recebe (inclusive
+ * a que publicou) e o republica localmente, então um cliente conectado a
+ * qualquer instância vê a localização enviada a qualquer outra.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RastreamentoEventPublisher {
 
+    public static final String CANAL_LOCALIZACAO = "rastreamento.localizacao";
+
     private final ApplicationEventPublisher eventPublisher;
+    private final BackplanePort backplane;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    void assinarBackplane() {
+        backplane.assinar(CANAL_LOCALIZACAO, this::aoReceberLocalizacao);
+    }
 
     /**
      * Publica evento de localização atualizada.
@@ -36,11 +53,24 @@ public class RastreamentoEventPublisher {
                 localizacao.getVelocidade(),
                 localizacao.getTimestamp());
 
-        eventPublisher.publishEvent(event);
+        try {
+            backplane.publicar(CANAL_LOCALIZACAO, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.error("Erro ao serializar evento de localização do pedido {}: {}", event.pedidoId(), e.getMessage());
+            return;
+        }
         log.info("Evento de localização publicado: pedido={}, motoboy={}",
                 localizacao.getPedidoId(), localizacao.getMotoboyId());
     }
 
+    private void aoReceberLocalizacao(String payload) {
+        try {
+            eventPublisher.publishEvent(objectMapper.readValue(payload, LocalizacaoAtualizadaEvent.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Evento de localização inválido recebido do backplane: {}", e.getOriginalMessage());
+        }
+    }
+
     /**
      * Evento de localização atualizada.
      * Record imutável para transporte de dados.
@@ -10,7 +10,6 @@ import com.sonecadelivery.pedidos.application.ports.ClienteGatewayPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,11 +26,8 @@ public class ClienteGatewayAdapter implements ClienteGatewayPort {
 
     @Override
     public Optional<ClientePublicoDTO> buscarPorTelefone(String telefone) {
-        List<ClienteDTO> clientes = listarClientesUseCase.executarPorTelefone(telefone);
-
-        return clientes.stream()
-                .filter(c -> c.getTelefone() != null &&
-                        c.getTelefone().replaceAll("\\D", "").equals(telefone.replaceAll("\\D", "")))
+        // A busca já compara só os dígitos (coluna telefone_digitos indexada)
+        return listarClientesUseCase.executarPorTelefone(telefone).stream()
                 .findFirst()
                 .map(this::toPublicoDTO);
     }
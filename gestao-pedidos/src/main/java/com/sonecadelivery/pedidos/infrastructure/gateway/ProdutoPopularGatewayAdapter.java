@@ -4,7 +4,6 @@ import com.sonecadelivery.cardapio.application.dto.ProdutoDTO;
 import com.sonecadelivery.cardapio.application.usecases.BuscarProdutoPorIdUseCase;
 import com.sonecadelivery.clientes.application.usecases.BuscarAvaliacoesUseCase;
 import com.sonecadelivery.clientes.application.ports.ClienteFavoritoRepositoryPort;
-import com.sonecadelivery.clientes.application.dto.ClienteAvaliacaoDTO;
 import com.sonecadelivery.pedidos.application.dto.ProdutoPopularDTO;
 import com.sonecadelivery.pedidos.application.ports.ProdutoPopularGatewayPort;
 import com.sonecadelivery.pedidos.infrastructure.persistence.PedidoEntity;
@@ -119,59 +118,33 @@ public class ProdutoPopularGatewayAdapter implements ProdutoPopularGatewayPort {
 
     @Override
     public List<ProdutoPopularDTO> buscarBemAvaliados(int limite) {
-        // Busca todos os produtos que têm avaliação
-        // Como não temos endpoint para listar todos produtos, vamos usar os pedidos
-        // como base
-        List<PedidoEntity> pedidos = pedidoRepository.findAll();
-
-        Set<String> produtoIds = pedidos.stream()
-                .flatMap(p -> p.getItens().stream())
-                .map(ItemPedidoEntity::getProdutoId)
-                .collect(Collectors.toSet());
-
-        // Para cada produto, busca as avaliações e calcula a média (excluindo bebidas)
-        List<ProdutoComAvaliacao> produtosComAvaliacao = produtoIds.stream()
-                .map(produtoId -> {
+        // Agregado de avaliações já ordenado por média (pelo índice, sem varrer pedidos)
+        return buscarAvaliacoesUseCase.listarMelhoresAvaliados().stream()
+                .map(resumo -> {
                     try {
-                        ProdutoDTO produto = buscarProdutoPorIdUseCase.executar(produtoId);
+                        ProdutoDTO produto = buscarProdutoPorIdUseCase.executar(resumo.produtoId());
 
                         // Exclui bebidas do carrossel
                         if (isCategoriaBebida(produto.getCategoria())) {
                             return null;
                         }
 
-                        List<ClienteAvaliacaoDTO> avaliacoes = buscarAvaliacoesUseCase.buscarPorProduto(produtoId);
-
-                        if (avaliacoes.isEmpty()) {
-                            return null;
-                        }
-
-                        double media = avaliacoes.stream()
-                                .mapToInt(ClienteAvaliacaoDTO::getNota)
-                                .average()
-                                .orElse(0.0);
-
-                        return new ProdutoComAvaliacao(produto, media, avaliacoes.size());
+                        return ProdutoPopularDTO.bemAvaliado(
+                                produto.getId(),
+                                produto.getNome(),
+                                produto.getDescricao(),
+                                produto.getPreco(),
+                                produto.getFoto(),
+                                produto.getCategoria(),
+                                resumo.media(),
+                                resumo.totalAvaliacoes());
                     } catch (Exception e) {
                         return null;
                     }
                 })
                 .filter(Objects::nonNull)
-                .sorted(Comparator.comparingDouble(ProdutoComAvaliacao::media).reversed())
                 .limit(limite)
                 .toList();
-
-        return produtosComAvaliacao.stream()
-                .map(p -> ProdutoPopularDTO.bemAvaliado(
-                        p.produto().getId(),
-                        p.produto().getNome(),
-                        p.produto().getDescricao(),
-                        p.produto().getPreco(),
-                        p.produto().getFoto(),
-                        p.produto().getCategoria(),
-                        p.media(),
-                        p.totalAvaliacoes()))
-                .toList();
     }
 
     @Override
@@ -204,7 +177,4 @@ public class ProdutoPopularGatewayAdapter implements ProdutoPopularGatewayPort {
                 .limit(limite)
                 .toList();
     }
-
-    private record ProdutoComAvaliacao(ProdutoDTO produto, double media, int totalAvaliacoes) {
-    }
 }
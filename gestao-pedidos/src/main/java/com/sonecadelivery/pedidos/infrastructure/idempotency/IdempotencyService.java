@@ -2,6 +2,8 @@ package com.sonecadelivery.pedidos.infrastructure.idempotency;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -33,6 +35,7 @@ public class IdempotencyService {
 
     private final IdempotencyKeyRepository idempotencyKeyRepository;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Tempo de expiração padrão das chaves de idempotência (24 horas).
@@ -60,6 +63,7 @@ public class IdempotencyService {
 
         if (idempotencyKey == null || idempotencyKey.isBlank()) {
             // Sem chave de idempotência, executa normalmente
+            contar("sem_chave");
             T result = operation.get();
             return ResponseEntity.status(HttpStatus.CREATED).body(result);
         }
@@ -75,6 +79,7 @@ public class IdempotencyService {
 
             try {
                 T cachedResponse = objectMapper.readValue(cached.getResponseBody(), responseType);
+                contar("hit");
                 return ResponseEntity
                         .status(cached.getResponseStatus())
                         .body(cachedResponse);
@@ -85,6 +90,7 @@ public class IdempotencyService {
         }
 
         // Executa a operação
+        contar("miss");
         T result = operation.get();
         HttpStatus status = HttpStatus.CREATED;
 
@@ -97,6 +103,16 @@ public class IdempotencyService {
         return ResponseEntity.status(status).body(result);
     }
 
+    /**
+     * idempotencia.requisicoes{resultado=hit|miss|sem_chave}: taxa de acerto das chaves.
+     */
+    private void contar(String resultado) {
+        Counter.builder("idempotencia.requisicoes")
+                .tag("resultado", resultado)
+                .register(meterRegistry)
+                .increment();
+    }
+
     /**
      * Limpa chaves expiradas do banco de dados.
      */
@@ -0,0 +1,59 @@
+package com.sonecadelivery.pedidos.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Métricas dos streams SSE (motoboy, rastreamento, status-loja).
+ *
+ * - sse.conexoes.ativas{stream}: emitters conectados no momento
+ * - sse.envio{stream}: latência de cada emitter.send (inclui heartbeats)
+ * - sse.eventos.publicados{stream}: eventos publicados (serializados uma única vez)
+ * - sse.desconexoes{stream,motivo}: assinantes derrubados pelo hub (buffer cheio ou envio lento)
+ */
+@Component
+@RequiredArgsConstructor
+public class SseMetricas {
+
+    public static final String STREAM_MOTOBOY = "motoboy";
+    public static final String STREAM_RASTREAMENTO = "rastreamento";
+    public static final String STREAM_STATUS_LOJA = "status-loja";
+
+    private final MeterRegistry meterRegistry;
+
+    public void registrarConexoesAtivas(String stream, Supplier<Number> contador) {
+        Gauge.builder("sse.conexoes.ativas", contador)
+                .description("Emitters SSE conectados")
+                .tag("stream", stream)
+                .register(meterRegistry);
+    }
+
+    public Timer timerEnvio(String stream) {
+        return Timer.builder("sse.envio")
+                .description("Latência de envio de eventos SSE por emitter")
+                .tag("stream", stream)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public Counter eventosPublicados(String stream) {
+        return Counter.builder("sse.eventos.publicados")
+                .description("Eventos SSE publicados no hub")
+                .tag("stream", stream)
+                .register(meterRegistry);
+    }
+
+    public Counter desconexoes(String stream, String motivo) {
+        return Counter.builder("sse.desconexoes")
+                .description("Assinantes SSE desconectados pelo hub")
+                .tag("stream", stream)
+                .tag("motivo", motivo)
+                .register(meterRegistry);
+    }
+}
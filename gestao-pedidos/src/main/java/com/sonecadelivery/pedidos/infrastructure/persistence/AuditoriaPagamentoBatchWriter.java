@@ -0,0 +1,389 @@
+package com.sonecadelivery.pedidos.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Gravação em lote (write-behind) da auditoria de pagamentos.
+ *
+ * - Registros entram numa fila limitada em memória; quem audita nunca espera o banco
+ * - Uma única thread escritora drena a fila e grava cada lote num só INSERT em
+ *   batch e num só commit: a auditoria ocupa no máximo uma conexão do pool,
+ *   por pouco tempo, em vez de uma conexão por pagamento auditado
+ * - Fila cheia, falha persistente do banco ou encerramento da aplicação: os
+ *   registros vão para um arquivo JSON Lines em disco (fsync a cada escrita)
+ * - Lote recusado pelos dados (ex.: valor fora da coluna): regravado registro a
+ *   registro; só os recusados vão para a quarentena (arquivo separado, nunca
+ *   reprocessado automaticamente) e o restante do lote é gravado
+ * - Na inicialização o arquivo de transbordo é regravado no banco antes de
+ *   novos registros; a entrega é "pelo menos uma vez" (uma queda no meio do
+ *   reprocessamento pode duplicar linhas, nunca perdê-las)
+ *
+ * Com auditoria.pagamentos.spill-diretorio vazio (padrão) o transbordo fica
+ * desabilitado: excedentes são descartados com log de erro e registros em
+ * quarentena vão inteiros para o log. O diretório precisa ser um volume
+ * durável; em Cloud Run o disco local é memória e some com a instância.
+ */
+@Component
+@Slf4j
+public class AuditoriaPagamentoBatchWriter {
+
+    private static final String SQL_INSERT = """
+            INSERT INTO auditoria_pagamentos
+                (pedido_id, numero_pedido, tipo_operacao, meio_pagamento, valor, valor_total_pedido,
+                 status_pedido, usuario_id, cliente_id, sessao_trabalho_id, ip_origem, user_agent,
+                 idempotency_key, sucesso, mensagem_erro, data_hora)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String ARQUIVO_SPILL = "auditoria-pagamentos.jsonl";
+    private static final String ARQUIVO_QUARENTENA = "auditoria-pagamentos-quarentena.jsonl";
+    private static final String SUFIXO_REPROCESSANDO = ".reprocessando";
+    private static final int MAX_TENTATIVAS = 3;
+    private static final long ESPERA_BASE_TENTATIVA_MS = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<RegistroAuditoriaPagamento> fila;
+    private final int tamanhoLote;
+    private final long esperaLoteMs;
+    private final long timeoutEncerramentoMs;
+    private final Path diretorioSpill;
+    private final Counter contadorGravados;
+    private final Counter contadorTransbordados;
+    private final Counter contadorDescartados;
+    private final Counter contadorQuarentena;
+    private final Object lockSpill = new Object();
+
+    private volatile boolean aceitando = true;
+    private volatile boolean encerrando;
+    private Thread escritor;
+
+    public AuditoriaPagamentoBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${auditoria.pagamentos.capacidade-fila:10000}") int capacidadeFila,
+            @Value("${auditoria.pagamentos.tamanho-lote:200}") int tamanhoLote,
+            @Value("${auditoria.pagamentos.espera-lote-ms:500}") long esperaLoteMs,
+            @Value("${auditoria.pagamentos.timeout-encerramento-ms:10000}") long timeoutEncerramentoMs,
+            @Value("${auditoria.pagamentos.spill-diretorio:}") String diretorioSpill) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.tamanhoLote = Math.max(1, tamanhoLote);
+        this.esperaLoteMs = esperaLoteMs;
+        this.timeoutEncerramentoMs = timeoutEncerramentoMs;
+        this.diretorioSpill = diretorioSpill == null || diretorioSpill.isBlank() ? null : Path.of(diretorioSpill);
+
+        Gauge.builder("auditoria.pagamentos.fila", fila, BlockingQueue::size)
+                .description("Registros de auditoria aguardando gravação")
+                .register(meterRegistry);
+        this.contadorGravados = contador(meterRegistry, "gravado");
+        this.contadorTransbordados = contador(meterRegistry, "transbordado");
+        this.contadorDescartados = contador(meterRegistry, "descartado");
+        this.contadorQuarentena = contador(meterRegistry, "quarentena");
+    }
+
+    private static Counter contador(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("auditoria.pagamentos.registros")
+                .description("Registros de auditoria de pagamento por destino")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        escritor = new Thread(this::executar, "auditoria-pagamentos-writer");
+        escritor.setDaemon(true);
+        escritor.start();
+    }
+
+    /**
+     * Enfileira um registro sem bloquear. Fila cheia ou aplicação encerrando:
+     * o registro vai direto para o arquivo de transbordo.
+     */
+    public void enfileirar(RegistroAuditoriaPagamento registro) {
+        if (aceitando && fila.offer(registro)) {
+            return;
+        }
+        transbordar(List.of(registro), aceitando ? "fila cheia" : "encerramento");
+    }
+
+    /**
+     * Para de aceitar registros, espera a thread escritora esvaziar a fila
+     * (limitado por timeout-encerramento-ms) e grava o que sobrar em disco.
+     */
+    @PreDestroy
+    void encerrar() {
+        aceitando = false;
+        encerrando = true;
+        if (escritor != null) {
+            try {
+                escritor.join(timeoutEncerramentoMs);
+                if (escritor.isAlive()) {
+                    log.warn("[AUDITORIA_PAGAMENTO] Escritor não terminou em {} ms; interrompendo", timeoutEncerramentoMs);
+                    escritor.interrupt();
+                    escritor.join(1000);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<RegistroAuditoriaPagamento> restantes = new ArrayList<>();
+        fila.drainTo(restantes);
+        if (!restantes.isEmpty()) {
+            transbordar(restantes, "encerramento");
+        }
+    }
+
+    private void executar() {
+        reprocessarSpill();
+
+        List<RegistroAuditoriaPagamento> lote = new ArrayList<>(tamanhoLote);
+        while (!encerrando || !fila.isEmpty()) {
+            try {
+                RegistroAuditoriaPagamento primeiro = fila.poll(esperaLoteMs, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                // Tudo o que chegou enquanto o lote anterior era gravado vai no mesmo commit
+                lote.add(primeiro);
+                fila.drainTo(lote, tamanhoLote - 1);
+                gravarOuTransbordar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[AUDITORIA_PAGAMENTO] Erro inesperado no escritor: {}", e.getMessage(), e);
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravarOuTransbordar(List<RegistroAuditoriaPagamento> lote) {
+        for (int tentativa = 1;; tentativa++) {
+            try {
+                List<Object[]> parametros = lote.stream().map(RegistroAuditoriaPagamento::parametrosInsert).toList();
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(SQL_INSERT, parametros));
+                contadorGravados.increment(lote.size());
+                return;
+            } catch (RuntimeException e) {
+                if (registroInvalido(e)) {
+                    // Repetir o lote falharia sempre pelo mesmo registro
+                    log.warn("[AUDITORIA_PAGAMENTO] Lote de {} registro(s) recusado ({}); gravando um a um",
+                            lote.size(), e.getMessage());
+                    gravarUmAUm(lote);
+                    return;
+                }
+                if (tentativa >= MAX_TENTATIVAS || encerrando) {
+                    log.error("[AUDITORIA_PAGAMENTO] Falha ao gravar lote de {} registro(s): {}",
+                            lote.size(), e.getMessage());
+                    transbordar(lote, "falha de gravação");
+                    return;
+                }
+                log.warn("[AUDITORIA_PAGAMENTO] Falha ao gravar lote (tentativa {}/{}): {}",
+                        tentativa, MAX_TENTATIVAS, e.getMessage());
+            }
+
+            try {
+                Thread.sleep(ESPERA_BASE_TENTATIVA_MS * tentativa);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                transbordar(lote, "interrompido");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Cada registro no seu próprio commit (autocommit). Recusado pelos dados:
+     * quarentena. Banco indisponível no meio: o restante vai para o transbordo.
+     */
+    private void gravarUmAUm(List<RegistroAuditoriaPagamento> lote) {
+        for (int i = 0; i < lote.size(); i++) {
+            RegistroAuditoriaPagamento registro = lote.get(i);
+            try {
+                jdbcTemplate.update(SQL_INSERT, registro.parametrosInsert());
+                contadorGravados.increment();
+            } catch (RuntimeException e) {
+                if (!registroInvalido(e)) {
+                    log.error("[AUDITORIA_PAGAMENTO] Falha ao gravar registro a registro: {}", e.getMessage());
+                    transbordar(new ArrayList<>(lote.subList(i, lote.size())), "falha de gravação");
+                    return;
+                }
+                quarentenar(registro, e);
+            }
+        }
+    }
+
+    /**
+     * Erro causado pelo conteúdo do registro (restrição, tamanho, tipo) ou
+     * antes de chegar ao banco - não adianta tentar de novo.
+     */
+    private static boolean registroInvalido(RuntimeException e) {
+        return e instanceof DataIntegrityViolationException || !(e instanceof DataAccessException);
+    }
+
+    private void quarentenar(RegistroAuditoriaPagamento registro, RuntimeException erro) {
+        contadorQuarentena.increment();
+        if (diretorioSpill == null || !anexar(ARQUIVO_QUARENTENA, List.of(registro))) {
+            // Sem arquivo: o registro completo fica no log para correção manual
+            log.error("[AUDITORIA_PAGAMENTO] Registro recusado pelo banco ({}): {}", erro.getMessage(),
+                    serializarParaLog(registro));
+            return;
+        }
+        log.error("[AUDITORIA_PAGAMENTO] Registro do pedido {} recusado pelo banco, em quarentena: {}",
+                registro.pedidoId(), erro.getMessage());
+    }
+
+    private String serializarParaLog(RegistroAuditoriaPagamento registro) {
+        try {
+            return objectMapper.writeValueAsString(registro);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(registro);
+        }
+    }
+
+    private void transbordar(List<RegistroAuditoriaPagamento> registros, String motivo) {
+        if (diretorioSpill == null) {
+            contadorDescartados.increment(registros.size());
+            log.error("[AUDITORIA_PAGAMENTO] {} registro(s) descartado(s) ({}): transbordo em disco desabilitado",
+                    registros.size(), motivo);
+            return;
+        }
+
+        if (anexar(ARQUIVO_SPILL, registros)) {
+            contadorTransbordados.increment(registros.size());
+            log.warn("[AUDITORIA_PAGAMENTO] {} registro(s) gravado(s) em disco ({})", registros.size(), motivo);
+        } else {
+            contadorDescartados.increment(registros.size());
+            log.error("[AUDITORIA_PAGAMENTO] Falha ao gravar transbordo em disco; {} registro(s) perdido(s)",
+                    registros.size());
+        }
+    }
+
+    /**
+     * Acrescenta os registros ao arquivo (JSON Lines) com fsync.
+     *
+     * @return false se não foi possível gravar
+     */
+    private boolean anexar(String nomeArquivo, List<RegistroAuditoriaPagamento> registros) {
+        synchronized (lockSpill) {
+            try {
+                Files.createDirectories(diretorioSpill);
+                try (FileOutputStream saida = new FileOutputStream(diretorioSpill.resolve(nomeArquivo).toFile(), true);
+                        BufferedWriter writer = new BufferedWriter(
+                                new OutputStreamWriter(saida, StandardCharsets.UTF_8))) {
+                    for (RegistroAuditoriaPagamento registro : registros) {
+                        writer.write(objectMapper.writeValueAsString(registro));
+                        writer.newLine();
+                    }
+                    writer.flush();
+                    saida.getFD().sync();
+                }
+                return true;
+            } catch (IOException e) {
+                log.error("[AUDITORIA_PAGAMENTO] Falha ao gravar {}: {}", nomeArquivo, e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Move o arquivo de transbordo atual para ".reprocessando" (novos
+     * transbordos vão para um arquivo novo) e regrava no banco todos os
+     * arquivos pendentes, inclusive os de uma execução anterior interrompida.
+     */
+    private void reprocessarSpill() {
+        if (diretorioSpill == null || !Files.isDirectory(diretorioSpill)) {
+            return;
+        }
+        try {
+            synchronized (lockSpill) {
+                Path atual = diretorioSpill.resolve(ARQUIVO_SPILL);
+                if (Files.exists(atual)) {
+                    Files.move(atual, diretorioSpill.resolve(
+                            ARQUIVO_SPILL + "." + System.currentTimeMillis() + SUFIXO_REPROCESSANDO));
+                }
+            }
+
+            List<Path> pendentes;
+            try (Stream<Path> arquivos = Files.list(diretorioSpill)) {
+                pendentes = arquivos
+                        .filter(p -> p.getFileName().toString().endsWith(SUFIXO_REPROCESSANDO))
+                        .sorted()
+                        .toList();
+            }
+            for (Path arquivo : pendentes) {
+                reprocessarArquivo(arquivo);
+            }
+        } catch (IOException e) {
+            log.error("[AUDITORIA_PAGAMENTO] Erro ao reprocessar transbordo em {}: {}", diretorioSpill, e.getMessage());
+        }
+    }
+
+    private void reprocessarArquivo(Path arquivo) throws IOException {
+        List<RegistroAuditoriaPagamento> lote = new ArrayList<>(tamanhoLote);
+        int total = 0;
+        try (BufferedReader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            String linha;
+            while ((linha = reader.readLine()) != null) {
+                if (linha.isBlank()) {
+                    continue;
+                }
+                try {
+                    lote.add(objectMapper.readValue(linha, RegistroAuditoriaPagamento.class));
+                } catch (JsonProcessingException e) {
+                    log.warn("[AUDITORIA_PAGAMENTO] Linha inválida ignorada em {}: {}", arquivo.getFileName(),
+                            e.getOriginalMessage());
+                    continue;
+                }
+                if (lote.size() >= tamanhoLote) {
+                    total += lote.size();
+                    gravarOuTransbordar(lote);
+                    lote.clear();
+                }
+            }
+        }
+        if (!lote.isEmpty()) {
+            total += lote.size();
+            gravarOuTransbordar(lote);
+        }
+        // O que não pôde ser gravado já voltou para o arquivo de transbordo atual
+        Files.delete(arquivo);
+        log.info("[AUDITORIA_PAGAMENTO] {} registro(s) reprocessado(s) de {}", total, arquivo.getFileName());
+    }
+}
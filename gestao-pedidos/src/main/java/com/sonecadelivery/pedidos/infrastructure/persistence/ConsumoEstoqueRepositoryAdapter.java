@@ -0,0 +1,140 @@
+package com.sonecadelivery.pedidos.infrastructure.persistence;
+
+import com.sonecadelivery.kernel.infrastructure.utils.DateTimeUtils;
+import com.sonecadelivery.pedidos.application.dto.AlertaEstoqueBaixoDTO;
+import com.sonecadelivery.pedidos.application.ports.ConsumoEstoquePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Baixa de estoque por pedido em poucas instruções sobre conjuntos, sem
+ * carregar/alterar/salvar item a item.
+ *
+ * - consumos_estoque (um registro por pedido) garante a idempotência: a baixa
+ *   só acontece para quem conseguir inserir o registro; o estorno só para quem
+ *   conseguir marcá-lo como estornado
+ * - O consumo do pedido inteiro é calculado no banco (itens x ficha técnica,
+ *   adicionais x quantidade do item) e gravado em consumos_estoque_itens
+ * - Um único UPDATE com JOIN aplica a baixa (ou o estorno) a todos os itens de
+ *   estoque do pedido, percorrendo-os pela chave (ordem de travamento estável)
+ * - Os itens que cruzaram o mínimo são lidos na mesma transação, logo após o
+ *   UPDATE (MySQL não tem UPDATE ... RETURNING)
+ * - REQUIRES_NEW: transações curtas, chamadas após o commit do pedido
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsumoEstoqueRepositoryAdapter implements ConsumoEstoquePort {
+
+    private static final String SQL_REGISTRAR = """
+            INSERT IGNORE INTO consumos_estoque (pedido_id, created_at)
+            SELECT id, ? FROM pedidos WHERE id = ? AND status <> 'CANCELADO'
+            """;
+    private static final String SQL_CONSUMO_PRODUTOS = """
+            INSERT INTO consumos_estoque_itens (pedido_id, item_estoque_id, quantidade)
+            SELECT ip.pedido_id, f.item_estoque_id, SUM(f.quantidade * ip.quantidade)
+            FROM itens_pedido ip
+            JOIN fichas_tecnicas_estoque f ON f.tipo = 'PRODUTO' AND f.referencia_id = ip.produto_id
+            JOIN itens_estoque e ON e.id = f.item_estoque_id AND e.ativo = TRUE
+            WHERE ip.pedido_id = ?
+            GROUP BY ip.pedido_id, f.item_estoque_id
+            ON DUPLICATE KEY UPDATE quantidade = consumos_estoque_itens.quantidade + VALUES(quantidade)
+            """;
+    // Quantidade do adicional é por unidade do produto
+    private static final String SQL_CONSUMO_ADICIONAIS = """
+            INSERT INTO consumos_estoque_itens (pedido_id, item_estoque_id, quantidade)
+            SELECT ip.pedido_id, f.item_estoque_id, SUM(f.quantidade * a.quantidade * ip.quantidade)
+            FROM itens_pedido ip
+            JOIN itens_pedido_adicionais a ON a.item_pedido_id = ip.id
+            JOIN fichas_tecnicas_estoque f ON f.tipo = 'ADICIONAL' AND f.referencia_id = a.adicional_id
+            JOIN itens_estoque e ON e.id = f.item_estoque_id AND e.ativo = TRUE
+            WHERE ip.pedido_id = ?
+            GROUP BY ip.pedido_id, f.item_estoque_id
+            ON DUPLICATE KEY UPDATE quantidade = consumos_estoque_itens.quantidade + VALUES(quantidade)
+            """;
+    private static final String SQL_APLICAR = """
+            UPDATE consumos_estoque_itens c
+            JOIN itens_estoque e ON e.id = c.item_estoque_id
+            SET e.quantidade = e.quantidade %s c.quantidade
+            WHERE c.pedido_id = ?
+            """;
+    private static final String SQL_CRUZARAM_MINIMO = """
+            SELECT e.id, e.nome, e.quantidade, e.quantidade_minima
+            FROM consumos_estoque_itens c
+            JOIN itens_estoque e ON e.id = c.item_estoque_id
+            WHERE c.pedido_id = ?
+              AND e.quantidade <= e.quantidade_minima
+              AND e.quantidade + c.quantidade > e.quantidade_minima
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<AlertaEstoqueBaixoDTO> consumir(String pedidoId) {
+        if (jdbcTemplate.update(SQL_REGISTRAR, DateTimeUtils.now(), pedidoId) == 0) {
+            return List.of();
+        }
+        int componentes = jdbcTemplate.update(SQL_CONSUMO_PRODUTOS, pedidoId)
+                + jdbcTemplate.update(SQL_CONSUMO_ADICIONAIS, pedidoId);
+        if (componentes == 0) {
+            // Nada do pedido tem ficha técnica: fica só o registro
+            return List.of();
+        }
+        jdbcTemplate.update(SQL_APLICAR.formatted("-"), pedidoId);
+        return jdbcTemplate.query(SQL_CRUZARAM_MINIMO, (rs, i) -> new AlertaEstoqueBaixoDTO(
+                rs.getString(1),
+                rs.getString(2),
+                rs.getBigDecimal(3),
+                rs.getBigDecimal(4)), pedidoId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean estornar(String pedidoId) {
+        int marcados = jdbcTemplate.update(
+                "UPDATE consumos_estoque SET estornado = TRUE WHERE pedido_id = ? AND estornado = FALSE", pedidoId);
+        if (marcados == 0) {
+            return false;
+        }
+        jdbcTemplate.update(SQL_APLICAR.formatted("+"), pedidoId);
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> buscarPedidosSemConsumo(LocalDateTime desde) {
+        // Só pedidos posteriores à primeira baixa registrada: pedidos anteriores à
+        // ficha técnica existir não são baixados retroativamente
+        return jdbcTemplate.queryForList("""
+                SELECT p.id FROM pedidos p
+                LEFT JOIN consumos_estoque c ON c.pedido_id = p.id
+                WHERE c.pedido_id IS NULL
+                  AND p.status <> 'CANCELADO'
+                  AND p.data_pedido >= ?
+                  AND p.data_pedido >= (SELECT MIN(created_at) FROM consumos_estoque)
+                """, String.class, desde);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> buscarConsumosAEstornar() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.pedido_id FROM consumos_estoque c
+                LEFT JOIN pedidos p ON p.id = c.pedido_id
+                WHERE c.estornado = FALSE AND (p.id IS NULL OR p.status = 'CANCELADO')
+                """, String.class);
+    }
+
+    @Override
+    @Transactional
+    public int removerConsumosAntigos(LocalDateTime antesDe) {
+        // Itens removidos em cascata
+        return jdbcTemplate.update("DELETE FROM consumos_estoque WHERE created_at < ? LIMIT 10000", antesDe);
+    }
+}
@@ -0,0 +1,278 @@
+package com.sonecadelivery.pedidos.infrastructure.persistence;
+
+import com.sonecadelivery.pedidos.application.dto.ContadorStatusPedidoDTO;
+import com.sonecadelivery.pedidos.application.ports.ContadoresPedidosSessaoPort;
+import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Contadores de pedidos por sessão e status em contadores_pedidos_sessao.
+ *
+ * - Escrita: chamada pelo {@link PedidoRepositoryAdapter} dentro da transação
+ *   da gravação/exclusão; aplica a diferença entre o estado anterior e o novo
+ *   do pedido com UPSERT incremental (sem ler a linha do contador). O estado
+ *   anterior vem de findContagemById, que trava a linha do pedido
+ * - Linhas atualizadas sempre na mesma ordem (sessão, status): duas transições
+ *   opostas simultâneas não travam uma à outra
+ * - Leitura direto da tabela (no máximo uma linha por status, pela chave
+ *   primária): todas as instâncias enxergam os mesmos valores
+ * - Reconciliação com a tabela de pedidos no startup e de hora em hora, só
+ *   das sessões abertas ou encerradas recentemente: leitura sem travas (mesmo
+ *   snapshot para pedidos e contadores) e UPSERT incremental apenas das
+ *   diferenças, sem DELETE. Como as correções são somas, escritas
+ *   concorrentes continuam valendo; um lock nomeado (GET_LOCK) garante que
+ *   uma única instância reconcilia por vez
+ */
+@Component
+@Slf4j
+public class ContadoresPedidosSessaoRepositoryAdapter implements ContadoresPedidosSessaoPort {
+
+    private static final String SQL_APLICAR = """
+            INSERT INTO contadores_pedidos_sessao (sessao_id, status, quantidade, valor_total)
+            VALUES (:sessaoId, :status, :quantidade, :valor)
+            ON DUPLICATE KEY UPDATE quantidade = quantidade + VALUES(quantidade),
+                                    valor_total = valor_total + VALUES(valor_total)
+            """;
+    // Sessões abertas/pausadas ou encerradas dentro da janela
+    private static final String SQL_CONTAGEM_PEDIDOS = """
+            SELECT p.sessao_id, p.status, COUNT(*), COALESCE(SUM(p.valor_total), 0)
+            FROM pedidos p
+            JOIN sessoes_trabalho s ON s.id = p.sessao_id
+            WHERE s.status <> 'FINALIZADA' OR s.data_fim >= :desde
+            GROUP BY p.sessao_id, p.status
+            """;
+    private static final String SQL_CONTADORES = """
+            SELECT c.sessao_id, c.status, c.quantidade, c.valor_total
+            FROM contadores_pedidos_sessao c
+            JOIN sessoes_trabalho s ON s.id = c.sessao_id
+            WHERE s.status <> 'FINALIZADA' OR s.data_fim >= :desde
+            """;
+    private static final String NOME_LOCK_RECONCILIACAO = "soneca.contadores_pedidos_sessao";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long janelaReconciliacaoHoras;
+
+    public ContadoresPedidosSessaoRepositoryAdapter(
+            PlatformTransactionManager transactionManager,
+            JdbcTemplate jdbcTemplate,
+            @Value("${pedidos.contadores.janela-reconciliacao-horas:48}") long janelaReconciliacaoHoras) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Leituras do mesmo snapshot: as diferenças calculadas são coerentes entre si
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.janelaReconciliacaoHoras = janelaReconciliacaoHoras;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<StatusPedido, ContadorStatusPedidoDTO> buscarPorSessao(String sessaoId) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> linhas = entityManager.createNativeQuery(
+                "SELECT status, quantidade, valor_total FROM contadores_pedidos_sessao WHERE sessao_id = :sessaoId")
+                .setParameter("sessaoId", sessaoId)
+                .getResultList();
+
+        Map<StatusPedido, ContadorStatusPedidoDTO> contadores = new EnumMap<>(StatusPedido.class);
+        for (Object[] linha : linhas) {
+            long quantidade = ((Number) linha[1]).longValue();
+            if (quantidade > 0) {
+                StatusPedido status = StatusPedido.valueOf((String) linha[0]);
+                contadores.put(status, new ContadorStatusPedidoDTO(status, quantidade, (BigDecimal) linha[2]));
+            }
+        }
+        return contadores;
+    }
+
+    /**
+     * Aplica a transição de um pedido. Deve rodar na transação que grava ou
+     * exclui o pedido.
+     *
+     * @param anterior estado antes da operação (null = pedido novo)
+     * @param novo     estado depois da operação (null = pedido excluído)
+     */
+    public void registrarAlteracao(Contagem anterior, Contagem novo) {
+        if (Objects.equals(anterior, novo)) {
+            return;
+        }
+        // Chave "sessão|status" ordenada: ordem de travamento estável entre transações
+        Map<String, Delta> deltas = new TreeMap<>();
+        if (anterior != null && anterior.sessaoId() != null) {
+            deltas.merge(anterior.chave(), new Delta(anterior, -1, anterior.valor().negate()), Delta::somar);
+        }
+        if (novo != null && novo.sessaoId() != null) {
+            deltas.merge(novo.chave(), new Delta(novo, 1, novo.valor()), Delta::somar);
+        }
+        for (Delta delta : deltas.values()) {
+            if (delta.quantidade() == 0 && delta.valor().signum() == 0) {
+                continue;
+            }
+            aplicar(delta);
+        }
+    }
+
+    private void aplicar(Delta delta) {
+        entityManager.createNativeQuery(SQL_APLICAR)
+                .setParameter("sessaoId", delta.contagem().sessaoId())
+                .setParameter("status", delta.contagem().status().name())
+                .setParameter("quantidade", delta.quantidade())
+                .setParameter("valor", delta.valor())
+                .executeUpdate();
+    }
+
+    /**
+     * Corrige divergências (p. ex. pedidos alterados direto no banco) das
+     * sessões abertas ou encerradas há menos de janela-reconciliacao-horas.
+     * Sessões antigas não mudam mais e ficam como estão.
+     *
+     * O lock nomeado é obtido numa conexão à parte e só é liberado depois do
+     * commit: a próxima instância já lê os contadores corrigidos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${pedidos.contadores.cron-reconciliacao:0 20 * * * *}")
+    public void reconciliar() {
+        try {
+            Integer corrigidos = jdbcTemplate.execute((ConnectionCallback<Integer>) conexao -> {
+                if (!executarLock(conexao, "SELECT GET_LOCK(?, 0)")) {
+                    return null;
+                }
+                try {
+                    return transactionTemplate.execute(status -> corrigirDivergencias());
+                } finally {
+                    executarLock(conexao, "SELECT RELEASE_LOCK(?)");
+                }
+            });
+            if (corrigidos == null) {
+                log.debug("Reconciliação de contadores em andamento em outra instância");
+            } else if (corrigidos > 0) {
+                log.warn("Contadores de pedidos por sessão reconciliados: {} contador(es) corrigido(s)", corrigidos);
+            } else {
+                log.debug("Contadores de pedidos por sessão conferidos: nenhuma divergência");
+            }
+        } catch (RuntimeException e) {
+            // Os contadores continuam sendo mantidos incrementalmente
+            log.warn("Falha ao reconciliar contadores de pedidos por sessão: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return quantidade de contadores (sessão, status) corrigidos
+     */
+    private int corrigirDivergencias() {
+        LocalDateTime desde = LocalDateTime.now().minusHours(janelaReconciliacaoHoras);
+
+        // Chave "sessão|status" ordenada: mesma ordem de travamento de registrarAlteracao
+        Map<String, Delta> diferencas = new TreeMap<>();
+        for (Object[] linha : consultar(SQL_CONTAGEM_PEDIDOS, desde)) {
+            Contagem contagem = contagem(linha);
+            diferencas.merge(contagem.chave(),
+                    new Delta(contagem, ((Number) linha[2]).intValue(), contagem.valor()), Delta::somar);
+        }
+        for (Object[] linha : consultar(SQL_CONTADORES, desde)) {
+            Contagem contagem = contagem(linha);
+            diferencas.merge(contagem.chave(),
+                    new Delta(contagem, -((Number) linha[2]).intValue(), contagem.valor().negate()), Delta::somar);
+        }
+
+        int corrigidos = 0;
+        for (Delta delta : diferencas.values()) {
+            if (delta.quantidade() == 0 && delta.valor().signum() == 0) {
+                continue;
+            }
+            aplicar(delta);
+            corrigidos++;
+        }
+        return corrigidos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> consultar(String sql, LocalDateTime desde) {
+        return entityManager.createNativeQuery(sql)
+                .setParameter("desde", desde)
+                .getResultList();
+    }
+
+    private static Contagem contagem(Object[] linha) {
+        return new Contagem((String) linha[0], StatusPedido.valueOf((String) linha[1]), (BigDecimal) linha[3]);
+    }
+
+    private static boolean executarLock(Connection conexao, String sql) throws SQLException {
+        try (PreparedStatement statement = conexao.prepareStatement(sql)) {
+            statement.setString(1, NOME_LOCK_RECONCILIACAO);
+            try (ResultSet resultado = statement.executeQuery()) {
+                return resultado.next() && resultado.getInt(1) == 1;
+            }
+        }
+    }
+
+    /**
+     * Parte do pedido que afeta os contadores.
+     */
+    record Contagem(String sessaoId, StatusPedido status, BigDecimal valor) {
+
+        Contagem {
+            valor = valor != null ? valor : BigDecimal.ZERO;
+        }
+
+        static Contagem de(PedidoEntity entity) {
+            return new Contagem(entity.getSessaoId(), entity.getStatus(), entity.getValorTotal());
+        }
+
+        static Contagem de(PedidoJpaRepository.ContagemPedidoView view) {
+            return new Contagem(view.getSessaoId(), view.getStatus(), view.getValorTotal());
+        }
+
+        private String chave() {
+            return sessaoId + "|" + status.name();
+        }
+
+        @Override
+        public boolean equals(Object outro) {
+            // BigDecimal: 10.0 e 10.00 são o mesmo valor
+            return outro instanceof Contagem c
+                    && Objects.equals(sessaoId, c.sessaoId)
+                    && status == c.status
+                    && valor.compareTo(c.valor) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sessaoId, status, valor.stripTrailingZeros());
+        }
+    }
+
+    private record Delta(Contagem contagem, int quantidade, BigDecimal valor) {
+
+        private Delta somar(Delta outro) {
+            return new Delta(contagem, quantidade + outro.quantidade, valor.add(outro.valor));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.sonecadelivery.pedidos.infrastructure.persistence;
+
+import com.sonecadelivery.pedidos.application.dto.ComponenteFichaTecnicaDTO;
+import com.sonecadelivery.pedidos.application.ports.FichaTecnicaRepositoryPort;
+import com.sonecadelivery.pedidos.domain.entities.TipoFichaTecnica;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapter das fichas técnicas (fichas_tecnicas_estoque).
+ */
+@Component
+@RequiredArgsConstructor
+public class FichaTecnicaRepositoryAdapter implements FichaTecnicaRepositoryPort {
+
+    private static final String SQL_BUSCAR = """
+            SELECT f.item_estoque_id, e.nome, e.unidade_medida, f.quantidade
+            FROM fichas_tecnicas_estoque f
+            JOIN itens_estoque e ON e.id = f.item_estoque_id
+            WHERE f.tipo = ? AND f.referencia_id = ?
+            ORDER BY e.nome
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ComponenteFichaTecnicaDTO> buscar(TipoFichaTecnica tipo, String referenciaId) {
+        return jdbcTemplate.query(SQL_BUSCAR, (rs, i) -> new ComponenteFichaTecnicaDTO(
+                rs.getString(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getBigDecimal(4)), tipo.name(), referenciaId);
+    }
+
+    @Override
+    @Transactional
+    public void substituir(TipoFichaTecnica tipo, String referenciaId, Map<String, BigDecimal> quantidades) {
+        jdbcTemplate.update("DELETE FROM fichas_tecnicas_estoque WHERE tipo = ? AND referencia_id = ?",
+                tipo.name(), referenciaId);
+        if (quantidades.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO fichas_tecnicas_estoque (tipo, referencia_id, item_estoque_id, quantidade) VALUES (?, ?, ?, ?)",
+                quantidades.entrySet().stream()
+                        .map(e -> new Object[] { tipo.name(), referenciaId, e.getKey(), e.getValue() })
+                        .toList());
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.util.HashSet;
@@ -44,8 +45,17 @@ public class ItemPedidoEntity {
     @Column(columnDefinition = "TEXT")
     private String observacoes;
 
-    @OneToMany(mappedBy = "itemPedido", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    /**
+     * LAZY + @BatchSize: os adicionais de vários itens são carregados numa única
+     * consulta (IN) quando acessados, em vez de um SELECT extra por item.
+     * Fora do equals/hashCode: o item entra no Set de itens do pedido antes de
+     * a coleção buscada no JOIN ser anexada, e o hashCode dispararia o lote.
+     */
+    @OneToMany(mappedBy = "itemPedido", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<ItemPedidoAdicionalEntity> adicionais = new HashSet<>();
 
     public void adicionarAdicional(ItemPedidoAdicionalEntity adicional) {
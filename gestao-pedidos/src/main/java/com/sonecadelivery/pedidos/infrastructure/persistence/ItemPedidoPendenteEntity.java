@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.util.HashSet;
@@ -51,7 +52,12 @@ public class ItemPedidoPendenteEntity {
     @Column(columnDefinition = "TEXT")
     private String observacoes;
 
-    @OneToMany(mappedBy = "itemPedidoPendente", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    /**
+     * LAZY + @BatchSize: os adicionais de vários itens são carregados numa única
+     * consulta (IN) quando acessados, em vez de um SELECT extra por item.
+     */
+    @OneToMany(mappedBy = "itemPedidoPendente", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Builder.Default
     private Set<AdicionalItemPedidoPendenteEntity> adicionais = new HashSet<>();
 
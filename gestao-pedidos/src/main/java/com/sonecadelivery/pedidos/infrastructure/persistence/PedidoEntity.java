@@ -5,19 +5,46 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * Planos de carga (entity graphs) por caso de uso:
+ * - LISTAGEM: itens no mesmo SELECT; adicionais via @BatchSize
+ * - COZINHA / COMPLETO: itens com adicionais (o que a cozinha e o cupom mostram)
+ *
+ * Os grafos buscam só uma coleção por nível (itens -> adicionais): juntar
+ * itens e pagamentos no mesmo SELECT multiplicaria as linhas (produto
+ * cartesiano). Pagamentos vêm sempre via @BatchSize, numa consulta IN.
+ * As coleções LAZY precisam de transação aberta: as leituras do
+ * PedidoRepositoryAdapter são @Transactional(readOnly = true).
+ *
+ * Relatórios não usam a entidade: são projeções nativas em RelatoriosVendasRepositoryAdapter.
+ */
 @Entity
 @Table(name = "pedidos")
+@NamedEntityGraph(name = PedidoEntity.GRAFO_LISTAGEM, attributeNodes = {
+        @NamedAttributeNode("itens")
+})
+@NamedEntityGraph(name = PedidoEntity.GRAFO_COZINHA, attributeNodes = {
+        @NamedAttributeNode(value = "itens", subgraph = "itens-adicionais")
+}, subgraphs = @NamedSubgraph(name = "itens-adicionais", attributeNodes = @NamedAttributeNode("adicionais")))
+@NamedEntityGraph(name = PedidoEntity.GRAFO_COMPLETO, attributeNodes = {
+        @NamedAttributeNode(value = "itens", subgraph = "itens-adicionais")
+}, subgraphs = @NamedSubgraph(name = "itens-adicionais", attributeNodes = @NamedAttributeNode("adicionais")))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class PedidoEntity {
+    public static final String GRAFO_LISTAGEM = "Pedido.listagem";
+    public static final String GRAFO_COZINHA = "Pedido.cozinha";
+    public static final String GRAFO_COMPLETO = "Pedido.completo";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
@@ -36,10 +63,12 @@ public class PedidoEntity {
     private com.sonecadelivery.pedidos.domain.entities.StatusPedido status;
 
     @OneToMany(mappedBy = "pedido", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Builder.Default
     private Set<ItemPedidoEntity> itens = new HashSet<>();
 
     @OneToMany(mappedBy = "pedido", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Builder.Default
     private Set<MeioPagamentoPedidoEntity> meiosPagamento = new HashSet<>();
 
@@ -1,40 +1,81 @@
 package com.sonecadelivery.pedidos.infrastructure.persistence;
 
 import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PedidoJpaRepository extends JpaRepository<PedidoEntity, String> {
+
+        @Override
+        @EntityGraph(PedidoEntity.GRAFO_COMPLETO)
+        Optional<PedidoEntity> findById(String id);
+
+        @Override
+        @EntityGraph(PedidoEntity.GRAFO_LISTAGEM)
+        List<PedidoEntity> findAll();
+
+        @EntityGraph(PedidoEntity.GRAFO_LISTAGEM)
+        List<PedidoEntity> findByIdIn(Collection<String> ids);
+
+        /**
+         * Sessão, status e valor atuais, sem carregar itens e pagamentos.
+         * SELECT ... FOR UPDATE: a linha fica travada até o fim da transação,
+         * e duas transições simultâneas do mesmo pedido não partem do mesmo
+         * estado anterior (o que faria os contadores divergirem).
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT p.sessaoId AS sessaoId, p.status AS status, p.valorTotal AS valorTotal "
+                        + "FROM PedidoEntity p WHERE p.id = :id")
+        Optional<ContagemPedidoView> findContagemById(@Param("id") String id);
+
+        @EntityGraph(PedidoEntity.GRAFO_COZINHA)
         List<PedidoEntity> findByStatus(StatusPedido status);
 
+        @EntityGraph(PedidoEntity.GRAFO_LISTAGEM)
         List<PedidoEntity> findByClienteId(String clienteId);
 
+        /**
+         * Paginado: sem entity graph para não paginar em memória;
+         * as coleções são carregadas via @BatchSize.
+         */
         Page<PedidoEntity> findByClienteId(String clienteId, Pageable pageable);
 
+        @EntityGraph(PedidoEntity.GRAFO_LISTAGEM)
         List<PedidoEntity> findByDataPedidoBetween(LocalDateTime dataInicio, LocalDateTime dataFim);
 
+        @EntityGraph(PedidoEntity.GRAFO_COZINHA)
         List<PedidoEntity> findByStatusAndDataPedidoBetween(StatusPedido status, LocalDateTime dataInicio,
                         LocalDateTime dataFim);
 
         @Query(value = "SELECT MAX(CAST(numero_pedido AS UNSIGNED)) FROM pedidos WHERE numero_pedido REGEXP '^[0-9]+$'", nativeQuery = true)
         Optional<Integer> findMaxNumeroPedido();
 
+        @EntityGraph(PedidoEntity.GRAFO_COZINHA)
         @Query("SELECT p FROM PedidoEntity p WHERE p.status = :status AND DATE(p.dataPedido) = DATE(:data)")
         List<PedidoEntity> findByStatusAndDataPedido(@Param("status") StatusPedido status,
                         @Param("data") LocalDateTime data);
 
-        @Query("SELECT DISTINCT p FROM PedidoEntity p LEFT JOIN FETCH p.meiosPagamento LEFT JOIN FETCH p.itens WHERE p.sessaoId = :sessaoId ORDER BY p.numeroPedido ASC, p.dataPedido ASC")
+        @EntityGraph(PedidoEntity.GRAFO_LISTAGEM)
+        @Query("SELECT p FROM PedidoEntity p WHERE p.sessaoId = :sessaoId ORDER BY p.numeroPedido ASC, p.dataPedido ASC")
         List<PedidoEntity> findBySessaoId(@Param("sessaoId") String sessaoId);
 
+        /**
+         * Nativa (sem entity graph): itens, adicionais e pagamentos via @BatchSize,
+         * dentro da transação de leitura do adapter.
+         */
         @Query(value = "SELECT p.* FROM pedidos p " +
                         "LEFT JOIN sessoes_trabalho st ON st.id = p.sessao_id " +
                         "WHERE COALESCE(st.data_inicio, DATE(p.data_pedido)) = :dataInicio " +
@@ -45,5 +86,14 @@ public interface PedidoJpaRepository extends JpaRepository<PedidoEntity, String>
         /**
          * Busca pedidos atribuídos a um motoboy específico.
          */
+        @EntityGraph(PedidoEntity.GRAFO_LISTAGEM)
         List<PedidoEntity> findByMotoboyIdOrderByCreatedAtDesc(String motoboyId);
+
+        interface ContagemPedidoView {
+                String getSessaoId();
+
+                StatusPedido getStatus();
+
+                java.math.BigDecimal getValorTotal();
+        }
 }
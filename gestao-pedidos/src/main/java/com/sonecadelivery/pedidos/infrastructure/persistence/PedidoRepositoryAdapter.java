@@ -1,17 +1,22 @@
 package com.sonecadelivery.pedidos.infrastructure.persistence;
 
+import com.sonecadelivery.pedidos.application.events.PedidoAlteradoEvent;
+import com.sonecadelivery.pedidos.application.events.PedidoStatusAlteradoEvent;
 import com.sonecadelivery.pedidos.application.ports.PedidoRepositoryPort;
 import com.sonecadelivery.pedidos.domain.entities.Pedido;
 import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
 import com.sonecadelivery.pedidos.infrastructure.mappers.PedidoMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,22 +26,57 @@ public class PedidoRepositoryAdapter implements PedidoRepositoryPort {
 
     private final PedidoJpaRepository jpaRepository;
     private final PedidoMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContadoresPedidosSessaoRepositoryAdapter contadores;
 
+    /**
+     * Transacional para que os contadores por sessão mudem junto com o pedido;
+     * o estado anterior é lido com a linha do pedido travada até o commit.
+     */
     @Override
+    @Transactional
     @SuppressWarnings("null") // jpaRepository.save() nunca retorna null
     public Pedido salvar(@NonNull Pedido pedido) {
+        ContadoresPedidosSessaoRepositoryAdapter.Contagem anterior = pedido.getId() == null ? null
+                : jpaRepository.findContagemById(pedido.getId())
+                        .map(ContadoresPedidosSessaoRepositoryAdapter.Contagem::de)
+                        .orElse(null);
         PedidoEntity entity = mapper.paraEntity(pedido);
         PedidoEntity salvo = jpaRepository.save(entity);
+        contadores.registrarAlteracao(anterior, ContadoresPedidosSessaoRepositoryAdapter.Contagem.de(salvo));
+        eventPublisher.publishEvent(new PedidoAlteradoEvent(salvo.getSessaoId(), salvo.getId(), false));
+        StatusPedido statusAnterior = anterior != null ? anterior.status() : null;
+        if (statusAnterior != salvo.getStatus()) {
+            eventPublisher.publishEvent(
+                    new PedidoStatusAlteradoEvent(salvo.getId(), statusAnterior, salvo.getStatus()));
+        }
         return mapper.paraDomain(salvo);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Pedido> buscarPorId(@NonNull String id) {
         return jpaRepository.findById(id)
                 .map(mapper::paraDomain);
     }
 
+    /**
+     * Sempre no primário (não marcar com @LeituraReplica): é a busca do delta
+     * do quadro de pedidos, que precisa ver a alteração que acabou de ser avisada.
+     */
     @Override
+    @Transactional(readOnly = true)
+    public List<Pedido> buscarPorIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByIdIn(ids).stream()
+                .map(mapper::paraDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Pedido> buscarTodos() {
         return jpaRepository.findAll().stream()
                 .map(mapper::paraDomain)
@@ -44,6 +84,7 @@ public class PedidoRepositoryAdapter implements PedidoRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Pedido> buscarPorStatus(StatusPedido status) {
         return jpaRepository.findByStatus(status).stream()
                 .map(mapper::paraDomain)
@@ -51,6 +92,7 @@ public class PedidoRepositoryAdapter implements PedidoRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Pedido> buscarPorClienteId(String clienteId) {
         return jpaRepository.findByClienteId(clienteId).stream()
                 .map(mapper::paraDomain)
@@ -58,12 +100,14 @@ public class PedidoRepositoryAdapter implements PedidoRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Pedido> buscarPorClienteId(String clienteId, Pageable pageable) {
         return jpaRepository.findByClienteId(clienteId, pageable)
                 .map(mapper::paraDomain);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Pedido> buscarPorDataPedido(LocalDateTime dataInicio, LocalDateTime dataFim) {
         return jpaRepository.findByDataPedidoBetween(dataInicio, dataFim).stream()
                 .map(mapper::paraDomain)
@@ -71,6 +115,7 @@ public class PedidoRepositoryAdapter implements PedidoRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Pedido> buscarPorStatusEData(StatusPedido status, LocalDateTime dataInicio, LocalDateTime dataFim) {
         return jpaRepository.findByStatusAndDataPedidoBetween(status, dataInicio, dataFim).stream()
                 .map(mapper::paraDomain)
@@ -78,6 +123,7 @@ public class PedidoRepositoryAdapter implements PedidoRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Pedido> buscarPorSessaoId(String sessaoId) {
         return jpaRepository.findBySessaoId(sessaoId).stream()
                 .map(mapper::paraDomain)
@@ -85,6 +131,7 @@ public class PedidoRepositoryAdapter implements PedidoRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Pedido> buscarPorDataInicioSessao(LocalDate dataInicio) {
         return jpaRepository.findByDataInicioSessao(java.sql.Date.valueOf(dataInicio)).stream()
                 .map(mapper::paraDomain)
@@ -98,11 +145,21 @@ public class PedidoRepositoryAdapter implements PedidoRepositoryPort {
     }
 
     @Override
+    @Transactional
     public void excluir(@NonNull String id) {
+        ContadoresPedidosSessaoRepositoryAdapter.Contagem anterior = jpaRepository.findContagemById(id)
+                .map(ContadoresPedidosSessaoRepositoryAdapter.Contagem::de)
+                .orElse(null);
         jpaRepository.deleteById(id);
+        if (anterior != null) {
+            contadores.registrarAlteracao(anterior, null);
+            eventPublisher.publishEvent(new PedidoStatusAlteradoEvent(id, anterior.status(), null));
+        }
+        eventPublisher.publishEvent(new PedidoAlteradoEvent(anterior != null ? anterior.sessaoId() : null, id, true));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Pedido> buscarPorMotoboyId(String motoboyId) {
         return jpaRepository.findByMotoboyIdOrderByCreatedAtDesc(motoboyId).stream()
                 .map(mapper::paraDomain)
@@ -0,0 +1,40 @@
+package com.sonecadelivery.pedidos.infrastructure.persistence;
+
+import com.sonecadelivery.pedidos.infrastructure.persistence.AuditoriaPagamentoEntity.TipoOperacaoPagamento;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Linha de auditoria de pagamento aguardando gravação em lote.
+ *
+ * Espelha as colunas de auditoria_pagamentos; é imutável e serializável em
+ * JSON para poder ser gravada no arquivo de transbordo (spill) do
+ * {@link AuditoriaPagamentoBatchWriter}.
+ */
+public record RegistroAuditoriaPagamento(
+        String pedidoId,
+        String numeroPedido,
+        TipoOperacaoPagamento tipoOperacao,
+        String meioPagamento,
+        BigDecimal valor,
+        BigDecimal valorTotalPedido,
+        String statusPedido,
+        String usuarioId,
+        String clienteId,
+        String sessaoTrabalhoId,
+        String ipOrigem,
+        String userAgent,
+        String idempotencyKey,
+        boolean sucesso,
+        String mensagemErro,
+        LocalDateTime dataHora) {
+
+    Object[] parametrosInsert() {
+        return new Object[] {
+                pedidoId, numeroPedido, tipoOperacao.name(), meioPagamento, valor, valorTotalPedido,
+                statusPedido, usuarioId, clienteId, sessaoTrabalhoId, ipOrigem, userAgent,
+                idempotencyKey, sucesso, mensagemErro, dataHora
+        };
+    }
+}
@@ -1,7 +1,10 @@
 package com.sonecadelivery.pedidos.infrastructure.persistence;
 
 import com.sonecadelivery.pedidos.domain.entities.StatusSessao;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -19,7 +22,22 @@ public interface SessaoTrabalhoJpaRepository extends JpaRepository<SessaoTrabalh
     
     Optional<SessaoTrabalhoEntity> findFirstByDataInicioOrderByNumeroSessaoDesc(LocalDate dataInicio);
     
-    List<SessaoTrabalhoEntity> findAllByOrderByDataInicioCompletaDesc();
+    /**
+     * Primeira página do histórico, da mais recente para a mais antiga
+     * (idx_sessoes_trabalho_inicio_completa; id desempata).
+     */
+    @Query("SELECT s FROM SessaoTrabalhoEntity s ORDER BY s.dataInicioCompleta DESC, s.id DESC")
+    List<SessaoTrabalhoEntity> listarPrimeiraPaginaPorInicioDesc(Pageable pagina);
+
+    /**
+     * Página seguinte (keyset): continua antes do último (dataInicioCompleta,
+     * id) entregue, sem OFFSET.
+     */
+    @Query("SELECT s FROM SessaoTrabalhoEntity s WHERE s.dataInicioCompleta < :inicio "
+            + "OR (s.dataInicioCompleta = :inicio AND s.id < :id) "
+            + "ORDER BY s.dataInicioCompleta DESC, s.id DESC")
+    List<SessaoTrabalhoEntity> listarPaginaPorInicioDescAntes(@Param("inicio") LocalDateTime inicio,
+            @Param("id") String id, Pageable pagina);
     
     List<SessaoTrabalhoEntity> findByStatusOrderByDataInicioCompletaDesc(StatusSessao status);
     
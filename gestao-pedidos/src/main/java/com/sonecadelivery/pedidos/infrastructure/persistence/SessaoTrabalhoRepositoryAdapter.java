@@ -5,6 +5,9 @@ import com.sonecadelivery.pedidos.domain.entities.SessaoTrabalho;
 import com.sonecadelivery.pedidos.domain.entities.StatusSessao;
 import com.sonecadelivery.pedidos.infrastructure.mappers.SessaoTrabalhoMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +15,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
@@ -20,6 +24,9 @@ public class SessaoTrabalhoRepositoryAdapter implements SessaoTrabalhoRepository
     private final SessaoTrabalhoJpaRepository jpaRepository;
     private final SessaoTrabalhoMapper mapper;
 
+    @Value("${listagens.fluxo.tamanho-pagina:500}")
+    private int tamanhoPaginaFluxo;
+
     @Override
     @SuppressWarnings("null") // jpaRepository.save() nunca retorna null
     public SessaoTrabalho salvar(@NonNull SessaoTrabalho sessao) {
@@ -54,11 +61,23 @@ public class SessaoTrabalhoRepositoryAdapter implements SessaoTrabalhoRepository
                 .map(mapper::paraDomain);
     }
 
+    /**
+     * Páginas por keyset, cada uma em sua própria transação: a conexão volta ao
+     * pool entre uma página e outra enquanto a resposta é escrita.
+     */
     @Override
-    public List<SessaoTrabalho> buscarTodas() {
-        return jpaRepository.findAllByOrderByDataInicioCompletaDesc().stream()
-                .map(mapper::paraDomain)
-                .toList();
+    public void percorrerTodas(Consumer<SessaoTrabalho> consumidor) {
+        Pageable pagina = PageRequest.of(0, tamanhoPaginaFluxo);
+        List<SessaoTrabalhoEntity> entidades = jpaRepository.listarPrimeiraPaginaPorInicioDesc(pagina);
+        while (!entidades.isEmpty()) {
+            entidades.forEach(entity -> consumidor.accept(mapper.paraDomain(entity)));
+            if (entidades.size() < tamanhoPaginaFluxo) {
+                return;
+            }
+            SessaoTrabalhoEntity ultima = entidades.get(entidades.size() - 1);
+            entidades = jpaRepository.listarPaginaPorInicioDescAntes(
+                    ultima.getDataInicioCompleta(), ultima.getId(), pagina);
+        }
     }
     
     @Override
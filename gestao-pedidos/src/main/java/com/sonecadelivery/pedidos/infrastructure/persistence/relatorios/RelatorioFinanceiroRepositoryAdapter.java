@@ -0,0 +1,143 @@
+package com.sonecadelivery.pedidos.infrastructure.persistence.relatorios;
+
+import com.sonecadelivery.kernel.infrastructure.persistence.LeituraReplica;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.DistribuicaoMeioPagamentoDTO;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.EscopoRelatorioFinanceiroDTO;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.ResumoFinanceiroDTO;
+import com.sonecadelivery.pedidos.application.ports.RelatorioFinanceiroPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Agregados do relatório financeiro e do histórico de sessões calculados no
+ * banco: as telas recebem só os totais e uma página de pedidos por vez, em vez
+ * de todos os pedidos do dia/sessão.
+ *
+ * Os escopos reproduzem exatamente os conjuntos que as telas já exibiam:
+ * - Dia: mesma regra de data dos relatórios de vendas (data de início da
+ *   sessão), sem pedidos cancelados
+ * - Sessão: todos os pedidos da sessão, inclusive cancelados
+ */
+@Component
+@RequiredArgsConstructor
+@LeituraReplica
+public class RelatorioFinanceiroRepositoryAdapter implements RelatorioFinanceiroPort {
+
+    private static final String PARAMETRO_ESCOPO = "escopo";
+    private static final String PARAMETRO_BUSCA = "busca";
+
+    @PersistenceContext
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResumoFinanceiroDTO obterResumo(EscopoRelatorioFinanceiroDTO escopo) {
+        Query totais = entityManager.createNativeQuery(
+                "SELECT COALESCE(SUM(p.valor_total), 0), COUNT(*) " + fromWhere(escopo));
+        configurarEscopo(totais, escopo);
+        Object[] resultado = (Object[]) totais.getSingleResult();
+        BigDecimal totalVendas = converterDecimal(resultado[0]);
+        long totalPedidos = converterLong(resultado[1]);
+
+        Query meios = entityManager.createNativeQuery(
+                "SELECT pagamento.meio_pagamento, " +
+                        "SUM(pagamento.valor) AS valor_total, " +
+                        "COUNT(DISTINCT p.id) AS pedidos " +
+                        fromWhere(escopo, "JOIN meios_pagamento_pedido pagamento ON pagamento.pedido_id = p.id ") +
+                        "GROUP BY pagamento.meio_pagamento " +
+                        "ORDER BY valor_total DESC");
+        configurarEscopo(meios, escopo);
+        List<DistribuicaoMeioPagamentoDTO> meiosPagamento = RelatorioResultMapper.meiosPagamento(meios.getResultList());
+
+        double ticketMedio = totalPedidos > 0
+                ? totalVendas.divide(BigDecimal.valueOf(totalPedidos), 2, RoundingMode.HALF_UP).doubleValue()
+                : 0.0;
+        return new ResumoFinanceiroDTO(totalVendas.doubleValue(), totalPedidos, ticketMedio, meiosPagamento);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<String> buscarIdsPedidos(EscopoRelatorioFinanceiroDTO escopo, String busca, Pageable pageable) {
+        boolean filtrar = busca != null && !busca.isBlank();
+        String filtro = filtrar
+                ? "AND (LOWER(p.cliente_nome) LIKE :busca " +
+                        "OR EXISTS (SELECT 1 FROM itens_pedido i WHERE i.pedido_id = p.id " +
+                        "AND LOWER(i.produto_nome) LIKE :busca)) "
+                : "";
+
+        Query contagem = entityManager.createNativeQuery("SELECT COUNT(*) " + fromWhere(escopo) + filtro);
+        configurarEscopo(contagem, escopo);
+        Query ids = entityManager.createNativeQuery("SELECT p.id " + fromWhere(escopo) + filtro +
+                // numero_pedido é VARCHAR: ordena pelo valor numérico, como as telas faziam
+                "ORDER BY CAST(p.numero_pedido AS UNSIGNED), p.data_pedido, p.id");
+        configurarEscopo(ids, escopo);
+        if (filtrar) {
+            String padrao = "%" + escaparLike(busca.trim().toLowerCase(Locale.ROOT)) + "%";
+            contagem.setParameter(PARAMETRO_BUSCA, padrao);
+            ids.setParameter(PARAMETRO_BUSCA, padrao);
+        }
+
+        long total = converterLong(contagem.getSingleResult());
+        if (total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        ids.setFirstResult((int) pageable.getOffset());
+        ids.setMaxResults(pageable.getPageSize());
+        @SuppressWarnings("unchecked")
+        List<Object> resultado = ids.getResultList();
+        return new PageImpl<>(resultado.stream().map(Object::toString).toList(), pageable, total);
+    }
+
+    private String fromWhere(EscopoRelatorioFinanceiroDTO escopo) {
+        return fromWhere(escopo, "");
+    }
+
+    private String fromWhere(EscopoRelatorioFinanceiroDTO escopo, String juncoes) {
+        if (escopo.sessaoId() != null) {
+            return "FROM pedidos p " + juncoes + "WHERE p.sessao_id = :escopo ";
+        }
+        return "FROM pedidos p " + juncoes +
+                "LEFT JOIN sessoes_trabalho st ON st.id = p.sessao_id " +
+                "WHERE " + RelatoriosVendasRepositoryAdapter.DATA_BASE_EXPR + " = :escopo " +
+                "AND p.status <> 'CANCELADO' ";
+    }
+
+    private void configurarEscopo(Query query, EscopoRelatorioFinanceiroDTO escopo) {
+        query.setParameter(PARAMETRO_ESCOPO, escopo.sessaoId() != null
+                ? escopo.sessaoId()
+                : java.sql.Date.valueOf(escopo.data()));
+    }
+
+    private static String escaparLike(String texto) {
+        return texto.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private BigDecimal converterDecimal(Object valor) {
+        if (valor instanceof BigDecimal bigDecimal) {
+            return bigDecimal;
+        }
+        if (valor == null) {
+            return BigDecimal.ZERO;
+        }
+        return new BigDecimal(valor.toString());
+    }
+
+    private long converterLong(Object valor) {
+        if (valor == null) {
+            return 0L;
+        }
+        return ((Number) valor).longValue();
+    }
+}
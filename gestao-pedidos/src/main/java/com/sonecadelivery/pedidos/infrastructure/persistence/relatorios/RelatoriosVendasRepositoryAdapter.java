@@ -1,5 +1,6 @@
 package com.sonecadelivery.pedidos.infrastructure.persistence.relatorios;
 
+import com.sonecadelivery.kernel.infrastructure.persistence.LeituraReplica;
 import com.sonecadelivery.pedidos.application.dtos.relatorios.CategoriaVendasResumoDTO;
 import com.sonecadelivery.pedidos.application.dtos.relatorios.DistribuicaoClientesDTO;
 import com.sonecadelivery.pedidos.application.dtos.relatorios.DistribuicaoHorariaDTO;
@@ -15,6 +16,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ import java.util.List;
 
 @Component
 @RequiredArgsConstructor
+@LeituraReplica
 public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
 
     /**
@@ -42,15 +45,24 @@ public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
      * - Apenas pedidos sem sessão associada usam a data do próprio pedido como
      * fallback.
      */
-    private static final String DATA_BASE_EXPR = "COALESCE(st.data_inicio, DATE(p.data_pedido))";
+    static final String DATA_BASE_EXPR = "COALESCE(st.data_inicio, DATE(p.data_pedido))";
     private static final String PARAMETRO_INICIO = "inicio";
     private static final String PARAMETRO_FIM = "fim";
+    private static final String HINT_TIMEOUT_CONSULTA = "jakarta.persistence.query.timeout";
     private static final String SELECT_DATE_CONCAT_YEAR = "SELECT DATE(CONCAT(YEAR(";
 
     @PersistenceContext
     private final EntityManager entityManager;
     private final RelatorioBucketFactory bucketFactory = new RelatorioBucketFactory();
 
+    /**
+     * Mesmo limite do dashboard: quando a seção estoura o tempo, o driver
+     * cancela a consulta no MySQL e a conexão volta ao pool, em vez de a
+     * consulta seguir rodando depois que o dashboard já desistiu dela.
+     */
+    @Value("${relatorios.dashboard.timeout-consulta-ms:15000}")
+    private int timeoutConsultaMs;
+
     @Override
     @Transactional(readOnly = true)
     public List<EvolucaoVendasPontoDTO> obterEvolucao(FiltroRelatorioTemporalDTO filtro) {
@@ -67,7 +79,7 @@ public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
         }
 
         String sql = construirSqlEvolucao(filtro);
-        Query query = entityManager.createNativeQuery(sql);
+        Query query = criarConsulta(sql);
         configurarIntervalo(query, filtro);
 
         @SuppressWarnings("unchecked")
@@ -186,7 +198,7 @@ public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
                 "AND p.status <> 'CANCELADO' " +
                 "GROUP BY categoria_nome " +
                 "ORDER BY valor_total DESC";
-        Query query = entityManager.createNativeQuery(sql);
+        Query query = criarConsulta(sql);
         configurarIntervalo(query, filtro);
         return RelatorioResultMapper.categorias(query.getResultList());
     }
@@ -206,7 +218,7 @@ public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
                 "AND p.status <> 'CANCELADO' " +
                 "GROUP BY categoria_id, categoria_nome " +
                 "ORDER BY quantidade_vendida DESC";
-        Query query = entityManager.createNativeQuery(sql);
+        Query query = criarConsulta(sql);
         configurarIntervalo(query, filtro);
         return RelatorioResultMapper.quantidadePorCategoria(query.getResultList());
     }
@@ -231,7 +243,7 @@ public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
                 "AND p.status <> 'CANCELADO' " +
                 "GROUP BY item.produto_id, item.produto_nome " +
                 "ORDER BY quantidade DESC, valor_total DESC";
-        Query query = entityManager.createNativeQuery(sql);
+        Query query = criarConsulta(sql);
         configurarIntervalo(query, filtro);
         query.setMaxResults(Math.max(limite, 1));
         return RelatorioResultMapper.produtos(query.getResultList());
@@ -250,7 +262,7 @@ public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
                 "AND p.status <> 'CANCELADO' " +
                 "GROUP BY hora " +
                 "ORDER BY MIN(p.data_pedido)";
-        Query query = entityManager.createNativeQuery(sql);
+        Query query = criarConsulta(sql);
         configurarIntervalo(query, filtro);
         return RelatorioResultMapper.horarios(query.getResultList());
     }
@@ -268,7 +280,7 @@ public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
                 "AND p.status <> 'CANCELADO' " +
                 "GROUP BY hora " +
                 "ORDER BY MIN(p.data_pedido)";
-        Query query = entityManager.createNativeQuery(sql);
+        Query query = criarConsulta(sql);
         configurarIntervalo(query, filtro);
         return RelatorioResultMapper.pedidosPorHorario(query.getResultList());
     }
@@ -287,7 +299,7 @@ public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
                 "AND p.status <> 'CANCELADO' " +
                 "GROUP BY p.cliente_id, p.cliente_nome " +
                 "ORDER BY valor_total DESC";
-        Query query = entityManager.createNativeQuery(sql);
+        Query query = criarConsulta(sql);
         configurarIntervalo(query, filtro);
         query.setMaxResults(Math.max(limite, 1));
         return RelatorioResultMapper.clientes(query.getResultList());
@@ -307,7 +319,7 @@ public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
                 "AND p.status <> 'CANCELADO' " +
                 "GROUP BY pagamento.meio_pagamento " +
                 "ORDER BY valor_total DESC";
-        Query query = entityManager.createNativeQuery(sql);
+        Query query = criarConsulta(sql);
         configurarIntervalo(query, filtro);
         return RelatorioResultMapper.meiosPagamento(query.getResultList());
     }
@@ -334,7 +346,7 @@ public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
                 "WHERE " + DATA_BASE_EXPR + " >= :inicio " +
                 "AND " + DATA_BASE_EXPR + " < :fim " +
                 "AND p.status <> 'CANCELADO'";
-        Query query = entityManager.createNativeQuery(sql);
+        Query query = criarConsulta(sql);
         // Converte LocalDate para java.sql.Date para compatibilidade com MySQL DATE
         query.setParameter(PARAMETRO_INICIO, java.sql.Date.valueOf(inicio));
         query.setParameter(PARAMETRO_FIM, java.sql.Date.valueOf(fim));
@@ -352,6 +364,11 @@ public class RelatoriosVendasRepositoryAdapter implements RelatoriosVendasPort {
         return diferenca.divide(anterior, 4, RoundingMode.HALF_UP).doubleValue() * 100;
     }
 
+    private Query criarConsulta(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .setHint(HINT_TIMEOUT_CONSULTA, timeoutConsultaMs);
+    }
+
     private void configurarIntervalo(Query query, FiltroRelatorioTemporalDTO filtro) {
         // Converte LocalDate para java.sql.Date para compatibilidade com MySQL DATE
         query.setParameter(PARAMETRO_INICIO, java.sql.Date.valueOf(filtro.inicio()));
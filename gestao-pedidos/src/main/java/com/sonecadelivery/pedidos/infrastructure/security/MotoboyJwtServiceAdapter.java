@@ -2,15 +2,14 @@ package com.sonecadelivery.pedidos.infrastructure.security;
 
 import com.sonecadelivery.pedidos.application.ports.MotoboyJwtServicePort;
 import com.sonecadelivery.pedidos.domain.entities.Motoboy;
+import com.sonecadelivery.kernel.infrastructure.security.VerificadorJwtHmac;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -33,9 +32,14 @@ public class MotoboyJwtServiceAdapter implements MotoboyJwtServicePort {
     @Value("${jwt.expiration:86400}") // 86400 segundos = 24 horas (padrão do application.yml)
     private long expirationSeconds;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.claims-cache-max-entradas:10000}")
+    private int claimsCacheMaxEntradas;
+
+    private VerificadorJwtHmac verificador;
+
+    @PostConstruct
+    void inicializar() {
+        this.verificador = new VerificadorJwtHmac(secret, claimsCacheMaxEntradas);
     }
 
     @Override
@@ -56,7 +60,7 @@ public class MotoboyJwtServiceAdapter implements MotoboyJwtServicePort {
                 .subject(motoboy.getId())
                 .issuedAt(now)
                 .expiration(expirationDate)
-                .signWith(getSigningKey())
+                .signWith(verificador.getChave())
                 .compact();
         
         log.debug("Token JWT gerado para motoboy. ID: {}, Token length: {}, Expiração: {}", 
@@ -109,11 +113,7 @@ public class MotoboyJwtServiceAdapter implements MotoboyJwtServicePort {
 
     private Claims extrairClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return verificador.claims(token);
         } catch (Exception e) {
             log.error("Erro ao extrair claims do token JWT de motoboy: {}", e.getMessage());
             throw e;
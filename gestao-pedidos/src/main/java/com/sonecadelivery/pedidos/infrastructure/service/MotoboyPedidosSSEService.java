@@ -1,45 +1,58 @@
 package com.sonecadelivery.pedidos.infrastructure.service;
 
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
 import com.sonecadelivery.pedidos.application.dto.PedidoDTO;
 import com.sonecadelivery.pedidos.application.usecases.ListarPedidosDoMotoboyUseCase;
+import com.sonecadelivery.pedidos.infrastructure.metrics.SseMetricas;
+import com.sonecadelivery.pedidos.infrastructure.sse.SseFrame;
+import com.sonecadelivery.pedidos.infrastructure.sse.SseHub;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Serviço para gerenciar Server-Sent Events (SSE) de pedidos do motoboy.
  * Permite que motoboys recebam atualizações em tempo real quando seus pedidos mudam.
  * 
  * Suporta múltiplos motoboys conectados simultaneamente, cada um recebendo
- * apenas atualizações dos seus próprios pedidos.
+ * apenas atualizações dos seus próprios pedidos. Conexões, heartbeat e envio
+ * ficam no {@link SseHub} (tópico "motoboy", chave = motoboyId).
+ *
+ * Atualizações forçadas passam pelo backplane: o motoboy pode estar conectado
+ * a outra instância que não a que alterou o pedido.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MotoboyPedidosSSEService {
 
-    private final ListarPedidosDoMotoboyUseCase listarPedidosDoMotoboyUseCase;
+    private static final String EVENTO_PEDIDOS = "pedidos-update";
+    private static final long TIMEOUT_MS = 5 * 60 * 1000L; // reconecta automaticamente
+    private static final String CANAL_FORCAR_ATUALIZACAO = "sse.motoboy.forcar-atualizacao";
 
-    /**
-     * Mapa thread-safe de motoboyId -> lista de emitters conectados.
-     * Permite múltiplas conexões do mesmo motoboy (ex: múltiplas abas).
-     */
-    private final Map<String, List<SseEmitter>> emittersPorMotoboy = new ConcurrentHashMap<>();
+    private final SseHub sseHub;
+    private final BackplanePort backplane;
+    private final ListarPedidosDoMotoboyUseCase listarPedidosDoMotoboyUseCase;
 
     /**
      * Cache de última lista de pedidos por motoboy para detectar mudanças.
      */
     private final Map<String, List<PedidoDTO>> cachePedidos = new ConcurrentHashMap<>();
 
+    @PostConstruct
+    void assinarBackplane() {
+        backplane.assinar(CANAL_FORCAR_ATUALIZACAO, this::atualizarConectados);
+    }
+
     /**
      * Registra um novo cliente SSE para um motoboy específico.
      * 
@@ -47,100 +60,44 @@ public class MotoboyPedidosSSEService {
      * @return SseEmitter para o cliente
      */
     public SseEmitter registrar(String motoboyId) {
-        // Timeout de 5 minutos (reconecta automaticamente)
-        SseEmitter emitter = new SseEmitter(5 * 60 * 1000L);
-
-        // Remove ao completar, timeout ou erro
-        emitter.onCompletion(() -> removerEmitter(motoboyId, emitter));
-        emitter.onTimeout(() -> removerEmitter(motoboyId, emitter));
-        emitter.onError(e -> {
-            // Erros de conexão fechada são esperados e não devem ser logados
-            // Remove silenciosamente - comportamento normal quando cliente desconecta
-            removerEmitter(motoboyId, emitter);
-        });
-
-        // Adiciona à lista de emitters do motoboy
-        emittersPorMotoboy.computeIfAbsent(motoboyId, k -> new CopyOnWriteArrayList<>()).add(emitter);
-        log.info("Novo cliente SSE registrado para motoboy {}. Total conectados: {}", 
-                motoboyId, emittersPorMotoboy.get(motoboyId).size());
-
-        // Envia lista atual de pedidos imediatamente
-        // Usa executor assíncrono para não bloquear a thread principal
+        // Lista atual de pedidos é o primeiro evento da conexão
+        SseFrame inicial;
         try {
             List<PedidoDTO> pedidosAtuais = listarPedidosDoMotoboyUseCase.executar(motoboyId);
             cachePedidos.put(motoboyId, pedidosAtuais);
-            
-            // Tenta enviar, mas não falha se cliente já desconectou
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("pedidos-update")
-                        .data(pedidosAtuais));
-            } catch (IOException | IllegalStateException e) {
-                // Cliente pode ter desconectado imediatamente ou emitter já completado
-                // Remove silenciosamente - comportamento esperado
-                removerEmitter(motoboyId, emitter);
-            }
+            inicial = sseHub.frame(EVENTO_PEDIDOS, pedidosAtuais);
         } catch (Exception e) {
             log.error("Erro ao carregar pedidos iniciais para motoboy {}: {}", motoboyId, e.getMessage(), e);
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("error")
-                        .data(Map.of("message", "Erro ao carregar pedidos iniciais: " + e.getMessage())));
-            } catch (IOException | IllegalStateException ioException) {
-                // Cliente desconectou ou emitter já completado - remove silenciosamente
-                removerEmitter(motoboyId, emitter);
-            }
+            inicial = sseHub.frame("error",
+                    Map.of("message", "Erro ao carregar pedidos iniciais: " + e.getMessage()));
         }
 
+        SseEmitter emitter = sseHub.inscrever(SseMetricas.STREAM_MOTOBOY, motoboyId, TIMEOUT_MS, inicial);
+        log.info("Novo cliente SSE registrado para motoboy {}. Total conectados: {}",
+                motoboyId, sseHub.assinantes(SseMetricas.STREAM_MOTOBOY, motoboyId));
         return emitter;
     }
 
-    /**
-     * Remove um emitter da lista do motoboy de forma thread-safe.
-     */
-    private void removerEmitter(String motoboyId, SseEmitter emitter) {
-        List<SseEmitter> emitters = emittersPorMotoboy.get(motoboyId);
-        if (emitters != null) {
-            synchronized (emitters) {
-                // Re-valida dentro do lock para evitar remoção de lista que mudou
-                List<SseEmitter> emittersAtuais = emittersPorMotoboy.get(motoboyId);
-                if (emittersAtuais != null && emittersAtuais.remove(emitter)) {
-                    if (emittersAtuais.isEmpty()) {
-                        emittersPorMotoboy.remove(motoboyId);
-                        cachePedidos.remove(motoboyId);
-                    }
-                }
-            }
-        }
-    }
-
     /**
      * Verifica mudanças nos pedidos de todos os motoboys conectados e notifica.
      * Executa a cada 3 segundos.
      */
     @Scheduled(fixedRate = 3000)
     public void verificarENotificar() {
-        if (emittersPorMotoboy.isEmpty()) {
-            return;
-        }
-
-        for (Map.Entry<String, List<SseEmitter>> entry : emittersPorMotoboy.entrySet()) {
-            String motoboyId = entry.getKey();
-            List<SseEmitter> emitters = entry.getValue();
-
-            if (emitters.isEmpty()) {
-                continue;
-            }
+        Set<String> motoboysConectados = sseHub.chavesAtivas(SseMetricas.STREAM_MOTOBOY);
+        // Descarta o cache de quem desconectou
+        cachePedidos.keySet().retainAll(motoboysConectados);
 
+        for (String motoboyId : motoboysConectados) {
             try {
                 List<PedidoDTO> pedidosAtuais = listarPedidosDoMotoboyUseCase.executar(motoboyId);
                 List<PedidoDTO> pedidosAnteriores = cachePedidos.get(motoboyId);
 
                 // Verifica se houve mudanças
                 if (houveMudancas(pedidosAnteriores, pedidosAtuais)) {
-                    log.info("Mudanças detectadas nos pedidos do motoboy {}. Notificando {} clientes.", 
-                            motoboyId, emitters.size());
-                    
+                    log.info("Mudanças detectadas nos pedidos do motoboy {}. Notificando {} clientes.",
+                            motoboyId, sseHub.assinantes(SseMetricas.STREAM_MOTOBOY, motoboyId));
+
                     cachePedidos.put(motoboyId, pedidosAtuais);
                     notificarMotoboy(motoboyId, pedidosAtuais);
                 }
@@ -150,152 +107,11 @@ public class MotoboyPedidosSSEService {
         }
     }
 
-    /**
-     * Envia um heartbeat para manter conexões ativas.
-     * Executa a cada 20 segundos.
-     */
-    @Scheduled(fixedRate = 20000)
-    public void enviarHeartbeat() {
-        if (emittersPorMotoboy.isEmpty()) {
-            return;
-        }
-
-        for (Map.Entry<String, List<SseEmitter>> entry : emittersPorMotoboy.entrySet()) {
-            String motoboyId = entry.getKey();
-            List<SseEmitter> emitters = entry.getValue();
-
-            if (emitters == null || emitters.isEmpty()) {
-                continue;
-            }
-
-            // Cria snapshot da lista para evitar race condition durante iteração
-            List<SseEmitter> emittersSnapshot = new ArrayList<>(emitters);
-            List<SseEmitter> emittersMortos = new ArrayList<>();
-
-            for (SseEmitter emitter : emittersSnapshot) {
-                // Pula emitters nulos (não deveria acontecer, mas segurança adicional)
-                if (emitter == null) {
-                    continue;
-                }
-                
-                try {
-                    emitter.send(SseEmitter.event().name("ping").data("pong"));
-                } catch (IOException e) {
-                    // Broken pipe ou cliente desconectado - comportamento esperado
-                    // Não loga como erro, apenas remove silenciosamente
-                    emittersMortos.add(emitter);
-                } catch (IllegalStateException e) {
-                    // Emitter já completado/timeout - remove silenciosamente
-                    emittersMortos.add(emitter);
-                } catch (RuntimeException e) {
-                    // Pode incluir exceções do Spring/Tomcat relacionadas a conexões fechadas
-                    String errorMsg = e.getMessage();
-                    if (errorMsg != null && (errorMsg.contains("Broken pipe") || 
-                                             errorMsg.contains("Connection reset") ||
-                                             errorMsg.contains("closed") ||
-                                             errorMsg.contains("Socket closed"))) {
-                        // Comportamento esperado - remove silenciosamente
-                        emittersMortos.add(emitter);
-                    } else {
-                        // Outros erros inesperados - loga como warning
-                        log.warn("Erro inesperado no heartbeat para motoboy {}: {}", 
-                                motoboyId, errorMsg);
-                        emittersMortos.add(emitter);
-                    }
-                } catch (Exception e) {
-                    // Outros erros inesperados - loga como warning
-                    log.warn("Erro inesperado no heartbeat para motoboy {}: {}", 
-                            motoboyId, e.getMessage());
-                    emittersMortos.add(emitter);
-                }
-            }
-
-            // Remove emitters que falharam de forma thread-safe
-            if (!emittersMortos.isEmpty()) {
-                synchronized (emitters) {
-                    // Re-valida a lista dentro do lock para evitar remover de lista que mudou
-                    List<SseEmitter> emittersAtuais = emittersPorMotoboy.get(motoboyId);
-                    if (emittersAtuais != null) {
-                        emittersAtuais.removeAll(emittersMortos);
-                        if (emittersAtuais.isEmpty()) {
-                            emittersPorMotoboy.remove(motoboyId);
-                            cachePedidos.remove(motoboyId);
-                        }
-                    }
-                }
-            }
-        }
-    }
-
     /**
      * Notifica todos os clientes de um motoboy sobre mudanças nos pedidos.
      */
     private void notificarMotoboy(String motoboyId, List<PedidoDTO> pedidos) {
-        List<SseEmitter> emitters = emittersPorMotoboy.get(motoboyId);
-        if (emitters == null || emitters.isEmpty()) {
-            return;
-        }
-
-        // Cria snapshot da lista para evitar race condition durante iteração
-        // CopyOnWriteArrayList garante thread-safety, mas snapshot evita modificações
-        // durante a iteração que podem causar problemas
-        List<SseEmitter> emittersSnapshot = new ArrayList<>(emitters);
-        List<SseEmitter> emittersMortos = new ArrayList<>();
-
-        for (SseEmitter emitter : emittersSnapshot) {
-            // Pula emitters nulos (não deveria acontecer, mas segurança adicional)
-            if (emitter == null) {
-                continue;
-            }
-            
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("pedidos-update")
-                        .data(pedidos));
-            } catch (IOException e) {
-                // Broken pipe ou cliente desconectado - comportamento esperado
-                // Não loga como erro, apenas remove silenciosamente
-                emittersMortos.add(emitter);
-            } catch (IllegalStateException e) {
-                // Emitter já completado/timeout - remove silenciosamente
-                emittersMortos.add(emitter);
-            } catch (RuntimeException e) {
-                // Pode incluir exceções do Spring/Tomcat relacionadas a conexões fechadas
-                String errorMsg = e.getMessage();
-                if (errorMsg != null && (errorMsg.contains("Broken pipe") || 
-                                         errorMsg.contains("Connection reset") ||
-                                         errorMsg.contains("closed") ||
-                                         errorMsg.contains("Socket closed"))) {
-                    // Comportamento esperado - remove silenciosamente
-                    emittersMortos.add(emitter);
-                } else {
-                    // Outros erros inesperados - loga como warning
-                    log.warn("Erro ao enviar atualização para cliente do motoboy {}: {}", 
-                            motoboyId, errorMsg);
-                    emittersMortos.add(emitter);
-                }
-            } catch (Exception e) {
-                // Outros erros inesperados - loga como warning
-                log.warn("Erro ao enviar atualização para cliente do motoboy {}: {}", 
-                        motoboyId, e.getMessage());
-                emittersMortos.add(emitter);
-            }
-        }
-
-        // Remove emitters que falharam de forma thread-safe
-        if (!emittersMortos.isEmpty()) {
-            synchronized (emitters) {
-                // Re-valida a lista dentro do lock para evitar remover de lista que mudou
-                List<SseEmitter> emittersAtuais = emittersPorMotoboy.get(motoboyId);
-                if (emittersAtuais != null) {
-                    emittersAtuais.removeAll(emittersMortos);
-                    if (emittersAtuais.isEmpty()) {
-                        emittersPorMotoboy.remove(motoboyId);
-                        cachePedidos.remove(motoboyId);
-                    }
-                }
-            }
-        }
+        sseHub.publicar(SseMetricas.STREAM_MOTOBOY, motoboyId, EVENTO_PEDIDOS, pedidos);
     }
 
     /**
@@ -311,7 +127,7 @@ public class MotoboyPedidosSSEService {
         }
 
         // Cria map para comparação O(n)
-        Map<String, PedidoDTO> mapAnteriores = new java.util.HashMap<>();
+        Map<String, PedidoDTO> mapAnteriores = new HashMap<>();
         for (PedidoDTO pedido : anteriores) {
             mapAnteriores.put(pedido.getId(), pedido);
         }
@@ -338,8 +154,16 @@ public class MotoboyPedidosSSEService {
      * Útil quando há mudanças conhecidas (ex: após atualização de status).
      */
     public void forcarAtualizacao(String motoboyId) {
-        List<SseEmitter> emitters = emittersPorMotoboy.get(motoboyId);
-        if (emitters == null || emitters.isEmpty()) {
+        if (motoboyId != null) {
+            backplane.publicar(CANAL_FORCAR_ATUALIZACAO, motoboyId);
+        }
+    }
+
+    /**
+     * Executa em cada instância; só consulta os pedidos se o motoboy estiver conectado nela.
+     */
+    private void atualizarConectados(String motoboyId) {
+        if (!sseHub.temAssinantes(SseMetricas.STREAM_MOTOBOY, motoboyId)) {
             return;
         }
 
@@ -352,4 +176,3 @@ public class MotoboyPedidosSSEService {
         }
     }
 }
-
@@ -0,0 +1,26 @@
+package com.sonecadelivery.pedidos.infrastructure.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Evento SSE já serializado, compartilhado por todos os assinantes.
+ *
+ * Criado por {@link SseHub#frame(String, Object)}: o payload passa pelo
+ * Jackson uma única vez e cada envio apenas escreve as partes prontas
+ * (resultado de SseEmitter.event()...build()).
+ */
+public final class SseFrame {
+
+    private final Set<ResponseBodyEmitter.DataWithMediaType> partes;
+
+    SseFrame(Set<ResponseBodyEmitter.DataWithMediaType> partes) {
+        this.partes = Collections.unmodifiableSet(partes);
+    }
+
+    Set<ResponseBodyEmitter.DataWithMediaType> partes() {
+        return partes;
+    }
+}
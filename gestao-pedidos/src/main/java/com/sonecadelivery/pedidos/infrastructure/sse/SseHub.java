@@ -0,0 +1,416 @@
+package com.sonecadelivery.pedidos.infrastructure.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sonecadelivery.kernel.infrastructure.json.EscritoresJson;
+import com.sonecadelivery.pedidos.infrastructure.metrics.SseMetricas;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hub único de Server-Sent Events, organizado por tópico (motoboy,
+ * rastreamento, status-loja) e chave dentro do tópico (motoboyId, pedidoId...).
+ *
+ * - Cada evento é serializado uma vez ({@link SseFrame}) e compartilhado por
+ *   todos os assinantes
+ * - Publicar nunca bloqueia: o frame entra no buffer limitado de cada assinante
+ *   e o envio acontece num executor dedicado, com no máximo uma tarefa por
+ *   assinante (a ordem dos eventos é preservada)
+ * - Consumidor lento (buffer cheio ou um send acima do limite) é desconectado;
+ *   o EventSource do navegador reconecta e recebe o estado atual
+ * - Cada send tem um vigia: passado o limite, o assinante sai do hub na hora e
+ *   o executor ganha uma thread extra no lugar da que ficou presa na escrita
+ *   (até sse.executor.max-extras). A escrita presa termina quando o Tomcat
+ *   derruba o socket (server.tomcat.connection-timeout); então o emitter é
+ *   completado e a thread extra devolvida
+ * - Um único heartbeat para todos os tópicos, que também detecta conexões mortas
+ * - Métricas por tópico em {@link SseMetricas}
+ */
+@Component
+@Slf4j
+public class SseHub {
+
+    public static final String EVENTO_PING = "ping";
+
+    private final EscritoresJson escritoresJson;
+    private final SseMetricas sseMetricas;
+    private final ThreadPoolExecutor executorEnvio;
+    private final ScheduledExecutorService vigia;
+    private final int threadsEnvio;
+    private final int maxExtras;
+    private final int capacidadeBuffer;
+    private final long limiteEnvioLentoMs;
+    private int extras;
+
+    private final Map<String, Topico> topicos = new ConcurrentHashMap<>();
+
+    public SseHub(
+            EscritoresJson escritoresJson,
+            SseMetricas sseMetricas,
+            @Value("${sse.executor.threads:4}") int threads,
+            @Value("${sse.executor.max-extras:32}") int maxExtras,
+            @Value("${sse.buffer-por-assinante:32}") int capacidadeBuffer,
+            @Value("${sse.limite-envio-lento-ms:5000}") long limiteEnvioLentoMs) {
+        this.escritoresJson = escritoresJson;
+        this.sseMetricas = sseMetricas;
+        this.threadsEnvio = threads;
+        this.maxExtras = maxExtras;
+        this.capacidadeBuffer = capacidadeBuffer;
+        this.limiteEnvioLentoMs = limiteEnvioLentoMs;
+
+        AtomicInteger contador = new AtomicInteger();
+        this.executorEnvio = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "sse-envio-" + contador.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.vigia = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sse-vigia");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void encerrar() {
+        vigia.shutdownNow();
+        executorEnvio.shutdownNow();
+    }
+
+    /**
+     * Uma thread a mais no executor enquanto outra está presa numa escrita.
+     *
+     * @return false se o limite de extras já foi atingido
+     */
+    private synchronized boolean adicionarThreadExtra() {
+        if (extras >= maxExtras) {
+            return false;
+        }
+        extras++;
+        // Aumentando: máximo antes do núcleo
+        executorEnvio.setMaximumPoolSize(threadsEnvio + extras);
+        executorEnvio.setCorePoolSize(threadsEnvio + extras);
+        return true;
+    }
+
+    private synchronized void devolverThreadExtra() {
+        extras--;
+        // Diminuindo: núcleo antes do máximo
+        executorEnvio.setCorePoolSize(threadsEnvio + extras);
+        executorEnvio.setMaximumPoolSize(threadsEnvio + extras);
+    }
+
+    /**
+     * Serializa o evento uma única vez, pelo writer pronto do tipo do payload.
+     * Strings são enviadas como estão (mesmo comportamento do SseEmitter para
+     * dados do tipo String).
+     */
+    public SseFrame frame(String evento, Object dados) {
+        String texto;
+        if (dados instanceof String s) {
+            texto = s;
+        } else {
+            try {
+                texto = escritoresJson.escreverComoString(dados);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Falha ao serializar evento SSE '" + evento + "'", e);
+            }
+        }
+        return new SseFrame(SseEmitter.event().name(evento).data(texto).build());
+    }
+
+    /**
+     * Cria o emitter de um novo assinante.
+     *
+     * @param topico    tópico (também usado como tag "stream" nas métricas)
+     * @param chave     chave dentro do tópico
+     * @param timeoutMs timeout do emitter (o cliente reconecta ao expirar)
+     * @param iniciais  frames entregues antes de qualquer publicação posterior
+     */
+    public SseEmitter inscrever(String topico, String chave, long timeoutMs, SseFrame... iniciais) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Assinante assinante = new Assinante(topico(topico), chave, emitter);
+
+        emitter.onCompletion(assinante::remover);
+        emitter.onTimeout(assinante::remover);
+        emitter.onError(e -> assinante.remover());
+
+        assinante.topico.adicionar(assinante);
+        for (SseFrame frame : iniciais) {
+            assinante.entregar(frame);
+        }
+        return emitter;
+    }
+
+    /**
+     * Publica para todos os assinantes da chave. Sem assinantes, o payload
+     * nem chega a ser serializado.
+     */
+    public void publicar(String topico, String chave, String evento, Object dados) {
+        if (temAssinantes(topico, chave)) {
+            publicar(topico, chave, frame(evento, dados));
+        }
+    }
+
+    public void publicar(String topico, String chave, SseFrame frame) {
+        Topico t = topicos.get(topico);
+        if (t == null) {
+            return;
+        }
+        Set<Assinante> assinantes = t.assinantesPorChave.get(chave);
+        if (assinantes == null) {
+            return;
+        }
+        t.publicados.increment();
+        for (Assinante assinante : assinantes) {
+            assinante.entregar(frame);
+        }
+    }
+
+    public boolean temAssinantes(String topico, String chave) {
+        Topico t = topicos.get(topico);
+        return t != null && t.assinantesPorChave.containsKey(chave);
+    }
+
+    /**
+     * Chaves com pelo menos um assinante conectado (cópia).
+     */
+    public Set<String> chavesAtivas(String topico) {
+        Topico t = topicos.get(topico);
+        return t == null ? Set.of() : Set.copyOf(t.assinantesPorChave.keySet());
+    }
+
+    public int assinantes(String topico, String chave) {
+        Topico t = topicos.get(topico);
+        Set<Assinante> assinantes = t == null ? null : t.assinantesPorChave.get(chave);
+        return assinantes == null ? 0 : assinantes.size();
+    }
+
+    public int conexoes(String topico) {
+        Topico t = topicos.get(topico);
+        return t == null ? 0 : t.conexoes.get();
+    }
+
+    /**
+     * Heartbeat único a cada 20 segundos para todos os tópicos: mantém as
+     * conexões vivas através de proxies e remove as que já caíram.
+     */
+    @Scheduled(fixedRate = 20000)
+    public void enviarHeartbeat() {
+        if (topicos.values().stream().allMatch(t -> t.conexoes.get() == 0)) {
+            return;
+        }
+        SseFrame ping = frame(EVENTO_PING, Map.of("timestamp", System.currentTimeMillis()));
+        for (Topico topico : topicos.values()) {
+            topico.assinantesPorChave.values().forEach(assinantes -> assinantes.forEach(a -> a.entregar(ping)));
+        }
+    }
+
+    private Topico topico(String nome) {
+        return topicos.computeIfAbsent(nome, Topico::new);
+    }
+
+    private final class Topico {
+
+        private final String nome;
+        private final Map<String, Set<Assinante>> assinantesPorChave = new ConcurrentHashMap<>();
+        private final AtomicInteger conexoes = new AtomicInteger();
+        private final Timer timerEnvio;
+        private final Counter publicados;
+        private final Counter desconexoesBufferCheio;
+        private final Counter desconexoesEnvioLento;
+
+        private Topico(String nome) {
+            this.nome = nome;
+            sseMetricas.registrarConexoesAtivas(nome, conexoes::get);
+            this.timerEnvio = sseMetricas.timerEnvio(nome);
+            this.publicados = sseMetricas.eventosPublicados(nome);
+            this.desconexoesBufferCheio = sseMetricas.desconexoes(nome, "buffer-cheio");
+            this.desconexoesEnvioLento = sseMetricas.desconexoes(nome, "envio-lento");
+        }
+
+        private void adicionar(Assinante assinante) {
+            // Dentro do compute: não corre com a remoção do conjunto vazio em remover()
+            assinantesPorChave.compute(assinante.chave, (k, assinantes) -> {
+                Set<Assinante> conjunto = assinantes != null ? assinantes : ConcurrentHashMap.newKeySet();
+                conjunto.add(assinante);
+                return conjunto;
+            });
+            conexoes.incrementAndGet();
+        }
+
+        private void remover(Assinante assinante) {
+            assinantesPorChave.computeIfPresent(assinante.chave, (k, assinantes) -> {
+                if (assinantes.remove(assinante)) {
+                    conexoes.decrementAndGet();
+                }
+                return assinantes.isEmpty() ? null : assinantes;
+            });
+        }
+    }
+
+    private final class Assinante {
+
+        private final Topico topico;
+        private final String chave;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseFrame> buffer = new ArrayBlockingQueue<>(capacidadeBuffer);
+        private final AtomicBoolean agendado = new AtomicBoolean();
+        private volatile boolean encerrado;
+
+        private Assinante(Topico topico, String chave, SseEmitter emitter) {
+            this.topico = topico;
+            this.chave = chave;
+            this.emitter = emitter;
+        }
+
+        private void entregar(SseFrame frame) {
+            if (encerrado) {
+                return;
+            }
+            if (!buffer.offer(frame)) {
+                topico.desconexoesBufferCheio.increment();
+                desconectar("buffer cheio");
+                return;
+            }
+            agendar();
+        }
+
+        private void agendar() {
+            if (agendado.compareAndSet(false, true)) {
+                try {
+                    executorEnvio.execute(this::drenar);
+                } catch (RejectedExecutionException e) {
+                    // Encerrando
+                    agendado.set(false);
+                }
+            }
+        }
+
+        private void drenar() {
+            try {
+                SseFrame frame;
+                while (!encerrado && (frame = buffer.poll()) != null) {
+                    long inicio = System.nanoTime();
+                    EnvioVigiado envio = new EnvioVigiado(this);
+                    try {
+                        emitter.send(frame.partes());
+                    } catch (IOException | IllegalStateException e) {
+                        // Cliente desconectou ou emitter já completado - comportamento esperado
+                        if (!envio.concluir()) {
+                            envio.liberar();
+                        }
+                        remover();
+                        return;
+                    }
+                    if (!envio.concluir()) {
+                        // O vigia já tirou o assinante do hub; a escrita enfim voltou
+                        envio.liberar();
+                        desconectar("envio lento");
+                        return;
+                    }
+                    topico.timerEnvio.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Erro inesperado ao enviar evento SSE ({} / {}): {}", topico.nome, chave, e.getMessage());
+                remover();
+            } finally {
+                agendado.set(false);
+                // Frame que chegou entre o último poll e a liberação do agendamento
+                if (!encerrado && !buffer.isEmpty()) {
+                    agendar();
+                }
+            }
+        }
+
+        private void desconectar(String motivo) {
+            log.debug("Desconectando assinante SSE lento ({} / {}): {}", topico.nome, chave, motivo);
+            remover();
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                // Já encerrado
+            }
+        }
+
+        private void remover() {
+            encerrado = true;
+            buffer.clear();
+            topico.remover(this);
+        }
+    }
+
+    /**
+     * Vigia de um send: se não terminar em limite-envio-lento-ms, tira o
+     * assinante do hub e põe uma thread extra no executor. O emitter só é
+     * completado pela própria thread de envio quando a escrita voltar
+     * (complete() espera o mesmo lock que o send bloqueado segura).
+     */
+    private final class EnvioVigiado {
+
+        private static final int ENVIANDO = 0;
+        private static final int CONCLUIDO = 1;
+        private static final int EXPIRADO = 2;
+
+        private final Assinante assinante;
+        private final AtomicInteger estado = new AtomicInteger(ENVIANDO);
+        private final ScheduledFuture<?> agendamento;
+        private boolean compensado;
+
+        private EnvioVigiado(Assinante assinante) {
+            this.assinante = assinante;
+            this.agendamento = vigia.schedule(this::expirar, limiteEnvioLentoMs, TimeUnit.MILLISECONDS);
+        }
+
+        // Sincronizado com liberar(): a thread de envio nunca devolve antes da compensação
+        private synchronized void expirar() {
+            if (!estado.compareAndSet(ENVIANDO, EXPIRADO)) {
+                return;
+            }
+            assinante.topico.desconexoesEnvioLento.increment();
+            assinante.remover();
+            compensado = adicionarThreadExtra();
+            log.debug("Envio SSE acima de {} ms ({} / {}); assinante removido", limiteEnvioLentoMs,
+                    assinante.topico.nome, assinante.chave);
+        }
+
+        /**
+         * @return false se o vigia expirou antes do fim do send
+         */
+        private boolean concluir() {
+            if (estado.compareAndSet(ENVIANDO, CONCLUIDO)) {
+                agendamento.cancel(false);
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized void liberar() {
+            if (compensado) {
+                devolverThreadExtra();
+            }
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.sonecadelivery.pedidos.infrastructure.web;
 
 import com.sonecadelivery.pedidos.application.dto.AtualizarItemEstoqueRequest;
+import com.sonecadelivery.pedidos.application.dto.ComponenteFichaTecnicaDTO;
 import com.sonecadelivery.pedidos.application.dto.CriarItemEstoqueRequest;
 import com.sonecadelivery.pedidos.application.dto.ItemEstoqueDTO;
+import com.sonecadelivery.pedidos.application.dto.SalvarFichaTecnicaRequest;
 import com.sonecadelivery.pedidos.application.usecases.AtualizarItemEstoqueUseCase;
+import com.sonecadelivery.pedidos.application.usecases.BuscarFichaTecnicaUseCase;
 import com.sonecadelivery.pedidos.application.usecases.CriarItemEstoqueUseCase;
 import com.sonecadelivery.pedidos.application.usecases.ExcluirItemEstoqueUseCase;
 import com.sonecadelivery.pedidos.application.usecases.ListarItensEstoqueUseCase;
+import com.sonecadelivery.pedidos.application.usecases.SalvarFichaTecnicaUseCase;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,6 +22,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Controller REST para gestão de estoque.
  */
@@ -30,6 +36,8 @@ public class GestaoEstoqueRestController {
     private final ListarItensEstoqueUseCase listarItensUseCase;
     private final AtualizarItemEstoqueUseCase atualizarItemUseCase;
     private final ExcluirItemEstoqueUseCase excluirItemUseCase;
+    private final BuscarFichaTecnicaUseCase buscarFichaTecnicaUseCase;
+    private final SalvarFichaTecnicaUseCase salvarFichaTecnicaUseCase;
     
     /**
      * Lista todos os itens de estoque com paginação.
@@ -91,5 +99,25 @@ public class GestaoEstoqueRestController {
         excluirItemUseCase.executar(id);
         return ResponseEntity.noContent().build();
     }
+    
+    /**
+     * Ficha técnica de um produto ou adicional (tipo = produto | adicional).
+     */
+    @GetMapping("/fichas-tecnicas/{tipo}/{referenciaId}")
+    public ResponseEntity<List<ComponenteFichaTecnicaDTO>> buscarFichaTecnica(
+            @PathVariable String tipo,
+            @PathVariable String referenciaId) {
+        return ResponseEntity.ok(buscarFichaTecnicaUseCase.executar(tipo, referenciaId));
+    }
+    
+    /**
+     * Substitui a ficha técnica de um produto ou adicional.
+     */
+    @PutMapping("/fichas-tecnicas/{tipo}/{referenciaId}")
+    public ResponseEntity<List<ComponenteFichaTecnicaDTO>> salvarFichaTecnica(
+            @PathVariable String tipo,
+            @PathVariable String referenciaId,
+            @Valid @RequestBody SalvarFichaTecnicaRequest request) {
+        return ResponseEntity.ok(salvarFichaTecnicaUseCase.executar(tipo, referenciaId, request));
+    }
 }
-
@@ -7,12 +7,14 @@ import com.sonecadelivery.pedidos.application.dto.AtualizarStatusPedidoRequest;
 import com.sonecadelivery.pedidos.application.dto.AtualizarValorMotoboyRequest;
 import com.sonecadelivery.pedidos.application.dto.CriarPedidoRequest;
 import com.sonecadelivery.pedidos.application.dto.PedidoDTO;
+import com.sonecadelivery.pedidos.application.dto.QuadroPedidosDTO;
 import com.sonecadelivery.pedidos.application.dto.RegistrarPagamentoPedidoRequest;
 import com.sonecadelivery.pedidos.application.usecases.*;
 import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
@@ -91,6 +93,21 @@ public class PedidoRestController {
         return ResponseEntity.ok(pedidos);
     }
 
+    /**
+     * Polling incremental das telas da sessão: retorna só os pedidos alterados
+     * ou removidos desde a versão informada (desde=0 retorna a lista completa).
+     * Sem alterações responde 304 sem corpo e sem consultar o banco.
+     */
+    @GetMapping(params = { "sessaoId", "desde" })
+    public ResponseEntity<QuadroPedidosDTO> listarAlteracoesSessao(
+            @RequestParam(name = "sessaoId") String sessaoId,
+            @RequestParam(name = "desde") long desde) {
+        return listarPedidosUseCase.executarAlteracoesPorSessaoId(sessaoId, desde)
+                .map(quadro -> ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(quadro))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .cacheControl(CacheControl.noStore()).build());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PedidoDTO> buscarPorId(@NonNull @PathVariable String id) {
         PedidoDTO pedido = buscarPedidoPorIdUseCase.executar(id);
@@ -1,10 +1,12 @@
 package com.sonecadelivery.pedidos.infrastructure.web;
 
 import com.sonecadelivery.pedidos.application.dto.AtualizarLocalizacaoRequest;
+import com.sonecadelivery.pedidos.application.dto.LoteLocalizacaoRequest;
 import com.sonecadelivery.pedidos.application.dto.RastreamentoPedidoResponse;
 import com.sonecadelivery.pedidos.application.ports.MotoboyJwtServicePort;
 import com.sonecadelivery.pedidos.application.usecases.AtualizarLocalizacaoMotoboyUseCase;
 import com.sonecadelivery.pedidos.application.usecases.ObterRastreamentoPedidoUseCase;
+import com.sonecadelivery.pedidos.application.usecases.RegistrarLoteLocalizacaoMotoboyUseCase;
 import com.sonecadelivery.pedidos.infrastructure.service.RastreamentoPedidoSSEService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,8 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
  * atualizações em tempo real (cliente)
  * - POST /api/motoboys/{motoboyId}/localizacao - Atualiza localização do
  * motoboy
+ * - POST /api/motoboys/{motoboyId}/localizacao/lote - Lote compacto de posições
+ * do motoboy (filtrado no servidor)
  */
 @RestController
 @RequestMapping("/api")
@@ -34,6 +38,7 @@ public class RastreamentoPedidoController {
 
     private final ObterRastreamentoPedidoUseCase obterRastreamentoUseCase;
     private final AtualizarLocalizacaoMotoboyUseCase atualizarLocalizacaoUseCase;
+    private final RegistrarLoteLocalizacaoMotoboyUseCase registrarLoteLocalizacaoUseCase;
     private final RastreamentoPedidoSSEService sseService;
     private final MotoboyJwtServicePort motoboyJwtService;
 
@@ -88,16 +93,54 @@ public class RastreamentoPedidoController {
         log.debug("Recebendo localização do motoboy. Path motoboyId: {}, Header X-Motoboy-Id: {}",
                 motoboyId, motoboyIdHeader);
 
+        HttpStatus negado = validarMotoboy(motoboyId, authorization);
+        if (negado != null) {
+            return ResponseEntity.status(negado).build();
+        }
+
+        atualizarLocalizacaoUseCase.executar(motoboyId, request);
+        log.debug("Localização atualizada com sucesso para motoboy {}", motoboyId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * POST /api/motoboys/{motoboyId}/localizacao/lote
+     * Várias posições numa requisição (formato em {@link LoteLocalizacaoRequest}).
+     * Pontos sem movimento relevante são descartados; só o último aceito é
+     * publicado. Mesma autenticação do envio individual.
+     */
+    @PostMapping("/motoboys/{motoboyId}/localizacao/lote")
+    public ResponseEntity<Void> registrarLoteLocalizacao(
+            @PathVariable String motoboyId,
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @Valid @RequestBody LoteLocalizacaoRequest lote) {
+
+        HttpStatus negado = validarMotoboy(motoboyId, authorization);
+        if (negado != null) {
+            return ResponseEntity.status(negado).build();
+        }
+
+        registrarLoteLocalizacaoUseCase.executar(motoboyId, lote);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Valida o token JWT do motoboy e se ele corresponde ao motoboyId do path.
+     *
+     * @return status de erro, ou null se autorizado
+     */
+    private HttpStatus validarMotoboy(String motoboyId, String authorization) {
         // Valida token JWT
         if (authorization == null || !authorization.startsWith("Bearer ")) {
             log.warn("Requisição sem token JWT válido para motoboy {}", motoboyId);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            return HttpStatus.UNAUTHORIZED;
         }
 
         String token = authorization.substring(7);
         if (!motoboyJwtService.validarToken(token)) {
             log.warn("Token JWT inválido ou expirado para motoboy {}", motoboyId);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            return HttpStatus.UNAUTHORIZED;
         }
 
         // Extrai motoboyId do token e valida com o path
@@ -108,12 +151,9 @@ public class RastreamentoPedidoController {
         if (!motoboyId.equals(motoboyIdDoToken)) {
             log.warn("MotoboyId do path ({}) não corresponde ao do token ({})",
                     motoboyId, motoboyIdDoToken);
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            return HttpStatus.FORBIDDEN;
         }
 
-        atualizarLocalizacaoUseCase.executar(motoboyId, request);
-        log.debug("Localização atualizada com sucesso para motoboy {}", motoboyId);
-
-        return ResponseEntity.noContent().build();
+        return null;
     }
 }
@@ -0,0 +1,61 @@
+package com.sonecadelivery.pedidos.infrastructure.web;
+
+import com.sonecadelivery.kernel.domain.exceptions.ValidationException;
+import com.sonecadelivery.pedidos.application.dto.PedidosPaginadosDTO;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.EscopoRelatorioFinanceiroDTO;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.ResumoFinanceiroDTO;
+import com.sonecadelivery.pedidos.application.usecases.relatorios.RelatorioFinanceiroUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * Relatório financeiro por dia (data) e resumo do histórico de sessões
+ * (sessaoId). Informe exatamente um dos dois.
+ */
+@RestController
+@RequestMapping(value = "/api/relatorio-financeiro", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+public class RelatorioFinanceiroRestController {
+
+    private final RelatorioFinanceiroUseCase useCase;
+
+    @GetMapping("/resumo")
+    public ResumoFinanceiroDTO resumo(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data,
+            @RequestParam(required = false) String sessaoId) {
+        return useCase.obterResumo(escopo(data, sessaoId));
+    }
+
+    /**
+     * @param pagina  Número da página (0-indexed)
+     * @param tamanho Tamanho da página (máximo 100)
+     * @param busca   Texto no nome do cliente ou dos itens
+     */
+    @GetMapping("/pedidos")
+    public PedidosPaginadosDTO pedidos(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data,
+            @RequestParam(required = false) String sessaoId,
+            @RequestParam(required = false) String busca,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "10") int tamanho) {
+        return useCase.listarPedidos(escopo(data, sessaoId), busca,
+                Math.max(pagina, 0), Math.min(Math.max(tamanho, 1), 100));
+    }
+
+    private EscopoRelatorioFinanceiroDTO escopo(LocalDate data, String sessaoId) {
+        boolean temSessao = sessaoId != null && !sessaoId.isBlank();
+        if ((data == null) == !temSessao) {
+            throw new ValidationException("Informe a data ou a sessão (apenas um dos dois)");
+        }
+        return temSessao
+                ? EscopoRelatorioFinanceiroDTO.porSessao(sessaoId)
+                : EscopoRelatorioFinanceiroDTO.porData(data);
+    }
+}
@@ -11,7 +11,9 @@ import com.sonecadelivery.pedidos.application.dtos.relatorios.IndicadoresResumoD
 import com.sonecadelivery.pedidos.application.dtos.relatorios.PedidosPorHorarioDTO;
 import com.sonecadelivery.pedidos.application.dtos.relatorios.ProdutoMaisVendidoDTO;
 import com.sonecadelivery.pedidos.application.dtos.relatorios.QuantidadePorCategoriaDTO;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.RelatorioDashboardDTO;
 import com.sonecadelivery.pedidos.application.usecases.relatorios.FiltroRelatorioTemporalFactory;
+import com.sonecadelivery.pedidos.application.usecases.relatorios.RelatorioDashboardUseCase;
 import com.sonecadelivery.pedidos.application.usecases.relatorios.RelatoriosVendasUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -29,6 +31,23 @@ public class RelatoriosVendasRestController {
 
     private final RelatoriosVendasUseCase useCase;
     private final FiltroRelatorioTemporalFactory filtroFactory;
+    private final RelatorioDashboardUseCase dashboardUseCase;
+
+    /**
+     * Endpoint composto: todas as seções da tela de relatórios numa única resposta,
+     * calculadas em paralelo e com cache por filtro.
+     */
+    @GetMapping("/dashboard")
+    public RelatorioDashboardDTO dashboard(@RequestParam GranularidadeTempo granularidade,
+            @RequestParam("dataReferencia") String dataReferencia,
+            @RequestParam(value = "dataFim", required = false) String dataFim,
+            @RequestParam(value = "limiteProdutos", defaultValue = "15") int limiteProdutos,
+            @RequestParam(value = "limiteClientes", defaultValue = "20") int limiteClientes) {
+        FiltroRelatorioTemporalDTO filtro = filtroFactory.criar(granularidade, dataReferencia, dataFim);
+        return dashboardUseCase.obterDashboard(filtro,
+                Math.min(Math.max(limiteProdutos, 1), 50),
+                Math.min(Math.max(limiteClientes, 1), 100));
+    }
 
     @GetMapping("/evolucao")
     public List<EvolucaoVendasPontoDTO> evolucao(@RequestParam GranularidadeTempo granularidade,
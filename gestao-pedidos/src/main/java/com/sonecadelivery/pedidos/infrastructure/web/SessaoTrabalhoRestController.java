@@ -1,5 +1,9 @@
 package com.sonecadelivery.pedidos.infrastructure.web;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sonecadelivery.kernel.infrastructure.json.EscritorArrayJson;
+import com.sonecadelivery.kernel.infrastructure.json.EscritoresJson;
+import com.sonecadelivery.pedidos.application.dto.ContadoresSessaoDTO;
 import com.sonecadelivery.pedidos.application.dto.FinalizarSessaoRequest;
 import com.sonecadelivery.pedidos.application.dto.IniciarSessaoRequest;
 import com.sonecadelivery.pedidos.application.dto.SessaoTrabalhoDTO;
@@ -8,9 +12,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -27,6 +33,8 @@ public class SessaoTrabalhoRestController {
     private final FinalizarSessaoTrabalhoUseCase finalizarSessaoUseCase;
     private final BuscarSessaoAtivaUseCase buscarSessaoAtivaUseCase;
     private final ListarSessoesTrabalhoUseCase listarSessoesUseCase;
+    private final BuscarContadoresSessaoUseCase buscarContadoresSessaoUseCase;
+    private final EscritoresJson escritoresJson;
 
     @PostMapping
     public ResponseEntity<SessaoTrabalhoDTO> iniciar(@Valid @RequestBody IniciarSessaoRequest request) {
@@ -64,10 +72,34 @@ public class SessaoTrabalhoRestController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @GetMapping
+    /**
+     * Quantidade e valor dos pedidos da sessão por status (sem carregar os pedidos).
+     */
+    @GetMapping("/{id}/contadores")
+    public ResponseEntity<ContadoresSessaoDTO> contadores(@NonNull @PathVariable String id) {
+        return ResponseEntity.ok(buscarContadoresSessaoUseCase.executar(id));
+    }
+
+    @GetMapping(params = "dataInicio")
     public ResponseEntity<List<SessaoTrabalhoDTO>> listar(
-            @RequestParam(name = "dataInicio", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio) {
+            @RequestParam(name = "dataInicio") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio) {
         List<SessaoTrabalhoDTO> sessoes = listarSessoesUseCase.executar(dataInicio);
         return ResponseEntity.ok(sessoes);
     }
+
+    /**
+     * Histórico completo escrito em fluxo, página a página do banco:
+     * memória constante independente da quantidade de sessões.
+     */
+    @GetMapping(params = "!dataInicio")
+    public ResponseEntity<StreamingResponseBody> listarTodas() {
+        ObjectWriter writer = escritoresJson.para(SessaoTrabalhoDTO.class);
+        StreamingResponseBody corpo = saida -> {
+            try (EscritorArrayJson<SessaoTrabalhoDTO> array = new EscritorArrayJson<>(writer, saida)) {
+                listarSessoesUseCase.percorrerTodas(array::escrever);
+                array.concluir();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(corpo);
+    }
 }
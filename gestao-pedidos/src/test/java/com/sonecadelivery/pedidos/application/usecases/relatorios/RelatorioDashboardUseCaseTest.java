@@ -0,0 +1,103 @@
+package com.sonecadelivery.pedidos.application.usecases.relatorios;
+
+import com.sonecadelivery.pedidos.application.dtos.relatorios.FiltroRelatorioTemporalDTO;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.GranularidadeTempo;
+import com.sonecadelivery.pedidos.application.dtos.relatorios.RelatorioDashboardDTO;
+import com.sonecadelivery.pedidos.application.ports.RelatoriosVendasPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tempo limite com cancelamento, uma montagem por chave e cache limitado.
+ */
+class RelatorioDashboardUseCaseTest {
+
+    private static final FiltroRelatorioTemporalDTO FILTRO = new FiltroRelatorioTemporalDTO(
+            GranularidadeTempo.DIA, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1));
+
+    private final RelatoriosVendasPort port = mock(RelatoriosVendasPort.class);
+    private RelatorioDashboardUseCase useCase;
+
+    @AfterEach
+    void encerrar() {
+        if (useCase != null) {
+            useCase.encerrar();
+        }
+    }
+
+    @Test
+    void consultaQueEstouraOTempoLimiteECanceladaESaiIndisponivel() throws Exception {
+        CountDownLatch interrompida = new CountDownLatch(1);
+        when(port.obterEvolucao(any())).thenAnswer(invocacao -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrompida.countDown();
+                throw e;
+            }
+            return List.of();
+        });
+        useCase = novoUseCase(200);
+
+        RelatorioDashboardDTO dashboard = useCase.obterDashboard(FILTRO, 10, 10);
+
+        assertThat(dashboard.secoesIndisponiveis()).containsExactly("evolucao");
+        assertThat(interrompida.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void requisicoesIguaisSimultaneasCompartilhamAMesmaMontagem() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(port.obterIndicadores(any())).thenAnswer(invocacao -> {
+            iniciou.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        useCase = novoUseCase(5000);
+
+        CompletableFuture<RelatorioDashboardDTO> primeira =
+                CompletableFuture.supplyAsync(() -> useCase.obterDashboard(FILTRO, 10, 10));
+        assertThat(iniciou.await(2, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<RelatorioDashboardDTO> segunda =
+                CompletableFuture.supplyAsync(() -> useCase.obterDashboard(FILTRO, 10, 10));
+        Thread.sleep(100);
+        assertThat(segunda).isNotDone();
+
+        liberar.countDown();
+
+        assertThat(segunda.get(2, TimeUnit.SECONDS)).isSameAs(primeira.get(2, TimeUnit.SECONDS));
+        verify(port, times(1)).obterIndicadores(any());
+    }
+
+    @Test
+    void cacheCheioDescartaUmaEntradaEmVezDeDeixarDeGuardar() {
+        when(port.obterTopProdutos(any(), anyInt())).thenReturn(List.of());
+        useCase = novoUseCase(5000);
+
+        for (int limite = 1; limite <= 201; limite++) {
+            useCase.obterDashboard(FILTRO, limite, 10);
+        }
+        useCase.obterDashboard(FILTRO, 201, 10);
+
+        verify(port, times(201)).obterTopProdutos(any(), anyInt());
+    }
+
+    private RelatorioDashboardUseCase novoUseCase(long timeoutConsultaMs) {
+        return new RelatorioDashboardUseCase(port, 4, 100, timeoutConsultaMs, 30_000, 3_600_000);
+    }
+}
@@ -0,0 +1,158 @@
+package com.sonecadelivery.pedidos.infrastructure.persistence;
+
+import com.sonecadelivery.pedidos.domain.entities.MeioPagamento;
+import com.sonecadelivery.pedidos.domain.entities.StatusPedido;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Número de SELECTs de cada plano de carga de pedidos.
+ *
+ * O número é fixo por caso de uso: não cresce com a quantidade de pedidos,
+ * itens ou adicionais (sem N+1) e nenhum SELECT junta itens e pagamentos
+ * (sem produto cartesiano). Se um teste falhar, um plano de carga mudou.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PedidoJpaRepositoryQueryCountTest {
+
+    private static final int PEDIDOS = 5;
+    private static final int ITENS_POR_PEDIDO = 2;
+    private static final int ADICIONAIS_POR_ITEM = 2;
+    private static final int PAGAMENTOS_POR_PEDIDO = 2;
+    private static final String SESSAO_ID = "sessao-1";
+
+    @Autowired
+    private PedidoJpaRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics estatisticas;
+    private String primeiroPedidoId;
+
+    @BeforeEach
+    void preparar() {
+        for (int i = 0; i < PEDIDOS; i++) {
+            PedidoEntity pedido = entityManager.persist(novoPedido(i));
+            if (primeiroPedidoId == null) {
+                primeiroPedidoId = pedido.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        estatisticas = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    @Test
+    void listagemUsaUmSelectParaPedidosEItensEUmLotePorColecao() {
+        List<PedidoEntity> pedidos = repository.findAll();
+
+        percorrerGrafo(pedidos);
+        // pedidos+itens, adicionais (lote), pagamentos (lote)
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void listagemPorSessaoUsaOMesmoPlanoDaListagem() {
+        List<PedidoEntity> pedidos = repository.findBySessaoId(SESSAO_ID);
+
+        percorrerGrafo(pedidos);
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void cozinhaTrazAdicionaisJuntoComOsItens() {
+        List<PedidoEntity> pedidos = repository.findByStatus(StatusPedido.PENDENTE);
+
+        percorrerGrafo(pedidos);
+        // pedidos+itens+adicionais, pagamentos (lote)
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void pedidoCompletoUsaDoisSelects() {
+        PedidoEntity pedido = repository.findById(primeiroPedidoId).orElseThrow();
+
+        percorrerGrafo(List.of(pedido));
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void contagemTravaALinhaNumUnicoSelect() {
+        PedidoJpaRepository.ContagemPedidoView contagem = repository.findContagemById(primeiroPedidoId).orElseThrow();
+
+        assertThat(contagem.getSessaoId()).isEqualTo(SESSAO_ID);
+        assertThat(contagem.getStatus()).isEqualTo(StatusPedido.PENDENTE);
+        assertThat(contagem.getValorTotal()).isEqualByComparingTo("30.00");
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void percorrerGrafo(List<PedidoEntity> pedidos) {
+        assertThat(pedidos).isNotEmpty();
+        for (PedidoEntity pedido : pedidos) {
+            assertThat(pedido.getItens()).hasSize(ITENS_POR_PEDIDO);
+            for (ItemPedidoEntity item : pedido.getItens()) {
+                assertThat(item.getAdicionais()).hasSize(ADICIONAIS_POR_ITEM);
+            }
+            assertThat(pedido.getMeiosPagamento()).hasSize(PAGAMENTOS_POR_PEDIDO);
+        }
+    }
+
+    private static PedidoEntity novoPedido(int indice) {
+        LocalDateTime agora = LocalDateTime.now();
+        PedidoEntity pedido = PedidoEntity.builder()
+                .numeroPedido(String.valueOf(indice + 1))
+                .clienteId("cliente-" + indice)
+                .clienteNome("Cliente " + indice)
+                .status(StatusPedido.PENDENTE)
+                .valorTotal(new BigDecimal("30.00"))
+                .sessaoId(SESSAO_ID)
+                .dataPedido(agora)
+                .createdAt(agora)
+                .updatedAt(agora)
+                .build();
+
+        for (int i = 0; i < ITENS_POR_PEDIDO; i++) {
+            ItemPedidoEntity item = ItemPedidoEntity.builder()
+                    .pedido(pedido)
+                    .produtoId("produto-" + i)
+                    .produtoNome("Produto " + i)
+                    .quantidade(1)
+                    .precoUnitario(new BigDecimal("10.00"))
+                    .build();
+            for (int j = 0; j < ADICIONAIS_POR_ITEM; j++) {
+                item.adicionarAdicional(ItemPedidoAdicionalEntity.builder()
+                        .adicionalId("adicional-" + j)
+                        .adicionalNome("Adicional " + j)
+                        .quantidade(1)
+                        .precoUnitario(new BigDecimal("2.50"))
+                        .build());
+            }
+            pedido.getItens().add(item);
+        }
+
+        MeioPagamento[] meios = { MeioPagamento.PIX, MeioPagamento.CARTAO_CREDITO };
+        for (int i = 0; i < PAGAMENTOS_POR_PEDIDO; i++) {
+            pedido.getMeiosPagamento().add(MeioPagamentoPedidoEntity.builder()
+                    .pedido(pedido)
+                    .meioPagamento(meios[i])
+                    .valor(new BigDecimal("15.00"))
+                    .build());
+        }
+        return pedido;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sonecadelivery.pedidos.infrastructure.persistence;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Contexto mínimo para os testes de persistência de pedidos (@DataJpaTest):
+ * só os repositórios de pedidos e de sessões de trabalho, sobre H2.
+ */
+@SpringBootConfiguration
+@EntityScan(basePackageClasses = PedidoEntity.class)
+@EnableJpaRepositories(basePackageClasses = PedidoJpaRepository.class,
+        includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                classes = { PedidoJpaRepository.class, SessaoTrabalhoJpaRepository.class }))
+class PersistenciaPedidosTestConfig {
+}
@@ -0,0 +1,78 @@
+package com.sonecadelivery.pedidos.infrastructure.persistence;
+
+import com.sonecadelivery.pedidos.domain.entities.SessaoTrabalho;
+import com.sonecadelivery.pedidos.domain.entities.StatusSessao;
+import com.sonecadelivery.pedidos.infrastructure.mappers.SessaoTrabalhoMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listagem em fluxo por keyset: páginas pequenas, inícios repetidos entre
+ * páginas e a mesma ordem da consulta única (início desc, id desc).
+ */
+@DataJpaTest(properties = "listagens.fluxo.tamanho-pagina=2")
+@Import({ SessaoTrabalhoRepositoryAdapter.class, SessaoTrabalhoMapper.class })
+class SessaoTrabalhoRepositoryAdapterTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2024, 3, 1, 18, 0);
+
+    @Autowired
+    private SessaoTrabalhoRepositoryAdapter adapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void percorreTodasSemRepetirNemPularComInicioRepetido() {
+        List<SessaoTrabalhoEntity> salvas = new ArrayList<>();
+        // 7 sessões (páginas de 2), três delas no mesmo instante
+        for (int i = 0; i < 7; i++) {
+            LocalDateTime inicio = i < 3 ? INICIO : INICIO.plusHours(i);
+            salvas.add(entityManager.persist(novaSessao(i + 1, inicio)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> percorridas = new ArrayList<>();
+        adapter.percorrerTodas(sessao -> percorridas.add(sessao.getId()));
+
+        List<String> esperadas = salvas.stream()
+                .sorted(Comparator.comparing(SessaoTrabalhoEntity::getDataInicioCompleta)
+                        .thenComparing(SessaoTrabalhoEntity::getId)
+                        .reversed())
+                .map(SessaoTrabalhoEntity::getId)
+                .toList();
+        assertThat(percorridas).containsExactlyElementsOf(esperadas);
+    }
+
+    @Test
+    void tabelaVaziaNaoChamaOConsumidor() {
+        List<SessaoTrabalho> percorridas = new ArrayList<>();
+
+        adapter.percorrerTodas(percorridas::add);
+
+        assertThat(percorridas).isEmpty();
+    }
+
+    private static SessaoTrabalhoEntity novaSessao(int numero, LocalDateTime inicio) {
+        return SessaoTrabalhoEntity.builder()
+                .numeroSessao(numero)
+                .dataInicio(inicio.toLocalDate())
+                .dataInicioCompleta(inicio)
+                .status(StatusSessao.FINALIZADA)
+                .usuarioId("usuario-1")
+                .createdAt(inicio)
+                .updatedAt(inicio)
+                .build();
+    }
+}
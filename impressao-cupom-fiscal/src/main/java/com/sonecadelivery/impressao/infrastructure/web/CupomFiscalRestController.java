@@ -9,6 +9,8 @@ import com.sonecadelivery.impressao.application.usecases.BuscarConfiguracaoImpre
 import com.sonecadelivery.impressao.application.usecases.FormatarCupomFiscalUseCase;
 import com.sonecadelivery.impressao.application.usecases.ImprimirCupomFiscalUseCase;
 import com.sonecadelivery.impressao.application.usecases.SalvarConfiguracaoImpressoraUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -23,10 +25,20 @@ public class CupomFiscalRestController {
     private final FormatarCupomFiscalUseCase formatarCupomFiscalUseCase;
     private final SalvarConfiguracaoImpressoraUseCase salvarConfiguracaoUseCase;
     private final BuscarConfiguracaoImpressoraUseCase buscarConfiguracaoUseCase;
+    private final MeterRegistry meterRegistry;
     
     @PostMapping("/cupom-fiscal")
     public ResponseEntity<ImprimirCupomResponse> imprimirCupomFiscal(@Valid @RequestBody ImprimirCupomRequest request) {
-        ImprimirCupomResponse response = imprimirCupomFiscalUseCase.executar(request);
+        // impressao.cupom{resultado}: duração do job de impressão (formatação + envio à impressora)
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        ImprimirCupomResponse response;
+        try {
+            response = imprimirCupomFiscalUseCase.executar(request);
+        } catch (RuntimeException e) {
+            amostra.stop(meterRegistry.timer("impressao.cupom", "resultado", "erro"));
+            throw e;
+        }
+        amostra.stop(meterRegistry.timer("impressao.cupom", "resultado", response.isSucesso() ? "sucesso" : "falha"));
         
         if (response.isSucesso()) {
             return ResponseEntity.ok(response);
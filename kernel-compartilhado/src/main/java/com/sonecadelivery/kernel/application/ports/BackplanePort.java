@@ -0,0 +1,45 @@
+package com.sonecadelivery.kernel.application.ports;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Backplane entre instâncias da aplicação: eventos em tempo real e estado
+ * quente compartilhado.
+ *
+ * - publicar/assinar: o ouvinte de um canal recebe as publicações de todas as
+ *   instâncias, inclusive da própria. A entrega local é síncrona; a remota é
+ *   assíncrona, "no máximo uma vez" e sem ordem garantida entre instâncias
+ * - gravar/ler/remover: chave-valor com expiração, visível a todas as instâncias
+ *
+ * Payloads e valores são texto (tipicamente JSON); a serialização fica com
+ * quem usa. Implementações no sistema-orquestrador, escolhidas por
+ * backplane.tipo: memoria (padrão, instância única), mysql e redis.
+ */
+public interface BackplanePort {
+
+    void publicar(String canal, String payload);
+
+    /**
+     * Registra um ouvinte. Deve ser chamado na inicialização (ex.: @PostConstruct);
+     * o ouvinte não deve bloquear.
+     */
+    void assinar(String canal, Consumer<String> ouvinte);
+
+    /**
+     * Registra um ouvinte chamado quando eventos podem ter sido perdidos
+     * (fila de saída cheia, falha ao propagar, ids abandonados), nesta ou em
+     * outra instância. Quem mantém estado derivado dos eventos deve tratá-lo
+     * como inválido (ex.: pedir a lista completa). Mesmas regras de assinar;
+     * implementações que não detectam perdas ignoram o ouvinte.
+     */
+    default void aoPerderEventos(Runnable ouvinte) {
+    }
+
+    void gravar(String chave, String valor, Duration ttl);
+
+    Optional<String> ler(String chave);
+
+    void remover(String chave);
+}
@@ -0,0 +1,19 @@
+package com.sonecadelivery.kernel.domain.exceptions;
+
+/**
+ * Limite de requisições do cliente (IP ou conta) esgotado.
+ * A requisição foi recusada sem ser processada; pode ser repetida após o intervalo informado.
+ */
+public class RequisicoesExcedidasException extends DomainException {
+
+    private final long segundosRestantes;
+
+    public RequisicoesExcedidasException(String message, long segundosRestantes) {
+        super(message);
+        this.segundosRestantes = segundosRestantes;
+    }
+
+    public long getSegundosRestantes() {
+        return segundosRestantes;
+    }
+}
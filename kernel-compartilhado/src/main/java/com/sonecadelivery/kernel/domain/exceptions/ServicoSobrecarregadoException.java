@@ -0,0 +1,16 @@
+package com.sonecadelivery.kernel.domain.exceptions;
+
+/**
+ * Recurso interno saturado (fila cheia ou tempo de espera esgotado).
+ * A requisição foi recusada sem ser processada e pode ser repetida em instantes.
+ */
+public class ServicoSobrecarregadoException extends DomainException {
+
+    public ServicoSobrecarregadoException(String message) {
+        super(message);
+    }
+
+    public ServicoSobrecarregadoException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.sonecadelivery.kernel.domain.exceptions;
+
+/**
+ * Conta temporariamente bloqueada por excesso de tentativas de login.
+ */
+public class TentativasExcedidasException extends DomainException {
+
+    private final long segundosRestantes;
+
+    public TentativasExcedidasException(String message, long segundosRestantes) {
+        super(message);
+        this.segundosRestantes = segundosRestantes;
+    }
+
+    public long getSegundosRestantes() {
+        return segundosRestantes;
+    }
+}
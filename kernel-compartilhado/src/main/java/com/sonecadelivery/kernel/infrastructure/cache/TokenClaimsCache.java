@@ -0,0 +1,139 @@
+package com.sonecadelivery.kernel.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cache limitado de claims já verificados de tokens (JWT).
+ *
+ * Evita que cada requisição autenticada refaça o parse e a verificação
+ * da assinatura HMAC do mesmo token: o token é verificado uma única vez
+ * e os claims ficam em memória até o instante de expiração do próprio token.
+ *
+ * Características:
+ * - Chave: digest SHA-256 do token (o token bruto não fica retido em memória)
+ * - Expiração: cada entrada expira junto com o "exp" do token
+ * - Limitado (LRU): cheio, o token novo entra no lugar do usado há mais tempo;
+ *   inserir e remover são O(1), sem varredura no caminho da requisição
+ * - Thread-safe: o mapa é protegido por um lock curto; a verificação do
+ *   token (a parte cara) acontece fora dele
+ *
+ * Tokens inválidos nunca são armazenados: se o carregador lançar exceção,
+ * ela é propagada para o chamador e nada é guardado.
+ *
+ * Sem dependências de frameworks - pode ser usado por qualquer módulo.
+ *
+ * @param <T> tipo dos claims armazenados
+ */
+public class TokenClaimsCache<T> {
+
+    private final Map<String, Entrada<T>> entradas;
+    private final Function<T, Instant> extratorExpiracao;
+
+    /**
+     * @param maxEntradas       número máximo de tokens mantidos em cache
+     * @param extratorExpiracao função que retorna o instante de expiração dos claims
+     */
+    public TokenClaimsCache(int maxEntradas, Function<T, Instant> extratorExpiracao) {
+        if (maxEntradas <= 0) {
+            throw new IllegalArgumentException("maxEntradas deve ser maior que zero");
+        }
+        if (extratorExpiracao == null) {
+            throw new IllegalArgumentException("extratorExpiracao não pode ser nulo");
+        }
+        this.extratorExpiracao = extratorExpiracao;
+        // Ordem de acesso: o primeiro da fila é o menos usado recentemente
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada<T>> maisAntiga) {
+                return size() > maxEntradas;
+            }
+        };
+    }
+
+    /**
+     * Retorna os claims do token, verificando-o apenas na primeira vez.
+     *
+     * @param token      token bruto
+     * @param carregador função que faz o parse e verifica a assinatura do token
+     *                   (deve lançar exceção para tokens inválidos)
+     * @return claims verificados
+     */
+    public T obter(String token, Function<String, T> carregador) {
+        String chave = digest(token);
+        long agora = System.currentTimeMillis();
+
+        synchronized (entradas) {
+            Entrada<T> entrada = entradas.get(chave);
+            if (entrada != null) {
+                if (entrada.expiraEmMillis() > agora) {
+                    return entrada.claims();
+                }
+                entradas.remove(chave);
+            }
+        }
+
+        T claims = carregador.apply(token);
+        armazenar(chave, claims, agora);
+        return claims;
+    }
+
+    /**
+     * Remove do cache as entradas cujo token já expirou.
+     * Não é necessário para limitar o tamanho (o LRU já faz isso); apenas
+     * devolve a memória de tokens expirados mais cedo.
+     *
+     * @return quantidade de entradas removidas
+     */
+    public int limparExpiradas() {
+        long agora = System.currentTimeMillis();
+        synchronized (entradas) {
+            int antes = entradas.size();
+            entradas.values().removeIf(e -> e.expiraEmMillis() <= agora);
+            return antes - entradas.size();
+        }
+    }
+
+    public int tamanho() {
+        synchronized (entradas) {
+            return entradas.size();
+        }
+    }
+
+    public void limpar() {
+        synchronized (entradas) {
+            entradas.clear();
+        }
+    }
+
+    private void armazenar(String chave, T claims, long agora) {
+        Instant expiracao = extratorExpiracao.apply(claims);
+        if (expiracao == null || expiracao.toEpochMilli() <= agora) {
+            // Sem expiração ou já expirado: não armazena
+            return;
+        }
+        synchronized (entradas) {
+            entradas.put(chave, new Entrada<>(claims, expiracao.toEpochMilli()));
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 é obrigatório em toda JVM
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível", e);
+        }
+    }
+
+    private record Entrada<T>(T claims, long expiraEmMillis) {
+    }
+}
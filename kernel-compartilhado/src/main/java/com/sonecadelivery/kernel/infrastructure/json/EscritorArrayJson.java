@@ -0,0 +1,72 @@
+package com.sonecadelivery.kernel.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Escreve um array JSON item a item direto na saída, sem montar a lista em
+ * memória: o consumo de heap não depende da quantidade de itens.
+ *
+ * Uso: escrever(...) para cada item e concluir() no fim. Fechar sem
+ * concluir (erro no meio da leitura) deixa o array aberto - JSON inválido
+ * para o cliente, em vez de uma lista truncada que parece completa.
+ *
+ * @param <T> tipo dos itens
+ */
+public class EscritorArrayJson<T> implements Closeable {
+
+    private static final int ITENS_POR_FLUSH = 256;
+
+    private final ObjectWriter writer;
+    private final JsonGenerator gerador;
+    private int escritos;
+
+    /**
+     * @param writer writer do tipo dos itens (ver {@link EscritoresJson#para(Class)})
+     * @param saida  não é fechada por este escritor
+     */
+    public EscritorArrayJson(ObjectWriter writer, OutputStream saida) throws IOException {
+        this.writer = writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.gerador = this.writer.createGenerator(saida, JsonEncoding.UTF8);
+        this.gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Sem concluir() o array fica aberto (o padrão fecharia no close)
+        this.gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        this.gerador.writeStartArray();
+    }
+
+    /**
+     * @throws UncheckedIOException se a escrita falhar (ex.: cliente desconectou);
+     *                              interrompe a leitura que alimenta o array
+     */
+    public void escrever(T item) {
+        try {
+            writer.writeValue(gerador, item);
+            if (++escritos % ITENS_POR_FLUSH == 0) {
+                gerador.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void concluir() throws IOException {
+        gerador.writeEndArray();
+        gerador.flush();
+    }
+
+    public int getEscritos() {
+        return escritos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        gerador.close();
+    }
+}
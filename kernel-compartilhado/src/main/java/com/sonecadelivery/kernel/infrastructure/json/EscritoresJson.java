@@ -0,0 +1,50 @@
+package com.sonecadelivery.kernel.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ObjectWriters prontos por tipo, todos derivados do ObjectMapper único da
+ * aplicação.
+ *
+ * - O serializador da raiz é resolvido uma vez na criação do writer; as
+ *   escritas seguintes não passam pela busca no cache de serializadores
+ * - Tipos quentes (DTOs de listas, eventos SSE) podem ser preparados no
+ *   startup; os demais entram no primeiro uso
+ *
+ * Sem dependências de frameworks - registrado como bean na configuração do Jackson.
+ */
+public class EscritoresJson {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectWriter> porTipo = new ConcurrentHashMap<>();
+
+    public EscritoresJson(ObjectMapper objectMapper, Class<?>... preparados) {
+        this.objectMapper = objectMapper;
+        for (Class<?> tipo : preparados) {
+            para(tipo);
+        }
+    }
+
+    /**
+     * Writer do tipo exato informado (subclasses são escritas como o tipo).
+     */
+    public ObjectWriter para(Class<?> tipo) {
+        return porTipo.computeIfAbsent(tipo, objectMapper::writerFor);
+    }
+
+    public String escreverComoString(Object valor) throws JsonProcessingException {
+        if (valor == null) {
+            return "null";
+        }
+        return para(valor.getClass()).writeValueAsString(valor);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+}
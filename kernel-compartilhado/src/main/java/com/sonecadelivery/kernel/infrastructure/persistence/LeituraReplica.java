@@ -0,0 +1,22 @@
+package com.sonecadelivery.kernel.infrastructure.persistence;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca leituras que podem ir para a réplica (relatórios e agregados que
+ * toleram alguns segundos de atraso).
+ *
+ * Só vale junto com @Transactional(readOnly = true) e com a réplica habilitada
+ * (datasource.replica.enabled). Leituras sem esta marca ficam na primária,
+ * mesmo somente leitura: um caso de uso que lê e depois grava não pode
+ * decidir a partir de um dado atrasado.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface LeituraReplica {
+}
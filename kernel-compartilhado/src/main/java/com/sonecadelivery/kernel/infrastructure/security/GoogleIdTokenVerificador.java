@@ -0,0 +1,263 @@
+package com.sonecadelivery.kernel.infrastructure.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Verificador único de ID tokens do Google, compartilhado pelos logins de
+ * cliente (gestao-clientes) e de motoboy (gestao-pedidos).
+ *
+ * - Chaves públicas (JWKS) em memória, indexadas por "kid"
+ * - Validade das chaves segue o Cache-Control (max-age) da resposta do Google
+ * - Renovação em background antes de expirar; kid desconhecido força uma
+ *   renovação imediata (limitada por intervalo mínimo)
+ * - Assinatura, iss, aud e exp verificados localmente: o login não faz
+ *   nenhuma chamada de rede no caminho crítico
+ *
+ * O endereço das chaves é configurável (google.jwks-uri) para apontar para um
+ * conjunto de chaves servido localmente em testes.
+ *
+ * Sem dependências de frameworks - registrado como bean em GoogleIdTokenConfig
+ * (gestao-clientes); {@link #iniciar()} agenda a renovação em background.
+ */
+@Slf4j
+public class GoogleIdTokenVerificador {
+
+    private static final Set<String> EMISSORES_VALIDOS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final long VALIDADE_PADRAO_SEGUNDOS = 3600;
+    private static final long ANTECEDENCIA_RENOVACAO_SEGUNDOS = 300;
+    private static final long INTERVALO_MINIMO_RENOVACAO_MS = 30_000;
+    private static final long TOLERANCIA_RELOGIO_SEGUNDOS = 300;
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String clientId;
+    private final String jwksUri;
+    private final JwtParser jwtParser;
+
+    private volatile Map<String, PublicKey> chavesPorKid = Collections.emptyMap();
+    private volatile long ultimaRenovacaoMs;
+    private ScheduledExecutorService agendador;
+
+    /**
+     * @param clientId Client ID do Google (aud esperado); vazio = login com Google indisponível
+     * @param jwksUri  endereço do JWKS
+     */
+    public GoogleIdTokenVerificador(ObjectMapper objectMapper, String clientId, String jwksUri) {
+        this.objectMapper = objectMapper;
+        this.clientId = clientId;
+        this.jwksUri = jwksUri;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return localizarChave(header.getKeyId());
+                    }
+                })
+                .clockSkewSeconds(TOLERANCIA_RELOGIO_SEGUNDOS)
+                .build();
+    }
+
+    /**
+     * Agenda a primeira carga e as renovações periódicas das chaves.
+     * Sem ele, as chaves são baixadas sob demanda na primeira verificação.
+     */
+    public void iniciar() {
+        this.agendador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "google-jwks-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+
+        if (clientId == null || clientId.isBlank()) {
+            log.warn("Google Client ID não configurado - login com Google indisponível");
+            return;
+        }
+        // Primeira carga em background: não atrasa o startup
+        agendador.execute(this::renovarEAgendar);
+    }
+
+    public void encerrar() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+        }
+    }
+
+    /**
+     * Verifica assinatura e claims do ID token.
+     *
+     * @param idToken token recebido do Google Identity Services
+     * @return claims verificados
+     * @throws IllegalStateException    se o Client ID não estiver configurado
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public Claims verificar(String idToken) {
+        if (clientId == null || clientId.isBlank()) {
+            log.error("Google Client ID não configurado! Verifique a variável de ambiente GOOGLE_CLIENT_ID");
+            throw new IllegalStateException("Google Client ID não configurado");
+        }
+        if (idToken == null || idToken.isBlank()) {
+            throw new IllegalArgumentException("Token do Google inválido");
+        }
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(idToken).getPayload();
+        } catch (JwtException e) {
+            throw new IllegalArgumentException("Token do Google inválido: " + e.getMessage(), e);
+        }
+
+        if (!EMISSORES_VALIDOS.contains(claims.getIssuer())) {
+            throw new IllegalArgumentException("Token do Google com emissor inválido");
+        }
+        Set<String> audiencia = claims.getAudience();
+        if (audiencia == null || !audiencia.contains(clientId)) {
+            throw new IllegalArgumentException("Token do Google emitido para outro Client ID");
+        }
+        return claims;
+    }
+
+    /**
+     * Interpreta "email_verified", que o Google pode enviar como booleano ou string.
+     */
+    public static boolean emailVerificado(Claims claims) {
+        Object valor = claims.get("email_verified");
+        return Boolean.TRUE.equals(valor) || "true".equals(valor);
+    }
+
+    private Key localizarChave(String kid) {
+        if (kid == null) {
+            throw new JwtException("Token sem 'kid'");
+        }
+        PublicKey chave = chavesPorKid.get(kid);
+        if (chave == null && (chavesPorKid.isEmpty() || podeRenovarAgora())) {
+            // Primeira carga ainda não concluída ou Google rotacionou as chaves antes do previsto
+            renovarParaKid(kid);
+            chave = chavesPorKid.get(kid);
+        }
+        if (chave == null) {
+            throw new JwtException("Chave de assinatura desconhecida: " + kid);
+        }
+        return chave;
+    }
+
+    private boolean podeRenovarAgora() {
+        return System.currentTimeMillis() - ultimaRenovacaoMs >= INTERVALO_MINIMO_RENOVACAO_MS;
+    }
+
+    /**
+     * Re-verifica dentro do lock: outra thread pode ter acabado de renovar.
+     */
+    private synchronized void renovarParaKid(String kid) {
+        if (!chavesPorKid.containsKey(kid)) {
+            renovarChaves();
+        }
+    }
+
+    private void renovarEAgendar() {
+        long validade = renovarChaves();
+        long proxima = Math.max(60, validade - ANTECEDENCIA_RENOVACAO_SEGUNDOS);
+        try {
+            agendador.schedule(this::renovarEAgendar, proxima, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            // Encerrando
+        }
+    }
+
+    /**
+     * Baixa o JWKS e substitui o mapa de chaves.
+     *
+     * @return validade em segundos (max-age); em caso de erro, mantém as chaves
+     *         atuais e retorna um intervalo curto para nova tentativa
+     */
+    private synchronized long renovarChaves() {
+        ultimaRenovacaoMs = System.currentTimeMillis();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(jwksUri))
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                log.warn("Falha ao obter chaves do Google (status {})", response.statusCode());
+                return 60;
+            }
+
+            Map<String, PublicKey> novas = lerChaves(response.body());
+            if (novas.isEmpty()) {
+                log.warn("JWKS do Google sem chaves RSA utilizáveis");
+                return 60;
+            }
+            chavesPorKid = Collections.unmodifiableMap(novas);
+
+            long validade = response.headers().firstValue("Cache-Control")
+                    .map(GoogleIdTokenVerificador::extrairMaxAge)
+                    .orElse(VALIDADE_PADRAO_SEGUNDOS);
+            log.info("Chaves do Google atualizadas: {} chave(s), válidas por {}s", novas.size(), validade);
+            return validade;
+        } catch (IOException e) {
+            log.warn("Erro ao obter chaves do Google: {}", e.getMessage());
+            return 60;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 60;
+        }
+    }
+
+    private Map<String, PublicKey> lerChaves(String json) throws IOException {
+        Map<String, PublicKey> chaves = new HashMap<>();
+        JsonNode keys = objectMapper.readTree(json).path("keys");
+        for (JsonNode jwk : keys) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            try {
+                BigInteger n = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+                BigInteger e = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+                PublicKey chave = KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(n, e));
+                chaves.put(jwk.path("kid").asText(), chave);
+            } catch (Exception ex) {
+                log.warn("Chave JWKS ignorada (kid={}): {}", jwk.path("kid").asText(), ex.getMessage());
+            }
+        }
+        return chaves;
+    }
+
+    private static long extrairMaxAge(String cacheControl) {
+        Matcher matcher = MAX_AGE.matcher(cacheControl);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : VALIDADE_PADRAO_SEGUNDOS;
+    }
+}
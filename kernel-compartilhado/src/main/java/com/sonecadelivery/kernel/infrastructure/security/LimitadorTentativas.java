@@ -0,0 +1,119 @@
+package com.sonecadelivery.kernel.infrastructure.security;
+
+import com.sonecadelivery.kernel.domain.exceptions.TentativasExcedidasException;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limita tentativas de login com falha por conta.
+ *
+ * Verificado ANTES do hash da senha: tráfego de força bruta contra uma conta
+ * bloqueada é recusado sem gastar CPU com BCrypt.
+ *
+ * - Após maxFalhas falhas dentro da janela, a conta fica bloqueada até o fim do bloqueio
+ * - Sucesso zera o contador
+ * - Limitado em memória: ao atingir o máximo de contas, remove as expiradas e,
+ *   se ainda estiver cheio, descarta a conta atualizada há mais tempo (LRU),
+ *   preferindo as não bloqueadas. Uma conta nova é sempre acompanhada
+ * - Thread-safe com ConcurrentHashMap
+ *
+ * Sem dependências de frameworks - pode ser usado por qualquer módulo.
+ */
+public class LimitadorTentativas {
+
+    private final Map<String, Registro> registros = new ConcurrentHashMap<>();
+    private final int maxFalhas;
+    private final long janelaMs;
+    private final long bloqueioMs;
+    private final int maxContas;
+
+    /**
+     * @param maxFalhas  falhas permitidas dentro da janela
+     * @param janelaMs   janela de contagem das falhas
+     * @param bloqueioMs duração do bloqueio após exceder o limite
+     * @param maxContas  máximo de contas acompanhadas em memória
+     */
+    public LimitadorTentativas(int maxFalhas, long janelaMs, long bloqueioMs, int maxContas) {
+        if (maxFalhas <= 0 || janelaMs <= 0 || bloqueioMs <= 0 || maxContas <= 0) {
+            throw new IllegalArgumentException("Parâmetros do limitador devem ser maiores que zero");
+        }
+        this.maxFalhas = maxFalhas;
+        this.janelaMs = janelaMs;
+        this.bloqueioMs = bloqueioMs;
+        this.maxContas = maxContas;
+    }
+
+    /**
+     * @throws TentativasExcedidasException se a conta estiver bloqueada
+     */
+    public void verificarPermitido(String conta) {
+        Registro registro = registros.get(normalizar(conta));
+        if (registro == null) {
+            return;
+        }
+        long agora = System.currentTimeMillis();
+        long bloqueadoAte = registro.bloqueadoAte();
+        if (bloqueadoAte > agora) {
+            long segundos = Math.max(1, (bloqueadoAte - agora + 999) / 1000);
+            throw new TentativasExcedidasException(
+                    "Muitas tentativas de login. Tente novamente em " + segundos + " segundos.", segundos);
+        }
+    }
+
+    public void registrarFalha(String conta) {
+        String chave = normalizar(conta);
+        long agora = System.currentTimeMillis();
+
+        if (!registros.containsKey(chave) && registros.size() >= maxContas) {
+            limparExpirados();
+            if (registros.size() >= maxContas) {
+                removerMaisAntiga(agora);
+            }
+        }
+
+        registros.compute(chave, (k, atual) -> {
+            if (atual == null || agora - atual.inicioJanela() > janelaMs) {
+                atual = new Registro(agora, 0, 0, agora);
+            }
+            int falhas = atual.falhas() + 1;
+            long bloqueadoAte = falhas >= maxFalhas ? agora + bloqueioMs : atual.bloqueadoAte();
+            // Ao bloquear, reinicia a contagem: após o bloqueio a conta tem novas tentativas
+            return falhas >= maxFalhas
+                    ? new Registro(agora, 0, bloqueadoAte, agora)
+                    : new Registro(atual.inicioJanela(), falhas, bloqueadoAte, agora);
+        });
+    }
+
+    public void registrarSucesso(String conta) {
+        registros.remove(normalizar(conta));
+    }
+
+    public int limparExpirados() {
+        long agora = System.currentTimeMillis();
+        int antes = registros.size();
+        registros.values().removeIf(r -> r.bloqueadoAte() <= agora && agora - r.inicioJanela() > janelaMs);
+        return Math.max(0, antes - registros.size());
+    }
+
+    /**
+     * Remove a conta com a falha mais antiga, preferindo as não bloqueadas:
+     * uma enxurrada de contas novas não apaga bloqueios ativos enquanto houver
+     * outra conta para descartar. Varre o mapa, mas só com ele cheio e depois
+     * de uma senha errada (o BCrypt já custou mais que a varredura).
+     */
+    private void removerMaisAntiga(long agora) {
+        registros.entrySet().stream()
+                .min(Comparator.comparing((Map.Entry<String, Registro> e) -> e.getValue().bloqueadoAte() > agora)
+                        .thenComparingLong(e -> e.getValue().atualizadoEm()))
+                .ifPresent(e -> registros.remove(e.getKey(), e.getValue()));
+    }
+
+    private static String normalizar(String conta) {
+        return conta == null ? "" : conta.trim().toLowerCase();
+    }
+
+    private record Registro(long inicioJanela, int falhas, long bloqueadoAte, long atualizadoEm) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.sonecadelivery.kernel.infrastructure.security;
+
+import com.sonecadelivery.kernel.domain.exceptions.ServicoSobrecarregadoException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executor dedicado e limitado para hash/verificação de senhas (BCrypt).
+ *
+ * O hash é CPU-bound e deliberadamente lento: executado direto nas threads do
+ * Tomcat, um pico de logins ocupa quase todas elas. Aqui:
+ * - Threads fixas (padrão: número de CPUs) - nunca mais hashes simultâneos que núcleos
+ * - Fila limitada; com a fila cheia a requisição falha na hora (fast-fail)
+ *   com {@link ServicoSobrecarregadoException}, em vez de acumular espera
+ * - Tempo máximo de espera pelo resultado
+ *
+ * Também conhece o custo BCrypt configurado, para detectar hashes gravados com
+ * custo diferente e permitir o rehash transparente no próximo login.
+ *
+ * Sem dependências de frameworks - o algoritmo de hash é fornecido pelo chamador.
+ */
+public class ProcessadorHashSenha {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final int custoBcrypt;
+
+    /**
+     * @param threads     threads de hash (use o número de CPUs)
+     * @param fila        máximo de operações aguardando
+     * @param timeoutMs   tempo máximo de espera por uma operação (fila + execução)
+     * @param custoBcrypt custo (log2 rounds) usado para novos hashes
+     */
+    public ProcessadorHashSenha(int threads, int fila, long timeoutMs, int custoBcrypt) {
+        if (threads <= 0 || fila <= 0 || timeoutMs <= 0) {
+            throw new IllegalArgumentException("threads, fila e timeoutMs devem ser maiores que zero");
+        }
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila),
+                r -> {
+                    Thread t = new Thread(r, "hash-senha-" + contador.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+        this.custoBcrypt = custoBcrypt;
+    }
+
+    /**
+     * Executa a operação de hash no pool dedicado e aguarda o resultado.
+     *
+     * @throws ServicoSobrecarregadoException se a fila estiver cheia ou o tempo esgotar
+     */
+    public <T> T executar(Supplier<T> operacao) {
+        Future<T> futuro;
+        try {
+            futuro = executor.submit(operacao::get);
+        } catch (RejectedExecutionException e) {
+            throw new ServicoSobrecarregadoException("Muitas autenticações simultâneas. Tente novamente em instantes.", e);
+        }
+
+        try {
+            return futuro.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            throw new ServicoSobrecarregadoException("Tempo de autenticação esgotado. Tente novamente em instantes.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futuro.cancel(true);
+            throw new ServicoSobrecarregadoException("Autenticação interrompida", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Erro ao processar hash de senha", causa);
+        }
+    }
+
+    /**
+     * Indica se o hash foi gerado com custo diferente do configurado
+     * (formato BCrypt: $2a$NN$...). Hashes em formato desconhecido não são alterados.
+     */
+    public boolean custoDiferente(String hash) {
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$'
+                || hash.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6)) != custoBcrypt;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int getCustoBcrypt() {
+        return custoBcrypt;
+    }
+
+    public int getOcupacaoFila() {
+        return executor.getQueue().size();
+    }
+
+    public void encerrar() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,54 @@
+package com.sonecadelivery.kernel.infrastructure.security;
+
+import com.sonecadelivery.kernel.infrastructure.cache.TokenClaimsCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Chave, parser e cache de claims de tokens JWT assinados com HMAC.
+ *
+ * Criado uma única vez por serviço de JWT (usuário, cliente, motoboy):
+ * o filtro chama validar/extrair várias vezes por requisição e, com o cache,
+ * cada token é verificado (parse + HMAC) apenas uma vez durante sua validade.
+ *
+ * Sem dependências de frameworks - pode ser usado por qualquer módulo.
+ */
+public class VerificadorJwtHmac {
+
+    private final SecretKey chave;
+    private final JwtParser parser;
+    private final TokenClaimsCache<Claims> claimsCache;
+
+    /**
+     * @param segredo            segredo HMAC (jwt.secret)
+     * @param maxEntradasCache   máximo de tokens mantidos no cache de claims
+     */
+    public VerificadorJwtHmac(String segredo, int maxEntradasCache) {
+        this.chave = Keys.hmacShaKeyFor(segredo.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(chave).build();
+        this.claimsCache = new TokenClaimsCache<>(
+                maxEntradasCache,
+                claims -> claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    /**
+     * Claims verificados do token.
+     *
+     * @throws io.jsonwebtoken.JwtException se o token for inválido ou expirado
+     */
+    public Claims claims(String token) {
+        return claimsCache.obter(token, t -> parser.parseSignedClaims(t).getPayload());
+    }
+
+    /**
+     * Chave para assinar os tokens emitidos pelo próprio serviço.
+     */
+    public SecretKey getChave() {
+        return chave;
+    }
+}
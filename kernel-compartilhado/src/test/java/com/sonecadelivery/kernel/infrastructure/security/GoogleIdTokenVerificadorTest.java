@@ -0,0 +1,213 @@
+package com.sonecadelivery.kernel.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verificação de ID tokens contra um JWKS servido localmente (sem rede externa).
+ */
+class GoogleIdTokenVerificadorTest {
+
+    private static final String CLIENT_ID = "cliente-teste.apps.googleusercontent.com";
+    private static final String EMISSOR = "https://accounts.google.com";
+    private static final String KID = "chave-1";
+
+    private final AtomicInteger downloadsJwks = new AtomicInteger();
+    private KeyPair chaves;
+    private HttpServer servidor;
+    private String jwksUri;
+
+    @BeforeEach
+    void iniciarJwks() throws Exception {
+        chaves = novoParRsa();
+        byte[] jwks = jwks(KID, (RSAPublicKey) chaves.getPublic()).getBytes(StandardCharsets.UTF_8);
+
+        servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        servidor.createContext("/certs", troca -> {
+            downloadsJwks.incrementAndGet();
+            troca.getResponseHeaders().add("Content-Type", "application/json");
+            troca.getResponseHeaders().add("Cache-Control", "public, max-age=19000, must-revalidate");
+            troca.sendResponseHeaders(200, jwks.length);
+            try (OutputStream corpo = troca.getResponseBody()) {
+                corpo.write(jwks);
+            }
+        });
+        servidor.start();
+        jwksUri = "http://127.0.0.1:" + servidor.getAddress().getPort() + "/certs";
+    }
+
+    @AfterEach
+    void pararJwks() {
+        servidor.stop(0);
+    }
+
+    @Test
+    void tokenValidoRetornaClaims() {
+        GoogleIdTokenVerificador verificador = verificador(CLIENT_ID);
+
+        Claims claims = verificador.verificar(token(KID, chaves.getPrivate(), EMISSOR, CLIENT_ID, emUmaHora()));
+
+        assertThat(claims.getSubject()).isEqualTo("google-123");
+        assertThat(claims.get("email", String.class)).isEqualTo("cliente@example.com");
+        assertThat(GoogleIdTokenVerificador.emailVerificado(claims)).isTrue();
+        assertThat(downloadsJwks).hasValue(1);
+    }
+
+    @Test
+    void chavesFicamEmMemoriaEntreVerificacoes() {
+        GoogleIdTokenVerificador verificador = verificador(CLIENT_ID);
+        String token = token(KID, chaves.getPrivate(), EMISSOR, CLIENT_ID, emUmaHora());
+
+        verificador.verificar(token);
+        verificador.verificar(token);
+        verificador.verificar(token);
+
+        assertThat(downloadsJwks).hasValue(1);
+    }
+
+    @Test
+    void tokenDeOutroClientIdRecusado() {
+        GoogleIdTokenVerificador verificador = verificador(CLIENT_ID);
+        String token = token(KID, chaves.getPrivate(), EMISSOR, "outro-cliente", emUmaHora());
+
+        assertThatThrownBy(() -> verificador.verificar(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("outro Client ID");
+    }
+
+    @Test
+    void emissorDesconhecidoRecusado() {
+        GoogleIdTokenVerificador verificador = verificador(CLIENT_ID);
+        String token = token(KID, chaves.getPrivate(), "https://emissor.example.com", CLIENT_ID, emUmaHora());
+
+        assertThatThrownBy(() -> verificador.verificar(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("emissor");
+    }
+
+    @Test
+    void tokenExpiradoRecusado() {
+        GoogleIdTokenVerificador verificador = verificador(CLIENT_ID);
+        Instant expirado = Instant.now().minus(1, ChronoUnit.HOURS);
+        String token = token(KID, chaves.getPrivate(), EMISSOR, CLIENT_ID, expirado);
+
+        assertThatThrownBy(() -> verificador.verificar(token))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void assinaturaDeOutraChaveComMesmoKidRecusada() throws Exception {
+        GoogleIdTokenVerificador verificador = verificador(CLIENT_ID);
+        PrivateKey forjada = novoParRsa().getPrivate();
+        String token = token(KID, forjada, EMISSOR, CLIENT_ID, emUmaHora());
+
+        assertThatThrownBy(() -> verificador.verificar(token))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void kidDesconhecidoNaoBaixaChavesDeNovoDentroDoIntervaloMinimo() throws Exception {
+        GoogleIdTokenVerificador verificador = verificador(CLIENT_ID);
+        verificador.verificar(token(KID, chaves.getPrivate(), EMISSOR, CLIENT_ID, emUmaHora()));
+
+        String desconhecido = token("chave-2", novoParRsa().getPrivate(), EMISSOR, CLIENT_ID, emUmaHora());
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> verificador.verificar(desconhecido))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("chave-2");
+        }
+
+        assertThat(downloadsJwks).hasValue(1);
+    }
+
+    @Test
+    void semClientIdConfiguradoLoginIndisponivel() {
+        GoogleIdTokenVerificador verificador = verificador("");
+        String token = token(KID, chaves.getPrivate(), EMISSOR, CLIENT_ID, emUmaHora());
+
+        assertThatThrownBy(() -> verificador.verificar(token))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(downloadsJwks).hasValue(0);
+    }
+
+    @Test
+    void emailVerificadoAceitaBooleanoOuTexto() {
+        assertThat(GoogleIdTokenVerificador.emailVerificado(claims(true))).isTrue();
+        assertThat(GoogleIdTokenVerificador.emailVerificado(claims("true"))).isTrue();
+        assertThat(GoogleIdTokenVerificador.emailVerificado(claims("false"))).isFalse();
+        assertThat(GoogleIdTokenVerificador.emailVerificado(Jwts.claims().build())).isFalse();
+    }
+
+    private GoogleIdTokenVerificador verificador(String clientId) {
+        // Sem iniciar(): as chaves são baixadas sob demanda, de forma determinística
+        return new GoogleIdTokenVerificador(new ObjectMapper(), clientId, jwksUri);
+    }
+
+    private static Claims claims(Object emailVerificado) {
+        return Jwts.claims().add("email_verified", emailVerificado).build();
+    }
+
+    private static Instant emUmaHora() {
+        return Instant.now().plus(1, ChronoUnit.HOURS);
+    }
+
+    private static String token(String kid, PrivateKey chave, String emissor, String audiencia, Instant expiracao) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .issuer(emissor)
+                .audience().add(audiencia).and()
+                .subject("google-123")
+                .claim("email", "cliente@example.com")
+                .claim("email_verified", "true")
+                .issuedAt(Date.from(expiracao.minus(1, ChronoUnit.HOURS)))
+                .expiration(Date.from(expiracao))
+                .signWith(chave)
+                .compact();
+    }
+
+    private static KeyPair novoParRsa() throws Exception {
+        KeyPairGenerator gerador = KeyPairGenerator.getInstance("RSA");
+        gerador.initialize(2048);
+        return gerador.generateKeyPair();
+    }
+
+    private static String jwks(String kid, RSAPublicKey chave) {
+        return "{\"keys\":[{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + kid + "\","
+                + "\"n\":\"" + base64Url(chave.getModulus()) + "\","
+                + "\"e\":\"" + base64Url(chave.getPublicExponent()) + "\"}]}";
+    }
+
+    /**
+     * Inteiro sem sinal em Base64url, como no JWK (sem o byte 0 de sinal).
+     */
+    private static String base64Url(BigInteger valor) {
+        byte[] bytes = valor.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
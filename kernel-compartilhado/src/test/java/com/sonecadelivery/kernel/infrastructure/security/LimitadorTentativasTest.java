@@ -0,0 +1,44 @@
+package com.sonecadelivery.kernel.infrastructure.security;
+
+import com.sonecadelivery.kernel.domain.exceptions.TentativasExcedidasException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Com o mapa cheio de contas ainda válidas, uma conta nova continua sendo
+ * acompanhada (descarta a mais antiga em vez de liberar a nova).
+ */
+class LimitadorTentativasTest {
+
+    private static final long UMA_HORA_MS = 3_600_000;
+
+    @Test
+    void contaNovaComMapaCheioDescartaANaoBloqueadaMaisAntiga() {
+        LimitadorTentativas limitador = new LimitadorTentativas(2, UMA_HORA_MS, UMA_HORA_MS, 2);
+
+        limitador.registrarFalha("a@teste.com");
+        limitador.registrarFalha("b@teste.com");
+        limitador.registrarFalha("b@teste.com");
+        limitador.registrarFalha("c@teste.com");
+        limitador.registrarFalha("c@teste.com");
+
+        assertThatThrownBy(() -> limitador.verificarPermitido("b@teste.com"))
+                .isInstanceOf(TentativasExcedidasException.class);
+        assertThatThrownBy(() -> limitador.verificarPermitido("c@teste.com"))
+                .isInstanceOf(TentativasExcedidasException.class);
+    }
+
+    @Test
+    void comTodasBloqueadasDescartaABloqueadaMaisAntiga() {
+        LimitadorTentativas limitador = new LimitadorTentativas(1, UMA_HORA_MS, UMA_HORA_MS, 1);
+
+        limitador.registrarFalha("a@teste.com");
+        limitador.registrarFalha("b@teste.com");
+
+        assertThatCode(() -> limitador.verificarPermitido("a@teste.com")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> limitador.verificarPermitido("b@teste.com"))
+                .isInstanceOf(TentativasExcedidasException.class);
+    }
+}
@@ -13,17 +13,17 @@ public class ConfigAnimacaoDTO extends BaseDTO {
     private boolean animacaoAtivada;
     private int intervaloAnimacao;
     private int duracaoAnimacao;
-    private String video1Url;
-    private String video2Url;
+    private MidiaDTO video1;
+    private MidiaDTO video2;
     
-    public static ConfigAnimacaoDTO de(ConfigAnimacao config) {
+    public static ConfigAnimacaoDTO de(ConfigAnimacao config, MidiaDTO video1, MidiaDTO video2) {
         return ConfigAnimacaoDTO.builder()
             .id(config.getId())
             .animacaoAtivada(config.isAnimacaoAtivada())
             .intervaloAnimacao(config.getIntervaloAnimacao())
             .duracaoAnimacao(config.getDuracaoAnimacao())
-            .video1Url(config.getVideo1Url())
-            .video2Url(config.getVideo2Url())
+            .video1(video1)
+            .video2(video2)
             .createdAt(config.getCreatedAt())
             .updatedAt(config.getUpdatedAt())
             .build();
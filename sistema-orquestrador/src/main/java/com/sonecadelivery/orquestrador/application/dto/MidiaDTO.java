@@ -0,0 +1,35 @@
+package com.sonecadelivery.orquestrador.application.dto;
+
+import com.sonecadelivery.orquestrador.domain.entities.Midia;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Metadados de uma mídia; o conteúdo é baixado pela url.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MidiaDTO {
+
+    public static final String URL_BASE = "/api/media/";
+
+    private String id;
+    private String nome;
+    private String contentType;
+    private long tamanho;
+    private String url;
+
+    public static MidiaDTO de(Midia midia) {
+        return MidiaDTO.builder()
+                .id(midia.id())
+                .nome(midia.nome())
+                .contentType(midia.contentType())
+                .tamanho(midia.tamanho())
+                .url(URL_BASE + midia.id())
+                .build();
+    }
+}
@@ -23,7 +23,8 @@ public class SalvarConfigAnimacaoRequest {
     @Min(value = 1, message = "Duração deve ser maior que zero")
     private Integer duracaoAnimacao;
     
-    private String video1Url;
-    private String video2Url;
+    /** Mídia enviada antes por POST /api/media (null = sem vídeo) */
+    private String video1MidiaId;
+    private String video2MidiaId;
 }
 
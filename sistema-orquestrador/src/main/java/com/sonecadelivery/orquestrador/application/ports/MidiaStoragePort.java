@@ -0,0 +1,29 @@
+package com.sonecadelivery.orquestrador.application.ports;
+
+import com.sonecadelivery.orquestrador.domain.entities.Midia;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Armazenamento de mídias binárias. O conteúdo é gravado e lido em fluxo,
+ * sem nunca ser carregado inteiro em memória.
+ */
+public interface MidiaStoragePort {
+
+    /**
+     * Grava o conteúdo lido até o fim do stream (não fecha o stream).
+     */
+    Midia salvar(String nome, String contentType, InputStream conteudo) throws IOException;
+
+    Optional<Midia> buscar(String id);
+
+    /**
+     * Abre o conteúdo para leitura; skip() avança sem ler os bytes pulados,
+     * então leituras por intervalo (HTTP Range) só buscam o trecho pedido.
+     */
+    InputStream abrir(Midia midia);
+
+    void excluir(String id);
+}
@@ -0,0 +1,31 @@
+package com.sonecadelivery.orquestrador.application.usecases;
+
+import com.sonecadelivery.kernel.domain.exceptions.NotFoundException;
+import com.sonecadelivery.orquestrador.application.ports.MidiaStoragePort;
+import com.sonecadelivery.orquestrador.domain.entities.Midia;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+
+@Service
+@RequiredArgsConstructor
+public class BaixarMidiaUseCase {
+
+    private final MidiaStoragePort midiaStorage;
+
+    /**
+     * @throws NotFoundException se a mídia não existir
+     */
+    public Midia buscar(String id) {
+        return midiaStorage.buscar(id)
+                .orElseThrow(() -> new NotFoundException("Mídia não encontrada: " + id));
+    }
+
+    /**
+     * Conteúdo para leitura em fluxo (os blocos são buscados conforme a leitura).
+     */
+    public InputStream abrir(Midia midia) {
+        return midiaStorage.abrir(midia);
+    }
+}
@@ -1,7 +1,9 @@
 package com.sonecadelivery.orquestrador.application.usecases;
 
 import com.sonecadelivery.orquestrador.application.dto.ConfigAnimacaoDTO;
+import com.sonecadelivery.orquestrador.application.dto.MidiaDTO;
 import com.sonecadelivery.orquestrador.application.ports.ConfigAnimacaoRepositoryPort;
+import com.sonecadelivery.orquestrador.application.ports.MidiaStoragePort;
 import com.sonecadelivery.orquestrador.domain.entities.ConfigAnimacao;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,19 +13,31 @@ import org.springframework.stereotype.Service;
 public class CarregarConfigAnimacaoUseCase {
 
     private final ConfigAnimacaoRepositoryPort repository;
+    private final MidiaStoragePort midiaStorage;
 
     public ConfigAnimacaoDTO executar() {
         return repository.buscar()
-                .map(ConfigAnimacaoDTO::de)
+                .map(this::paraDTO)
                 .orElseGet(this::criarConfigPadrao);
     }
 
+    /**
+     * Só os metadados dos vídeos: o conteúdo é baixado do endereço de cada mídia.
+     */
+    ConfigAnimacaoDTO paraDTO(ConfigAnimacao config) {
+        return ConfigAnimacaoDTO.de(config, midia(config.getVideo1MidiaId()), midia(config.getVideo2MidiaId()));
+    }
+
+    private MidiaDTO midia(String id) {
+        return id == null ? null : midiaStorage.buscar(id).map(MidiaDTO::de).orElse(null);
+    }
+
     private ConfigAnimacaoDTO criarConfigPadrao() {
         ConfigAnimacao configPadrao = ConfigAnimacao.criar(true, 30, 6);
         if (configPadrao == null) {
             throw new IllegalStateException("Configuração padrão não pôde ser criada");
         }
         ConfigAnimacao salva = repository.salvar(configPadrao);
-        return ConfigAnimacaoDTO.de(salva);
+        return paraDTO(salva);
     }
 }
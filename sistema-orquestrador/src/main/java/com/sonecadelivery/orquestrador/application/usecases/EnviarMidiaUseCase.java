@@ -0,0 +1,31 @@
+package com.sonecadelivery.orquestrador.application.usecases;
+
+import com.sonecadelivery.kernel.domain.exceptions.ValidationException;
+import com.sonecadelivery.orquestrador.application.dto.MidiaDTO;
+import com.sonecadelivery.orquestrador.application.ports.MidiaStoragePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Service
+@RequiredArgsConstructor
+public class EnviarMidiaUseCase {
+
+    private static final int MAX_NOME = 255;
+
+    private final MidiaStoragePort midiaStorage;
+
+    /**
+     * Grava o arquivo enviado em fluxo (sem carregá-lo inteiro em memória).
+     * Só vídeos e imagens são aceitos.
+     */
+    public MidiaDTO executar(String nome, String contentType, InputStream conteudo) throws IOException {
+        if (contentType == null || !(contentType.startsWith("video/") || contentType.startsWith("image/"))) {
+            throw new ValidationException("Tipo de arquivo não suportado: envie um vídeo ou uma imagem");
+        }
+        String nomeArquivo = nome != null && nome.length() > MAX_NOME ? nome.substring(0, MAX_NOME) : nome;
+        return MidiaDTO.de(midiaStorage.salvar(nomeArquivo, contentType, conteudo));
+    }
+}
@@ -1,38 +1,65 @@
 package com.sonecadelivery.orquestrador.application.usecases;
 
+import com.sonecadelivery.kernel.domain.exceptions.ValidationException;
 import com.sonecadelivery.orquestrador.application.dto.ConfigAnimacaoDTO;
 import com.sonecadelivery.orquestrador.application.dto.SalvarConfigAnimacaoRequest;
 import com.sonecadelivery.orquestrador.application.ports.ConfigAnimacaoRepositoryPort;
+import com.sonecadelivery.orquestrador.application.ports.MidiaStoragePort;
 import com.sonecadelivery.orquestrador.domain.entities.ConfigAnimacao;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class SalvarConfigAnimacaoUseCase {
     
     private final ConfigAnimacaoRepositoryPort repository;
+    private final MidiaStoragePort midiaStorage;
+    private final CarregarConfigAnimacaoUseCase carregarUseCase;
     
     public ConfigAnimacaoDTO executar(SalvarConfigAnimacaoRequest request) {
+        validarMidia(request.getVideo1MidiaId());
+        validarMidia(request.getVideo2MidiaId());
+
         ConfigAnimacao config = repository.buscar()
             .orElseGet(() -> ConfigAnimacao.criar(
                 request.getAnimacaoAtivada(),
                 request.getIntervaloAnimacao(),
                 request.getDuracaoAnimacao()
             ));
+        String video1Anterior = config.getVideo1MidiaId();
+        String video2Anterior = config.getVideo2MidiaId();
         
         config.atualizar(
             request.getAnimacaoAtivada(),
             request.getIntervaloAnimacao(),
             request.getDuracaoAnimacao(),
-            request.getVideo1Url(),
-            request.getVideo2Url()
+            request.getVideo1MidiaId(),
+            request.getVideo2MidiaId()
         );
         
         @SuppressWarnings("null")
         ConfigAnimacao salva = repository.salvar(config);
+
+        // Vídeos substituídos ou removidos não são referenciados por mais nada
+        excluirSeNaoUsada(video1Anterior, salva);
+        excluirSeNaoUsada(video2Anterior, salva);
         
-        return ConfigAnimacaoDTO.de(salva);
+        return carregarUseCase.paraDTO(salva);
     }
-}
 
+    private void validarMidia(String id) {
+        if (id != null && midiaStorage.buscar(id).isEmpty()) {
+            throw new ValidationException("Mídia não encontrada: " + id);
+        }
+    }
+
+    private void excluirSeNaoUsada(String id, ConfigAnimacao config) {
+        if (id != null && !Objects.equals(id, config.getVideo1MidiaId())
+                && !Objects.equals(id, config.getVideo2MidiaId())) {
+            midiaStorage.excluir(id);
+        }
+    }
+}
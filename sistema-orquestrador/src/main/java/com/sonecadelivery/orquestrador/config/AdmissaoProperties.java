@@ -0,0 +1,107 @@
+package com.sonecadelivery.orquestrador.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propriedades do controle de admissão dos endpoints públicos (cardápio,
+ * pedido delivery/mesa, login de clientes e motoboys, chat IA).
+ *
+ * Cada requisição consome "custo" fichas do balde do IP e do balde do cliente
+ * (X-Cliente-Id); depois passa pelo limite de concorrência da sua classe e
+ * pela saturação do pool de conexões. Endpoints da equipe não são controlados.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "admissao")
+@Getter
+@Setter
+public class AdmissaoProperties {
+
+    private boolean habilitado = true;
+
+    /**
+     * Proxies à frente da aplicação que acrescentam ao X-Forwarded-For
+     * (Cloud Run = 1). O IP do cliente é o N-ésimo a partir do fim;
+     * 0 = usa o endereço da conexão.
+     */
+    private int saltosProxy = 1;
+
+    private Balde porIp = new Balde(120, 20);
+
+    private Balde porCliente = new Balde(60, 10);
+
+    /**
+     * Máximo de baldes em memória; acima disso são descartados os ociosos e os
+     * usados há mais tempo (protege a memória contra rotação de IPs/ids).
+     */
+    private int maximoChaves = 50_000;
+
+    private Classe leitura = new Classe(1, 60, 0, 1.0);
+
+    private Classe pedido = new Classe(5, 20, 500, 3.0);
+
+    private Classe autenticacao = new Classe(5, 10, 200, 2.0);
+
+    private Classe llm = new Classe(10, 4, 0, 2.0);
+
+    @Getter
+    @Setter
+    public static class Balde {
+
+        /**
+         * Fichas acumuladas no máximo (rajada permitida).
+         */
+        private double capacidade;
+
+        /**
+         * Fichas repostas por segundo (taxa sustentada).
+         */
+        private double reposicaoPorSegundo;
+
+        public Balde() {
+        }
+
+        public Balde(double capacidade, double reposicaoPorSegundo) {
+            this.capacidade = capacidade;
+            this.reposicaoPorSegundo = reposicaoPorSegundo;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Classe {
+
+        /**
+         * Fichas consumidas por requisição.
+         */
+        private double custo;
+
+        /**
+         * Requisições simultâneas da classe nesta instância.
+         */
+        private int concorrencia;
+
+        /**
+         * Espera por uma vaga de concorrência antes de recusar (0 = recusa na hora).
+         */
+        private long esperaMs;
+
+        /**
+         * Recusa quando (conexões ativas + threads aguardando) / máximo do pool
+         * passa disso. Leituras devem ceder antes das gravações de pedido.
+         */
+        private double saturacaoMaximaPool;
+
+        public Classe() {
+        }
+
+        public Classe(double custo, int concorrencia, long esperaMs, double saturacaoMaximaPool) {
+            this.custo = custo;
+            this.concorrencia = concorrencia;
+            this.esperaMs = esperaMs;
+            this.saturacaoMaximaPool = saturacaoMaximaPool;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.sonecadelivery.orquestrador.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propriedades do backplane entre instâncias (eventos em tempo real e estado
+ * compartilhado). Com mais de uma instância no Cloud Run, use mysql ou redis.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "backplane")
+@Getter
+@Setter
+public class BackplaneProperties {
+
+    /**
+     * memoria (padrão, instância única), mysql ou redis.
+     */
+    private String tipo = "memoria";
+
+    /**
+     * mysql: intervalo entre envios/leituras da tabela de eventos.
+     */
+    private long intervaloPollingMs = 250;
+
+    /**
+     * mysql: máximo de eventos enviados ou lidos por ciclo.
+     */
+    private int lote = 500;
+
+    /**
+     * mysql: eventos publicados aguardando envio; acima disso são descartados.
+     */
+    private int capacidadeFilaSaida = 10_000;
+
+    /**
+     * mysql: quanto esperar por um id ainda não visível (transação em andamento
+     * em outra instância) antes de desistir dele.
+     */
+    private long esperaLacunaMs = 2000;
+
+    /**
+     * mysql: eventos mais antigos que isso são apagados.
+     */
+    private long retencaoEventosSegundos = 300;
+
+    private String redisHost = "localhost";
+    private int redisPort = 6379;
+    private String redisSenha;
+
+    /**
+     * redis: prefixo de canais e chaves (permite compartilhar o servidor).
+     */
+    private String prefixoRedis = "soneca:";
+}
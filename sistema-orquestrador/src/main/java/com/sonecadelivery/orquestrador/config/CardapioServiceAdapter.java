@@ -1,9 +1,8 @@
 package com.sonecadelivery.orquestrador.config;
 
-import com.sonecadelivery.cardapio.application.dto.AdicionalDTO;
-import com.sonecadelivery.cardapio.application.dto.ProdutoDTO;
-import com.sonecadelivery.cardapio.application.usecases.BuscarAdicionalPorIdUseCase;
-import com.sonecadelivery.cardapio.application.usecases.BuscarProdutoPorIdUseCase;
+import com.sonecadelivery.cardapio.application.dto.PrecoAdicionalDTO;
+import com.sonecadelivery.cardapio.application.dto.PrecoProdutoDTO;
+import com.sonecadelivery.cardapio.application.services.CatalogoPrecosService;
 import com.sonecadelivery.pedidos.application.ports.CardapioServicePort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -12,36 +11,25 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CardapioServiceAdapter implements CardapioServicePort {
 
-    private final BuscarProdutoPorIdUseCase buscarProdutoPorIdUseCase;
-    private final BuscarAdicionalPorIdUseCase buscarAdicionalPorIdUseCase;
+    private final CatalogoPrecosService catalogoPrecos;
 
     @Override
-    public ProdutoDTO buscarProdutoPorId(String id) {
-        return buscarProdutoPorIdUseCase.executar(id);
+    public PrecoProdutoDTO buscarPrecoProduto(String id) {
+        return catalogoPrecos.buscarProduto(id);
     }
 
     @Override
     public boolean produtoEstaDisponivel(String id) {
-        try {
-            ProdutoDTO produto = buscarProdutoPorIdUseCase.executar(id);
-            return produto.isDisponivel();
-        } catch (Exception e) {
-            return false;
-        }
+        return catalogoPrecos.produtoEstaDisponivel(id);
     }
 
     @Override
-    public AdicionalDTO buscarAdicionalPorId(String id) {
-        return buscarAdicionalPorIdUseCase.executar(id);
+    public PrecoAdicionalDTO buscarPrecoAdicional(String id) {
+        return catalogoPrecos.buscarAdicional(id);
     }
 
     @Override
     public boolean adicionalEstaDisponivel(String id) {
-        try {
-            AdicionalDTO adicional = buscarAdicionalPorIdUseCase.executar(id);
-            return adicional.isDisponivel();
-        } catch (Exception e) {
-            return false;
-        }
+        return catalogoPrecos.adicionalEstaDisponivel(id);
     }
 }
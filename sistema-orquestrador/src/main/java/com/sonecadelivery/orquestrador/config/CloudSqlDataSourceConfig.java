@@ -99,6 +99,9 @@ public class CloudSqlDataSourceConfig {
         // Adicionar cloudSqlInstance como propriedade também (para garantir)
         config.addDataSourceProperty("cloudSqlInstance", cloudSqlInstance);
         config.addDataSourceProperty("socketFactory", "com.google.cloud.sql.mysql.SocketFactory");
+
+        // Batching JDBC (hibernate.jdbc.batch_size): MySQL reescreve os lotes em INSERT multi-valores
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
         
         return new HikariDataSource(config);
     }
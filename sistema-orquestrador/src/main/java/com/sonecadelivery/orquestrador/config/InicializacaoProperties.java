@@ -0,0 +1,39 @@
+package com.sonecadelivery.orquestrador.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propriedades do startup rápido (cold start no Cloud Run com escala a zero).
+ * Com rapida = false o startup volta ao comportamento completo, o que permite
+ * comparar as duas linhas do tempo (GET /api/admin/inicializacao) no mesmo banco.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "inicializacao")
+@Getter
+@Setter
+public class InicializacaoProperties {
+
+    /**
+     * Liga o modo rápido: Liquibase só roda se os changelogs mudaram, módulos
+     * tardios sobem em segundo plano e os caches são aquecidos em paralelo.
+     */
+    private boolean rapida = false;
+
+    /**
+     * Prefixos de classe (pacote ou nome completo) dos beans criados só após a
+     * aplicação ficar pronta. Lido também pelo {@code ModulosTardiosPostProcessor},
+     * antes do binding desta classe.
+     */
+    private List<String> modulosTardios = new ArrayList<>();
+
+    /**
+     * Threads do aquecimento de caches (cada tarefa usa uma conexão do pool).
+     */
+    private int threadsAquecimento = 3;
+}
@@ -0,0 +1,21 @@
+package com.sonecadelivery.orquestrador.config;
+
+import com.sonecadelivery.orquestrador.infrastructure.inicializacao.ModulosTardiosPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup rápido: registra o post processor dos módulos tardios.
+ * Demais peças: {@link LiquibaseConfig} e o pacote infrastructure.inicializacao.
+ */
+@Configuration
+public class InicializacaoRapidaConfig {
+
+    /**
+     * static: BeanFactoryPostProcessor não pode depender da instância desta configuração.
+     */
+    @Bean
+    public static ModulosTardiosPostProcessor modulosTardiosPostProcessor() {
+        return new ModulosTardiosPostProcessor();
+    }
+}
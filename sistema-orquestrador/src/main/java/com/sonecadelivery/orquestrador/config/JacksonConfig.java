@@ -1,8 +1,16 @@
 package com.sonecadelivery.orquestrador.config;
 
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.sonecadelivery.clientes.application.dto.ClienteDTO;
+import com.sonecadelivery.kernel.infrastructure.json.EscritoresJson;
+import com.sonecadelivery.pedidos.application.dto.CardapioPublicoDTO;
+import com.sonecadelivery.pedidos.application.dto.PedidoDTO;
+import com.sonecadelivery.pedidos.application.dto.QuadroPedidosDTO;
+import com.sonecadelivery.pedidos.application.dto.SessaoTrabalhoDTO;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -11,10 +19,22 @@ import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 /**
  * Configuração do Jackson para serialização JSON.
  * Garante suporte a LocalDateTime e outras classes do pacote java.time.
+ *
+ * Um único ObjectMapper injetado em toda a aplicação (MVC, SSE, backplane,
+ * chat IA), com o Blackbird: getters/setters acessados por lambdas
+ * geradas em vez de reflexão.
  */
 @Configuration
 public class JacksonConfig {
 
+    /**
+     * Registrado no builder do Spring Boot como todo bean Module.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
     @Bean
     @Primary
     public ObjectMapper objectMapper(Jackson2ObjectMapperBuilder builder) {
@@ -25,5 +45,17 @@ public class JacksonConfig {
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         return mapper;
     }
-}
 
+    /**
+     * Writers prontos para os DTOs das listas grandes e mais consultadas.
+     */
+    @Bean
+    public EscritoresJson escritoresJson(ObjectMapper objectMapper) {
+        return new EscritoresJson(objectMapper,
+                PedidoDTO.class,
+                QuadroPedidosDTO.class,
+                CardapioPublicoDTO.class,
+                ClienteDTO.class,
+                SessaoTrabalhoDTO.class);
+    }
+}
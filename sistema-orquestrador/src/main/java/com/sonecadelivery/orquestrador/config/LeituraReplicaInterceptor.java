@@ -0,0 +1,35 @@
+package com.sonecadelivery.orquestrador.config;
+
+import com.sonecadelivery.kernel.infrastructure.persistence.LeituraReplica;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.lang.NonNull;
+
+/**
+ * Marca a thread enquanto um método {@link LeituraReplica} executa; o
+ * {@link ReadWriteRoutingDataSource} só manda para a réplica com a marca.
+ * Chamadas aninhadas restauram o estado anterior.
+ */
+class LeituraReplicaInterceptor implements MethodInterceptor {
+
+    private static final ThreadLocal<Boolean> ATIVA = new ThreadLocal<>();
+
+    static boolean ativa() {
+        return Boolean.TRUE.equals(ATIVA.get());
+    }
+
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        Boolean anterior = ATIVA.get();
+        ATIVA.set(Boolean.TRUE);
+        try {
+            return invocation.proceed();
+        } finally {
+            if (anterior == null) {
+                ATIVA.remove();
+            } else {
+                ATIVA.set(anterior);
+            }
+        }
+    }
+}
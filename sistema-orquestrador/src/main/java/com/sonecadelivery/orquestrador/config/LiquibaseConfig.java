@@ -1,7 +1,8 @@
 package com.sonecadelivery.orquestrador.config;
 
+import com.sonecadelivery.orquestrador.infrastructure.inicializacao.LinhaTempoInicializacao;
+import com.sonecadelivery.orquestrador.infrastructure.inicializacao.LiquibaseSeAlterado;
 import liquibase.integration.spring.SpringLiquibase;
-import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
@@ -20,14 +21,18 @@ public class LiquibaseConfig {
      * 
      * Em produção, o Hibernate está configurado com ddl-auto: none para evitar
      * validação antes do Liquibase executar.
+     * 
+     * No startup rápido (inicializacao.rapida) o Liquibase só roda se o conjunto
+     * de changelogs mudou desde a última execução (ver {@link LiquibaseSeAlterado}).
      */
     @Bean
     @DependsOn("dataSource")
-    public SpringLiquibase liquibase(DataSource dataSource) {
+    public SpringLiquibase liquibase(DataSource dataSource, LinhaTempoInicializacao linhaTempo,
+            InicializacaoProperties inicializacao) {
         System.out.println("=== Inicializando Liquibase ===");
         System.out.println("ChangeLog: classpath:db/changelog/db.changelog-master.xml");
         
-        SpringLiquibase liquibase = new SpringLiquibase();
+        SpringLiquibase liquibase = new LiquibaseSeAlterado(linhaTempo, inicializacao.isRapida());
         liquibase.setDataSource(dataSource);
         liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.xml");
         liquibase.setShouldRun(true);
@@ -0,0 +1,112 @@
+package com.sonecadelivery.orquestrador.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import javax.sql.DataSource;
+import java.util.function.ToIntFunction;
+
+/**
+ * Métricas internas expostas em /actuator/prometheus.
+ *
+ * - tasks.scheduled.execution{code.function}: duração de cada job @Scheduled
+ *   (heartbeats SSE, polling de pedidos, limpezas de cache)
+ * - db.pool.*{pool=primaria|replica}: ocupação dos pools Hikari, inclusive
+ *   o da réplica de leitura, que não é um bean e não entra nas métricas
+ *   hikaricp.* padrão do Actuator
+ * - db.roteamento.*: leituras roteadas e fallbacks do ReadWriteRoutingDataSource
+ */
+@Configuration
+public class ObservabilidadeConfig implements SchedulingConfigurer {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public ObservabilidadeConfig(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void configureTasks(@NonNull ScheduledTaskRegistrar taskRegistrar) {
+        observationRegistry.ifAvailable(taskRegistrar::setObservationRegistry);
+    }
+
+    @Bean
+    public MeterBinder poolsConexaoMetricas(DataSource dataSource) {
+        return registry -> {
+            DataSource alvo = dataSource;
+            if (alvo instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+                alvo = delegating.getTargetDataSource();
+            }
+
+            if (alvo instanceof ReadWriteRoutingDataSource roteador) {
+                registrarPool(registry, "primaria", roteador.getPrimaria());
+                registrarPool(registry, "replica", roteador.getReplica());
+                FunctionCounter.builder("db.roteamento.leituras", roteador, ReadWriteRoutingDataSource::getLeiturasNaReplica)
+                        .description("Transações somente leitura atendidas")
+                        .tag("destino", "replica")
+                        .register(registry);
+                FunctionCounter.builder("db.roteamento.leituras", roteador, ReadWriteRoutingDataSource::getLeiturasNaPrimaria)
+                        .description("Transações somente leitura atendidas")
+                        .tag("destino", "primaria")
+                        .register(registry);
+                FunctionCounter.builder("db.roteamento.fallbacks", roteador, ReadWriteRoutingDataSource::getFallbacksPorFalha)
+                        .description("Leituras desviadas para a primária por falha na réplica")
+                        .register(registry);
+                Gauge.builder("db.replica.lag", roteador, ReadWriteRoutingDataSource::getUltimoLagSegundos)
+                        .description("Último atraso medido da réplica")
+                        .baseUnit("seconds")
+                        .register(registry);
+            } else {
+                registrarPool(registry, "primaria", alvo);
+            }
+        };
+    }
+
+    private static void registrarPool(MeterRegistry registry, String nome, DataSource ds) {
+        if (!(ds instanceof HikariDataSource hikari)) {
+            return;
+        }
+        Gauge.builder("db.pool.ativas", hikari, h -> valor(h, HikariPoolMXBean::getActiveConnections))
+                .tag("pool", nome).register(registry);
+        Gauge.builder("db.pool.ociosas", hikari, h -> valor(h, HikariPoolMXBean::getIdleConnections))
+                .tag("pool", nome).register(registry);
+        Gauge.builder("db.pool.aguardando", hikari, h -> valor(h, HikariPoolMXBean::getThreadsAwaitingConnection))
+                .description("Threads bloqueadas esperando conexão")
+                .tag("pool", nome).register(registry);
+        Gauge.builder("db.pool.maximo", hikari, HikariDataSource::getMaximumPoolSize)
+                .tag("pool", nome).register(registry);
+        Gauge.builder("db.pool.saturacao", hikari, ObservabilidadeConfig::saturacao)
+                .description("(ativas + aguardando) / máximo; acima de 1 indica fila no pool")
+                .tag("pool", nome).register(registry);
+    }
+
+    private static double saturacao(HikariDataSource hikari) {
+        int maximo = hikari.getMaximumPoolSize();
+        if (maximo <= 0) {
+            return 0;
+        }
+        double ocupadas = valor(hikari, HikariPoolMXBean::getActiveConnections)
+                + valor(hikari, HikariPoolMXBean::getThreadsAwaitingConnection);
+        return ocupadas / maximo;
+    }
+
+    /**
+     * O MXBean só existe após a primeira conexão (pool lazy); até lá reporta zero.
+     */
+    private static double valor(HikariDataSource hikari, ToIntFunction<HikariPoolMXBean> leitura) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        return pool != null ? leitura.applyAsInt(pool) : 0;
+    }
+}
@@ -0,0 +1,49 @@
+package com.sonecadelivery.orquestrador.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propriedades da réplica de leitura.
+ * Quando habilitada, transações @Transactional(readOnly = true) são roteadas
+ * para um pool separado apontando para a réplica.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica")
+@Getter
+@Setter
+public class ReadReplicaProperties {
+
+    /**
+     * Habilita o roteamento leitura/escrita. Desabilitado por padrão (um único pool).
+     */
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName = "com.mysql.cj.jdbc.Driver";
+
+    private int maximumPoolSize = 10;
+    private int minimumIdle = 2;
+    private long connectionTimeoutMs = 5000;
+
+    /**
+     * Atraso máximo de replicação aceito. Acima disso, leituras voltam para a primária.
+     */
+    private long lagMaximoSegundos = 5;
+
+    /**
+     * Intervalo entre verificações de saúde/atraso da réplica.
+     */
+    private long intervaloVerificacaoMs = 5000;
+
+    /**
+     * Consulta que retorna o atraso da réplica em segundos (primeira coluna).
+     * Vazio = usa SHOW REPLICA STATUS (coluna Seconds_Behind_Source).
+     * Para um segundo MySQL independente ou um banco embarcado de teste, use "SELECT 0".
+     */
+    private String consultaLag = "";
+}
@@ -0,0 +1,123 @@
+package com.sonecadelivery.orquestrador.config;
+
+import com.sonecadelivery.kernel.infrastructure.persistence.LeituraReplica;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+/**
+ * Habilita o roteamento leitura/escrita (datasource.replica.enabled=true).
+ *
+ * Em vez de substituir a criação do DataSource (auto-configuração em dev,
+ * CloudSqlDataSourceConfig em prod), o bean "dataSource" já criado é
+ * envolvido por:
+ * LazyConnectionDataSourceProxy → ReadWriteRoutingDataSource(primária, réplica)
+ *
+ * O proxy lazy adia a obtenção da conexão até o primeiro statement,
+ * quando o flag readOnly da transação já está definido.
+ *
+ * Só leituras marcadas com {@link LeituraReplica} vão para a réplica; o
+ * post-processor abaixo envolve esses beans com o {@link LeituraReplicaInterceptor}.
+ *
+ * Teste local: aponte datasource.replica.url para um segundo MySQL (ou banco
+ * embarcado) com o mesmo schema e use datasource.replica.consulta-lag=SELECT 0.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaRoutingConfig {
+
+    @Bean
+    public static BeanPostProcessor readReplicaRoutingPostProcessor(ObjectProvider<ReadReplicaProperties> properties) {
+        return new RoteamentoPostProcessor(properties);
+    }
+
+    @Bean
+    public static LeituraReplicaPostProcessor leituraReplicaPostProcessor() {
+        return new LeituraReplicaPostProcessor();
+    }
+
+    /**
+     * Mesmo mecanismo do @Validated/@Async: proxy só nos beans com a anotação
+     * (na classe ou no método), com o interceptor antes dos demais advisors.
+     */
+    static class LeituraReplicaPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+        LeituraReplicaPostProcessor() {
+            ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(LeituraReplica.class, true))
+                    .union(AnnotationMatchingPointcut.forMethodAnnotation(LeituraReplica.class));
+            this.advisor = new DefaultPointcutAdvisor(pointcut, new LeituraReplicaInterceptor());
+            setBeforeExistingAdvisors(true);
+            setProxyTargetClass(true);
+        }
+    }
+
+    static class RoteamentoPostProcessor implements BeanPostProcessor, DisposableBean {
+
+        private final ObjectProvider<ReadReplicaProperties> propertiesProvider;
+        private ReadWriteRoutingDataSource roteador;
+
+        RoteamentoPostProcessor(ObjectProvider<ReadReplicaProperties> propertiesProvider) {
+            this.propertiesProvider = propertiesProvider;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primaria)
+                    || bean instanceof LazyConnectionDataSourceProxy) {
+                return bean;
+            }
+
+            ReadReplicaProperties properties = propertiesProvider.getObject();
+            if (properties.getUrl() == null || properties.getUrl().isBlank()) {
+                log.warn("datasource.replica.enabled=true mas datasource.replica.url não definido. Usando apenas a primária.");
+                return bean;
+            }
+
+            roteador = new ReadWriteRoutingDataSource(primaria, criarPoolReplica(properties), properties);
+            log.info("Roteamento leitura/escrita habilitado: leituras @LeituraReplica → réplica (lag máximo: {}s)",
+                    properties.getLagMaximoSegundos());
+            return new LazyConnectionDataSourceProxy(roteador);
+        }
+
+        private HikariDataSource criarPoolReplica(ReadReplicaProperties properties) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-pool");
+            config.setJdbcUrl(properties.getUrl());
+            config.setUsername(properties.getUsername());
+            config.setPassword(properties.getPassword());
+            config.setDriverClassName(properties.getDriverClassName());
+            config.setMaximumPoolSize(properties.getMaximumPoolSize());
+            config.setMinimumIdle(properties.getMinimumIdle());
+            config.setConnectionTimeout(properties.getConnectionTimeoutMs());
+            config.setReadOnly(true);
+            // Não falha a inicialização se a réplica estiver fora: o roteador usa a primária
+            config.setInitializationFailTimeout(-1);
+            return new HikariDataSource(config);
+        }
+
+        @Override
+        public void destroy() {
+            if (roteador != null) {
+                roteador.encerrar();
+                if (roteador.getReplica() instanceof HikariDataSource pool) {
+                    pool.close();
+                }
+            }
+        }
+    }
+}
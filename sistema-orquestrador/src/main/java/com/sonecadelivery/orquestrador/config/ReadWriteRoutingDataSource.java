@@ -0,0 +1,181 @@
+package com.sonecadelivery.orquestrador.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource que roteia leituras de relatório para a réplica.
+ *
+ * - método @LeituraReplica, transação readOnly = true e réplica saudável → réplica
+ * - qualquer outro caso (escrita, sem transação, leitura sem a marca,
+ *   réplica atrasada/fora) → primária
+ *
+ * Somente leitura não basta: casos de uso que leem e depois gravam sem uma
+ * transação própria (ex.: cancelar pedido) decidiriam a partir de um dado
+ * atrasado e sobrescreveriam a versão mais nova.
+ *
+ * A saúde da réplica é verificada periodicamente numa thread própria:
+ * se o atraso passar de lagMaximoSegundos ou a consulta falhar, as leituras
+ * voltam para a primária até a próxima verificação bem-sucedida.
+ * Se a conexão com a réplica falhar na hora, a leitura cai para a primária.
+ *
+ * Deve ser usado atrás de um LazyConnectionDataSourceProxy para que a conexão
+ * só seja obtida depois que o flag readOnly da transação foi definido.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARIA = "primaria";
+    public static final String REPLICA = "replica";
+
+    private final DataSource primaria;
+    private final DataSource replica;
+    private final ReadReplicaProperties properties;
+    private final ScheduledExecutorService verificador;
+
+    private volatile boolean replicaSaudavel = false;
+    private volatile long ultimoLagSegundos = -1;
+    private final AtomicLong leiturasNaReplica = new AtomicLong();
+    private final AtomicLong leiturasNaPrimaria = new AtomicLong();
+    private final AtomicLong fallbacksPorFalha = new AtomicLong();
+
+    public ReadWriteRoutingDataSource(DataSource primaria, DataSource replica, ReadReplicaProperties properties) {
+        this.primaria = primaria;
+        this.replica = replica;
+        this.properties = properties;
+        setTargetDataSources(Map.of(PRIMARIA, primaria, REPLICA, replica));
+        setDefaultTargetDataSource(primaria);
+        afterPropertiesSet();
+
+        this.verificador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replica-lag-monitor");
+            t.setDaemon(true);
+            return t;
+        });
+        verificador.scheduleWithFixedDelay(this::verificarReplica, 0,
+                properties.getIntervaloVerificacaoMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean somenteLeitura = LeituraReplicaInterceptor.ativa()
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (somenteLeitura && replicaSaudavel) {
+            leiturasNaReplica.incrementAndGet();
+            return REPLICA;
+        }
+        if (somenteLeitura) {
+            leiturasNaPrimaria.incrementAndGet();
+        }
+        return PRIMARIA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object chave = determineCurrentLookupKey();
+        if (REPLICA.equals(chave)) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                marcarReplicaIndisponivel(e);
+                return primaria.getConnection();
+            }
+        }
+        return primaria.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    private void marcarReplicaIndisponivel(SQLException e) {
+        replicaSaudavel = false;
+        fallbacksPorFalha.incrementAndGet();
+        log.warn("Réplica de leitura indisponível, usando primária: {}", e.getMessage());
+    }
+
+    void verificarReplica() {
+        try (Connection conn = replica.getConnection(); Statement st = conn.createStatement()) {
+            long lag = consultarLag(st);
+            ultimoLagSegundos = lag;
+            boolean saudavel = lag >= 0 && lag <= properties.getLagMaximoSegundos();
+            if (saudavel != replicaSaudavel) {
+                log.info("Réplica de leitura {} (lag: {}s, máximo: {}s)",
+                        saudavel ? "habilitada" : "desabilitada", lag, properties.getLagMaximoSegundos());
+            }
+            replicaSaudavel = saudavel;
+        } catch (Exception e) {
+            if (replicaSaudavel) {
+                log.warn("Falha ao verificar réplica de leitura, usando primária: {}", e.getMessage());
+            }
+            replicaSaudavel = false;
+            ultimoLagSegundos = -1;
+        }
+    }
+
+    /**
+     * Retorna o atraso da réplica em segundos, ou -1 se a replicação estiver parada.
+     */
+    private long consultarLag(Statement st) throws SQLException {
+        String consulta = properties.getConsultaLag();
+        if (consulta != null && !consulta.isBlank()) {
+            try (ResultSet rs = st.executeQuery(consulta)) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+        try (ResultSet rs = st.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                // Não é uma réplica configurada (ex.: segundo MySQL independente em dev)
+                return 0;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? -1 : lag;
+        }
+    }
+
+    public void encerrar() {
+        verificador.shutdownNow();
+    }
+
+    public DataSource getPrimaria() {
+        return primaria;
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    public boolean isReplicaSaudavel() {
+        return replicaSaudavel;
+    }
+
+    public long getUltimoLagSegundos() {
+        return ultimoLagSegundos;
+    }
+
+    public long getLeiturasNaReplica() {
+        return leiturasNaReplica.get();
+    }
+
+    public long getLeiturasNaPrimaria() {
+        return leiturasNaPrimaria.get();
+    }
+
+    public long getFallbacksPorFalha() {
+        return fallbacksPorFalha.get();
+    }
+}
@@ -1,5 +1,7 @@
 package com.sonecadelivery.orquestrador.config;
 
+import com.sonecadelivery.orquestrador.infrastructure.web.frontend.AssetsFrontendHandler;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.boot.web.servlet.error.ErrorController;
@@ -12,19 +14,28 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Controller para rotas do Angular (SPA).
  * 
- * 1. Mapeia rotas específicas do Angular para retornar index.html
+ * 1. Mapeia rotas específicas do Angular para retornar index.html (da memória,
+ * pelo {@link AssetsFrontendHandler}; as demais rotas sem extensão são
+ * respondidas pelo próprio handler)
  * 2. Quando uma rota não é encontrada (404) e não é uma rota de API,
  * retorna o index.html para que o Angular Router processe.
  */
 @Controller
 public class SpaFallbackConfig implements ErrorController {
 
+    private final AssetsFrontendHandler assetsFrontendHandler;
+
+    public SpaFallbackConfig(AssetsFrontendHandler assetsFrontendHandler) {
+        this.assetsFrontendHandler = assetsFrontendHandler;
+    }
+
     /**
      * Rotas públicas do Angular que precisam retornar index.html.
      * Estas são as rotas de auto-atendimento do cliente via QR Code.
@@ -52,8 +63,12 @@ public class SpaFallbackConfig implements ErrorController {
             "/motoboy",
             "/motoboy/{*path}"
     })
-    public String forwardToAngular() {
-        return "forward:/index.html";
+    public void forwardToAngular(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        if (!assetsFrontendHandler.servirIndex(request, response)) {
+            // Sem build no classpath (dev): segue pelo forward
+            request.getRequestDispatcher("/index.html").forward(request, response);
+        }
     }
 
     /**
@@ -1,15 +1,22 @@
 package com.sonecadelivery.orquestrador.config;
 
+import com.sonecadelivery.orquestrador.infrastructure.web.admissao.ControleAdmissaoInterceptor;
+import com.sonecadelivery.orquestrador.infrastructure.web.frontend.AssetsFrontendHandler;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.lang.NonNull;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.Map;
 
 /**
  * Configuração do Spring MVC para servir o frontend Angular na raiz.
@@ -19,48 +26,79 @@ import java.nio.file.Paths;
  * - Permite hot reload completo sem reiniciar o backend
  * 
  * Em produção:
- * - Serve recursos estáticos de classpath:/static/ (copiados pelo Maven)
+ * - Serve recursos estáticos de classpath:/static/ (copiados pelo Maven) pelo
+ *   {@link AssetsFrontendHandler}: em memória, pré-comprimidos, com ETag e
+ *   cache imutável para arquivos com hash no nome
  * 
  * Esta configuração adiciona suporte para rotas do Angular Router (SPA):
  * - Raiz (/) retorna index.html
  * - Rotas do Angular (ex: /dashboard, /produtos) retornam index.html
  * - Rotas /api/** são ignoradas e tratadas pelos controllers REST
+ *
+ * Endpoints públicos de /api/** passam pelo {@link ControleAdmissaoInterceptor}.
+ *
+ * Respostas assíncronas (StreamingResponseBody) rodam no applicationTaskExecutor
+ * do Spring Boot, limitado por spring.task.execution.
  */
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final Environment environment;
     private final String projectBaseDir;
+    private final ControleAdmissaoInterceptor controleAdmissaoInterceptor;
+    private final AsyncTaskExecutor executorAssincrono;
+    private final long timeoutAssincronoMs;
 
     public WebMvcConfig(Environment environment, 
-                       @Value("${project.base.dir:#{null}}") String projectBaseDir) {
+                       @Value("${project.base.dir:#{null}}") String projectBaseDir,
+                       ControleAdmissaoInterceptor controleAdmissaoInterceptor,
+                       @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executorAssincrono,
+                       @Value("${spring.mvc.async.request-timeout:300000}") long timeoutAssincronoMs) {
         this.environment = environment;
+        this.controleAdmissaoInterceptor = controleAdmissaoInterceptor;
+        this.executorAssincrono = executorAssincrono;
+        this.timeoutAssincronoMs = timeoutAssincronoMs;
         // Se não configurado, tenta detectar automaticamente
         this.projectBaseDir = projectBaseDir != null ? projectBaseDir : 
             System.getProperty("user.dir", "/app");
     }
 
+    /**
+     * Build do Angular em "/**", logo após os controllers (order 1): arquivos
+     * estáticos, a raiz e as rotas do Angular são respondidos da memória.
+     * Em dev o FrontendProxyFilter faz proxy para o ng serve.
+     */
+    @Bean
+    @Profile("!dev")
+    public SimpleUrlHandlerMapping assetsFrontendHandlerMapping(AssetsFrontendHandler assetsFrontendHandler) {
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping(Map.of("/**", assetsFrontendHandler));
+        mapping.setOrder(1);
+        return mapping;
+    }
+
+    /**
+     * Explícito: sem isto, um bean Executor qualquer desligaria o executor do
+     * Boot e o MVC voltaria ao SimpleAsyncTaskExecutor (uma thread nova por
+     * download, sem limite).
+     */
     @Override
-    public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
-        boolean isDev = environment.matchesProfiles("dev");
-        
-        if (isDev) {
-            // ✅ MODO DESENVOLVIMENTO: FrontendProxyFilter faz proxy para ng serve (porta 4200)
-            // Não configuramos resource handlers aqui em dev - o proxy cuida de tudo
-            // Isso permite hot reload completo do Angular sem precisar buildar
-            System.out.println("✅ [DEV] Frontend será servido via proxy para ng serve (porta 4200)");
-        } else {
-            // ✅ MODO PRODUÇÃO: Serve do classpath (arquivos copiados pelo Maven)
-            registry.addResourceHandler("/**")
-                .addResourceLocations("classpath:/static/")
-                .setCachePeriod(3600); // Cache de 1 hora em produção
-        }
+    public void configureAsyncSupport(@NonNull AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(executorAssincrono);
+        configurer.setDefaultTimeout(timeoutAssincronoMs);
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(controleAdmissaoInterceptor).addPathPatterns("/api/**");
     }
 
     @Override
     public void addViewControllers(@NonNull ViewControllerRegistry registry) {
-        // Mapeia a raiz para index.html
-        // O forward só funciona se o recurso existir, caso contrário será tratado pelo SpaFallbackConfig
-        registry.addViewController("/").setViewName("forward:/index.html");
+        if (environment.matchesProfiles("dev")) {
+            // ✅ MODO DESENVOLVIMENTO: o FrontendProxyFilter cuida do frontend
+            System.out.println("✅ [DEV] Frontend será servido via proxy para ng serve (porta 4200)");
+            // Mapeia a raiz para index.html
+            registry.addViewController("/").setViewName("forward:/index.html");
+        }
     }
 }
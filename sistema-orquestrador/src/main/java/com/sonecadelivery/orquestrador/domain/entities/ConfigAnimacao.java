@@ -8,8 +8,8 @@ public class ConfigAnimacao extends BaseEntity {
     private boolean animacaoAtivada;
     private int intervaloAnimacao;
     private int duracaoAnimacao;
-    private String video1Url;
-    private String video2Url;
+    private String video1MidiaId;
+    private String video2MidiaId;
     
     private ConfigAnimacao() {
         super();
@@ -20,18 +20,18 @@ public class ConfigAnimacao extends BaseEntity {
         config.animacaoAtivada = animacaoAtivada;
         config.intervaloAnimacao = intervaloAnimacao;
         config.duracaoAnimacao = duracaoAnimacao;
-        config.video1Url = null;
-        config.video2Url = null;
+        config.video1MidiaId = null;
+        config.video2MidiaId = null;
         config.touch();
         return config;
     }
     
-    public void atualizar(boolean animacaoAtivada, int intervaloAnimacao, int duracaoAnimacao, String video1Url, String video2Url) {
+    public void atualizar(boolean animacaoAtivada, int intervaloAnimacao, int duracaoAnimacao, String video1MidiaId, String video2MidiaId) {
         this.animacaoAtivada = animacaoAtivada;
         this.intervaloAnimacao = intervaloAnimacao;
         this.duracaoAnimacao = duracaoAnimacao;
-        this.video1Url = video1Url;
-        this.video2Url = video2Url;
+        this.video1MidiaId = video1MidiaId;
+        this.video2MidiaId = video2MidiaId;
         touch();
     }
     
@@ -0,0 +1,18 @@
+package com.sonecadelivery.orquestrador.domain.entities;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metadados de uma mídia binária armazenada (vídeo, imagem).
+ * O conteúdo é imutável: uma nova versão do arquivo é uma nova mídia.
+ *
+ * @param hash SHA-256 do conteúdo em hexadecimal
+ */
+public record Midia(
+        String id,
+        String nome,
+        String contentType,
+        long tamanho,
+        String hash,
+        LocalDateTime createdAt) {
+}
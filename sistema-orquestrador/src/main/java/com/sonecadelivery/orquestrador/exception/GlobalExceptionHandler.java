@@ -3,16 +3,22 @@ package com.sonecadelivery.orquestrador.exception;
 import com.sonecadelivery.kernel.domain.exceptions.BusinessRuleException;
 import com.sonecadelivery.kernel.domain.exceptions.DomainException;
 import com.sonecadelivery.kernel.domain.exceptions.NotFoundException;
+import com.sonecadelivery.kernel.domain.exceptions.RequisicoesExcedidasException;
+import com.sonecadelivery.kernel.domain.exceptions.ServicoSobrecarregadoException;
+import com.sonecadelivery.kernel.domain.exceptions.TentativasExcedidasException;
 import com.sonecadelivery.kernel.domain.exceptions.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.io.IOException;
@@ -52,6 +58,58 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
     }
 
+    @ExceptionHandler(TentativasExcedidasException.class)
+    public ResponseEntity<Map<String, Object>> handleTentativasExcedidasException(TentativasExcedidasException ex) {
+        Map<String, Object> body = criarRespostaErro(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Muitas Tentativas",
+                ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getSegundosRestantes()))
+                .body(body);
+    }
+
+    @ExceptionHandler(RequisicoesExcedidasException.class)
+    public ResponseEntity<Map<String, Object>> handleRequisicoesExcedidasException(RequisicoesExcedidasException ex) {
+        Map<String, Object> body = criarRespostaErro(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Muitas Requisições",
+                ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getSegundosRestantes()))
+                .body(body);
+    }
+
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<Map<String, Object>> handleServicoSobrecarregadoException(ServicoSobrecarregadoException ex) {
+        logger.warn("Requisição recusada por sobrecarga: {}", ex.getMessage());
+        Map<String, Object> body = criarRespostaErro(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Serviço Sobrecarregado",
+                ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
+
+    /**
+     * Executor assíncrono do MVC (downloads em fluxo) sem vaga nem fila.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleTaskRejectedException(TaskRejectedException ex) {
+        return handleServicoSobrecarregadoException(new ServicoSobrecarregadoException(
+                "Sistema com alta demanda. Tente novamente em instantes.", ex));
+    }
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex) {
+        Map<String, Object> body = criarRespostaErro(
+                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                "Arquivo Muito Grande",
+                "O arquivo excede o tamanho máximo permitido");
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(body);
+    }
+
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<Map<String, Object>> handleDomainException(DomainException ex) {
         Map<String, Object> body = criarRespostaErro(
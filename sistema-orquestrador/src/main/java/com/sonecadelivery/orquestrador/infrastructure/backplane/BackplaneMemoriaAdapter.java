@@ -0,0 +1,68 @@
+package com.sonecadelivery.orquestrador.infrastructure.backplane;
+
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Backplane dentro da JVM (backplane.tipo=memoria, padrão).
+ *
+ * Comportamento de uma única instância: publicações só chegam aos ouvintes
+ * locais e o estado fica num mapa em memória com expiração.
+ */
+@Component
+@ConditionalOnProperty(prefix = "backplane", name = "tipo", havingValue = "memoria", matchIfMissing = true)
+public class BackplaneMemoriaAdapter implements BackplanePort {
+
+    private final OuvintesBackplane ouvintes = new OuvintesBackplane();
+    private final Map<String, Entrada> estado = new ConcurrentHashMap<>();
+
+    @Override
+    public void publicar(String canal, String payload) {
+        ouvintes.entregar(canal, payload);
+    }
+
+    @Override
+    public void assinar(String canal, Consumer<String> ouvinte) {
+        ouvintes.adicionar(canal, ouvinte);
+    }
+
+    @Override
+    public void gravar(String chave, String valor, Duration ttl) {
+        estado.put(chave, new Entrada(valor, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public Optional<String> ler(String chave) {
+        Entrada entrada = estado.get(chave);
+        if (entrada == null) {
+            return Optional.empty();
+        }
+        if (entrada.expiraEm() <= System.currentTimeMillis()) {
+            estado.remove(chave, entrada);
+            return Optional.empty();
+        }
+        return Optional.of(entrada.valor());
+    }
+
+    @Override
+    public void remover(String chave) {
+        estado.remove(chave);
+    }
+
+    @Scheduled(fixedRate = 60000) // A cada 1 minuto
+    public void limparExpirados() {
+        long agora = System.currentTimeMillis();
+        estado.values().removeIf(e -> e.expiraEm() <= agora);
+    }
+
+    private record Entrada(String valor, long expiraEm) {
+    }
+}
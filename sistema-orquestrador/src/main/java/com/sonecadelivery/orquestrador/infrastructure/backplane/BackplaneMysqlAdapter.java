@@ -0,0 +1,290 @@
+package com.sonecadelivery.orquestrador.infrastructure.backplane;
+
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
+import com.sonecadelivery.orquestrador.config.BackplaneProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Backplane sobre o MySQL já usado pela aplicação (backplane.tipo=mysql).
+ *
+ * Eventos:
+ * - publicar entrega aos ouvintes locais na hora e enfileira o evento; uma
+ *   única thread grava a fila em lote em backplane_eventos e lê ("tail") os
+ *   eventos novos das outras instâncias pelo id auto-incremento
+ * - Ids podem ficar visíveis fora de ordem (transações concorrentes em
+ *   instâncias diferentes): ids pulados são relidos por até espera-lacuna-ms;
+ *   depois disso são abandonados, com log e contagem em
+ *   backplane.eventos.ids-abandonados (rollback ou evento perdido)
+ * - Perdas (fila de saída cheia, falha no INSERT, ids abandonados) avisam os
+ *   ouvintes de aoPerderEventos. As da publicação só afetam as outras
+ *   instâncias: viram uma marca nova em backplane_estado (CHAVE_PERDAS),
+ *   relida a cada ciclo por todas
+ * - Eventos antigos são apagados após retencao-eventos-segundos
+ *
+ * Estado: backplane_estado (UPSERT com expira_em); leituras ignoram expirados
+ * e a limpeza roda a cada minuto. Horários sempre pelo relógio do banco.
+ */
+@Component
+@ConditionalOnProperty(prefix = "backplane", name = "tipo", havingValue = "mysql")
+@Slf4j
+public class BackplaneMysqlAdapter implements BackplanePort {
+
+    private static final String SQL_INSERIR_EVENTO =
+            "INSERT INTO backplane_eventos (canal, payload, instancia) VALUES (?, ?, ?)";
+    private static final String SQL_LER_EVENTOS =
+            "SELECT id, canal, payload, instancia FROM backplane_eventos WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SQL_GRAVAR_ESTADO = """
+            INSERT INTO backplane_estado (chave, valor, expira_em)
+            VALUES (?, ?, TIMESTAMPADD(MICROSECOND, ?, NOW(3)))
+            ON DUPLICATE KEY UPDATE valor = VALUES(valor), expira_em = VALUES(expira_em)
+            """;
+    private static final String SQL_LER_ESTADO =
+            "SELECT valor FROM backplane_estado WHERE chave = ? AND expira_em > NOW(3)";
+    private static final String CHAVE_PERDAS = "backplane.perdas";
+    private static final Duration TTL_PERDAS = Duration.ofDays(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BackplaneProperties properties;
+    private final String instancia = UUID.randomUUID().toString();
+    private final OuvintesBackplane ouvintes = new OuvintesBackplane();
+    private final BlockingQueue<EventoSaida> saida;
+    private final Counter idsAbandonados;
+    private final List<Runnable> ouvintesPerda = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean perdaPendente = new AtomicBoolean();
+
+    private ScheduledExecutorService executor;
+
+    // Estado da leitura: acessado só pela thread do executor
+    private long marca;
+    private final TreeSet<Long> vistosAcimaDaMarca = new TreeSet<>();
+    private long lacunaDesde;
+    private Optional<String> ultimaPerda = Optional.empty();
+
+    public BackplaneMysqlAdapter(JdbcTemplate jdbcTemplate, BackplaneProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.saida = new ArrayBlockingQueue<>(properties.getCapacidadeFilaSaida());
+        this.idsAbandonados = Counter.builder("backplane.eventos.ids-abandonados")
+                .description("Ids de eventos que não apareceram dentro da espera de lacuna")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        // Começa do fim: eventos anteriores ao startup já não interessam
+        Long ultimoId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM backplane_eventos", Long.class);
+        marca = ultimoId != null ? ultimoId : 0;
+        ultimaPerda = ler(CHAVE_PERDAS);
+
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "backplane-mysql");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalo = properties.getIntervaloPollingMs();
+        executor.scheduleWithFixedDelay(this::ciclo, intervalo, intervalo, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::limpar, 1, 1, TimeUnit.MINUTES);
+        log.info("[BACKPLANE] MySQL ativo (instância {}, polling {} ms)", instancia, intervalo);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Último envio do que foi publicado durante o encerramento
+        enviarPendentes();
+    }
+
+    @Override
+    public void publicar(String canal, String payload) {
+        ouvintes.entregar(canal, payload);
+        if (!saida.offer(new EventoSaida(canal, payload))) {
+            log.warn("[BACKPLANE] Fila de saída cheia; evento do canal {} não propagado", canal);
+            perdaPendente.set(true);
+        }
+    }
+
+    @Override
+    public void assinar(String canal, Consumer<String> ouvinte) {
+        ouvintes.adicionar(canal, ouvinte);
+    }
+
+    @Override
+    public void aoPerderEventos(Runnable ouvinte) {
+        ouvintesPerda.add(ouvinte);
+    }
+
+    @Override
+    public void gravar(String chave, String valor, Duration ttl) {
+        jdbcTemplate.update(SQL_GRAVAR_ESTADO, chave, valor, ttl.toMillis() * 1000);
+    }
+
+    @Override
+    public Optional<String> ler(String chave) {
+        List<String> valores = jdbcTemplate.queryForList(SQL_LER_ESTADO, String.class, chave);
+        return valores.isEmpty() ? Optional.empty() : Optional.of(valores.get(0));
+    }
+
+    @Override
+    public void remover(String chave) {
+        jdbcTemplate.update("DELETE FROM backplane_estado WHERE chave = ?", chave);
+    }
+
+    private void ciclo() {
+        try {
+            enviarPendentes();
+            sinalizarPerda();
+            lerNovos();
+            verificarPerdasRemotas();
+        } catch (RuntimeException e) {
+            log.warn("[BACKPLANE] Erro no ciclo de eventos: {}", e.getMessage());
+        }
+    }
+
+    private void enviarPendentes() {
+        List<EventoSaida> lote = new ArrayList<>();
+        saida.drainTo(lote, properties.getLote());
+        if (lote.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(SQL_INSERIR_EVENTO,
+                    lote.stream().map(e -> new Object[] { e.canal(), e.payload(), instancia }).toList());
+        } catch (RuntimeException e) {
+            // Eventos de tempo real perdem o sentido se atrasarem: descarta o lote
+            log.warn("[BACKPLANE] Falha ao propagar {} evento(s): {}", lote.size(), e.getMessage());
+            perdaPendente.set(true);
+        }
+    }
+
+    /**
+     * Grava uma marca nova de perda para as outras instâncias. Se a gravação
+     * falhar, a perda continua pendente para o próximo ciclo.
+     */
+    private void sinalizarPerda() {
+        if (!perdaPendente.getAndSet(false)) {
+            return;
+        }
+        String marcaPerda = UUID.randomUUID().toString();
+        try {
+            gravar(CHAVE_PERDAS, marcaPerda, TTL_PERDAS);
+            ultimaPerda = Optional.of(marcaPerda);
+        } catch (RuntimeException e) {
+            perdaPendente.set(true);
+            throw e;
+        }
+    }
+
+    private void verificarPerdasRemotas() {
+        Optional<String> atual = ler(CHAVE_PERDAS);
+        if (atual.isPresent() && !atual.equals(ultimaPerda)) {
+            log.warn("[BACKPLANE] Outra instância perdeu eventos; avisando ouvintes");
+            avisarPerda();
+        }
+        ultimaPerda = atual;
+    }
+
+    private void avisarPerda() {
+        for (Runnable ouvinte : ouvintesPerda) {
+            try {
+                ouvinte.run();
+            } catch (RuntimeException e) {
+                log.warn("[BACKPLANE] Erro no ouvinte de perda: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void lerNovos() {
+        List<EventoLido> eventos = jdbcTemplate.query(SQL_LER_EVENTOS,
+                (rs, i) -> new EventoLido(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+                marca, properties.getLote());
+
+        for (EventoLido evento : eventos) {
+            if (vistosAcimaDaMarca.add(evento.id()) && !instancia.equals(evento.instancia())) {
+                ouvintes.entregar(evento.canal(), evento.payload());
+            }
+        }
+        avancarMarca();
+    }
+
+    /**
+     * Avança a marca (todos os ids até ela já foram tratados) enquanto os ids
+     * forem contíguos. Um id pulado pode ser uma transação ainda não
+     * commitada: espera esperaLacunaMs antes de desistir dele.
+     */
+    private void avancarMarca() {
+        while (!vistosAcimaDaMarca.isEmpty()) {
+            if (vistosAcimaDaMarca.first() == marca + 1) {
+                marca = vistosAcimaDaMarca.pollFirst();
+                lacunaDesde = 0;
+                continue;
+            }
+            long agora = System.currentTimeMillis();
+            if (lacunaDesde == 0) {
+                lacunaDesde = agora;
+                return;
+            }
+            if (agora - lacunaDesde < properties.getEsperaLacunaMs()) {
+                return;
+            }
+            long proximoVisto = vistosAcimaDaMarca.first();
+            long abandonados = proximoVisto - marca - 1;
+            idsAbandonados.increment(abandonados);
+            log.warn("[BACKPLANE] {} id(s) de evento ({}..{}) não apareceram em {} ms; seguindo sem eles "
+                    + "(rollback em outra instância ou evento perdido)",
+                    abandonados, marca + 1, proximoVisto - 1, properties.getEsperaLacunaMs());
+            marca = proximoVisto - 1;
+            lacunaDesde = 0;
+            avisarPerda();
+        }
+    }
+
+    private void limpar() {
+        try {
+            int eventos = jdbcTemplate.update(
+                    "DELETE FROM backplane_eventos WHERE created_at < NOW(3) - INTERVAL ? SECOND LIMIT 10000",
+                    properties.getRetencaoEventosSegundos());
+            int estados = jdbcTemplate.update("DELETE FROM backplane_estado WHERE expira_em < NOW(3) LIMIT 10000");
+            if (eventos > 0 || estados > 0) {
+                log.debug("[BACKPLANE] Limpeza: {} evento(s) e {} estado(s) expirados removidos", eventos, estados);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[BACKPLANE] Erro na limpeza: {}", e.getMessage());
+        }
+    }
+
+    private record EventoSaida(String canal, String payload) {
+    }
+
+    private record EventoLido(long id, String canal, String payload, String instancia) {
+    }
+}
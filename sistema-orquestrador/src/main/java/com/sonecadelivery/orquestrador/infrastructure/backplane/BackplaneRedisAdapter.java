@@ -0,0 +1,121 @@
+package com.sonecadelivery.orquestrador.infrastructure.backplane;
+
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
+import com.sonecadelivery.orquestrador.config.BackplaneProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Backplane sobre Redis (backplane.tipo=redis, opcional).
+ *
+ * - Eventos via Pub/Sub: cada mensagem leva o id da instância de origem,
+ *   que ignora o próprio eco (a entrega local já foi feita em publicar)
+ * - Estado em chaves com TTL nativo (SET ... PX)
+ *
+ * Cria a própria conexão (a auto-configuração de Redis do Spring Boot fica
+ * desligada para não exigir um servidor quando o backplane não é Redis).
+ */
+@Component
+@ConditionalOnProperty(prefix = "backplane", name = "tipo", havingValue = "redis")
+@Slf4j
+public class BackplaneRedisAdapter implements BackplanePort {
+
+    private static final char SEPARADOR = '\n';
+
+    private final BackplaneProperties properties;
+    private final String instancia = UUID.randomUUID().toString();
+    private final OuvintesBackplane ouvintes = new OuvintesBackplane();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisMessageListenerContainer container;
+
+    public BackplaneRedisAdapter(BackplaneProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void iniciar() {
+        RedisStandaloneConfiguration configuracao =
+                new RedisStandaloneConfiguration(properties.getRedisHost(), properties.getRedisPort());
+        if (properties.getRedisSenha() != null && !properties.getRedisSenha().isBlank()) {
+            configuracao.setPassword(properties.getRedisSenha());
+        }
+        connectionFactory = new LettuceConnectionFactory(configuracao);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        log.info("[BACKPLANE] Redis ativo em {}:{} (instância {})",
+                properties.getRedisHost(), properties.getRedisPort(), instancia);
+    }
+
+    @PreDestroy
+    void encerrar() throws Exception {
+        if (container != null) {
+            container.destroy();
+        }
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Override
+    public void publicar(String canal, String payload) {
+        ouvintes.entregar(canal, payload);
+        try {
+            redisTemplate.convertAndSend(properties.getPrefixoRedis() + canal, instancia + SEPARADOR + payload);
+        } catch (RuntimeException e) {
+            log.warn("[BACKPLANE] Falha ao propagar evento do canal {}: {}", canal, e.getMessage());
+        }
+    }
+
+    @Override
+    public void assinar(String canal, Consumer<String> ouvinte) {
+        if (!ouvintes.adicionar(canal, ouvinte)) {
+            return;
+        }
+        container.addMessageListener((mensagem, padrao) -> {
+            String corpo = new String(mensagem.getBody(), StandardCharsets.UTF_8);
+            int separador = corpo.indexOf(SEPARADOR);
+            if (separador < 0 || corpo.startsWith(instancia + SEPARADOR)) {
+                return;
+            }
+            ouvintes.entregar(canal, corpo.substring(separador + 1));
+        }, new ChannelTopic(properties.getPrefixoRedis() + canal));
+    }
+
+    @Override
+    public void gravar(String chave, String valor, Duration ttl) {
+        redisTemplate.opsForValue().set(properties.getPrefixoRedis() + chave, valor, ttl);
+    }
+
+    @Override
+    public Optional<String> ler(String chave) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(properties.getPrefixoRedis() + chave));
+    }
+
+    @Override
+    public void remover(String chave) {
+        redisTemplate.delete(properties.getPrefixoRedis() + chave);
+    }
+}
@@ -0,0 +1,45 @@
+package com.sonecadelivery.orquestrador.infrastructure.backplane;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Ouvintes registrados por canal, comum às implementações do backplane.
+ * Falha de um ouvinte não impede a entrega aos demais.
+ */
+@Slf4j
+final class OuvintesBackplane {
+
+    private final Map<String, List<Consumer<String>>> ouvintesPorCanal = new ConcurrentHashMap<>();
+
+    /**
+     * @return true se é o primeiro ouvinte do canal
+     */
+    boolean adicionar(String canal, Consumer<String> ouvinte) {
+        boolean[] primeiro = {false};
+        ouvintesPorCanal.computeIfAbsent(canal, c -> {
+            primeiro[0] = true;
+            return new CopyOnWriteArrayList<>();
+        }).add(ouvinte);
+        return primeiro[0];
+    }
+
+    void entregar(String canal, String payload) {
+        List<Consumer<String>> ouvintes = ouvintesPorCanal.get(canal);
+        if (ouvintes == null) {
+            return;
+        }
+        for (Consumer<String> ouvinte : ouvintes) {
+            try {
+                ouvinte.accept(payload);
+            } catch (RuntimeException e) {
+                log.warn("[BACKPLANE] Erro no ouvinte do canal {}: {}", canal, e.getMessage(), e);
+            }
+        }
+    }
+}
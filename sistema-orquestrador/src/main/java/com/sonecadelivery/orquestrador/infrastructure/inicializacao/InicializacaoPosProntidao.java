@@ -0,0 +1,118 @@
+package com.sonecadelivery.orquestrador.infrastructure.inicializacao;
+
+import com.sonecadelivery.cardapio.application.services.CatalogoPrecosService;
+import com.sonecadelivery.cardapio.application.usecases.ListarCategoriasUseCase;
+import com.sonecadelivery.cardapio.application.usecases.ListarProdutosUseCase;
+import com.sonecadelivery.orquestrador.config.InicializacaoProperties;
+import com.sonecadelivery.orquestrador.infrastructure.web.frontend.AssetsFrontendHandler;
+import com.sonecadelivery.orquestrador.service.StatusLojaSSEService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Trabalho do startup rápido que fica para depois da aplicação pronta
+ * (inicializacao.rapida = true), em threads próprias e sem bloquear requisições:
+ *
+ * - Aquecimento em paralelo do que o cliente abre primeiro: cardápio
+ *   (consultas, pool de conexões e Hibernate), catálogo de preços, status da
+ *   loja e arquivos do build do Angular (já comprimidos) em memória
+ * - Criação dos beans dos módulos tardios ({@link ModulosTardiosPostProcessor});
+ *   uma requisição que chegue antes cria o bean que precisar na hora
+ *
+ * Cada tarefa vira uma fase na {@link LinhaTempoInicializacao}. Falhas só são
+ * registradas: o que não foi aquecido carrega na primeira requisição.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InicializacaoPosProntidao {
+
+    private final InicializacaoProperties properties;
+    private final LinhaTempoInicializacao linhaTempo;
+    private final ModulosTardiosPostProcessor modulosTardios;
+    private final BeanFactory beanFactory;
+    private final CatalogoPrecosService catalogoPrecosService;
+    private final ListarProdutosUseCase listarProdutosUseCase;
+    private final ListarCategoriasUseCase listarCategoriasUseCase;
+    private final StatusLojaSSEService statusLojaSSEService;
+    private final AssetsFrontendHandler assetsFrontendHandler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void aoFicarPronto() {
+        if (!properties.isRapida()) {
+            return;
+        }
+        AtomicInteger contador = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreadsAquecimento() + 1, r -> {
+            Thread t = new Thread(r, "inicializacao-" + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        CompletableFuture<Void> aquecimento = aquecer(executor);
+        CompletableFuture<Void> modulos = CompletableFuture.runAsync(this::criarModulosTardios, executor);
+        CompletableFuture.allOf(aquecimento, modulos).whenComplete((r, e) -> executor.shutdown());
+    }
+
+    private CompletableFuture<Void> aquecer(ExecutorService executor) {
+        Map<String, Runnable> tarefas = new LinkedHashMap<>();
+        tarefas.put("aquecimento:cardapio", () -> {
+            listarCategoriasUseCase.executarAtivas();
+            listarProdutosUseCase.executarDisponiveis();
+        });
+        tarefas.put("aquecimento:catalogo-precos", catalogoPrecosService::aquecer);
+        tarefas.put("aquecimento:status-loja", statusLojaSSEService::verificarENotificar);
+        tarefas.put("aquecimento:frontend", () -> {
+            try {
+                assetsFrontendHandler.aquecer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        long inicio = System.currentTimeMillis();
+        CompletableFuture<?>[] futuros = tarefas.entrySet().stream()
+                .map(tarefa -> CompletableFuture.runAsync(() -> executarFase(tarefa.getKey(), tarefa.getValue()), executor))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futuros)
+                .whenComplete((r, e) -> linhaTempo.registrar("aquecimento", inicio, tarefas.size() + " tarefa(s) em paralelo"));
+    }
+
+    private void criarModulosTardios() {
+        long inicio = System.currentTimeMillis();
+        int criados = 0;
+        for (String nome : modulosTardios.getBeansTardios()) {
+            try {
+                beanFactory.getBean(nome);
+                criados++;
+            } catch (RuntimeException e) {
+                log.warn("Falha ao criar o bean tardio {}: {}", nome, e.getMessage());
+            }
+        }
+        linhaTempo.registrar("modulos-tardios", inicio, criados + " bean(s)");
+    }
+
+    private void executarFase(String nome, Runnable tarefa) {
+        long inicio = System.currentTimeMillis();
+        try {
+            tarefa.run();
+            linhaTempo.registrar(nome, inicio, null);
+        } catch (RuntimeException e) {
+            log.warn("Falha no {}: {}", nome, e.getMessage());
+            linhaTempo.registrar(nome, inicio, "falhou: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.sonecadelivery.orquestrador.infrastructure.inicializacao;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Linha do tempo do startup, por fase, em milissegundos desde o início da JVM.
+ *
+ * - jvm: da JVM até o SpringApplication começar
+ * - contexto: do SpringApplication até a aplicação ficar pronta (inclui
+ *   liquibase e hibernate, registrados à parte)
+ * - Fases em segundo plano (aquecimento, módulos tardios) terminam depois de
+ *   "pronto" e são acrescentadas conforme concluem
+ */
+@Component
+public class LinhaTempoInicializacao {
+
+    private final long inicioJvm = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final List<Fase> fases = new CopyOnWriteArrayList<>();
+    private volatile long prontoEmMs = -1;
+
+    /**
+     * Registra uma fase que começou em inicio (System.currentTimeMillis()) e
+     * terminou agora.
+     */
+    public void registrar(String nome, long inicio, String detalhe) {
+        fases.add(new Fase(nome, inicio - inicioJvm, System.currentTimeMillis() - inicio, detalhe));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void aoFicarPronto(ApplicationReadyEvent evento) {
+        long agora = System.currentTimeMillis();
+        long inicioContexto = agora - evento.getTimeTaken().toMillis();
+        fases.add(new Fase("jvm", 0, inicioContexto - inicioJvm, null));
+        fases.add(new Fase("contexto", inicioContexto - inicioJvm, agora - inicioContexto, null));
+        prontoEmMs = agora - inicioJvm;
+    }
+
+    public Resumo resumo() {
+        List<Fase> ordenadas = fases.stream()
+                .sorted(Comparator.comparingLong(Fase::inicioMs))
+                .toList();
+        return new Resumo(inicioJvm, prontoEmMs, ordenadas);
+    }
+
+    /**
+     * @param inicioMs   desde o início da JVM
+     * @param detalhe    ex.: "pulado: changelogs inalterados"; pode ser null
+     */
+    public record Fase(String nome, long inicioMs, long duracaoMs, String detalhe) {
+    }
+
+    /**
+     * @param prontoEmMs -1 enquanto a aplicação não estiver pronta
+     */
+    public record Resumo(long inicioJvmEpochMs, long prontoEmMs, List<Fase> fases) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.sonecadelivery.orquestrador.infrastructure.inicializacao;
+
+import com.sonecadelivery.kernel.infrastructure.utils.DateTimeUtils;
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Liquibase que só roda quando o conjunto de changelogs mudou.
+ *
+ * - Hash SHA-256 de todos os arquivos em db/changelog (caminho + conteúdo,
+ *   em ordem de caminho) comparado com o gravado em controle_migracoes
+ * - Igual: o Liquibase nem é iniciado (sem lock, sem leitura da
+ *   DATABASECHANGELOG, sem parse dos changelogs)
+ * - Diferente, ausente ou ilegível: roda normalmente e grava o hash novo
+ *
+ * Uma instância com changelogs antigos vê um hash diferente e só roda o
+ * Liquibase à toa; nunca pula uma migração que ainda não foi aplicada.
+ */
+@Slf4j
+public class LiquibaseSeAlterado extends SpringLiquibase {
+
+    private static final String PADRAO_CHANGELOGS = "classpath*:db/changelog/**/*";
+    private static final String RAIZ_CHANGELOGS = "db/changelog/";
+    private static final String SQL_GRAVAR_HASH = """
+            INSERT INTO controle_migracoes (id, hash_changelogs, atualizado_em) VALUES (1, ?, ?)
+            ON DUPLICATE KEY UPDATE hash_changelogs = VALUES(hash_changelogs), atualizado_em = VALUES(atualizado_em)
+            """;
+
+    private final LinhaTempoInicializacao linhaTempo;
+    private final boolean pularSeInalterado;
+
+    public LiquibaseSeAlterado(LinhaTempoInicializacao linhaTempo, boolean pularSeInalterado) {
+        this.linhaTempo = linhaTempo;
+        this.pularSeInalterado = pularSeInalterado;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws LiquibaseException {
+        long inicio = System.currentTimeMillis();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(getDataSource());
+        String hash = calcularHash();
+
+        if (pularSeInalterado && hash != null && hash.equals(hashGravado(jdbcTemplate))) {
+            log.info("Liquibase pulado: changelogs inalterados desde a última execução ({})", hash.substring(0, 12));
+            linhaTempo.registrar("liquibase", inicio, "pulado: changelogs inalterados");
+            return;
+        }
+
+        super.afterPropertiesSet();
+        if (hash != null) {
+            gravarHash(jdbcTemplate, hash);
+        }
+        linhaTempo.registrar("liquibase", inicio, "executado");
+    }
+
+    /**
+     * @return null se os changelogs não puderem ser lidos (o Liquibase roda)
+     */
+    private String calcularHash() {
+        try {
+            Resource[] recursos = new PathMatchingResourcePatternResolver(getResourceLoader())
+                    .getResources(PADRAO_CHANGELOGS);
+            // Caminho relativo à raiz: o mesmo no IDE (diretório) e no jar
+            Map<String, Resource> porCaminho = new TreeMap<>();
+            for (Resource recurso : recursos) {
+                String url = recurso.getURL().toString();
+                int raiz = url.lastIndexOf(RAIZ_CHANGELOGS);
+                if (raiz >= 0 && !url.endsWith("/") && recurso.isReadable()) {
+                    porCaminho.put(url.substring(raiz), recurso);
+                }
+            }
+            if (porCaminho.isEmpty()) {
+                return null;
+            }
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<String, Resource> entrada : porCaminho.entrySet()) {
+                digest.update(entrada.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                try (InputStream conteudo = entrada.getValue().getInputStream()) {
+                    digest.update(conteudo.readAllBytes());
+                }
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.warn("Não foi possível calcular o hash dos changelogs: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String hashGravado(JdbcTemplate jdbcTemplate) {
+        try {
+            List<String> hashes = jdbcTemplate.queryForList(
+                    "SELECT hash_changelogs FROM controle_migracoes WHERE id = 1", String.class);
+            return hashes.isEmpty() ? null : hashes.get(0);
+        } catch (DataAccessException e) {
+            // Tabela ainda não existe (primeira execução com esta versão)
+            return null;
+        }
+    }
+
+    private static void gravarHash(JdbcTemplate jdbcTemplate, String hash) {
+        try {
+            jdbcTemplate.update(SQL_GRAVAR_HASH, hash, DateTimeUtils.now());
+        } catch (DataAccessException e) {
+            log.warn("Não foi possível gravar o hash dos changelogs: {}", e.getMessage());
+        }
+    }
+}
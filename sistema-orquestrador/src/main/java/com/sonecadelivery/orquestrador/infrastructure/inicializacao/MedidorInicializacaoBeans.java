@@ -0,0 +1,44 @@
+package com.sonecadelivery.orquestrador.infrastructure.inicializacao;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mede a inicialização (afterPropertiesSet) de beans pesados do startup e
+ * registra na {@link LinhaTempoInicializacao}. O Liquibase registra a própria fase.
+ */
+@Component
+public class MedidorInicializacaoBeans implements BeanPostProcessor {
+
+    /** Bean -> fase na linha do tempo */
+    private static final Map<String, String> FASES = Map.of("entityManagerFactory", "hibernate");
+
+    // ObjectProvider: post processors são criados cedo; a linha do tempo só é buscada quando usada
+    private final ObjectProvider<LinhaTempoInicializacao> linhaTempo;
+    private final Map<String, Long> inicios = new ConcurrentHashMap<>();
+
+    public MedidorInicializacaoBeans(ObjectProvider<LinhaTempoInicializacao> linhaTempo) {
+        this.linhaTempo = linhaTempo;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (FASES.containsKey(beanName)) {
+            inicios.put(beanName, System.currentTimeMillis());
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Long inicio = inicios.remove(beanName);
+        if (inicio != null) {
+            linhaTempo.getObject().registrar(FASES.get(beanName), inicio, null);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,88 @@
+package com.sonecadelivery.orquestrador.infrastructure.inicializacao;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Marca como lazy os beans dos módulos que não estão no caminho crítico do
+ * cliente (chat, impressão, relatórios...), conforme os prefixos de classe em
+ * inicializacao.modulos-tardios. Só com inicializacao.rapida = true.
+ *
+ * Controllers lazy continuam mapeados (o Spring MVC resolve o bean na primeira
+ * requisição). Um bean tardio injetado num bean criado no startup é criado
+ * junto com ele, como antes. Os demais são criados em segundo plano logo após
+ * a aplicação ficar pronta ({@link InicializacaoPosProntidao}).
+ *
+ * Registrado por método @Bean static: roda antes do binding de
+ * {@code InicializacaoProperties}, por isso lê o Environment direto.
+ */
+@Slf4j
+public class ModulosTardiosPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware {
+
+    private Environment environment;
+    private volatile List<String> beansTardios = List.of();
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        Binder binder = Binder.get(environment);
+        if (!binder.bind("inicializacao.rapida", Boolean.class).orElse(false)) {
+            return;
+        }
+        List<String> prefixos = binder.bind("inicializacao.modulos-tardios", Bindable.listOf(String.class))
+                .orElse(List.of());
+        if (prefixos.isEmpty()) {
+            return;
+        }
+
+        List<String> marcados = new ArrayList<>();
+        for (String nome : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definicao = beanFactory.getBeanDefinition(nome);
+            // Já lazy por conta própria: não é criado em segundo plano
+            if (definicao.isLazyInit() || !definicao.isSingleton() || definicao.isAbstract()
+                    || definicao.getRole() != BeanDefinition.ROLE_APPLICATION) {
+                continue;
+            }
+            String classe = classeDeclarante(definicao);
+            if (classe != null && prefixos.stream().anyMatch(classe::startsWith)) {
+                definicao.setLazyInit(true);
+                marcados.add(nome);
+            }
+        }
+        beansTardios = List.copyOf(marcados);
+        log.info("Startup rápido: {} bean(s) de módulos tardios serão criados após a aplicação ficar pronta",
+                marcados.size());
+    }
+
+    /**
+     * Nomes dos beans marcados como lazy por este post processor.
+     */
+    public List<String> getBeansTardios() {
+        return beansTardios;
+    }
+
+    /**
+     * Classe do componente ou, para métodos @Bean, a classe de configuração
+     * que os declara.
+     */
+    private static String classeDeclarante(BeanDefinition definicao) {
+        if (definicao instanceof AnnotatedBeanDefinition anotada && anotada.getFactoryMethodMetadata() != null) {
+            return anotada.getFactoryMethodMetadata().getDeclaringClassName();
+        }
+        return definicao.getBeanClassName();
+    }
+}
@@ -19,8 +19,8 @@ public class ConfigAnimacaoMapper implements Mapper<ConfigAnimacao, ConfigAnimac
             .animacaoAtivada(config.isAnimacaoAtivada())
             .intervaloAnimacao(config.getIntervaloAnimacao())
             .duracaoAnimacao(config.getDuracaoAnimacao())
-            .video1Url(config.getVideo1Url())
-            .video2Url(config.getVideo2Url())
+            .video1MidiaId(config.getVideo1MidiaId())
+            .video2MidiaId(config.getVideo2MidiaId())
             .createdAt(config.getCreatedAt())
             .updatedAt(config.getUpdatedAt())
             .build();
@@ -42,8 +42,8 @@ public class ConfigAnimacaoMapper implements Mapper<ConfigAnimacao, ConfigAnimac
             entity.isAnimacaoAtivada(),
             entity.getIntervaloAnimacao(),
             entity.getDuracaoAnimacao(),
-            entity.getVideo1Url(),
-            entity.getVideo2Url()
+            entity.getVideo1MidiaId(),
+            entity.getVideo2MidiaId()
         );
         
         config.restaurarDoBanco(entity.getId(), entity.getCreatedAt(), entity.getUpdatedAt());
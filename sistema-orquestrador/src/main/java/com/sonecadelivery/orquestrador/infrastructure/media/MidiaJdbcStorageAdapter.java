@@ -0,0 +1,206 @@
+package com.sonecadelivery.orquestrador.infrastructure.media;
+
+import com.sonecadelivery.kernel.domain.exceptions.ValidationException;
+import com.sonecadelivery.kernel.infrastructure.utils.DateTimeUtils;
+import com.sonecadelivery.orquestrador.application.ports.MidiaStoragePort;
+import com.sonecadelivery.orquestrador.domain.entities.Midia;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Mídias no MySQL em blocos de tamanho fixo (midias + midia_chunks).
+ *
+ * - Upload em fluxo: um bloco em memória por vez, SHA-256 calculado durante
+ *   a gravação; tudo numa transação (falha no meio não deixa mídia parcial)
+ * - Leitura sob demanda, um bloco por consulta: um pedido de intervalo
+ *   (HTTP Range) só busca os blocos que cobrem o trecho
+ * - Compartilhado por todas as instâncias, sem depender de disco local
+ */
+@Component
+@Slf4j
+public class MidiaJdbcStorageAdapter implements MidiaStoragePort {
+
+    private static final String SQL_INSERIR_MIDIA = """
+            INSERT INTO midias (id, nome, content_type, tamanho, tamanho_chunk, hash, created_at)
+            VALUES (?, ?, ?, 0, ?, '', ?)
+            """;
+    private static final String SQL_INSERIR_CHUNK =
+            "INSERT INTO midia_chunks (midia_id, indice, dados) VALUES (?, ?, ?)";
+    private static final String SQL_BUSCAR_MIDIA =
+            "SELECT id, nome, content_type, tamanho, hash, created_at FROM midias WHERE id = ?";
+
+    private static final RowMapper<Midia> MIDIA_MAPPER = (rs, i) -> new Midia(
+            rs.getString("id"),
+            rs.getString("nome"),
+            rs.getString("content_type"),
+            rs.getLong("tamanho"),
+            rs.getString("hash"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int tamanhoChunk;
+
+    public MidiaJdbcStorageAdapter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${midias.tamanho-chunk-bytes:1048576}") int tamanhoChunk) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tamanhoChunk = tamanhoChunk;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public Midia salvar(String nome, String contentType, InputStream conteudo) throws IOException {
+        String id = UUID.randomUUID().toString();
+        LocalDateTime agora = DateTimeUtils.now();
+        // Linha de metadados primeiro (FK dos blocos); tamanho e hash no fim
+        jdbcTemplate.update(SQL_INSERIR_MIDIA, id, nome, contentType, tamanhoChunk, agora);
+
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[tamanhoChunk];
+        long tamanho = 0;
+        int indice = 0;
+        int lidos;
+        while ((lidos = conteudo.readNBytes(buffer, 0, tamanhoChunk)) > 0) {
+            digest.update(buffer, 0, lidos);
+            byte[] dados = lidos == tamanhoChunk ? buffer : Arrays.copyOf(buffer, lidos);
+            jdbcTemplate.update(SQL_INSERIR_CHUNK, id, indice++, dados);
+            tamanho += lidos;
+        }
+        if (tamanho == 0) {
+            throw new ValidationException("Arquivo vazio");
+        }
+
+        String hash = HexFormat.of().formatHex(digest.digest());
+        jdbcTemplate.update("UPDATE midias SET tamanho = ?, hash = ? WHERE id = ?", tamanho, hash, id);
+        log.info("Mídia {} gravada: {} ({} bytes em {} bloco(s))", id, contentType, tamanho, indice);
+        return new Midia(id, nome, contentType, tamanho, hash, agora);
+    }
+
+    @Override
+    public Optional<Midia> buscar(String id) {
+        List<Midia> midias = jdbcTemplate.query(SQL_BUSCAR_MIDIA, MIDIA_MAPPER, id);
+        return midias.isEmpty() ? Optional.empty() : Optional.of(midias.get(0));
+    }
+
+    @Override
+    public InputStream abrir(Midia midia) {
+        return new ConteudoMidia(midia);
+    }
+
+    @Override
+    public void excluir(String id) {
+        // Blocos removidos em cascata
+        jdbcTemplate.update("DELETE FROM midias WHERE id = ?", id);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 é obrigatório em toda JVM
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Stream sobre os blocos da mídia, carregados um a um conforme a leitura
+     * avança. skip() só move a posição.
+     */
+    private final class ConteudoMidia extends InputStream {
+
+        private final Midia midia;
+        private long posicao;
+        private int tamanhoBloco;
+        private int indiceBloco = -1;
+        private byte[] bloco;
+
+        private ConteudoMidia(Midia midia) {
+            this.midia = midia;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (posicao >= midia.tamanho()) {
+                return -1;
+            }
+            int deslocamento = carregarBloco();
+            posicao++;
+            return bloco[deslocamento] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] destino, int inicio, int quantidade) throws IOException {
+            if (quantidade == 0) {
+                return 0;
+            }
+            if (posicao >= midia.tamanho()) {
+                return -1;
+            }
+            int deslocamento = carregarBloco();
+            int copiar = Math.min(quantidade, bloco.length - deslocamento);
+            System.arraycopy(bloco, deslocamento, destino, inicio, copiar);
+            posicao += copiar;
+            return copiar;
+        }
+
+        @Override
+        public long skip(long n) {
+            long pular = Math.max(0, Math.min(n, midia.tamanho() - posicao));
+            posicao += pular;
+            return pular;
+        }
+
+        @Override
+        public int available() {
+            if (bloco == null || posicao >= midia.tamanho()) {
+                return 0;
+            }
+            long fimBloco = (long) (indiceBloco + 1) * tamanhoBloco;
+            return (int) Math.max(0, fimBloco - posicao);
+        }
+
+        /**
+         * Garante em memória o bloco que contém a posição atual.
+         *
+         * @return deslocamento da posição dentro do bloco
+         */
+        private int carregarBloco() throws IOException {
+            if (tamanhoBloco == 0) {
+                Integer tamanho = jdbcTemplate.queryForObject(
+                        "SELECT tamanho_chunk FROM midias WHERE id = ?", Integer.class, midia.id());
+                tamanhoBloco = tamanho != null ? tamanho : tamanhoChunk;
+            }
+            int indice = (int) (posicao / tamanhoBloco);
+            if (indice != indiceBloco) {
+                List<byte[]> dados = jdbcTemplate.queryForList(
+                        "SELECT dados FROM midia_chunks WHERE midia_id = ? AND indice = ?",
+                        byte[].class, midia.id(), indice);
+                if (dados.isEmpty()) {
+                    throw new IOException("Bloco " + indice + " da mídia " + midia.id() + " não encontrado");
+                }
+                bloco = dados.get(0);
+                indiceBloco = indice;
+            }
+            int deslocamento = (int) (posicao - (long) indice * tamanhoBloco);
+            if (deslocamento >= bloco.length) {
+                throw new IOException("Bloco " + indice + " da mídia " + midia.id() + " incompleto");
+            }
+            return deslocamento;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.sonecadelivery.orquestrador.infrastructure.media;
+
+import com.sonecadelivery.orquestrador.application.ports.MidiaStoragePort;
+import com.sonecadelivery.orquestrador.domain.entities.Midia;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Migração única dos vídeos do lobby gravados como data URL base64 em
+ * config_animacao.video1_url/video2_url para mídias binárias.
+ *
+ * Roda após o startup; cada vídeo convertido tem a coluna legada limpa, então
+ * as execuções seguintes não encontram nada. Valores que não são data URL
+ * (links externos) ficam como estão e são ignorados.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MigracaoVideosAnimacaoLegado {
+
+    private static final List<String> COLUNAS = List.of("video1", "video2");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MidiaStoragePort midiaStorage;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrar() {
+        for (String coluna : COLUNAS) {
+            try {
+                migrarColuna(coluna);
+            } catch (RuntimeException e) {
+                log.warn("[MIDIAS] Falha ao migrar {} legado da configuração de animação: {}", coluna, e.getMessage());
+            }
+        }
+    }
+
+    private void migrarColuna(String coluna) {
+        // Só ids primeiro: o conteúdo (possivelmente dezenas de MB) é lido um registro por vez
+        List<String> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM config_animacao WHERE " + coluna + "_url LIKE 'data:%' AND " + coluna + "_midia_id IS NULL",
+                String.class);
+        for (String id : ids) {
+            Map<String, Object> linha = jdbcTemplate.queryForMap(
+                    "SELECT " + coluna + "_url AS url FROM config_animacao WHERE id = ?", id);
+            String dataUrl = (String) linha.get("url");
+            if (dataUrl == null) {
+                continue;
+            }
+
+            int virgula = dataUrl.indexOf(',');
+            int base64 = dataUrl.indexOf(";base64");
+            if (virgula < 0 || base64 < 0 || base64 > virgula) {
+                log.warn("[MIDIAS] {} da configuração {} não é um data URL base64; ignorado", coluna, id);
+                continue;
+            }
+            String contentType = dataUrl.substring("data:".length(), base64);
+            byte[] ascii = dataUrl.substring(virgula + 1).getBytes(StandardCharsets.US_ASCII);
+
+            try (InputStream conteudo = Base64.getMimeDecoder().wrap(new ByteArrayInputStream(ascii))) {
+                Midia midia = midiaStorage.salvar(coluna + "-legado", contentType, conteudo);
+                jdbcTemplate.update("UPDATE config_animacao SET " + coluna + "_midia_id = ?, " + coluna
+                        + "_url = NULL WHERE id = ?", midia.id(), id);
+                log.info("[MIDIAS] {} da configuração de animação migrado para a mídia {} ({} bytes)",
+                        coluna, midia.id(), midia.tamanho());
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("[MIDIAS] Conteúdo base64 inválido em {} da configuração {}: {}", coluna, id, e.getMessage());
+            }
+        }
+    }
+}
@@ -28,11 +28,11 @@ public class ConfigAnimacaoEntity {
     @Column(name = "duracao_animacao", nullable = false)
     private int duracaoAnimacao;
     
-    @Column(name = "video1_url", columnDefinition = "LONGTEXT")
-    private String video1Url;
+    @Column(name = "video1_midia_id", length = 36)
+    private String video1MidiaId;
     
-    @Column(name = "video2_url", columnDefinition = "LONGTEXT")
-    private String video2Url;
+    @Column(name = "video2_midia_id", length = 36)
+    private String video2MidiaId;
     
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
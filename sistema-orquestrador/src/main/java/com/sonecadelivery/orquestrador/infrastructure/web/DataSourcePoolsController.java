@@ -0,0 +1,69 @@
+package com.sonecadelivery.orquestrador.infrastructure.web;
+
+import com.sonecadelivery.orquestrador.config.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Métricas dos pools de conexão (primária e, se habilitada, réplica de leitura).
+ * Restrito a administradores (/api/admin/**).
+ */
+@RestController
+@RequestMapping("/api/admin/datasource")
+@RequiredArgsConstructor
+public class DataSourcePoolsController {
+
+    private final DataSource dataSource;
+
+    @GetMapping("/pools")
+    public ResponseEntity<Map<String, Object>> pools() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        DataSource alvo = dataSource;
+        if (alvo instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+            alvo = delegating.getTargetDataSource();
+        }
+
+        if (alvo instanceof ReadWriteRoutingDataSource roteador) {
+            response.put("roteamentoLeituraEscrita", true);
+            response.put("primaria", estatisticas(roteador.getPrimaria()));
+            response.put("replica", estatisticas(roteador.getReplica()));
+            response.put("replicaSaudavel", roteador.isReplicaSaudavel());
+            response.put("replicaLagSegundos", roteador.getUltimoLagSegundos());
+            response.put("leiturasNaReplica", roteador.getLeiturasNaReplica());
+            response.put("leiturasNaPrimaria", roteador.getLeiturasNaPrimaria());
+            response.put("fallbacksPorFalha", roteador.getFallbacksPorFalha());
+        } else {
+            response.put("roteamentoLeituraEscrita", false);
+            response.put("primaria", estatisticas(alvo));
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    private Map<String, Object> estatisticas(DataSource ds) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (!(ds instanceof HikariDataSource hikari)) {
+            stats.put("tipo", ds.getClass().getSimpleName());
+            return stats;
+        }
+        stats.put("nome", hikari.getPoolName());
+        stats.put("tamanhoMaximo", hikari.getMaximumPoolSize());
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool != null) {
+            stats.put("ativas", pool.getActiveConnections());
+            stats.put("ociosas", pool.getIdleConnections());
+            stats.put("total", pool.getTotalConnections());
+            stats.put("threadsAguardando", pool.getThreadsAwaitingConnection());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sonecadelivery.orquestrador.infrastructure.web;
+
+import com.sonecadelivery.orquestrador.infrastructure.inicializacao.LinhaTempoInicializacao;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Linha do tempo do startup desta instância, por fase.
+ * Restrito a administradores (/api/admin/**).
+ */
+@RestController
+@RequestMapping("/api/admin/inicializacao")
+@RequiredArgsConstructor
+public class InicializacaoController {
+
+    private final LinhaTempoInicializacao linhaTempo;
+
+    @GetMapping
+    public ResponseEntity<LinhaTempoInicializacao.Resumo> linhaTempo() {
+        return ResponseEntity.ok(linhaTempo.resumo());
+    }
+}
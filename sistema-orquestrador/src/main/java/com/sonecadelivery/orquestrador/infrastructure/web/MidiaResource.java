@@ -0,0 +1,48 @@
+package com.sonecadelivery.orquestrador.infrastructure.web;
+
+import com.sonecadelivery.orquestrador.domain.entities.Midia;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+import java.util.function.Function;
+
+/**
+ * Mídia como {@link org.springframework.core.io.Resource}: com o tamanho
+ * conhecido, o Spring MVC atende Range/206 sozinho, abrindo um stream novo
+ * por intervalo e pulando até o início dele.
+ */
+class MidiaResource extends AbstractResource {
+
+    private final Midia midia;
+    private final Function<Midia, InputStream> abrir;
+
+    MidiaResource(Midia midia, Function<Midia, InputStream> abrir) {
+        this.midia = midia;
+        this.abrir = abrir;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Mídia " + midia.id();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return abrir.apply(midia);
+    }
+
+    @Override
+    public long contentLength() {
+        return midia.tamanho();
+    }
+
+    @Override
+    public String getFilename() {
+        return midia.nome();
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+}
@@ -0,0 +1,55 @@
+package com.sonecadelivery.orquestrador.infrastructure.web;
+
+import com.sonecadelivery.orquestrador.application.dto.MidiaDTO;
+import com.sonecadelivery.orquestrador.application.usecases.BaixarMidiaUseCase;
+import com.sonecadelivery.orquestrador.application.usecases.EnviarMidiaUseCase;
+import com.sonecadelivery.orquestrador.domain.entities.Midia;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upload e download de mídias binárias (vídeos do lobby).
+ *
+ * O conteúdo de uma mídia nunca muda (um arquivo novo gera outro id), então o
+ * download tem cache longo e imutável; ETag (SHA-256) atende If-None-Match
+ * e Range/206 permite ao player buscar só o trecho que vai tocar.
+ */
+@RestController
+@RequestMapping("/api/media")
+@RequiredArgsConstructor
+public class MidiaRestController {
+
+    private final EnviarMidiaUseCase enviarMidiaUseCase;
+    private final BaixarMidiaUseCase baixarMidiaUseCase;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<MidiaDTO> enviar(@RequestParam("arquivo") MultipartFile arquivo) throws IOException {
+        try (InputStream conteudo = arquivo.getInputStream()) {
+            MidiaDTO midia = enviarMidiaUseCase.executar(
+                    arquivo.getOriginalFilename(), arquivo.getContentType(), conteudo);
+            return ResponseEntity.status(HttpStatus.CREATED).body(midia);
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Resource> baixar(@PathVariable String id) {
+        Midia midia = baixarMidiaUseCase.buscar(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(midia.contentType()))
+                .eTag("\"" + midia.hash() + "\"")
+                .lastModified(midia.createdAt().atZone(ZoneId.of("America/Sao_Paulo")))
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .body(new MidiaResource(midia, baixarMidiaUseCase::abrir));
+    }
+}
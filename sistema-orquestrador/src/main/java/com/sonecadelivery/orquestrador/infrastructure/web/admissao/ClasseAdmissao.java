@@ -0,0 +1,51 @@
+package com.sonecadelivery.orquestrador.infrastructure.web.admissao;
+
+/**
+ * Classes de endpoint com limites próprios de concorrência e custo
+ * (ver {@code AdmissaoProperties}). Só endpoints públicos ou acessíveis por
+ * clientes são classificados; os da equipe ficam de fora.
+ */
+public enum ClasseAdmissao {
+
+    /** Cardápio, status de pedido, área do cliente, avaliações, histórico do chat. */
+    LEITURA("leitura"),
+    /** Criação de pedidos delivery e de mesa. */
+    PEDIDO("pedido"),
+    /** Login e cadastro de clientes e motoboys, login da equipe. */
+    AUTENTICACAO("autenticacao"),
+    /** Mensagens do chat IA (chamada ao modelo). */
+    LLM("llm");
+
+    private final String tag;
+
+    ClasseAdmissao(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * @return classe do endpoint, ou null se não passa pelo controle de admissão
+     */
+    public static ClasseAdmissao classificar(String metodo, String uri) {
+        boolean escrita = !"GET".equals(metodo) && !"HEAD".equals(metodo);
+
+        if (uri.equals("/api/chat-ia")) {
+            return escrita ? LLM : LEITURA;
+        }
+        if (uri.startsWith("/api/publico/cliente/auth/") || uri.startsWith("/api/publico/motoboy/auth/")
+                || uri.equals("/api/auth/login")) {
+            return AUTENTICACAO;
+        }
+        if (escrita && (uri.equals("/api/public/delivery/pedido") || uri.startsWith("/api/public/mesa/"))) {
+            return PEDIDO;
+        }
+        if (uri.startsWith("/api/public/") || uri.startsWith("/api/publico/") || uri.startsWith("/api/cliente/")
+                || uri.startsWith("/api/chat-ia/") || uri.startsWith("/api/produtos/")) {
+            return LEITURA;
+        }
+        return null;
+    }
+}
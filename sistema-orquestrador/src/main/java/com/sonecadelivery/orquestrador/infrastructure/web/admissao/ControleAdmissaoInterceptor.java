@@ -0,0 +1,255 @@
+package com.sonecadelivery.orquestrador.infrastructure.web.admissao;
+
+import com.sonecadelivery.kernel.domain.exceptions.RequisicoesExcedidasException;
+import com.sonecadelivery.kernel.domain.exceptions.ServicoSobrecarregadoException;
+import com.sonecadelivery.orquestrador.config.AdmissaoProperties;
+import com.sonecadelivery.orquestrador.config.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controle de admissão dos endpoints públicos: recusa rápido (429/503 com
+ * Retry-After) em vez de deixar as threads do Tomcat enfileiradas no pool
+ * de conexões até todas estourarem o timeout.
+ *
+ * Na ordem, antes de chegar ao controller:
+ * - Balde de fichas por IP e por cliente (X-Cliente-Id): 429
+ * - Saturação do pool primário acima do limite da classe: 503 (leituras
+ *   cedem antes das gravações de pedido)
+ * - Vaga no limite de concorrência da classe: 503; streams SSE não ocupam vaga
+ *
+ * Métricas:
+ * - admissao.requisicoes{classe,resultado}: admitida, taxa-ip, taxa-cliente,
+ *   pool-saturado ou concorrencia
+ * - admissao.em-andamento{classe}: vagas de concorrência ocupadas
+ * - admissao.baldes-descartados{chave}: baldes ainda em uso descartados (LRU)
+ *   para dar lugar a chaves novas com o limitador em maximo-chaves
+ */
+@Component
+@Slf4j
+public class ControleAdmissaoInterceptor implements HandlerInterceptor {
+
+    private static final String ATRIBUTO_VAGA = ControleAdmissaoInterceptor.class.getName() + ".vaga";
+    private static final String HEADER_CLIENTE = "X-Cliente-Id";
+    private static final String HEADER_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final AdmissaoProperties properties;
+    private final HikariDataSource poolPrimario;
+    private final LimitadorTaxa limitadorIp;
+    private final LimitadorTaxa limitadorCliente;
+    private final Map<ClasseAdmissao, Limites> limites = new EnumMap<>(ClasseAdmissao.class);
+
+    public ControleAdmissaoInterceptor(AdmissaoProperties properties, DataSource dataSource,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.poolPrimario = resolverPoolPrimario(dataSource);
+        this.limitadorIp = new LimitadorTaxa(properties.getPorIp().getCapacidade(),
+                properties.getPorIp().getReposicaoPorSegundo(), properties.getMaximoChaves());
+        this.limitadorCliente = new LimitadorTaxa(properties.getPorCliente().getCapacidade(),
+                properties.getPorCliente().getReposicaoPorSegundo(), properties.getMaximoChaves());
+
+        for (ClasseAdmissao classe : ClasseAdmissao.values()) {
+            limites.put(classe, new Limites(classe, configuracao(classe), meterRegistry));
+        }
+        Gauge.builder("admissao.baldes", limitadorIp, LimitadorTaxa::chaves)
+                .description("Baldes de fichas em memória")
+                .tag("chave", "ip")
+                .register(meterRegistry);
+        Gauge.builder("admissao.baldes", limitadorCliente, LimitadorTaxa::chaves)
+                .description("Baldes de fichas em memória")
+                .tag("chave", "cliente")
+                .register(meterRegistry);
+        FunctionCounter.builder("admissao.baldes-descartados", limitadorIp, LimitadorTaxa::descartados)
+                .description("Baldes em uso descartados para dar lugar a chaves novas (limitador cheio)")
+                .tag("chave", "ip")
+                .register(meterRegistry);
+        FunctionCounter.builder("admissao.baldes-descartados", limitadorCliente, LimitadorTaxa::descartados)
+                .description("Baldes em uso descartados para dar lugar a chaves novas (limitador cheio)")
+                .tag("chave", "cliente")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (!properties.isHabilitado() || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        ClasseAdmissao classe = ClasseAdmissao.classificar(request.getMethod(), request.getRequestURI());
+        if (classe == null) {
+            return true;
+        }
+        Limites limite = limites.get(classe);
+        double custo = limite.configuracao.getCusto();
+
+        long esperaNanos = limitadorIp.consumir(ipCliente(request), custo);
+        if (esperaNanos > 0) {
+            limite.taxaIp.increment();
+            throw new RequisicoesExcedidasException("Muitas requisições. Tente novamente em instantes.",
+                    segundos(esperaNanos));
+        }
+        String clienteId = request.getHeader(HEADER_CLIENTE);
+        if (clienteId != null && !clienteId.isBlank()) {
+            esperaNanos = limitadorCliente.consumir(clienteId, custo);
+            if (esperaNanos > 0) {
+                limite.taxaCliente.increment();
+                throw new RequisicoesExcedidasException("Muitas requisições. Tente novamente em instantes.",
+                        segundos(esperaNanos));
+            }
+        }
+
+        if (saturacaoPool() > limite.configuracao.getSaturacaoMaximaPool()) {
+            limite.poolSaturado.increment();
+            throw new ServicoSobrecarregadoException("Sistema com alta demanda. Tente novamente em instantes.");
+        }
+
+        if (!request.getRequestURI().endsWith("/stream")) {
+            if (!limite.ocupar()) {
+                limite.concorrencia.increment();
+                throw new ServicoSobrecarregadoException("Sistema com alta demanda. Tente novamente em instantes.");
+            }
+            request.setAttribute(ATRIBUTO_VAGA, limite);
+        }
+        limite.admitidas.increment();
+        return true;
+    }
+
+    /**
+     * Também chamado no fim do dispatch assíncrono: a vaga é liberada uma vez só.
+     */
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler, Exception ex) {
+        Object vaga = request.getAttribute(ATRIBUTO_VAGA);
+        if (vaga instanceof Limites limite && !request.isAsyncStarted()) {
+            request.removeAttribute(ATRIBUTO_VAGA);
+            limite.vagas.release();
+        }
+    }
+
+    @Scheduled(fixedRate = 60000) // A cada 1 minuto
+    public void limparBaldesOciosos() {
+        limitadorIp.limparOciosos();
+        limitadorCliente.limparOciosos();
+    }
+
+    /**
+     * IP do cliente: o N-ésimo endereço a partir do fim do X-Forwarded-For
+     * (os anteriores podem ter sido forjados pelo próprio cliente).
+     */
+    private String ipCliente(HttpServletRequest request) {
+        int saltos = properties.getSaltosProxy();
+        String encaminhado = request.getHeader(HEADER_FORWARDED_FOR);
+        if (saltos > 0 && encaminhado != null && !encaminhado.isBlank()) {
+            String[] enderecos = encaminhado.split(",");
+            int indice = Math.max(0, enderecos.length - saltos);
+            return enderecos[indice].trim();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private double saturacaoPool() {
+        if (poolPrimario == null) {
+            return 0;
+        }
+        HikariPoolMXBean pool = poolPrimario.getHikariPoolMXBean();
+        int maximo = poolPrimario.getMaximumPoolSize();
+        if (pool == null || maximo <= 0) {
+            return 0;
+        }
+        return (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection()) / maximo;
+    }
+
+    private AdmissaoProperties.Classe configuracao(ClasseAdmissao classe) {
+        return switch (classe) {
+            case LEITURA -> properties.getLeitura();
+            case PEDIDO -> properties.getPedido();
+            case AUTENTICACAO -> properties.getAutenticacao();
+            case LLM -> properties.getLlm();
+        };
+    }
+
+    private static long segundos(long nanos) {
+        return Math.max(1, (long) Math.ceil(nanos / 1e9));
+    }
+
+    private static HikariDataSource resolverPoolPrimario(DataSource dataSource) {
+        DataSource alvo = dataSource;
+        if (alvo instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+            alvo = delegating.getTargetDataSource();
+        }
+        if (alvo instanceof ReadWriteRoutingDataSource roteador) {
+            alvo = roteador.getPrimaria();
+        }
+        if (alvo instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        log.info("[ADMISSAO] Pool primário não é Hikari; recusa por saturação do pool desativada");
+        return null;
+    }
+
+    private static final class Limites {
+
+        private final AdmissaoProperties.Classe configuracao;
+        private final Semaphore vagas;
+        private final Counter admitidas;
+        private final Counter taxaIp;
+        private final Counter taxaCliente;
+        private final Counter poolSaturado;
+        private final Counter concorrencia;
+
+        private Limites(ClasseAdmissao classe, AdmissaoProperties.Classe configuracao, MeterRegistry registry) {
+            this.configuracao = configuracao;
+            this.vagas = new Semaphore(configuracao.getConcorrencia());
+            this.admitidas = contador(registry, classe, "admitida");
+            this.taxaIp = contador(registry, classe, "taxa-ip");
+            this.taxaCliente = contador(registry, classe, "taxa-cliente");
+            this.poolSaturado = contador(registry, classe, "pool-saturado");
+            this.concorrencia = contador(registry, classe, "concorrencia");
+            Gauge.builder("admissao.em-andamento", vagas,
+                            v -> configuracao.getConcorrencia() - v.availablePermits())
+                    .description("Requisições ocupando vaga de concorrência")
+                    .tag("classe", classe.tag())
+                    .register(registry);
+        }
+
+        private boolean ocupar() {
+            if (configuracao.getEsperaMs() <= 0) {
+                return vagas.tryAcquire();
+            }
+            try {
+                return vagas.tryAcquire(configuracao.getEsperaMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private static Counter contador(MeterRegistry registry, ClasseAdmissao classe, String resultado) {
+            return Counter.builder("admissao.requisicoes")
+                    .description("Requisições públicas por resultado do controle de admissão")
+                    .tag("classe", classe.tag())
+                    .tag("resultado", resultado)
+                    .register(registry);
+        }
+    }
+}
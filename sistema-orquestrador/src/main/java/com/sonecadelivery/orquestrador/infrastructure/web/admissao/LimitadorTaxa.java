@@ -0,0 +1,139 @@
+package com.sonecadelivery.orquestrador.infrastructure.web.admissao;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Baldes de fichas (token bucket) por chave, em memória.
+ *
+ * - Cada chave começa com o balde cheio; as fichas voltam continuamente à
+ *   taxa de reposição até a capacidade
+ * - Baldes que já voltaram a ficar cheios são descartados por {@link #limparOciosos()}
+ * - Toda chave tem balde: nenhuma passa sem limite. Com maximoChaves
+ *   atingido, uma única thread descarta os ociosos e, se ainda faltar espaço,
+ *   os baldes usados há mais tempo (LRU) até FRACAO_APOS_DESCARTE do máximo.
+ *   O descarte em lote amortiza a varredura entre as chaves novas seguintes;
+ *   durante ela as outras threads continuam criando baldes (limite aproximado)
+ */
+public class LimitadorTaxa {
+
+    private static final double FRACAO_APOS_DESCARTE = 0.9;
+
+    private final double capacidade;
+    private final double reposicaoPorNano;
+    private final int maximoChaves;
+    private final Map<String, Balde> baldes = new ConcurrentHashMap<>();
+    private final AtomicBoolean descartando = new AtomicBoolean();
+    private final AtomicLong descartados = new AtomicLong();
+
+    public LimitadorTaxa(double capacidade, double reposicaoPorSegundo, int maximoChaves) {
+        if (capacidade <= 0 || reposicaoPorSegundo <= 0) {
+            throw new IllegalArgumentException("capacidade e reposicaoPorSegundo devem ser maiores que zero");
+        }
+        this.capacidade = capacidade;
+        this.reposicaoPorNano = reposicaoPorSegundo / TimeUnit.SECONDS.toNanos(1);
+        this.maximoChaves = maximoChaves;
+    }
+
+    /**
+     * Tenta consumir as fichas da chave.
+     *
+     * @return 0 se consumiu; senão, nanossegundos até haver fichas suficientes
+     */
+    public long consumir(String chave, double custo) {
+        Balde balde = baldes.get(chave);
+        if (balde == null) {
+            if (baldes.size() >= maximoChaves) {
+                abrirEspaco();
+            }
+            balde = baldes.computeIfAbsent(chave, k -> new Balde(capacidade, System.nanoTime()));
+        }
+        return balde.consumir(Math.min(custo, capacidade));
+    }
+
+    public int chaves() {
+        return baldes.size();
+    }
+
+    /**
+     * Baldes ainda em uso descartados por falta de espaço (LRU).
+     */
+    public long descartados() {
+        return descartados.get();
+    }
+
+    public void limparOciosos() {
+        long agora = System.nanoTime();
+        baldes.values().removeIf(balde -> balde.cheio(agora));
+    }
+
+    /**
+     * Descarta ociosos e, se preciso, os menos usados recentemente; só uma
+     * thread por vez, as outras seguem com o mapa como está.
+     */
+    private void abrirEspaco() {
+        if (!descartando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            limparOciosos();
+            int excedente = baldes.size() - (int) (maximoChaves * FRACAO_APOS_DESCARTE);
+            if (excedente <= 0) {
+                return;
+            }
+            long[] usos = baldes.values().stream().mapToLong(Balde::ultimoUso).sorted().toArray();
+            if (usos.length == 0) {
+                return;
+            }
+            long corte = usos[Math.min(excedente, usos.length) - 1];
+            int antes = baldes.size();
+            baldes.values().removeIf(balde -> balde.ultimoUso() <= corte);
+            descartados.addAndGet(Math.max(0, antes - baldes.size()));
+        } finally {
+            descartando.set(false);
+        }
+    }
+
+    private final class Balde {
+
+        private double fichas;
+        private long atualizadoEm;
+        // Último consumo (atualizadoEm também avança nas varreduras de ociosos)
+        private long usadoEm;
+
+        private Balde(double fichas, long atualizadoEm) {
+            this.fichas = fichas;
+            this.atualizadoEm = atualizadoEm;
+            this.usadoEm = atualizadoEm;
+        }
+
+        private synchronized long consumir(double custo) {
+            usadoEm = System.nanoTime();
+            repor(usadoEm);
+            if (fichas >= custo) {
+                fichas -= custo;
+                return 0;
+            }
+            return (long) Math.ceil((custo - fichas) / reposicaoPorNano);
+        }
+
+        private synchronized long ultimoUso() {
+            return usadoEm;
+        }
+
+        private synchronized boolean cheio(long agora) {
+            repor(agora);
+            return fichas >= capacidade;
+        }
+
+        private void repor(long agora) {
+            if (agora > atualizadoEm) {
+                fichas = Math.min(capacidade, fichas + (agora - atualizadoEm) * reposicaoPorNano);
+                atualizadoEm = agora;
+            }
+        }
+    }
+}
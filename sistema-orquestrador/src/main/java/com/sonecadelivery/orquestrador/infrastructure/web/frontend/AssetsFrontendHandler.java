@@ -0,0 +1,418 @@
+package com.sonecadelivery.orquestrador.infrastructure.web.frontend;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.util.UriUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serve o build do Angular (classpath:/static/) a partir da memória.
+ *
+ * - Cada arquivo é lido uma vez e guardado com suas variantes comprimidas:
+ *   .br/.gz gerados no build (frontend/scripts/comprimir-assets.js) quando
+ *   existem; sem o .gz, o gzip é gerado aqui uma única vez (a JVM não tem
+ *   encoder Brotli)
+ * - Variante escolhida pelo Accept-Encoding (br, depois gzip), com Vary; o
+ *   Tomcat não recomprime respostas que já têm Content-Encoding
+ * - Saída do build com hash de conteúdo (main-ABCD1234.js na raiz, /media/
+ *   referenciada pelo CSS): cache de um ano, immutable. /assets/ é copiado
+ *   sem hash pelo Angular, então um nome como banner-20241201.png não prova
+ *   que o conteúdo é fixo e fica com o cache curto
+ * - ETag forte (SHA-256 do conteúdo, sufixo por codificação); index.html com
+ *   no-cache (sempre revalida, 304 quando não mudou)
+ * - Rotas do Angular (sem extensão) recebem o index.html direto da memória,
+ *   sem forward nem passagem pelo /error
+ * - Arquivos grandes ou acima do orçamento de memória guardam só os metadados
+ *   e são lidos do classpath a cada requisição
+ */
+@Component
+@Slf4j
+public class AssetsFrontendHandler implements HttpRequestHandler {
+
+    public static final String INDEX = "/index.html";
+
+    private static final String RAIZ = "classpath:/static";
+    // Builder application (esbuild): chunks na raiz e mídia do CSS em /media/,
+    // com hash de 8 caracteres maiúsculos
+    private static final Pattern SAIDA_COM_HASH =
+            Pattern.compile("^/(media/)?[\\w.-]+-[A-Z0-9]{8}\\.[a-z0-9]+$");
+    private static final Set<String> COMPRIMIVEIS = Set.of(
+            "html", "js", "mjs", "css", "json", "map", "svg", "txt", "xml", "webmanifest");
+    private static final Map<String, String> TIPOS_EXTRA = Map.of(
+            "mjs", "text/javascript",
+            "webmanifest", "application/manifest+json");
+    private static final int TAMANHO_MINIMO_COMPRESSAO = 1024;
+
+    private static final String CACHE_IMUTAVEL =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable().getHeaderValue();
+    private static final String CACHE_REVALIDAR = CacheControl.noCache().getHeaderValue();
+    private static final String CACHE_CURTO = CacheControl.maxAge(1, TimeUnit.HOURS).getHeaderValue();
+
+    private final ResourcePatternResolver resourceResolver;
+    private final long tamanhoMaximoArquivo;
+    private final long memoriaMaxima;
+
+    private final Map<String, Asset> assets = new ConcurrentHashMap<>();
+    private final AtomicLong bytesEmMemoria = new AtomicLong();
+
+    public AssetsFrontendHandler(
+            ResourceLoader resourceLoader,
+            @Value("${frontend.assets.tamanho-maximo-arquivo-bytes:8388608}") long tamanhoMaximoArquivo,
+            @Value("${frontend.assets.memoria-maxima-bytes:67108864}") long memoriaMaxima) {
+        this.resourceResolver = new PathMatchingResourcePatternResolver(resourceLoader);
+        this.tamanhoMaximoArquivo = tamanhoMaximoArquivo;
+        this.memoriaMaxima = memoriaMaxima;
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String metodo = request.getMethod();
+        if ("OPTIONS".equals(metodo)) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD, OPTIONS");
+            return;
+        }
+        if (!"GET".equals(metodo) && !"HEAD".equals(metodo)) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD, OPTIONS");
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        String caminho = caminho(request);
+        Asset asset = caminho != null ? buscar(caminho) : null;
+        if (asset == null && caminho != null && ehRotaAngular(caminho)) {
+            asset = buscar(INDEX);
+        }
+        if (asset == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        servir(asset, request, response);
+    }
+
+    /**
+     * Responde com o index.html da memória (rotas do Angular mapeadas em
+     * controllers).
+     *
+     * @return false se o build não estiver no classpath (desenvolvimento)
+     */
+    public boolean servirIndex(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Asset index = buscar(INDEX);
+        if (index == null) {
+            return false;
+        }
+        servir(index, request, response);
+        return true;
+    }
+
+    /**
+     * Carrega todos os arquivos do build (aquecimento após o startup).
+     *
+     * @return quantidade de arquivos carregados
+     */
+    public int aquecer() throws IOException {
+        Resource raiz = resourceResolver.getResource(RAIZ + "/");
+        if (!raiz.exists()) {
+            return 0;
+        }
+        // Caminho = URL do arquivo sem a URL da raiz (diretório no IDE, entrada no jar)
+        String prefixo = raiz.getURL().toString();
+        int carregados = 0;
+        for (Resource recurso : resourceResolver.getResources(RAIZ + "/**")) {
+            String url = recurso.getURL().toString();
+            if (!url.startsWith(prefixo) || url.endsWith("/") || url.endsWith(".br") || url.endsWith(".gz")) {
+                continue;
+            }
+            String caminho = "/" + UriUtils.decode(url.substring(prefixo.length()), StandardCharsets.UTF_8);
+            if (buscar(caminho) != null) {
+                carregados++;
+            }
+        }
+        log.info("Frontend: {} arquivo(s) carregados, {} KB em memória", carregados, bytesEmMemoria.get() / 1024);
+        return carregados;
+    }
+
+    private Asset buscar(String caminho) {
+        Asset asset = assets.get(caminho);
+        if (asset != null) {
+            return asset;
+        }
+        try {
+            Asset carregado = carregar(caminho);
+            if (carregado == null) {
+                // Inexistentes não entram no mapa: ele só cresce até o tamanho do build
+                return null;
+            }
+            Asset anterior = assets.putIfAbsent(caminho, carregado);
+            if (anterior != null) {
+                bytesEmMemoria.addAndGet(-carregado.bytesEmMemoria());
+                return anterior;
+            }
+            return carregado;
+        } catch (IOException e) {
+            log.warn("Erro ao carregar o arquivo do frontend {}: {}", caminho, e.getMessage());
+            return null;
+        }
+    }
+
+    private Asset carregar(String caminho) throws IOException {
+        Resource recurso = resourceResolver.getResource(RAIZ + caminho);
+        if (!recurso.exists() || !recurso.isReadable()) {
+            return null;
+        }
+        String nome = caminho.substring(caminho.lastIndexOf('/') + 1);
+        String extensao = extensao(nome);
+        String tipo = tipo(nome, extensao);
+        String cacheControl = INDEX.equals(caminho) ? CACHE_REVALIDAR
+                : SAIDA_COM_HASH.matcher(caminho).matches() ? CACHE_IMUTAVEL
+                : CACHE_CURTO;
+
+        long tamanho = recurso.contentLength();
+        if (tamanho > tamanhoMaximoArquivo || bytesEmMemoria.get() + tamanho > memoriaMaxima) {
+            // Só metadados: o hash exige uma leitura completa, feita uma vez
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(recurso.getInputStream(), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return new Asset(tipo, cacheControl, hex(digest.digest()), null, null, null, recurso, tamanho);
+        }
+
+        byte[] identidade;
+        try (InputStream in = recurso.getInputStream()) {
+            identidade = in.readAllBytes();
+        }
+        byte[] brotli = null;
+        byte[] gzip = null;
+        if (COMPRIMIVEIS.contains(extensao) && identidade.length >= TAMANHO_MINIMO_COMPRESSAO) {
+            brotli = variante(caminho + ".br");
+            gzip = variante(caminho + ".gz");
+            if (gzip == null) {
+                gzip = gzip(identidade);
+            }
+        }
+        Asset asset = new Asset(tipo, cacheControl, hex(sha256().digest(identidade)),
+                identidade, gzip, brotli, null, identidade.length);
+        bytesEmMemoria.addAndGet(asset.bytesEmMemoria());
+        return asset;
+    }
+
+    private void servir(Asset asset, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Codificacao codificacao = escolherCodificacao(request.getHeader(HttpHeaders.ACCEPT_ENCODING), asset);
+        response.setHeader(HttpHeaders.ETAG, "\"" + asset.hash() + codificacao.sufixoEtag + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, asset.cacheControl());
+        if (asset.gzip() != null || asset.brotli() != null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (naoModificado(request.getHeader(HttpHeaders.IF_NONE_MATCH), asset.hash())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] corpo = switch (codificacao) {
+            case BROTLI -> asset.brotli();
+            case GZIP -> asset.gzip();
+            case IDENTIDADE -> asset.identidade();
+        };
+        response.setContentType(asset.tipo());
+        if (codificacao.valor != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, codificacao.valor);
+        }
+        response.setContentLengthLong(corpo != null ? corpo.length : asset.tamanho());
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+        if (corpo != null) {
+            response.getOutputStream().write(corpo);
+        } else {
+            try (InputStream in = asset.recurso().getInputStream()) {
+                in.transferTo(response.getOutputStream());
+            }
+        }
+    }
+
+    /**
+     * Caminho relativo à raiz do build; null para caminhos inválidos.
+     */
+    private static String caminho(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String caminho = UriUtils.decode(uri, StandardCharsets.UTF_8);
+        if (caminho.isEmpty() || caminho.endsWith("/")) {
+            return INDEX;
+        }
+        if (!caminho.startsWith("/") || caminho.contains("..") || caminho.contains("\\") || caminho.indexOf('\0') >= 0) {
+            return null;
+        }
+        return caminho;
+    }
+
+    /**
+     * Sem extensão no último segmento e fora das rotas do backend.
+     */
+    private static boolean ehRotaAngular(String caminho) {
+        if (caminho.startsWith("/api/") || caminho.startsWith("/actuator/")) {
+            return false;
+        }
+        return extensao(caminho.substring(caminho.lastIndexOf('/') + 1)).isEmpty();
+    }
+
+    private static Codificacao escolherCodificacao(String acceptEncoding, Asset asset) {
+        if (acceptEncoding == null || (asset.brotli() == null && asset.gzip() == null)) {
+            return Codificacao.IDENTIDADE;
+        }
+        boolean aceitaBrotli = false;
+        boolean aceitaGzip = false;
+        for (String parte : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] tokens = parte.split(";");
+            String nome = tokens[0].trim();
+            boolean recusado = tokens.length > 1 && tokens[1].trim().matches("q=0(\\.0*)?");
+            if (!recusado) {
+                aceitaBrotli |= "br".equals(nome);
+                aceitaGzip |= "gzip".equals(nome) || "*".equals(nome);
+            }
+        }
+        if (aceitaBrotli && asset.brotli() != null) {
+            return Codificacao.BROTLI;
+        }
+        return aceitaGzip && asset.gzip() != null ? Codificacao.GZIP : Codificacao.IDENTIDADE;
+    }
+
+    /**
+     * If-None-Match compara só o hash: as variantes têm o mesmo conteúdo.
+     */
+    private static boolean naoModificado(String ifNoneMatch, String hash) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String etag : ifNoneMatch.split(",")) {
+            String valor = etag.trim();
+            if ("*".equals(valor)) {
+                return true;
+            }
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            valor = valor.replace("\"", "");
+            for (Codificacao codificacao : Codificacao.values()) {
+                if (!codificacao.sufixoEtag.isEmpty() && valor.endsWith(codificacao.sufixoEtag)) {
+                    valor = valor.substring(0, valor.length() - codificacao.sufixoEtag.length());
+                }
+            }
+            if (valor.equals(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] variante(String caminho) throws IOException {
+        Resource recurso = resourceResolver.getResource(RAIZ + caminho);
+        if (!recurso.exists() || !recurso.isReadable()) {
+            return null;
+        }
+        try (InputStream in = recurso.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] gzip(byte[] conteudo) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(conteudo.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida) {
+            {
+                def.setLevel(9);
+            }
+        }) {
+            gzip.write(conteudo);
+        }
+        return saida.toByteArray();
+    }
+
+    private static String tipo(String nome, String extensao) {
+        String tipo = TIPOS_EXTRA.getOrDefault(extensao, MediaTypeFactory.getMediaType(nome)
+                .map(MediaType::toString)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE));
+        boolean texto = tipo.startsWith("text/") || tipo.contains("javascript") || tipo.contains("json")
+                || tipo.contains("xml");
+        return texto ? tipo + ";charset=UTF-8" : tipo;
+    }
+
+    private static String extensao(String nome) {
+        int ponto = nome.lastIndexOf('.');
+        return ponto < 0 ? "" : nome.substring(ponto + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 é obrigatório em toda JVM
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private enum Codificacao {
+        BROTLI("br", "-br"),
+        GZIP("gzip", "-gz"),
+        IDENTIDADE(null, "");
+
+        private final String valor;
+        private final String sufixoEtag;
+
+        Codificacao(String valor, String sufixoEtag) {
+            this.valor = valor;
+            this.sufixoEtag = sufixoEtag;
+        }
+    }
+
+    /**
+     * Arquivo do build. identidade == null: grande demais para a memória, lido
+     * de recurso a cada requisição.
+     */
+    private record Asset(
+            String tipo,
+            String cacheControl,
+            String hash,
+            byte[] identidade,
+            byte[] gzip,
+            byte[] brotli,
+            Resource recurso,
+            long tamanho) {
+
+        long bytesEmMemoria() {
+            return (identidade != null ? identidade.length : 0)
+                    + (gzip != null ? gzip.length : 0)
+                    + (brotli != null ? brotli.length : 0);
+        }
+    }
+}
@@ -2,30 +2,33 @@ package com.sonecadelivery.orquestrador.service;
 
 import com.sonecadelivery.pedidos.application.usecases.BuscarSessaoAtivaUseCase;
 import com.sonecadelivery.pedidos.domain.entities.StatusSessao;
+import com.sonecadelivery.pedidos.infrastructure.metrics.SseMetricas;
+import com.sonecadelivery.pedidos.infrastructure.sse.SseHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 /**
  * Serviço para gerenciar Server-Sent Events (SSE) do status da loja.
  * Permite que clientes do delivery recebam atualizações em tempo real
  * quando a sessão de trabalho muda (abre, pausa, fecha).
+ *
+ * Todos os clientes assinam a mesma chave no {@link SseHub}: cada mudança
+ * de status é serializada uma vez e enviada pelo executor do hub.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StatusLojaSSEService {
 
-    private final BuscarSessaoAtivaUseCase buscarSessaoAtivaUseCase;
+    private static final String CHAVE_LOJA = "loja";
+    private static final String EVENTO_STATUS = "status";
+    private static final long TIMEOUT_MS = 5 * 60 * 1000L; // reconecta automaticamente
 
-    /** Lista thread-safe de emitters conectados */
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final SseHub sseHub;
+    private final BuscarSessaoAtivaUseCase buscarSessaoAtivaUseCase;
 
     /** Status atual da loja (cache para detectar mudanças) */
     private volatile StatusLoja statusAtual = StatusLoja.FECHADA;
@@ -54,26 +57,10 @@ public class StatusLojaSSEService {
      * @return SseEmitter para o cliente
      */
     public SseEmitter registrar() {
-        // Timeout de 5 minutos (reconecta automaticamente)
-        SseEmitter emitter = new SseEmitter(5 * 60 * 1000L);
-
-        // Remove ao completar ou erro
-        emitter.onCompletion(() -> emitters.remove(emitter));
-        emitter.onTimeout(() -> emitters.remove(emitter));
-        emitter.onError(e -> emitters.remove(emitter));
-
-        emitters.add(emitter);
-        log.debug("Novo cliente SSE registrado. Total: {}", emitters.size());
-
-        // Envia status atual imediatamente
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("status")
-                    .data(new StatusLojaResponse(statusAtual, mensagemAtual, numeroSessaoAtual)));
-        } catch (IOException e) {
-            emitter.completeWithError(e);
-        }
-
+        // Status atual é o primeiro evento da conexão
+        SseEmitter emitter = sseHub.inscrever(SseMetricas.STREAM_STATUS_LOJA, CHAVE_LOJA, TIMEOUT_MS,
+                sseHub.frame(EVENTO_STATUS, getStatusAtual()));
+        log.debug("Novo cliente SSE registrado. Total: {}", sseHub.conexoes(SseMetricas.STREAM_STATUS_LOJA));
         return emitter;
     }
 
@@ -117,53 +104,12 @@ public class StatusLojaSSEService {
         }
     }
 
-    /**
-     * Envia um heartbeat para manter a conexão ativa (evita timeout de
-     * proxies/navegadores).
-     * Executa a cada 20 segundos.
-     */
-    @Scheduled(fixedRate = 20000)
-    public void enviarHeartbeat() {
-        if (emitters.isEmpty())
-            return;
-
-        List<SseEmitter> emittersMortos = new CopyOnWriteArrayList<>();
-
-        for (SseEmitter emitter : emitters) {
-            try {
-                // Envia um comentário vazio ou evento de ping
-                emitter.send(SseEmitter.event().name("ping").data("pong"));
-            } catch (IOException e) {
-                emittersMortos.add(emitter);
-            }
-        }
-
-        if (!emittersMortos.isEmpty()) {
-            emitters.removeAll(emittersMortos);
-            log.debug("Removidos {} clientes mortos durante heartbeat", emittersMortos.size());
-        }
-    }
-
     /**
      * Notifica todos os clientes conectados sobre uma mudança de status.
      */
     private void notificarTodos(StatusLojaResponse status) {
-        log.debug("Notificando {} clientes sobre mudança de status", emitters.size());
-
-        List<SseEmitter> emittersMortos = new CopyOnWriteArrayList<>();
-
-        for (SseEmitter emitter : emitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("status")
-                        .data(status));
-            } catch (IOException e) {
-                emittersMortos.add(emitter);
-            }
-        }
-
-        // Remove emitters que falharam
-        emitters.removeAll(emittersMortos);
+        log.debug("Notificando {} clientes sobre mudança de status", sseHub.conexoes(SseMetricas.STREAM_STATUS_LOJA));
+        sseHub.publicar(SseMetricas.STREAM_STATUS_LOJA, CHAVE_LOJA, EVENTO_STATUS, status);
     }
 
     /**
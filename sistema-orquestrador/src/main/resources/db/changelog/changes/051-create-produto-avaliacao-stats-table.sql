@@ -0,0 +1,39 @@
+--liquibase formatted sql
+
+--changeset snackbar:051-create-produto-avaliacao-stats-table
+--comment: Agregado de avaliações por produto (soma, total e histograma), mantido a cada avaliação
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'produto_avaliacao_stats'
+
+CREATE TABLE produto_avaliacao_stats (
+    produto_id VARCHAR(36) PRIMARY KEY,
+    soma_notas BIGINT NOT NULL DEFAULT 0,
+    total_avaliacoes INT NOT NULL DEFAULT 0,
+    -- Histograma: quantidade de avaliações com cada nota
+    notas_1 INT NOT NULL DEFAULT 0,
+    notas_2 INT NOT NULL DEFAULT 0,
+    notas_3 INT NOT NULL DEFAULT 0,
+    notas_4 INT NOT NULL DEFAULT 0,
+    notas_5 INT NOT NULL DEFAULT 0,
+    -- Média desnormalizada para ordenar "mais bem avaliados" por índice
+    media DECIMAL(4, 3) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    INDEX idx_avaliacao_stats_media (media, total_avaliacoes)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Carga inicial a partir das avaliações existentes
+INSERT INTO produto_avaliacao_stats
+    (produto_id, soma_notas, total_avaliacoes, notas_1, notas_2, notas_3, notas_4, notas_5, media)
+SELECT
+    produto_id,
+    SUM(nota),
+    COUNT(*),
+    SUM(CASE WHEN nota = 1 THEN 1 ELSE 0 END),
+    SUM(CASE WHEN nota = 2 THEN 1 ELSE 0 END),
+    SUM(CASE WHEN nota = 3 THEN 1 ELSE 0 END),
+    SUM(CASE WHEN nota = 4 THEN 1 ELSE 0 END),
+    SUM(CASE WHEN nota = 5 THEN 1 ELSE 0 END),
+    SUM(nota) / COUNT(*)
+FROM cliente_avaliacoes
+GROUP BY produto_id;
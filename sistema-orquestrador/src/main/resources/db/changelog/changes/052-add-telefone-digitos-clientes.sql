@@ -0,0 +1,13 @@
+--liquibase formatted sql
+
+--changeset snackbar:052-add-telefone-digitos-clientes
+--comment: Telefone só com dígitos e índice para busca por prefixo (autocomplete do caixa)
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'clientes' AND column_name = 'telefone_digitos'
+
+ALTER TABLE clientes ADD COLUMN telefone_digitos VARCHAR(20) NULL;
+
+UPDATE clientes SET telefone_digitos = NULLIF(REGEXP_REPLACE(telefone, '[^0-9]', ''), '') WHERE telefone IS NOT NULL;
+
+-- LIKE 'prefixo%' usa este índice (sem varrer a tabela)
+CREATE INDEX idx_clientes_telefone_digitos ON clientes(telefone_digitos);
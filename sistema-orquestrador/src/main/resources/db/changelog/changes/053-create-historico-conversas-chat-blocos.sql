@@ -0,0 +1,31 @@
+--liquibase formatted sql
+
+--changeset snackbar:053-create-historico-conversas-chat-blocos
+--comment: Mensagens do histórico do chat em blocos comprimidos (append-only), separadas do resumo da conversa
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'historico_conversas_chat_blocos'
+
+CREATE TABLE historico_conversas_chat_blocos (
+    conversa_id VARCHAR(36) NOT NULL,
+    sequencia INT NOT NULL,
+    quantidade_mensagens INT NOT NULL,
+    -- JSON das mensagens do bloco comprimido com GZIP
+    conteudo MEDIUMBLOB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (conversa_id, sequencia),
+    CONSTRAINT fk_historico_chat_blocos_conversa FOREIGN KEY (conversa_id)
+        REFERENCES historico_conversas_chat (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Resumo passa a guardar só a contagem; o JSON legado fica até a conversa ser reescrita
+ALTER TABLE historico_conversas_chat
+    ADD COLUMN total_mensagens INT NOT NULL DEFAULT 0,
+    MODIFY COLUMN mensagens TEXT NULL;
+
+UPDATE historico_conversas_chat
+SET total_mensagens = JSON_LENGTH(mensagens)
+WHERE mensagens IS NOT NULL AND JSON_VALID(mensagens);
+
+-- Localiza a conversa de uma sessão ao acrescentar mensagens
+CREATE INDEX idx_historico_conversas_cliente_sessao ON historico_conversas_chat(cliente_id, session_id);
@@ -0,0 +1,32 @@
+--liquibase formatted sql
+
+--changeset snackbar:054-create-backplane-eventos
+--comment: Eventos em tempo real entre instâncias (backplane.tipo=mysql); lidos por polling e descartados após a retenção
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'backplane_eventos'
+
+CREATE TABLE backplane_eventos (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    canal VARCHAR(100) NOT NULL,
+    payload MEDIUMTEXT NOT NULL,
+    -- Instância que publicou (não relê os próprios eventos)
+    instancia VARCHAR(36) NOT NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+
+    PRIMARY KEY (id),
+    INDEX idx_backplane_eventos_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+--changeset snackbar:054-create-backplane-estado
+--comment: Estado quente compartilhado entre instâncias (chave-valor com expiração)
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'backplane_estado'
+
+CREATE TABLE backplane_estado (
+    chave VARCHAR(191) NOT NULL,
+    valor MEDIUMTEXT NOT NULL,
+    expira_em DATETIME(3) NOT NULL,
+
+    PRIMARY KEY (chave),
+    INDEX idx_backplane_estado_expira_em (expira_em)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
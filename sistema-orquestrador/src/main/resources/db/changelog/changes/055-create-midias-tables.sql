@@ -0,0 +1,46 @@
+--liquibase formatted sql
+
+--changeset snackbar:055-create-midias
+--comment: Metadados de mídias binárias (vídeos do lobby) servidas por GET /api/media/{id}
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'midias'
+
+CREATE TABLE midias (
+    id VARCHAR(36) NOT NULL,
+    nome VARCHAR(255) NULL,
+    content_type VARCHAR(100) NOT NULL,
+    tamanho BIGINT NOT NULL,
+    -- Tamanho de cada bloco em midia_chunks (o último pode ser menor)
+    tamanho_chunk INT NOT NULL,
+    -- SHA-256 do conteúdo em hexadecimal (ETag)
+    hash CHAR(64) NOT NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+
+    PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+--changeset snackbar:055-create-midia-chunks
+--comment: Conteúdo das mídias em blocos de tamanho fixo (leitura por intervalo sem carregar o arquivo inteiro)
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'midia_chunks'
+
+CREATE TABLE midia_chunks (
+    midia_id VARCHAR(36) NOT NULL,
+    indice INT NOT NULL,
+    dados MEDIUMBLOB NOT NULL,
+
+    PRIMARY KEY (midia_id, indice),
+    CONSTRAINT fk_midia_chunks_midia FOREIGN KEY (midia_id) REFERENCES midias (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+--changeset snackbar:055-add-video1-midia-id-config-animacao
+--comment: Vídeos do lobby passam a referenciar mídias (o base64 legado em video1_url é migrado na inicialização)
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'config_animacao' AND column_name = 'video1_midia_id'
+ALTER TABLE config_animacao ADD COLUMN video1_midia_id VARCHAR(36) NULL;
+
+--changeset snackbar:055-add-video2-midia-id-config-animacao
+--comment: Vídeos do lobby passam a referenciar mídias (o base64 legado em video2_url é migrado na inicialização)
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'config_animacao' AND column_name = 'video2_midia_id'
+ALTER TABLE config_animacao ADD COLUMN video2_midia_id VARCHAR(36) NULL;
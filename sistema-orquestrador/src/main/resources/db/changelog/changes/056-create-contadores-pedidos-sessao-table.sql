@@ -0,0 +1,22 @@
+--liquibase formatted sql
+
+--changeset snackbar:056-create-contadores-pedidos-sessao-table
+--comment: Quantidade e valor dos pedidos de cada sessão por status, mantidos a cada gravação/exclusão de pedido
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'contadores_pedidos_sessao'
+
+CREATE TABLE contadores_pedidos_sessao (
+    sessao_id VARCHAR(36) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    quantidade INT NOT NULL DEFAULT 0,
+    valor_total DECIMAL(12, 2) NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (sessao_id, status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Carga inicial a partir dos pedidos existentes
+INSERT INTO contadores_pedidos_sessao (sessao_id, status, quantidade, valor_total)
+SELECT sessao_id, status, COUNT(*), COALESCE(SUM(valor_total), 0)
+FROM pedidos
+WHERE sessao_id IS NOT NULL
+GROUP BY sessao_id, status;
@@ -0,0 +1,48 @@
+--liquibase formatted sql
+
+--changeset snackbar:057-create-fichas-tecnicas-estoque
+--comment: Ficha técnica: quanto de cada item de estoque um produto ou adicional consome por unidade vendida
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'fichas_tecnicas_estoque'
+
+CREATE TABLE fichas_tecnicas_estoque (
+    -- PRODUTO ou ADICIONAL
+    tipo VARCHAR(20) NOT NULL,
+    referencia_id VARCHAR(36) NOT NULL,
+    item_estoque_id VARCHAR(36) NOT NULL,
+    quantidade DECIMAL(12, 3) NOT NULL,
+
+    PRIMARY KEY (tipo, referencia_id, item_estoque_id),
+    INDEX idx_fichas_tecnicas_item_estoque (item_estoque_id),
+    FOREIGN KEY (item_estoque_id) REFERENCES itens_estoque(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+--changeset snackbar:057-create-consumos-estoque
+--comment: Consumo de estoque já baixado por pedido (estorno no cancelamento e reconciliação)
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'consumos_estoque'
+
+-- Sem FK para pedidos: o estorno de um pedido excluído ainda precisa do registro
+CREATE TABLE consumos_estoque (
+    pedido_id VARCHAR(36) NOT NULL,
+    estornado BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+
+    PRIMARY KEY (pedido_id),
+    INDEX idx_consumos_estoque_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+--changeset snackbar:057-create-consumos-estoque-itens
+--comment: Quantidade baixada de cada item de estoque por pedido
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'consumos_estoque_itens'
+
+CREATE TABLE consumos_estoque_itens (
+    pedido_id VARCHAR(36) NOT NULL,
+    item_estoque_id VARCHAR(36) NOT NULL,
+    quantidade DECIMAL(12, 3) NOT NULL,
+
+    PRIMARY KEY (pedido_id, item_estoque_id),
+    FOREIGN KEY (pedido_id) REFERENCES consumos_estoque(pedido_id) ON DELETE CASCADE,
+    FOREIGN KEY (item_estoque_id) REFERENCES itens_estoque(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,15 @@
+--liquibase formatted sql
+
+--changeset snackbar:058-create-controle-migracoes-table
+--comment: Hash do conjunto de changelogs aplicado por último (startup pula o Liquibase se não mudou)
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'controle_migracoes'
+
+-- Linha única (id = 1)
+CREATE TABLE controle_migracoes (
+    id TINYINT NOT NULL,
+    hash_changelogs CHAR(64) NOT NULL,
+    atualizado_em DATETIME(3) NOT NULL,
+
+    PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+--changeset snackbar:059-add-indice-inicio-sessoes-trabalho
+--comment: Índice por data_inicio_completa para o histórico de sessões lido em páginas (keyset)
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'sessoes_trabalho' AND index_name = 'idx_sessoes_trabalho_inicio_completa'
+
+-- InnoDB anexa a PK ao índice: (data_inicio_completa, id) serve à ordenação e ao "depois de" da página
+CREATE INDEX idx_sessoes_trabalho_inicio_completa ON sessoes_trabalho(data_inicio_completa);
@@ -0,0 +1,86 @@
+package com.sonecadelivery.orquestrador.infrastructure.backplane;
+
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contrato do {@link BackplanePort} visto por uma instância, executado contra
+ * cada implementação (subclasses). Comportamento entre instâncias fica nos
+ * testes da implementação que o oferece.
+ */
+abstract class BackplaneContratoTest {
+
+    /**
+     * Backplane pronto para uso, novo a cada teste.
+     */
+    protected abstract BackplanePort backplane();
+
+    @Test
+    void publicacaoChegaNaHoraAosOuvintesLocaisDoCanal() {
+        List<String> primeiro = new CopyOnWriteArrayList<>();
+        List<String> segundo = new CopyOnWriteArrayList<>();
+        List<String> outroCanal = new CopyOnWriteArrayList<>();
+        backplane().assinar("contrato.canal", primeiro::add);
+        backplane().assinar("contrato.canal", segundo::add);
+        backplane().assinar("contrato.outro", outroCanal::add);
+
+        backplane().publicar("contrato.canal", "evento-1");
+
+        assertThat(primeiro).containsExactly("evento-1");
+        assertThat(segundo).containsExactly("evento-1");
+        assertThat(outroCanal).isEmpty();
+    }
+
+    @Test
+    void falhaDeUmOuvinteNaoImpedeOsDemais() {
+        List<String> recebidos = new CopyOnWriteArrayList<>();
+        backplane().assinar("contrato.falha", payload -> {
+            throw new IllegalStateException("ouvinte com defeito");
+        });
+        backplane().assinar("contrato.falha", recebidos::add);
+
+        backplane().publicar("contrato.falha", "evento");
+
+        assertThat(recebidos).containsExactly("evento");
+    }
+
+    @Test
+    void publicarSemOuvintesNaoFalha() {
+        backplane().publicar("contrato.sem-ouvintes", "evento");
+    }
+
+    @Test
+    void estadoGravadoPodeSerLidoESobrescrito() {
+        backplane().gravar("contrato:chave", "v1", Duration.ofMinutes(1));
+        assertThat(backplane().ler("contrato:chave")).contains("v1");
+
+        backplane().gravar("contrato:chave", "v2", Duration.ofMinutes(1));
+        assertThat(backplane().ler("contrato:chave")).contains("v2");
+    }
+
+    @Test
+    void chaveInexistenteOuRemovidaNaoTemValor() {
+        assertThat(backplane().ler("contrato:nunca-gravada")).isEmpty();
+
+        backplane().gravar("contrato:removida", "valor", Duration.ofMinutes(1));
+        backplane().remover("contrato:removida");
+
+        assertThat(backplane().ler("contrato:removida")).isEmpty();
+    }
+
+    @Test
+    void estadoExpiradoNaoEhLido() throws InterruptedException {
+        backplane().gravar("contrato:expira", "valor", Duration.ofMillis(200));
+        assertThat(backplane().ler("contrato:expira")).contains("valor");
+
+        Thread.sleep(500);
+
+        assertThat(backplane().ler("contrato:expira")).isEmpty();
+    }
+}
@@ -0,0 +1,19 @@
+package com.sonecadelivery.orquestrador.infrastructure.backplane;
+
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
+import org.junit.jupiter.api.BeforeEach;
+
+class BackplaneMemoriaAdapterTest extends BackplaneContratoTest {
+
+    private BackplaneMemoriaAdapter backplane;
+
+    @BeforeEach
+    void criar() {
+        backplane = new BackplaneMemoriaAdapter();
+    }
+
+    @Override
+    protected BackplanePort backplane() {
+        return backplane;
+    }
+}
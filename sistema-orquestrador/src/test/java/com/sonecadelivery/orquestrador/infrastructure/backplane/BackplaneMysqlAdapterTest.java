@@ -0,0 +1,148 @@
+package com.sonecadelivery.orquestrador.infrastructure.backplane;
+
+import com.sonecadelivery.kernel.application.ports.BackplanePort;
+import com.sonecadelivery.orquestrador.config.BackplaneProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contrato do backplane sobre um MySQL real (Testcontainers; ignorado sem
+ * Docker), mais a entrega entre instâncias e o tratamento de ids pulados.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BackplaneMysqlAdapterTest extends BackplaneContratoTest {
+
+    private static final long ESPERA_LACUNA_MS = 300;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private final List<BackplaneMysqlAdapter> instancias = new ArrayList<>();
+    private final List<SimpleMeterRegistry> registros = new ArrayList<>();
+
+    @BeforeAll
+    static void criarTabelas() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("db/changelog/changes/054-create-backplane-tables.sql"))
+                .execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void limparTabelas() {
+        jdbcTemplate.update("DELETE FROM backplane_eventos");
+        jdbcTemplate.update("DELETE FROM backplane_estado");
+        novaInstancia();
+    }
+
+    @AfterEach
+    void encerrarInstancias() {
+        instancias.forEach(BackplaneMysqlAdapter::encerrar);
+    }
+
+    @Override
+    protected BackplanePort backplane() {
+        return instancias.get(0);
+    }
+
+    @Test
+    void eventoPublicadoChegaUmaVezAsOutrasInstancias() {
+        BackplaneMysqlAdapter outra = novaInstancia();
+        List<String> locais = new CopyOnWriteArrayList<>();
+        List<String> remotos = new CopyOnWriteArrayList<>();
+        backplane().assinar("mysql.canal", locais::add);
+        outra.assinar("mysql.canal", remotos::add);
+
+        backplane().publicar("mysql.canal", "evento-1");
+
+        aguardar(() -> remotos.size() == 1);
+        // Alguns ciclos a mais: nada é entregue de novo, nem relido pela origem
+        dormir(ESPERA_LACUNA_MS);
+        assertThat(remotos).containsExactly("evento-1");
+        assertThat(locais).containsExactly("evento-1");
+    }
+
+    @Test
+    void estadoGravadoPorUmaInstanciaEhLidoPelaOutra() {
+        BackplaneMysqlAdapter outra = novaInstancia();
+
+        backplane().gravar("mysql:compartilhada", "valor", Duration.ofMinutes(1));
+
+        assertThat(outra.ler("mysql:compartilhada")).contains("valor");
+    }
+
+    @Test
+    void idPuladoEhAbandonadoAposAEsperaEContado() {
+        List<String> recebidos = new CopyOnWriteArrayList<>();
+        backplane().assinar("mysql.lacuna", recebidos::add);
+
+        // Id seguinte "em andamento" (nunca aparece): o evento depois dele é entregue na hora
+        Long ultimo = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM backplane_eventos", Long.class);
+        jdbcTemplate.update("INSERT INTO backplane_eventos (id, canal, payload, instancia) VALUES (?, ?, ?, ?)",
+                ultimo + 2, "mysql.lacuna", "depois-da-lacuna", "outra-instancia");
+
+        aguardar(() -> recebidos.size() == 1);
+        assertThat(idsAbandonados(0)).isZero();
+
+        aguardar(() -> idsAbandonados(0) == 1);
+        assertThat(recebidos).containsExactly("depois-da-lacuna");
+    }
+
+    private BackplaneMysqlAdapter novaInstancia() {
+        BackplaneProperties properties = new BackplaneProperties();
+        properties.setTipo("mysql");
+        properties.setIntervaloPollingMs(50);
+        properties.setEsperaLacunaMs(ESPERA_LACUNA_MS);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BackplaneMysqlAdapter instancia = new BackplaneMysqlAdapter(jdbcTemplate, properties, registry);
+        instancia.iniciar();
+        instancias.add(instancia);
+        registros.add(registry);
+        return instancia;
+    }
+
+    private double idsAbandonados(int instancia) {
+        return registros.get(instancia).counter("backplane.eventos.ids-abandonados").count();
+    }
+
+    private static void aguardar(BooleanSupplier condicao) {
+        long limite = System.currentTimeMillis() + 5000;
+        while (!condicao.getAsBoolean()) {
+            if (System.currentTimeMillis() > limite) {
+                throw new AssertionError("Condição não atendida em 5 s");
+            }
+            dormir(20);
+        }
+    }
+
+    private static void dormir(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.sonecadelivery.orquestrador.infrastructure.web.admissao;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Com maximoChaves ocupado por baldes em uso, uma chave nova ganha balde
+ * (descartando o usado há mais tempo) em vez de passar sem limite.
+ */
+class LimitadorTaxaTest {
+
+    private static final int MAXIMO_CHAVES = 10;
+
+    // Uma ficha por chave e reposição desprezível durante o teste
+    private final LimitadorTaxa limitador = new LimitadorTaxa(1, 0.001, MAXIMO_CHAVES);
+
+    @Test
+    void chaveNovaComMapaCheioTambemELimitada() {
+        encherComBaldesEmUso();
+
+        assertThat(limitador.consumir("nova", 1)).isZero();
+        assertThat(limitador.consumir("nova", 1)).isPositive();
+        assertThat(limitador.chaves()).isLessThanOrEqualTo(MAXIMO_CHAVES);
+        assertThat(limitador.descartados()).isPositive();
+    }
+
+    @Test
+    void descartaOBaldeUsadoHaMaisTempo() {
+        encherComBaldesEmUso();
+        limitador.consumir("chave-0", 1);
+
+        limitador.consumir("nova", 1);
+
+        assertThat(limitador.consumir("chave-0", 1)).isPositive();
+        assertThat(limitador.consumir("chave-1", 1)).isZero();
+    }
+
+    private void encherComBaldesEmUso() {
+        for (int i = 0; i < MAXIMO_CHAVES; i++) {
+            assertThat(limitador.consumir("chave-" + i, 1)).isZero();
+        }
+        assertThat(limitador.chaves()).isEqualTo(MAXIMO_CHAVES);
+    }
+}